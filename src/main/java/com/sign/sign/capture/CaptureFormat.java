@@ -0,0 +1,155 @@
+package com.sign.sign.capture;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 캡처 파일 형식 (gzip)
+ *
+ * 헤더:   [magic:int][version:int][startEpochMillis:long]
+ * 프레임: [앞 프레임과의 간격 ns:varlong][roomIdLength:varint][roomId:UTF-8][payloadLength:varint][payload]
+ * roomId 는 클라이언트가 보낸 목적지에서 잘라낸 값이라 길이 제한이 없으므로 writeUTF(64KB 제한) 대신 길이를 앞에 붙여 쓴다
+ * 기록 중 종료되어 끝이 잘린 파일도 마지막 온전한 프레임까지 읽는다
+ */
+public final class CaptureFormat {
+
+    static final int MAGIC = 0x53434150; // "SCAP"
+    static final int VERSION = 2;
+    static final String FILE_SUFFIX = ".scap";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private CaptureFormat() {
+    }
+
+    public static Writer openWriter(Path file, long startEpochMillis) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(file), BUFFER_SIZE, true), BUFFER_SIZE));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(startEpochMillis);
+        return new Writer(out);
+    }
+
+    public static Reader openReader(Path file) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file), BUFFER_SIZE), BUFFER_SIZE));
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            in.close();
+            throw new IOException("시그널링 캡처 파일이 아닙니다: " + file);
+        }
+        return new Reader(in, in.readLong());
+    }
+
+    public static final class Writer implements Closeable {
+
+        private final DataOutputStream out;
+        private long lastOffsetNanos;
+
+        private Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        /**
+         * 프레임 하나 기록, 잘못된 프레임이면 아무것도 쓰기 전에 예외를 던지므로 다음 프레임은 그대로 기록할 수 있다
+         */
+        public void write(CapturedFrame frame) throws IOException {
+            byte[] roomId = frame.getRoomId().getBytes(StandardCharsets.UTF_8);
+            byte[] payload = frame.getPayload();
+            writeVarLong(out, Math.max(0, frame.getOffsetNanos() - lastOffsetNanos));
+            writeVarLong(out, roomId.length);
+            out.write(roomId);
+            writeVarLong(out, payload.length);
+            out.write(payload);
+            lastOffsetNanos = Math.max(lastOffsetNanos, frame.getOffsetNanos());
+        }
+
+        /**
+         * 버퍼와 gzip 블록을 파일로 내보낸다 (기록 중에도 파일을 읽을 수 있게)
+         */
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    public static final class Reader implements Closeable {
+
+        private final DataInputStream in;
+        private final long startEpochMillis;
+        private long offsetNanos;
+
+        private Reader(DataInputStream in, long startEpochMillis) {
+            this.in = in;
+            this.startEpochMillis = startEpochMillis;
+        }
+
+        public long getStartEpochMillis() {
+            return startEpochMillis;
+        }
+
+        /**
+         * 다음 프레임, 파일 끝(또는 잘린 끝)이면 null
+         */
+        public CapturedFrame next() throws IOException {
+            try {
+                long delta = readVarLong(in);
+                String roomId = new String(readBytes(in), StandardCharsets.UTF_8);
+                byte[] payload = readBytes(in);
+                offsetNanos += delta;
+                return new CapturedFrame(offsetNanos, roomId, payload);
+            } catch (EOFException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        long length = readVarLong(in);
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IOException("잘못된 길이: " + length);
+        }
+        byte[] bytes = new byte[(int) length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 varint");
+    }
+}
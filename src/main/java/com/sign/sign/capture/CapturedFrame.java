@@ -0,0 +1,27 @@
+package com.sign.sign.capture;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캡처된 STOMP SEND 프레임 한 건
+ */
+@Getter
+@AllArgsConstructor
+public class CapturedFrame {
+
+    /**
+     * 캡처 시작부터의 경과 시간
+     */
+    private final long offsetNanos;
+
+    /**
+     * /app/signaling/{roomId} 의 roomId
+     */
+    private final String roomId;
+
+    /**
+     * 받은 그대로의 SignalingMessage JSON
+     */
+    private final byte[] payload;
+}
@@ -0,0 +1,37 @@
+package com.sign.sign.capture;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * SignalingReplay 결과 (JSON 으로 저장해서 다음 빌드의 --baseline 으로 비교)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReplayReport {
+
+    private String captureFile;
+    private double speed;
+    private long frames;
+    private long sent;
+
+    /**
+     * 발신자 매핑/세션이 없어 보내지 못한 프레임
+     */
+    private long skipped;
+
+    private long delivered;
+
+    /**
+     * 보낸 뒤 제한 시간 안에 받지 못한 전달 (유량 제한, 삭제된 방 등)
+     */
+    private long lost;
+
+    private long durationMillis;
+    private long p50Micros;
+    private long p90Micros;
+    private long p99Micros;
+    private long maxMicros;
+}
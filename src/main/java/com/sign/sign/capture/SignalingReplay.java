@@ -0,0 +1,361 @@
+package com.sign.sign.capture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sign.sign.security.JwtUtil;
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+/**
+ * 캡처 파일(TrafficCapture)을 로컬 서버에 다시 흘려 보내는 부하 재현 도구
+ *
+ * 1. 캡처에 나온 사용자/방마다 /api/member/regist, /api/room/create, /api/room/{roomId}/join 으로 새로 만들고 ID 를 매핑
+ * 2. 사용자마다 STOMP 세션을 열고 /user/queue/signaling 구독
+ * 3. 캡처된 간격(÷ speed)대로 roomId/fromId/toId 만 바꿔 같은 페이로드를 전송
+ * 4. 수신 측에서 (수신자, 발신자, 타입) 순서로 보낸 시각과 짝지어 전달 지연을 재고 리포트를 남긴다
+ *
+ * ./gradlew replay --args="capture/signaling-1700000000000.scap --target http://localhost:8080 --speed 4
+ *                          --report after.json --baseline before.json"
+ * 토큰은 서버와 같은 jwt.secret 으로 만든다 (--jwt-secret, 없으면 JWT_SECRET 환경 변수)
+ */
+public class SignalingReplay {
+
+    private static final String SIGNALING_PREFIX = "/app/signaling/";
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JwtUtil jwtUtil;
+
+    private final Path captureFile;
+    private final String target;
+    private final double speed;
+
+    private final Map<Long, Long> members = new HashMap<>();
+    private final Map<String, String> rooms = new HashMap<>();
+    private final Map<String, long[]> roomParticipants = new HashMap<>();
+    private final Map<Long, StompSession> sessions = new HashMap<>();
+
+    // 수신자:발신자:타입 → 보낸 시각 (보낸 순서대로 도착한다고 보고 앞에서부터 짝짓는다)
+    private final Map<String, Queue<Long>> inFlight = new ConcurrentHashMap<>();
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final AtomicLong expected = new AtomicLong();
+
+    public SignalingReplay(Path captureFile, String target, double speed, String jwtSecret) {
+        this.jwtUtil = new JwtUtil(jwtSecret);
+        this.captureFile = captureFile;
+        this.target = target;
+        this.speed = speed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("usage: SignalingReplay <capture.scap> [--target http://localhost:8080] [--speed 1]"
+                    + " [--report replay-report.json] [--baseline previous-report.json] [--jwt-secret base64]");
+            System.exit(1);
+        }
+
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            options.put(args[i], args[i + 1]);
+        }
+
+        String jwtSecret = options.getOrDefault("--jwt-secret", System.getenv("JWT_SECRET"));
+        if (jwtSecret == null) {
+            System.err.println("JWT secret required: --jwt-secret or JWT_SECRET (same as the server's jwt.secret)");
+            System.exit(1);
+        }
+
+        SignalingReplay replay = new SignalingReplay(Paths.get(args[0]),
+                options.getOrDefault("--target", "http://localhost:8080"),
+                Double.parseDouble(options.getOrDefault("--speed", "1")),
+                jwtSecret);
+        ReplayReport report = replay.run();
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Path reportFile = Paths.get(options.getOrDefault("--report", "replay-report.json"));
+        mapper.writeValue(reportFile.toFile(), report);
+        System.out.println(mapper.writeValueAsString(report));
+
+        String baseline = options.get("--baseline");
+        if (baseline != null) {
+            printDelta(mapper.readValue(Paths.get(baseline).toFile(), ReplayReport.class), report);
+        }
+        System.exit(0);
+    }
+
+    public ReplayReport run() throws Exception {
+        scan();
+        provision();
+        connect();
+
+        ReplayReport report = new ReplayReport();
+        report.setCaptureFile(captureFile.toString());
+        report.setSpeed(speed);
+
+        long started = System.nanoTime();
+        try (CaptureFormat.Reader reader = CaptureFormat.openReader(captureFile)) {
+            CapturedFrame frame;
+            while ((frame = reader.next()) != null) {
+                report.setFrames(report.getFrames() + 1);
+                long due = started + (long) (frame.getOffsetNanos() / speed);
+                long wait;
+                while ((wait = due - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                if (send(frame)) {
+                    report.setSent(report.getSent() + 1);
+                } else {
+                    report.setSkipped(report.getSkipped() + 1);
+                }
+            }
+        }
+
+        // 마지막 프레임의 전달을 기다린다
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (latencies.count() < expected.get() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        report.setDurationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        sessions.values().forEach(StompSession::disconnect);
+
+        long[] samples = latencies.sorted();
+        report.setDelivered(samples.length);
+        report.setLost(Math.max(0, expected.get() - samples.length));
+        report.setP50Micros(percentile(samples, 50));
+        report.setP90Micros(percentile(samples, 90));
+        report.setP99Micros(percentile(samples, 99));
+        report.setMaxMicros(samples.length == 0 ? 0 : samples[samples.length - 1] / 1_000);
+        return report;
+    }
+
+    // 1차 읽기: 방마다 등장한 사용자 (처음 등장한 순서, 첫 사용자가 방 생성자)
+    private void scan() throws Exception {
+        Map<String, Set<Long>> users = new LinkedHashMap<>();
+        try (CaptureFormat.Reader reader = CaptureFormat.openReader(captureFile)) {
+            CapturedFrame frame;
+            while ((frame = reader.next()) != null) {
+                JsonNode message = objectMapper.readTree(frame.getPayload());
+                Set<Long> roomUsers = users.computeIfAbsent(frame.getRoomId(), key -> new LinkedHashSet<>());
+                addId(roomUsers, message.get("fromId"));
+                addId(roomUsers, message.get("toId"));
+            }
+        }
+        users.forEach((roomId, ids) -> roomParticipants.put(roomId,
+                ids.stream().mapToLong(Long::longValue).toArray()));
+    }
+
+    // 회원 가입은 아무 인증 사용자로, 방 생성/참여는 그 회원의 토큰으로 (서버가 토큰 사용자를 생성자/참여자로 쓴다)
+    private void provision() {
+        RestClient client = RestClient.builder()
+                .baseUrl(target)
+                .build();
+        String registrar = bearer(0L);
+
+        for (Map.Entry<String, long[]> room : roomParticipants.entrySet()) {
+            long[] captured = room.getValue();
+            if (captured.length == 0) {
+                continue;
+            }
+            for (long userId : captured) {
+                members.computeIfAbsent(userId, id -> client.post()
+                        .uri("/api/member/regist")
+                        .header(HttpHeaders.AUTHORIZATION, registrar)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(Map.of("name", "replay-" + id))
+                        .retrieve()
+                        .body(Long.class));
+            }
+
+            // CreateRoomResponse 는 역직렬화용 생성자가 없으므로 트리로 읽는다
+            String roomId = client.post()
+                    .uri("/api/room/create")
+                    .header(HttpHeaders.AUTHORIZATION, bearer(members.get(captured[0])))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("capacity", Math.max(2, captured.length)))
+                    .retrieve()
+                    .body(JsonNode.class)
+                    .path("roomId")
+                    .asText();
+            rooms.put(room.getKey(), roomId);
+
+            for (int i = 1; i < captured.length; i++) {
+                client.post()
+                        .uri("/api/room/{roomId}/join", roomId)
+                        .header(HttpHeaders.AUTHORIZATION, bearer(members.get(captured[i])))
+                        .retrieve()
+                        .toBodilessEntity();
+            }
+        }
+    }
+
+    private String bearer(Long userId) {
+        return "Bearer " + jwtUtil.generateToken(userId.toString());
+    }
+
+    private void connect() throws Exception {
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        String url = target.replaceFirst("^http", "ws") + "/ws-signaling/websocket";
+
+        for (Long userId : members.values()) {
+            WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+            handshakeHeaders.setBearerAuth(jwtUtil.generateToken(userId.toString()));
+            StompSession session = client.connectAsync(url, handshakeHeaders, new StompHeaders(),
+                    new StompSessionHandlerAdapter() {}).get(10, TimeUnit.SECONDS);
+            session.subscribe("/user/queue/signaling", new StompFrameHandler() {
+                @Override
+                public Type getPayloadType(StompHeaders headers) {
+                    return JsonNode.class;
+                }
+
+                @Override
+                public void handleFrame(StompHeaders headers, Object payload) {
+                    received(userId, (JsonNode) payload, System.nanoTime());
+                }
+            });
+            sessions.put(userId, session);
+        }
+    }
+
+    private boolean send(CapturedFrame frame) throws Exception {
+        String roomId = rooms.get(frame.getRoomId());
+        ObjectNode message = (ObjectNode) objectMapper.readTree(frame.getPayload());
+        Long fromId = remap(message, "fromId");
+        Long toId = remap(message, "toId");
+        StompSession session = fromId != null ? sessions.get(fromId) : null;
+        if (roomId == null || session == null) {
+            return false;
+        }
+        message.put("roomId", roomId);
+
+        String type = message.path("type").asText();
+        long sentAt = System.nanoTime();
+        for (long recipient : recipients(frame.getRoomId(), type, fromId, toId)) {
+            inFlight.computeIfAbsent(key(recipient, fromId, type), key -> new ConcurrentLinkedQueue<>()).offer(sentAt);
+            expected.incrementAndGet();
+        }
+        session.send(SIGNALING_PREFIX + roomId, message);
+        return true;
+    }
+
+    // offer/answer 는 toId 에게만, 나머지는 방의 다른 참여자 모두에게 전달된다
+    private long[] recipients(String capturedRoomId, String type, Long fromId, Long toId) {
+        if (toId != null && ("offer".equals(type) || "answer".equals(type))) {
+            return new long[]{toId};
+        }
+        long[] captured = roomParticipants.get(capturedRoomId);
+        List<Long> others = new ArrayList<>(captured.length);
+        for (long userId : captured) {
+            Long mapped = members.get(userId);
+            if (mapped != null && !mapped.equals(fromId)) {
+                others.add(mapped);
+            }
+        }
+        return others.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private void received(Long userId, JsonNode message, long receivedAt) {
+        JsonNode fromId = message.get("fromId");
+        if (fromId == null || fromId.isNull()) {
+            return;
+        }
+        Queue<Long> pending = inFlight.get(key(userId, fromId.asLong(), message.path("type").asText()));
+        Long sentAt = pending != null ? pending.poll() : null;
+        if (sentAt != null) {
+            latencies.add(receivedAt - sentAt);
+        }
+    }
+
+    private Long remap(ObjectNode message, String field) {
+        JsonNode value = message.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        Long mapped = members.get(value.asLong());
+        if (mapped == null) {
+            return null;
+        }
+        message.put(field, mapped);
+        return mapped;
+    }
+
+    private static void addId(Set<Long> ids, JsonNode value) {
+        if (value != null && value.canConvertToLong()) {
+            ids.add(value.asLong());
+        }
+    }
+
+    private static String key(long recipient, long fromId, String type) {
+        return recipient + ":" + fromId + ":" + type;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000;
+    }
+
+    private static void printDelta(ReplayReport baseline, ReplayReport current) {
+        System.out.printf("vs baseline: p50 %+dus, p90 %+dus, p99 %+dus, max %+dus, lost %+d%n",
+                current.getP50Micros() - baseline.getP50Micros(),
+                current.getP90Micros() - baseline.getP90Micros(),
+                current.getP99Micros() - baseline.getP99Micros(),
+                current.getMaxMicros() - baseline.getMaxMicros(),
+                current.getLost() - baseline.getLost());
+    }
+
+    private static final class LatencyRecorder {
+
+        private long[] samples = new long[1024];
+        private int size;
+
+        synchronized void add(long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        synchronized int count() {
+            return size;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
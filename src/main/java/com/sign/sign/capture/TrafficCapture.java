@@ -0,0 +1,156 @@
+package com.sign.sign.capture;
+
+import com.sign.sign.config.SignalingProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수신 시그널링 프레임 캡처 (부하 재현용, signaling.capture.enabled)
+ *
+ * SignalingJournal 과 같은 구조: 인바운드 스레드는 큐에 넣기만 하고 기록 스레드 하나가 파일에 쓴다
+ * 시작할 때마다 {directory}/signaling-{epochMillis}.scap 새 파일, 큐가 비면 flush 해서 기록 중에도 읽을 수 있다
+ */
+@Component
+@Slf4j
+public class TrafficCapture implements SmartLifecycle {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final SignalingProperties.Capture config;
+
+    private final Queue<CapturedFrame> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder captured = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running;
+    private volatile long startNanos;
+    private volatile Path file;
+    private Thread writer;
+
+    public TrafficCapture(SignalingProperties properties) {
+        this.config = properties.getCapture();
+    }
+
+    /**
+     * 수신 프레임 캡처 요청 (payload 는 복사하지 않는다)
+     */
+    public void record(String roomId, byte[] payload) {
+        if (!running) {
+            return;
+        }
+        if (pending.incrementAndGet() > config.getQueueCapacity()) {
+            pending.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+        queue.offer(new CapturedFrame(System.nanoTime() - startNanos, roomId, payload));
+    }
+
+    public long getCaptured() {
+        return captured.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        CaptureFormat.Writer out;
+        try {
+            Path directory = Paths.get(config.getDirectory());
+            Files.createDirectories(directory);
+            long startMillis = System.currentTimeMillis();
+            file = directory.resolve("signaling-" + startMillis + CaptureFormat.FILE_SUFFIX);
+            out = CaptureFormat.openWriter(file, startMillis);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        startNanos = System.nanoTime();
+        running = true;
+        writer = new Thread(() -> drain(out), "signaling-capture");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Capturing inbound signaling frames to {}", file.toAbsolutePath());
+    }
+
+    @Override
+    public void stop() {
+        Thread current = writer;
+        if (current == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(current);
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+        log.info("Captured {} signaling frames ({} dropped) to {}", getCaptured(), getDropped(), file);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    private void drain(CaptureFormat.Writer out) {
+        try (out) {
+            boolean dirty = false;
+            while (running || !queue.isEmpty()) {
+                CapturedFrame frame = queue.poll();
+                if (frame == null) {
+                    if (dirty) {
+                        out.flush();
+                        dirty = false;
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    continue;
+                }
+                pending.decrementAndGet();
+                try {
+                    out.write(frame);
+                } catch (RuntimeException e) {
+                    // 잘못된 프레임 하나 때문에 캡처 전체를 멈추지 않는다 (Writer 는 쓰기 전에 실패)
+                    dropped.increment();
+                    log.debug("Skipped unrecordable signaling frame: {}", e.toString());
+                    continue;
+                }
+                captured.increment();
+                dirty = true;
+            }
+        } catch (IOException e) {
+            running = false;
+            log.warn("Signaling capture stopped: {}", e.getMessage());
+        }
+    }
+}
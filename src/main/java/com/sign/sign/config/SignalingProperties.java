@@ -0,0 +1,474 @@
+package com.sign.sign.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 시그널링 서버 설정 (application.yml 의 signaling.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "signaling")
+public class SignalingProperties {
+
+    private final Resume resume = new Resume();
+    private final RateLimit rateLimit = new RateLimit();
+    private final UnknownRoomCache unknownRoomCache = new UnknownRoomCache();
+    private final MemberCache memberCache = new MemberCache();
+    private final MembershipCache membershipCache = new MembershipCache();
+    private final Room room = new Room();
+    private final Reactive reactive = new Reactive();
+    private final Journal journal = new Journal();
+    private final Capture capture = new Capture();
+    private final Sdp sdp = new Sdp();
+    private final Dedupe dedupe = new Dedupe();
+    private final Trace trace = new Trace();
+    private final Heartbeat heartbeat = new Heartbeat();
+    private final Coalesce coalesce = new Coalesce();
+    private final Admission admission = new Admission();
+    private final State state = new State();
+    private final Authorization authorization = new Authorization();
+    private final Quality quality = new Quality();
+
+    /**
+     * 세션 재개 설정
+     */
+    @Getter
+    @Setter
+    public static class Resume {
+
+        /**
+         * 끊긴 세션의 방 바인딩과 미전달 메시지를 보관하는 시간 (0 이면 재개 비활성화)
+         */
+        private Duration ttl = Duration.ofSeconds(15);
+
+        /**
+         * 세션당 보관하는 미전달 메시지 수 (넘치면 오래된 것부터 버림)
+         */
+        private int maxBufferedMessages = 32;
+    }
+
+    /**
+     * 시그널링 프레임 유량 제한 설정
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+
+        private boolean enabled = true;
+
+        /**
+         * 이 시간 동안 사용되지 않은 버킷은 제거
+         */
+        private Duration idleTimeout = Duration.ofMinutes(1);
+
+        /**
+         * 사용자/방 버킷 최대 개수 (넘으면 새 키는 공용 버킷을 함께 씀)
+         */
+        private int maxKeys = 100_000;
+
+        /**
+         * 사용자별 기본 한도 (types 에 없는 메시지 타입)
+         */
+        private Limit user = new Limit(20, 10);
+
+        /**
+         * 메시지 타입별 사용자 한도 (예: offer)
+         */
+        private Map<String, Limit> types = new LinkedHashMap<>();
+
+        /**
+         * 방별 한도 (방 안의 모든 사용자 합산)
+         */
+        private Limit room = new Limit(100, 50);
+    }
+
+    /**
+     * 없는/삭제된 방 코드 네거티브 캐시 설정
+     */
+    @Getter
+    @Setter
+    public static class UnknownRoomCache {
+
+        /**
+         * 없는 방으로 기억하는 시간 (다른 노드에서 만든 방도 이 시간 뒤에는 보임)
+         */
+        private Duration ttl = Duration.ofSeconds(5);
+
+        private int maxSize = 10_000;
+    }
+
+    /**
+     * 회원 ID → 이름 캐시 설정 (방 생성/참여/방 정보 조회가 회원 테이블을 읽지 않도록)
+     */
+    @Getter
+    @Setter
+    public static class MemberCache {
+
+        /**
+         * 0 이면 캐시하지 않음
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        private int maxSize = 100_000;
+    }
+
+    /**
+     * 방 코드 → 참여자 스냅샷 캐시 설정 (RoomMembershipCache, 시그널링 경로가 방마다 DB 를 보지 않도록)
+     */
+    @Getter
+    @Setter
+    public static class MembershipCache {
+
+        /**
+         * 생성/갱신 후 이 시간이 지나면 다음 조회에서 DB 로 다시 읽는다 (0 이면 만료 없이 크기 제한만)
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        private int maxSize = 100_000;
+    }
+
+    /**
+     * 방 인원 설정
+     */
+    @Getter
+    @Setter
+    public static class Room {
+
+        /**
+         * 생성 요청에 정원이 없을 때 사용 (기본 1:1)
+         */
+        private int defaultCapacity = 2;
+
+        /**
+         * 최대 정원 (메시 토폴로지라 인원 제곱으로 연결 수가 늘어나므로 제한)
+         */
+        private int maxCapacity = 32;
+    }
+
+    /**
+     * WebFlux(Reactor Netty) 시그널링 엔드포인트 설정
+     * 서블릿/STOMP 서버와 별도 포트에서 뜨며, 같은 SignalingMessage JSON 을 STOMP 없이 주고받는다
+     */
+    @Getter
+    @Setter
+    public static class Reactive {
+
+        private boolean enabled = false;
+
+        /**
+         * 0 이면 임의 포트
+         */
+        private int port = 8081;
+
+        private String path = "/ws/signaling";
+
+        /**
+         * 세션당 전송 대기 프레임 수 (느린 클라이언트 몫은 넘치면 버림)
+         */
+        private int outboundBufferSize = 256;
+
+        /**
+         * 세션당 한 번에 요청하는 수신 프레임 수 (처리가 밀리면 소켓 읽기를 멈춘다)
+         */
+        private int inboundPrefetch = 32;
+    }
+
+    /**
+     * 시그널링 이벤트 저널 설정 (메모리 맵 세그먼트 파일에 라우팅 메타데이터만 기록, SDP 본문은 길이만)
+     */
+    @Getter
+    @Setter
+    public static class Journal {
+
+        private boolean enabled = false;
+
+        /**
+         * 세그먼트 디렉터리, 켤 때는 절대 경로로 지정해야 한다 (작업 디렉터리에 따라 위치가 바뀌지 않도록 기본값 없음)
+         */
+        private String directory;
+
+        /**
+         * 세그먼트 파일 하나의 크기 (가득 차면 새 세그먼트로 넘어간다)
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /**
+         * 보관할 최대 세그먼트 수 (현재 세그먼트 포함)
+         */
+        private int maxSegments = 16;
+
+        /**
+         * 이 시간보다 오래된 세그먼트는 삭제
+         */
+        private Duration retention = Duration.ofDays(7);
+
+        /**
+         * 기록 대기 큐 크기 (기록 스레드가 밀리면 넘치는 이벤트는 버리고 dropped 로 센다)
+         */
+        private int queueCapacity = 65_536;
+    }
+
+    /**
+     * 수신 시그널링 프레임 캡처 설정 (SignalingReplay 로 재현)
+     */
+    @Getter
+    @Setter
+    public static class Capture {
+
+        private boolean enabled = false;
+
+        private String directory = "capture";
+
+        /**
+         * 기록 대기 큐 크기 (넘치는 프레임은 캡처하지 않고 dropped 로 센다)
+         */
+        private int queueCapacity = 65_536;
+    }
+
+    /**
+     * offer/answer SDP 축소 설정 (SdpMinifier)
+     */
+    @Getter
+    @Setter
+    public static class Sdp {
+
+        private boolean enabled = false;
+
+        /**
+         * 남길 코덱 이름 (rtpmap 인코딩 이름, 대소문자 무시, 비우면 코덱은 거르지 않음)
+         * rtx/red/ulpfec/telephone-event 같은 보조 포맷도 남기려면 함께 적는다
+         */
+        private List<String> codecs = new ArrayList<>();
+
+        /**
+         * TCP ICE 후보 제거 (UDP 가 막힌 망의 클라이언트가 있으면 끄기)
+         */
+        private boolean dropTcpCandidates = false;
+    }
+
+    /**
+     * messageId 중복 제거 설정 (MessageDeduplicator)
+     */
+    @Getter
+    @Setter
+    public static class Dedupe {
+
+        /**
+         * 세션별로 기억하는 최근 messageId 수 (2의 거듭제곱으로 올림, 0 이면 중복 제거 없이 ack 만)
+         */
+        private int windowSize = 64;
+    }
+
+    /**
+     * 시그널링 프레임 구간별 지연 추적 설정 (SignalingTrace, /api/debug/latency)
+     */
+    @Getter
+    @Setter
+    public static class Trace {
+
+        private boolean enabled = false;
+    }
+
+    /**
+     * 하트비트/유휴 타임아웃 설정 (모든 세션이 TimerWheelTaskScheduler 하나를 같이 쓴다)
+     */
+    @Getter
+    @Setter
+    public static class Heartbeat {
+
+        /**
+         * STOMP heart-beat (서버 송신/클라이언트 수신 기대 간격, 0 이면 끔)
+         * 클라이언트 하트비트가 이 간격의 3배 동안 없으면 SimpleBroker 가 세션을 끊는다
+         */
+        private Duration stomp = Duration.ofSeconds(10);
+
+        /**
+         * SockJS 하트비트 프레임 간격 (그동안 보낸 메시지가 없을 때만)
+         */
+        private Duration sockJs = Duration.ofSeconds(25);
+
+        /**
+         * 휠 한 칸의 시간 (타이머 정밀도)
+         */
+        private Duration tick = Duration.ofMillis(100);
+
+        /**
+         * 휠 칸 수 (2의 거듭제곱으로 올림, 칸 수 × tick 보다 먼 작업은 바퀴 수로 기다린다)
+         */
+        private int wheelSize = 512;
+
+        /**
+         * 만료된 작업(하트비트 전송, 타임아웃 검사)을 실행하는 스레드 수
+         * SockJS 하트비트는 블로킹 소켓 쓰기라 멈춘 클라이언트 수만큼 스레드를 잡는다 (예전 messageBrokerTaskScheduler 처럼 코어당 하나)
+         */
+        private int workerThreads = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 세션별 송신 프레임 모아 쓰기 설정 (WriteCoalescer, /api/debug/coalesce)
+     */
+    @Getter
+    @Setter
+    public static class Coalesce {
+
+        private boolean enabled = false;
+
+        /**
+         * 첫 프레임 뒤 이 시간 동안 같은 세션으로 가는 프레임을 모아 한 번에 쓴다 (0 이면 끔)
+         */
+        private Duration window = Duration.ofMillis(2);
+
+        /**
+         * 모인 프레임이 이 크기를 넘으면 기다리지 않고 바로 쓴다
+         * (send-buffer-size-limit 기본값 512KB 보다 작게)
+         */
+        private DataSize maxBufferSize = DataSize.ofKilobytes(64);
+
+        /**
+         * window 를 재는 타이머 스레드 수 (소켓 쓰기는 하지 않고 clientOutboundChannel 스레드로 넘긴다)
+         */
+        private int flushThreads = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * 인바운드 시그널링 과부하 제어 설정 (AdmissionControlInterceptor, /api/debug/admission)
+     */
+    @Getter
+    @Setter
+    public static class Admission {
+
+        private boolean enabled = false;
+
+        /**
+         * 동시 처리 한도 (받아들여 @MessageMapping 핸들러가 끝나지 않은 프레임 수) 시작값과 범위
+         */
+        private int initialLimit = 64;
+
+        private int minLimit = 8;
+
+        private int maxLimit = 1024;
+
+        /**
+         * 처리 시간(큐 대기 포함)이 장기 평균의 이 배수까지는 한도를 줄이지 않는다
+         */
+        private double tolerance = 1.5;
+
+        /**
+         * 표본 창마다 새 한도를 반영하는 비율 (0~1)
+         */
+        private double smoothing = 0.2;
+
+        /**
+         * 한도를 다시 계산하는 간격과 그 사이 필요한 최소 표본 수
+         */
+        private Duration sampleWindow = Duration.ofMillis(100);
+
+        private int minSamples = 10;
+
+        /**
+         * leave/answer 가 쓸 수 있는 한도 배수 (다른 프레임이 한도를 다 써도 진행 중인 통화는 처리)
+         */
+        private double priorityShare = 1.5;
+
+        /**
+         * 새 offer 가 쓸 수 있는 한도 배수 (과부하가 시작되면 새 통화부터 거절)
+         */
+        private double offerShare = 0.8;
+
+        /**
+         * 거절 응답의 재시도 시간 범위 (최근 처리 시간의 2배를 이 범위로 자른다)
+         */
+        private Duration minRetryAfter = Duration.ofMillis(200);
+
+        private Duration maxRetryAfter = Duration.ofSeconds(5);
+    }
+
+    /**
+     * 방/세션 상태 테이블 설정 (CompactStateStore)
+     */
+    @Getter
+    @Setter
+    public static class State {
+
+        /**
+         * 처음 잡아 둘 방/세션 수 (넘으면 두 배씩 늘린다, 큰 노드는 미리 크게 잡아 재해시를 피한다)
+         */
+        private int expectedRooms = 1024;
+
+        private int expectedSessions = 4096;
+    }
+
+    /**
+     * 프레임별 발신자/수신자 권한 확인 설정 (SignalingAuthorizer)
+     */
+    @Getter
+    @Setter
+    public static class Authorization {
+
+        /**
+         * 끄면 페이로드의 fromId/toId 를 그대로 믿는다 (예전 동작)
+         */
+        private boolean enabled = true;
+
+        /**
+         * ROLE_ADMIN 을 받는 사용자 ID, 모든 방의 메타데이터가 보이는 디버그 API(/api/debug/**)는 이 사용자만 쓸 수 있다
+         */
+        private List<Long> adminIds = new ArrayList<>();
+    }
+
+    /**
+     * 통화 품질 보고 집계 설정 (CallQualityAggregator, /api/debug/quality)
+     */
+    @Getter
+    @Setter
+    public static class Quality {
+
+        private boolean enabled = false;
+
+        /**
+         * 따로 집계하는 방 수 상한 (넘치면 전체 집계에만 반영)
+         */
+        private int maxRooms = 10_000;
+
+        /**
+         * 이 시간 동안 보고가 없던 방의 집계는 버린다
+         */
+        private Duration idleTimeout = Duration.ofMinutes(1);
+
+        /**
+         * 집계 창 길이 (ms), 창마다 CallQualityAggregator.rollover 가 최근 창을 닫는다
+         */
+        private long windowMs = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        /**
+         * 버스트 허용량
+         */
+        private int capacity;
+
+        /**
+         * 초당 충전량
+         */
+        private double refillPerSecond;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
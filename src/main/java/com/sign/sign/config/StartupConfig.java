@@ -0,0 +1,55 @@
+package com.sign.sign.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.sql.init.AbstractScriptDatabaseInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+/**
+ * 지연 초기화(spring.main.lazy-initialization, fast 프로파일)에서 제외할 빈
+ *
+ * 첫 WebSocket 연결과 첫 시그널링 메시지가 빈 생성 비용을 치르지 않도록
+ * 시그널링 경로(세션/SignalingController/디스패처/방 조회/JPA)와 스키마 초기화는 기동 시점에 만든다
+ * 나머지(REST 컨트롤러, 디버그 API, R2DBC API 등)는 첫 요청 때 만든다
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    private static final List<String> EAGER_PACKAGES = List.of(
+            "com.sign.sign.websocket.",
+            "com.sign.sign.signaling.",
+            "com.sign.sign.journal.",
+            "com.sign.sign.capture.",
+            "com.sign.sign.trace.",
+            "com.sign.sign.state.",
+            "com.sign.sign.quality.",
+            "com.sign.sign.reactive.",
+            "com.sign.sign.security.",
+            "com.sign.sign.service.Room",
+            "com.sign.sign.service.UnknownRoomCache",
+            // @MessageMapping 빈: 지연이면 첫 시그널링 메시지가 들어올 때 만들어진다
+            "com.sign.sign.controller.SignalingController"
+    );
+
+    @Bean
+    static LazyInitializationExcludeFilter signalingPathExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && (
+                isEagerPackage(beanType.getName())
+                        || EntityManagerFactory.class.isAssignableFrom(beanType)
+                        || AbstractEntityManagerFactoryBean.class.isAssignableFrom(beanType)
+                        // R2DBC 경로는 JPA 를 거치지 않으므로 스키마 생성이 첫 요청보다 늦으면 안 된다
+                        || AbstractScriptDatabaseInitializer.class.isAssignableFrom(beanType));
+    }
+
+    private static boolean isEagerPackage(String className) {
+        for (String prefix : EAGER_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,19 +1,45 @@
 package com.sign.sign.config;
 
+import com.sign.sign.websocket.AdmissionControlInterceptor;
+import com.sign.sign.websocket.InboundTraceInterceptor;
+import com.sign.sign.websocket.OutboundTraceInterceptor;
+import com.sign.sign.websocket.RateLimitInterceptor;
+import com.sign.sign.websocket.TimerWheelTaskScheduler;
+import com.sign.sign.websocket.TrafficCaptureInterceptor;
+import com.sign.sign.websocket.WriteCoalescer;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.SimpleBrokerRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final SignalingProperties properties;
+    private final TimerWheelTaskScheduler timerWheelTaskScheduler;
+    private final InboundTraceInterceptor inboundTraceInterceptor;
+    private final OutboundTraceInterceptor outboundTraceInterceptor;
+    private final TrafficCaptureInterceptor trafficCaptureInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+    private final WriteCoalescer writeCoalescer;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // 메시지 브로커 경로 설정
-        config.enableSimpleBroker("/topic", "/queue");
+        // 메시지 브로커 경로 설정 (하트비트 송신/유휴 세션 검사는 공용 타이머 휠에서)
+        SimpleBrokerRegistration broker = config.enableSimpleBroker("/topic", "/queue")
+                .setTaskScheduler(timerWheelTaskScheduler);
+        long heartbeat = properties.getHeartbeat().getStomp().toMillis();
+        if (heartbeat > 0) {
+            broker.setHeartbeatValue(new long[]{heartbeat, heartbeat});
+        }
 
         // 클라이언트가 메시지를 보낼 수 있는 경로 설정
         config.setApplicationDestinationPrefixes("/app");
@@ -27,10 +53,32 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // 시그널링 서버 연결 엔드포인트
         registry.addEndpoint("/ws-signaling")
                 .setAllowedOriginPatterns("*")  // CORS 설정 (개발용)
-                .withSockJS();  // SockJS fallback 지원
+                .withSockJS()  // SockJS fallback 지원
+                .setTaskScheduler(timerWheelTaskScheduler)  // 세션별 하트비트 예약/취소를 O(1) 로
+                .setHeartbeatTime(properties.getHeartbeat().getSockJs().toMillis());
         
         // 채팅 서버 연결 포인트
         
         // 알림 서버 연결 포인트
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 받은 시각 기록 → 수신 프레임 캡처(부하 재현용) → 시그널링 프레임 유량 제한 (방 조회/브로커 전송 전에 차단)
+        // → 과부하 제어 (유량 제한을 통과한 프레임만 처리 한도를 차지하도록 마지막에)
+        registration.interceptors(inboundTraceInterceptor, trafficCaptureInterceptor, rateLimitInterceptor,
+                admissionControlInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 브로커 전송/소켓 쓰기 지연 기록
+        registration.interceptors(outboundTraceInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 같은 세션으로 몰려 나가는 프레임을 모아 한 번에 쓰기 (비활성이면 그대로 통과)
+        registration.addDecoratorFactory(writeCoalescer);
+    }
+}
@@ -0,0 +1,25 @@
+package com.sign.sign.controller;
+
+import com.sign.sign.dto.response.AdmissionStatsResponse;
+import com.sign.sign.websocket.AdmissionControlInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 인바운드 과부하 제어 상태 조회 (디버깅용): 현재 동시 처리 한도와 우선순위별 거절 수
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/debug/admission")
+public class AdmissionStatsController {
+
+    private final AdmissionControlInterceptor admissionControl;
+
+    @GetMapping
+    public ResponseEntity<AdmissionStatsResponse> stats() {
+        return ResponseEntity.ok(admissionControl.stats());
+    }
+}
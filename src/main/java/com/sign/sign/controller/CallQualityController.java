@@ -0,0 +1,50 @@
+package com.sign.sign.controller;
+
+import com.sign.sign.dto.response.CallQualityResponse;
+import com.sign.sign.quality.CallQualityAggregator;
+import com.sign.sign.quality.QualityMetric;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 통화 품질 백분위 조회 (디버깅/모니터링용)
+ * - GET /api/debug/quality: 전체 최근 창 + 기동 후 누적
+ * - GET /api/debug/quality/rooms?metric=rtt&limit=10: 최근 창에서 품질이 가장 나쁜 방
+ * - GET /api/debug/quality/rooms/{roomId}: 방 하나
+ * 진행 중인 방 코드가 보이므로 관리자(ROLE_ADMIN)만 (SecurityConfig)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/debug/quality")
+public class CallQualityController {
+
+    private final CallQualityAggregator aggregator;
+
+    @GetMapping
+    public ResponseEntity<CallQualityResponse> global() {
+        return ResponseEntity.ok(aggregator.global());
+    }
+
+    @GetMapping("/rooms")
+    public ResponseEntity<List<CallQualityResponse>> worstRooms(
+            @RequestParam(defaultValue = "rtt") String metric,
+            @RequestParam(defaultValue = "10") int limit) {
+        QualityMetric qualityMetric = QualityMetric.from(metric);
+        if (qualityMetric == null || limit <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(aggregator.worstRooms(qualityMetric, limit));
+    }
+
+    @GetMapping("/rooms/{roomId}")
+    public ResponseEntity<CallQualityResponse> room(@PathVariable String roomId) {
+        CallQualityResponse room = aggregator.room(roomId);
+        return room != null ? ResponseEntity.ok(room) : ResponseEntity.notFound().build();
+    }
+}
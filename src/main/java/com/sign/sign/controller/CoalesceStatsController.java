@@ -0,0 +1,34 @@
+package com.sign.sign.controller;
+
+import com.sign.sign.dto.response.CoalesceStatsResponse;
+import com.sign.sign.websocket.WriteCoalescer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 송신 프레임 모아 쓰기 효과 조회 (디버깅용): 소켓 쓰기 한 번에 실린 프레임 수
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/debug/coalesce")
+public class CoalesceStatsController {
+
+    private final WriteCoalescer writeCoalescer;
+
+    @GetMapping
+    public ResponseEntity<CoalesceStatsResponse> stats() {
+        return ResponseEntity.ok(new CoalesceStatsResponse(
+                writeCoalescer.isEnabled(),
+                writeCoalescer.getSessionCount(),
+                writeCoalescer.getFlushes(),
+                writeCoalescer.getFrames(),
+                writeCoalescer.getFramesPerFlush(),
+                writeCoalescer.getMaxFramesPerFlush(),
+                writeCoalescer.getSizeFlushes(),
+                writeCoalescer.getCharacters()
+        ));
+    }
+}
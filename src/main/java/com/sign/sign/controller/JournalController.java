@@ -0,0 +1,46 @@
+package com.sign.sign.controller;
+
+import com.sign.sign.dto.response.JournalStatsResponse;
+import com.sign.sign.journal.JournalEntry;
+import com.sign.sign.journal.SignalingJournal;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 시그널링 저널 조회 (감사/디버깅용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/debug/journal")
+public class JournalController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final SignalingJournal journal;
+
+    /**
+     * since(epoch ms) 이후의 이벤트를 오래된 순으로 (roomId 가 없으면 모든 방)
+     */
+    @GetMapping
+    public ResponseEntity<List<JournalEntry>> read(@RequestParam(required = false) String roomId,
+                                                   @RequestParam(defaultValue = "0") long since,
+                                                   @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(journal.read(roomId, since, Math.min(limit, MAX_LIMIT)));
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<JournalStatsResponse> stats() {
+        return ResponseEntity.ok(new JournalStatsResponse(
+                journal.isRunning(),
+                journal.getWritten(),
+                journal.getDropped(),
+                journal.getPending(),
+                journal.getSegmentCount()
+        ));
+    }
+}
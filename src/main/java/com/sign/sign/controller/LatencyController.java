@@ -0,0 +1,26 @@
+package com.sign.sign.controller;
+
+import com.sign.sign.dto.response.StageLatencyResponse;
+import com.sign.sign.trace.SignalingTrace;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 시그널링 프레임 구간별 지연 조회 (디버깅용, 기동 후 누적)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/debug/latency")
+public class LatencyController {
+
+    private final SignalingTrace trace;
+
+    @GetMapping
+    public ResponseEntity<List<StageLatencyResponse>> stages() {
+        return ResponseEntity.ok(trace.snapshot());
+    }
+}
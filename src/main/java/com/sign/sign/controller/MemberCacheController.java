@@ -0,0 +1,30 @@
+package com.sign.sign.controller;
+
+import com.sign.sign.dto.response.CacheStatsResponse;
+import com.sign.sign.service.MemberCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 회원 캐시 적중률 조회 (디버깅용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/debug/member-cache")
+public class MemberCacheController {
+
+    private final MemberCache memberCache;
+
+    @GetMapping
+    public ResponseEntity<CacheStatsResponse> stats() {
+        return ResponseEntity.ok(new CacheStatsResponse(
+                memberCache.size(),
+                memberCache.getHits(),
+                memberCache.getMisses(),
+                memberCache.getHitRate()
+        ));
+    }
+}
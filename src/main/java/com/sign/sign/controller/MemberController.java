@@ -16,11 +16,14 @@ public class MemberController {
 
     private final MemberService memberService;
 
+    /**
+     * 가입 후 회원 ID 를 돌려준다 (재현 도구처럼 가입 직전 ID 를 알아야 하는 클라이언트용)
+     */
     @PostMapping("/regist")
     public ResponseEntity<?> register(@RequestBody Member member) {
-        memberService.saveMember(member);
+        Long memberId = memberService.saveMember(member);
 
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(memberId);
     }
 
 }
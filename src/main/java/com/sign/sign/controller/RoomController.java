@@ -2,40 +2,127 @@ package com.sign.sign.controller;
 
 import com.sign.sign.domain.Room;
 import com.sign.sign.service.RoomService;
+import com.sign.sign.service.RoomStateCache;
+import com.sign.sign.service.RoomVersion;
 import com.sign.sign.dto.request.CreateRoomRequest;
 import com.sign.sign.dto.response.CreateRoomResponse;
-import com.sign.sign.dto.response.RoomInfoResponse;
 import com.sign.sign.dto.response.DeleteRoomResponse;
+import com.sign.sign.dto.response.RoomInfoResponse;
+import com.sign.sign.security.CustomUserPrincipal;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/room")
 public class RoomController {
 
+    private static final long MAX_POLL_TIMEOUT_MILLIS = 60_000;
+
     private final RoomService roomService;
+    private final RoomStateCache roomStateCache;
 
+    /**
+     * 생성자는 인증된 사용자 본인 (joinRoom 과 같은 이유로 요청 본문의 ID 를 믿지 않는다)
+     */
     @PostMapping("/create")
-    public ResponseEntity<?> createRoom(@RequestBody CreateRoomRequest request) {
-        Long roomId = roomService.createRoom(request.getCreatorId(), request.getGuestId());
+    public ResponseEntity<?> createRoom(@RequestBody CreateRoomRequest request,
+                                        @AuthenticationPrincipal CustomUserPrincipal principal) {
+        Long creatorId = principal != null ? principal.getMemberId() : null;
+        if (creatorId == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        Long roomId = roomService.createRoom(creatorId, request.getGuestId(), request.getCapacity());
         Room room = roomService.findById(roomId);
 
         return ResponseEntity.ok(new CreateRoomResponse(room.getRoomId(), roomId));
     }
 
+    /**
+     * 방 정보 (ETag / Last-Modified)
+     * 버전이 같으면 RoomStateCache 만 보고 304, 본문도 캐시에 있으면 DB 를 거치지 않는다
+     */
     @GetMapping("/{roomId}")
-    public ResponseEntity<?> getRoomInfo(@PathVariable String roomId) {
+    public ResponseEntity<?> getRoomInfo(@PathVariable String roomId, WebRequest request) {
+        RoomVersion version = roomStateCache.version(roomId);
+        if (version != null && request.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return currentRoomInfo(roomId);
+    }
+
+    /**
+     * 롱폴링: If-None-Match 의 버전에서 바뀔 때까지 (최대 timeout ms) 응답을 미룬다
+     * 바뀌면 새 방 정보, 시간이 다 되면 304, 방이 삭제되면 404
+     */
+    @GetMapping("/{roomId}/poll")
+    public DeferredResult<ResponseEntity<?>> pollRoomInfo(@PathVariable String roomId,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                          @RequestParam(defaultValue = "25000") long timeout) {
+        long timeoutMillis = Math.min(Math.max(timeout, 0), MAX_POLL_TIMEOUT_MILLIS);
+        DeferredResult<ResponseEntity<?>> result = new DeferredResult<>(timeoutMillis,
+                () -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        RoomVersion version = roomStateCache.version(roomId);
+        if (version == null || !version.matches(ifNoneMatch)) {
+            result.setResult(currentRoomInfo(roomId));
+            return result;
+        }
+
+        Consumer<RoomVersion> waiter = changed -> result.setResult(changed != null
+                ? currentRoomInfo(roomId)
+                : ResponseEntity.notFound().build());
+        roomStateCache.await(roomId, waiter);
+        result.onCompletion(() -> roomStateCache.cancel(roomId, waiter));
+
+        // 등록 직전에 바뀐 경우
+        RoomVersion latest = roomStateCache.version(roomId);
+        if (latest == null || !latest.matches(ifNoneMatch)) {
+            waiter.accept(latest);
+        }
+        return result;
+    }
+
+    /**
+     * 기존 방에 참여 (정원까지)
+     * 참여 후 /app/signaling/{roomId} 로 join 메시지를 보내면 기존 참여자들이 새 참여자에게 offer 를 보낸다
+     * 참여자는 인증된 사용자 본인 (요청 본문의 ID 를 믿으면 누구든 남을 방에 넣을 수 있다)
+     */
+    @PostMapping("/{roomId}/join")
+    public ResponseEntity<?> joinRoom(@PathVariable String roomId,
+                                      @AuthenticationPrincipal CustomUserPrincipal principal) {
+        Long memberId = principal != null ? principal.getMemberId() : null;
+        if (memberId == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        try {
+            roomService.join(roomId, memberId);
+            return ResponseEntity.ok(roomService.getRoomInfo(roomId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    private ResponseEntity<?> currentRoomInfo(String roomId) {
         try {
-            Room room = roomService.findByRoomId(roomId);
-            return ResponseEntity.ok(new RoomInfoResponse(
-                    room.getId(),
-                    room.getRoomId(),
-                    room.getCreator().getName(),
-                    room.getGuest().getName(),
-                    room.isActive()
-            ));
+            RoomInfoResponse body = roomService.getRoomInfo(roomId);
+            RoomVersion version = roomStateCache.version(roomId);
+            if (version == null) {
+                return ResponseEntity.ok(body);
+            }
+            return ResponseEntity.ok()
+                    .eTag(version.getEtag())
+                    .lastModified(version.getLastModified())
+                    .body(body);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
@@ -51,4 +138,4 @@ public class RoomController {
                     .body(new DeleteRoomResponse(false, e.getMessage(), null));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.sign.sign.controller;
+
+import com.sign.sign.dto.response.SdpStatsResponse;
+import com.sign.sign.signaling.SdpMinifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * SDP 축소 효과 조회 (디버깅용): 줄어든 바이트와 프레임당 처리 시간
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/debug/sdp")
+public class SdpStatsController {
+
+    private final SdpMinifier sdpMinifier;
+
+    @GetMapping
+    public ResponseEntity<SdpStatsResponse> stats() {
+        return ResponseEntity.ok(new SdpStatsResponse(
+                sdpMinifier.isEnabled(),
+                sdpMinifier.getFrames(),
+                sdpMinifier.getInputBytes(),
+                sdpMinifier.getOutputBytes(),
+                sdpMinifier.getSavedRatio(),
+                sdpMinifier.getAverageNanos()
+        ));
+    }
+}
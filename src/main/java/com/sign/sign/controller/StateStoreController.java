@@ -0,0 +1,25 @@
+package com.sign.sign.controller;
+
+import com.sign.sign.dto.response.StateStoreResponse;
+import com.sign.sign.state.CompactStateStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 방/세션 상태 테이블 크기 조회 (디버깅용): 항목 수와 항목당 바이트
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/debug/state")
+public class StateStoreController {
+
+    private final CompactStateStore stateStore;
+
+    @GetMapping
+    public ResponseEntity<StateStoreResponse> stats() {
+        return ResponseEntity.ok(stateStore.stats());
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import lombok.Getter;
 
 @MappedSuperclass
@@ -15,12 +16,24 @@ public class BaseEntity {
 
     @PrePersist
     public void prePersist(){
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = now();
+        updatedAt = createdAt;
     }
 
     @PreUpdate
     public void preUpdate(){
-        updatedAt = LocalDateTime.now();
+        updatedAt = now();
+    }
+
+    /**
+     * 연관 엔티티만 바뀌어도 수정 시각을 올린다 (방 참여/퇴장 → 방 정보 ETag)
+     */
+    protected void touch(){
+        updatedAt = now();
+    }
+
+    // DB 컬럼 정밀도(timestamp(6))와 맞춰 메모리 값과 다시 읽은 값이 같도록
+    private static LocalDateTime now(){
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
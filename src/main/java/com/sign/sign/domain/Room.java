@@ -1,11 +1,16 @@
 package com.sign.sign.domain;
 
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.OrderBy;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,44 +30,66 @@ public class Room extends BaseEntity {
     @JoinColumn(name = "creator_id")
     private Member creator;
 
-    @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "guest_id")
-    private Member guest;
+    // 생성자를 포함한 참여자 (입장 순서)
+    @OneToMany(mappedBy = "room", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
+    private List<RoomParticipant> participants = new ArrayList<>();
+
+    private int capacity;
 
     private boolean isActive;
 
-    public static Room createRoom(Member member){
+    public static Room createRoom(Member member, int capacity){
         Room room = new Room();
         room.roomId = generateRoomId();
         room.creator = member;
+        room.capacity = capacity;
         room.isActive = true;
+        room.participants.add(RoomParticipant.of(room, member));
 
         return room;
     }
 
-    public static Room createRoom(Member creator, Member guest){
-        Room room = new Room();
-        room.roomId = generateRoomId();
-        room.creator = creator;
-        room.guest = guest;
-        room.isActive = true;
+    public static Room createRoom(Member creator, Member guest, int capacity){
+        Room room = createRoom(creator, capacity);
+        room.join(guest);
 
         return room;
     }
 
     public boolean isFull(){
-        return guest != null;
+        return participants.size() >= capacity;
+    }
+
+    public boolean hasParticipant(Long memberId){
+        // fromId 가 빠진 메시지 등 null 은 참여자가 아니다
+        if (memberId == null) {
+            return false;
+        }
+        for (RoomParticipant participant : participants) {
+            if (participant.isMember(memberId)) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    public void addGuest(Member guest){
-        this.guest = guest;
+    public void join(Member member){
+        participants.add(RoomParticipant.of(this, member));
+        touch();
     }
 
-    public void removeGuest(){
-        this.guest = null;
+    public void leave(Long memberId){
+        if (memberId == null) {
+            return;
+        }
+        if (participants.removeIf(participant -> participant.isMember(memberId))) {
+            touch();
+        }
     }
 
-    private static String generateRoomId() {
+    // R2DBC 경로(ReactiveRoomService)도 같은 형식의 코드를 쓴다
+    public static String generateRoomId() {
         return RandomStringUtils.randomAlphanumeric(6).toUpperCase();
     }
 }
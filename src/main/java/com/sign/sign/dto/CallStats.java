@@ -0,0 +1,37 @@
+package com.sign.sign.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 클라이언트가 주기적으로 보내는 WebRTC getStats 요약 ("stats" 메시지의 stats 필드)
+ * 모르는 값은 빼고 보내면 된다 (null 은 집계하지 않음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CallStats {
+
+    /**
+     * candidate-pair currentRoundTripTime (밀리초)
+     */
+    private Double rttMs;
+
+    /**
+     * inbound-rtp jitter (밀리초)
+     */
+    private Double jitterMs;
+
+    /**
+     * 직전 보고 이후 inbound-rtp 손실률 (0~100 퍼센트)
+     */
+    private Double packetLossPercent;
+
+    /**
+     * 직전 보고 이후 송신 비트레이트 (kbps)
+     */
+    private Double bitrateKbps;
+}
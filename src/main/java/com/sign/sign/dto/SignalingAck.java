@@ -0,0 +1,18 @@
+package com.sign.sign.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * messageId 가 붙은 시그널링 메시지의 수신 확인 (/user/queue/ack, WebFlux 에서는 같은 소켓)
+ * duplicate 면 이미 처리한 메시지라 이번 것은 전달하지 않았다는 뜻 (재시도를 멈추면 된다)
+ */
+@Getter
+@AllArgsConstructor
+public class SignalingAck {
+
+    private final String type = "ack";
+    private String messageId;
+    private String roomId;
+    private boolean duplicate;
+}
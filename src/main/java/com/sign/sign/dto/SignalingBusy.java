@@ -0,0 +1,17 @@
+package com.sign.sign.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 과부하로 처리하지 않고 버린 시그널링 메시지 알림 (/user/queue/errors)
+ * retryAfterMs 뒤에 같은 메시지를 다시 보내면 된다 (messageId 를 붙였다면 재전송해도 한 번만 처리된다)
+ */
+@Getter
+@AllArgsConstructor
+public class SignalingBusy {
+
+    private final String type = "busy";
+    private String roomId;
+    private long retryAfterMs;
+}
@@ -17,15 +17,16 @@ import lombok.Setter;
 public class SignalingMessage {
 
     /**
-     * 메시지 타입
+     * 메시지 타입 (JSON 에서는 문자열, 역직렬화 시 enum 으로 변환)
      * - "offer": WebRTC Offer SDP (모든 ICE 후보 포함)
      * - "answer": WebRTC Answer SDP (모든 ICE 후보 포함)  
      * - "connected": P2P 연결 성공 알림
      * - "disconnected": P2P 연결 해제 알림
      * - "connection-failed": P2P 연결 실패 알림
      * - "leave": 통화 종료 요청
+     * - "stats": 통화 품질 보고 (서버 집계용)
      */
-    private String type;
+    private SignalingType type;
 
     /**
      * 방 ID (UUID 6자리)
@@ -49,4 +50,24 @@ public class SignalingMessage {
      * offer/answer 타입에서만 사용, 나머지는 null
      */
     private String sdp;
+
+    /**
+     * 클라이언트가 붙이는 메시지 ID (선택)
+     * 있으면 같은 세션에서 최근에 본 ID 는 다시 전달하지 않고, 보낸 세션에 /user/queue/ack 로 수신 확인을 보낸다
+     * 응답이 없어 재시도할 때는 같은 ID 로 보낸다
+     */
+    private String messageId;
+
+    /**
+     * 통화 품질 보고 (stats 타입에서만 사용, 나머지는 null)
+     */
+    private CallStats stats;
+
+    public SignalingMessage(SignalingType type, String roomId, Long fromId, Long toId, String sdp) {
+        this(type, roomId, fromId, toId, sdp, null);
+    }
+
+    public SignalingMessage(SignalingType type, String roomId, Long fromId, Long toId, String sdp, String messageId) {
+        this(type, roomId, fromId, toId, sdp, messageId, null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.sign.sign.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시그널링 메시지 타입
+ * 역직렬화 시 한 번만 변환되고, 이후 처리는 ordinal 로 핸들러 테이블을 조회한다
+ * 새 타입은 여기에 상수를 추가하고 SignalingHandler 빈을 등록하면 된다
+ */
+public enum SignalingType {
+
+    OFFER("offer"),
+    ANSWER("answer"),
+    CONNECTED("connected"),
+    DISCONNECTED("disconnected"),
+    CONNECTION_FAILED("connection-failed"),
+    LEAVE("leave"),
+
+    /**
+     * 다자간 방에 새 참여자 입장 (기존 참여자들이 새 참여자에게 offer 를 보낸다)
+     */
+    JOIN("join"),
+
+    /**
+     * 주기적인 통화 품질 보고 (stats 필드, 다른 참여자에게 전달하지 않고 서버에서만 집계)
+     */
+    STATS("stats"),
+
+    /**
+     * 방 생성 + 상대 호출 + 첫 offer 를 한 번에 (방 ID 없이 보내고, sdp 에 offer 를 싣는다)
+     */
+    CREATE_AND_INVITE("create-and-invite"),
+
+    /**
+     * 서버 → 호출받은 사용자: 새 방 ID 와 발신자의 offer (이 방으로 answer 를 보내면 된다)
+     */
+    INCOMING_CALL("incoming-call"),
+
+    /**
+     * 서버 → 발신자: create-and-invite 로 만든 방 ID
+     */
+    CALL_CREATED("call-created"),
+
+    /**
+     * 서버 → 같은 사용자의 다른 기기: 다른 기기에서 통화를 받았으니 벨을 멈춘다
+     */
+    ANSWERED_ELSEWHERE("answered-elsewhere"),
+
+    /**
+     * 알 수 없는 타입 (핸들러 없음)
+     */
+    UNKNOWN("unknown");
+
+    private static final Map<String, SignalingType> BY_VALUE = new HashMap<>();
+
+    static {
+        for (SignalingType type : values()) {
+            BY_VALUE.put(type.value, type);
+        }
+    }
+
+    private final String value;
+
+    SignalingType(String value) {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue() {
+        return value;
+    }
+
+    @JsonCreator
+    public static SignalingType from(String value) {
+        return BY_VALUE.getOrDefault(value, UNKNOWN);
+    }
+}
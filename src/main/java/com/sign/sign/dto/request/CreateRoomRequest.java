@@ -10,6 +10,9 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 public class CreateRoomRequest {
-    private Long creatorId;
+    // 생성자는 인증된 사용자 (본문으로 받지 않는다)
     private Long guestId;
+
+    // 최대 인원 (없으면 signaling.room.default-capacity)
+    private Integer capacity;
 }
@@ -0,0 +1,20 @@
+package com.sign.sign.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class AdmissionStatsResponse {
+    private boolean enabled;
+    private int limit;
+    private int inFlight;
+    private long baselineRttMicros;
+    private long recentRttMicros;
+    private long retryAfterMs;
+    private long admitted;
+    private long rejectedPriority;
+    private long rejectedNormal;
+    private long rejectedOffers;
+    private long rejectedConnections;
+}
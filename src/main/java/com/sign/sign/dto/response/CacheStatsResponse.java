@@ -0,0 +1,13 @@
+package com.sign.sign.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private int size;
+    private long hits;
+    private long misses;
+    private double hitRate;
+}
@@ -0,0 +1,17 @@
+package com.sign.sign.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 방 하나 또는 전체("global")의 통화 품질 요약
+ * recent 는 마지막으로 닫힌 집계 창, total 은 방 생성(또는 기동) 이후 누적
+ */
+@Getter
+@AllArgsConstructor
+public class CallQualityResponse {
+    private String scope;
+    private List<QualityMetricResponse> recent;
+    private List<QualityMetricResponse> total;
+}
@@ -0,0 +1,17 @@
+package com.sign.sign.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CoalesceStatsResponse {
+    private boolean enabled;
+    private int sessions;
+    private long flushes;
+    private long frames;
+    private double framesPerFlush;
+    private long maxFramesPerFlush;
+    private long sizeFlushes;
+    private long characters;
+}
@@ -0,0 +1,14 @@
+package com.sign.sign.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class JournalStatsResponse {
+    private boolean enabled;
+    private long written;
+    private long dropped;
+    private int pending;
+    private int segments;
+}
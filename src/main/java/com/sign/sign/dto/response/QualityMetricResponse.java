@@ -0,0 +1,17 @@
+package com.sign.sign.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class QualityMetricResponse {
+    private String metric;
+    private String unit;
+    private long count;
+    private double p10;
+    private double p50;
+    private double p90;
+    private double p99;
+    private double max;
+}
@@ -1,5 +1,6 @@
 package com.sign.sign.dto.response;
 
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -9,6 +10,16 @@ public class RoomInfoResponse {
     private Long id;
     private String roomId;
     private String creatorName;
+    // 1:1 방 시절 필드, 기존 클라이언트 호환을 위해 생성자가 아닌 첫 참여자 이름을 그대로 내려준다 (없으면 null)
     private String guestName;
+    private List<String> participantNames;
+    private int capacity;
     private boolean isActive;
+
+    /**
+     * 참여자 이름(입장 순서, 생성자가 첫 번째)에서 guestName 으로 내려줄 첫 상대방
+     */
+    public static String guestOf(List<String> participantNames) {
+        return participantNames.size() > 1 ? participantNames.get(1) : null;
+    }
 }
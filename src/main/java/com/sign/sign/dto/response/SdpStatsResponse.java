@@ -0,0 +1,15 @@
+package com.sign.sign.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SdpStatsResponse {
+    private boolean enabled;
+    private long frames;
+    private long inputBytes;
+    private long outputBytes;
+    private double savedRatio;
+    private long averageNanos;
+}
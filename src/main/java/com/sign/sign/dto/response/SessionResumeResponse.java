@@ -0,0 +1,11 @@
+package com.sign.sign.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SessionResumeResponse {
+    private String resumeToken;
+    private String roomId;
+}
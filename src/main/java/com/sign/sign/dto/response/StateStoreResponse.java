@@ -0,0 +1,15 @@
+package com.sign.sign.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StateStoreResponse {
+    private int rooms;
+    private int sessions;
+    private long roomBytes;
+    private long sessionBytes;
+    private long bytesPerRoom;
+    private long bytesPerSession;
+}
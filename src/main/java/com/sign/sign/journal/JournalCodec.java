@@ -0,0 +1,199 @@
+package com.sign.sign.journal;
+
+import com.sign.sign.dto.SignalingType;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 저널 세그먼트 바이너리 형식
+ *
+ * 세그먼트: [magic:int][version:int] 뒤에 레코드가 이어지고, 쓰지 않은 영역은 0 (파일 맵핑이 0 으로 채움)
+ * 레코드:   [bodyLength:int][timestamp:long][type:byte][fromId:long][toId:long][sdpLength:int][recipients:short][roomLength:byte][roomId]
+ *           4바이트 정렬, 길이 필드는 본문을 다 쓴 뒤 release 로 기록해서 다른 스레드의 reader 가 반쯤 쓴 레코드를 보지 않는다
+ * 길이 0 은 아직 안 쓴 영역, SEALED(-1) 는 기록이 끝난 세그먼트
+ * type 은 SignalingType.ordinal() 이 아니라 고정 코드(typeCode) 로 저장한다 (상수를 끼워 넣어도 기존 세그먼트를 그대로 읽도록)
+ */
+final class JournalCodec {
+
+    static final int MAGIC = 0x534A4E4C; // "SJNL"
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER_SIZE = 8;
+    static final int SEALED = -1;
+
+    private static final int LENGTH_SIZE = 4;
+    private static final int FIXED_BODY_SIZE = 32;
+    private static final int MAX_ROOM_ID_BYTES = 255;
+    private static final long NULL_ID = Long.MIN_VALUE;
+
+    private static final VarHandle INT_VIEW =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final SignalingType[] TYPES_BY_CODE = new SignalingType[256];
+
+    static {
+        for (SignalingType type : SignalingType.values()) {
+            TYPES_BY_CODE[typeCode(type)] = type;
+        }
+    }
+
+    private JournalCodec() {
+    }
+
+    static void writeHeader(ByteBuffer segment) {
+        segment.putInt(0, MAGIC);
+        segment.putInt(4, VERSION);
+        segment.position(SEGMENT_HEADER_SIZE);
+    }
+
+    static boolean hasValidHeader(ByteBuffer segment) {
+        return segment.limit() >= SEGMENT_HEADER_SIZE
+                && segment.getInt(0) == MAGIC
+                && segment.getInt(4) == VERSION;
+    }
+
+    /**
+     * 현재 위치에 레코드를 쓰고 위치를 옮긴다, 남은 공간이 부족하면 아무것도 쓰지 않고 false
+     */
+    static boolean write(ByteBuffer segment, JournalEntry entry) {
+        byte[] roomId = roomIdBytes(entry.getRoomId());
+        int bodyLength = FIXED_BODY_SIZE + roomId.length;
+        int position = segment.position();
+        int next = align(position + LENGTH_SIZE + bodyLength);
+        if (next > segment.limit()) {
+            return false;
+        }
+
+        int body = position + LENGTH_SIZE;
+        segment.putLong(body, entry.getTimestamp());
+        segment.put(body + 8, (byte) typeCode(entry.getType()));
+        segment.putLong(body + 9, toRaw(entry.getFromId()));
+        segment.putLong(body + 17, toRaw(entry.getToId()));
+        segment.putInt(body + 25, entry.getSdpLength());
+        segment.putShort(body + 29, (short) Math.min(entry.getRecipients(), 0xFFFF));
+        segment.put(body + 31, (byte) roomId.length);
+        segment.put(body + FIXED_BODY_SIZE, roomId);
+
+        INT_VIEW.setRelease(segment, position, bodyLength);
+        segment.position(next);
+        return true;
+    }
+
+    /**
+     * 더 쓸 레코드가 없는 세그먼트 표시 (reader 가 다음 세그먼트로 넘어간다)
+     */
+    static void seal(ByteBuffer segment) {
+        int position = segment.position();
+        if (position + LENGTH_SIZE <= segment.limit()) {
+            INT_VIEW.setRelease(segment, position, SEALED);
+        }
+    }
+
+    /**
+     * position 의 레코드 본문 길이, 레코드가 없으면 0 이하
+     */
+    static int bodyLength(ByteBuffer segment, int position) {
+        if (position + LENGTH_SIZE > segment.limit()) {
+            return SEALED;
+        }
+        int bodyLength = (int) INT_VIEW.getAcquire(segment, position);
+        if (bodyLength > 0 && position + LENGTH_SIZE + bodyLength > segment.limit()) {
+            return SEALED;
+        }
+        return bodyLength;
+    }
+
+    static long timestamp(ByteBuffer segment, int position) {
+        return segment.getLong(position + LENGTH_SIZE);
+    }
+
+    static int next(int position, int bodyLength) {
+        return align(position + LENGTH_SIZE + bodyLength);
+    }
+
+    /**
+     * 방 코드가 일치하는지 문자열을 만들지 않고 비교 (roomId 가 null 이면 항상 일치)
+     */
+    static boolean matchesRoom(ByteBuffer segment, int position, byte[] roomId) {
+        if (roomId == null) {
+            return true;
+        }
+        int body = position + LENGTH_SIZE;
+        int length = segment.get(body + 31) & 0xFF;
+        if (length != roomId.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (segment.get(body + FIXED_BODY_SIZE + i) != roomId[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static JournalEntry read(ByteBuffer segment, int position) {
+        int body = position + LENGTH_SIZE;
+        SignalingType type = TYPES_BY_CODE[segment.get(body + 8) & 0xFF];
+        byte[] roomId = new byte[segment.get(body + 31) & 0xFF];
+        segment.get(body + FIXED_BODY_SIZE, roomId);
+
+        return new JournalEntry(
+                segment.getLong(body),
+                type != null ? type : SignalingType.UNKNOWN,
+                new String(roomId, StandardCharsets.UTF_8),
+                fromRaw(segment.getLong(body + 9)),
+                fromRaw(segment.getLong(body + 17)),
+                segment.getInt(body + 25),
+                segment.getShort(body + 29) & 0xFFFF
+        );
+    }
+
+    static byte[] roomIdBytes(String roomId) {
+        if (roomId == null) {
+            return new byte[0];
+        }
+        byte[] bytes = roomId.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_ROOM_ID_BYTES) {
+            return bytes;
+        }
+        byte[] truncated = new byte[MAX_ROOM_ID_BYTES];
+        System.arraycopy(bytes, 0, truncated, 0, MAX_ROOM_ID_BYTES);
+        return truncated;
+    }
+
+    /**
+     * 레코드에 저장하는 타입 코드, 한 번 정하면 바꾸거나 다시 쓰지 않는다
+     * 0~7 은 VERSION 1 의 첫 세그먼트들이 ordinal 로 썼던 값 그대로, 이후 타입은 8 부터 이어서 붙인다
+     * (default 가 없으므로 SignalingType 에 상수를 추가하면 여기에 코드를 정할 때까지 컴파일되지 않는다)
+     */
+    static int typeCode(SignalingType type) {
+        return switch (type) {
+            case OFFER -> 0;
+            case ANSWER -> 1;
+            case CONNECTED -> 2;
+            case DISCONNECTED -> 3;
+            case CONNECTION_FAILED -> 4;
+            case LEAVE -> 5;
+            case JOIN -> 6;
+            case UNKNOWN -> 7;
+            case STATS -> 8;
+            case CREATE_AND_INVITE -> 9;
+            case INCOMING_CALL -> 10;
+            case CALL_CREATED -> 11;
+            case ANSWERED_ELSEWHERE -> 12;
+        };
+    }
+
+    private static int align(int position) {
+        return (position + 3) & ~3;
+    }
+
+    private static long toRaw(Long id) {
+        return id == null ? NULL_ID : id;
+    }
+
+    private static Long fromRaw(long raw) {
+        return raw == NULL_ID ? null : raw;
+    }
+}
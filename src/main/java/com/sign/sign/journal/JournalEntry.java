@@ -0,0 +1,25 @@
+package com.sign.sign.journal;
+
+import com.sign.sign.dto.SignalingType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저널에 남는 시그널링 이벤트 한 건 (라우팅 메타데이터만, SDP 는 길이만 기록)
+ */
+@Getter
+@AllArgsConstructor
+public class JournalEntry {
+
+    private final long timestamp;
+    private final SignalingType type;
+    private final String roomId;
+    private final Long fromId;
+    private final Long toId;
+    private final int sdpLength;
+
+    /**
+     * 이 메시지를 받을 수 있었던 참여자 수 (발신자 제외)
+     */
+    private final int recipients;
+}
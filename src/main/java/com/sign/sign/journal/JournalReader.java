@@ -0,0 +1,108 @@
+package com.sign.sign.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 저널 세그먼트 읽기 (감사/디버깅용)
+ * 기록 중인 세그먼트도 읽기 전용으로 맵핑해서 읽으며, 기록 스레드를 멈추지 않는다
+ * 서버 밖에서도 디렉터리만 있으면 쓸 수 있다
+ */
+public class JournalReader {
+
+    static final String SEGMENT_PREFIX = "signaling-";
+    static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+
+    public JournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * sinceMillis 이후의 이벤트를 오래된 순으로 최대 limit 건
+     *
+     * @param roomId null 이면 모든 방
+     */
+    public List<JournalEntry> read(String roomId, long sinceMillis, int limit) {
+        List<JournalEntry> entries = new ArrayList<>();
+        if (limit <= 0) {
+            return entries;
+        }
+
+        byte[] room = roomId == null ? null : JournalCodec.roomIdBytes(roomId);
+        List<Path> segments = segments(directory);
+        for (int i = 0; i < segments.size() && entries.size() < limit; i++) {
+            // 다음 세그먼트가 since 이전에 시작했으면 이 세그먼트는 전부 since 이전
+            if (i + 1 < segments.size() && segmentStart(segments.get(i + 1)) <= sinceMillis) {
+                continue;
+            }
+            readSegment(segments.get(i), room, sinceMillis, limit, entries);
+        }
+        return entries;
+    }
+
+    private void readSegment(Path segment, byte[] roomId, long sinceMillis, int limit, List<JournalEntry> entries) {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            // 보관 기간이 지나 방금 삭제됨
+            return;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (!JournalCodec.hasValidHeader(buffer)) {
+            return;
+        }
+
+        int position = JournalCodec.SEGMENT_HEADER_SIZE;
+        int bodyLength;
+        while (entries.size() < limit && (bodyLength = JournalCodec.bodyLength(buffer, position)) > 0) {
+            if (JournalCodec.timestamp(buffer, position) >= sinceMillis
+                    && JournalCodec.matchesRoom(buffer, position, roomId)) {
+                entries.add(JournalCodec.read(buffer, position));
+            }
+            position = JournalCodec.next(position, bodyLength);
+        }
+    }
+
+    /**
+     * 세그먼트 파일 목록 (시작 시각 순, 파일 이름이 곧 정렬 순서), 디렉터리가 설정되지 않았으면 비어 있음
+     */
+    static List<Path> segments(Path directory) {
+        if (directory == null || !Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String segmentName(long startMillis) {
+        return String.format("%s%013d%s", SEGMENT_PREFIX, startMillis, SEGMENT_SUFFIX);
+    }
+
+    static long segmentStart(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
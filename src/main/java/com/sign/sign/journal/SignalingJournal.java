@@ -0,0 +1,235 @@
+package com.sign.sign.journal;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingMessage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시그널링 이벤트 저널 (append-only, 메모리 맵 세그먼트 파일)
+ *
+ * - 릴레이 경로는 record() 로 lock-free 큐에 넣기만 한다 (I/O, 락, 스레드 깨우기 없음)
+ * - 기록 스레드 하나가 큐를 비우며 현재 세그먼트에 쓰고, 가득 차면 새 세그먼트로 넘어간다
+ * - 세그먼트가 바뀔 때 maxSegments / retention 을 넘는 오래된 세그먼트를 삭제
+ * - 큐가 가득 차면 이벤트를 버리고 dropped 로 센다 (시그널링을 늦추지 않는 것이 우선)
+ */
+@Component
+@Slf4j
+public class SignalingJournal implements SmartLifecycle {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final SignalingProperties.Journal config;
+    private final Path directory;
+    private final JournalReader reader;
+
+    private final Queue<JournalEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private volatile long written;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    // 이하 기록 스레드 전용
+    private MappedByteBuffer segment;
+    private long segmentStart;
+
+    public SignalingJournal(SignalingProperties properties) {
+        this.config = properties.getJournal();
+        this.directory = config.getDirectory() == null ? null : Paths.get(config.getDirectory());
+        this.reader = new JournalReader(directory);
+    }
+
+    /**
+     * 시그널링 메시지 한 건 기록 요청 (저널이 꺼져 있으면 무시)
+     */
+    public void record(String roomId, SignalingMessage message, int recipients) {
+        if (!running) {
+            return;
+        }
+        if (pending.incrementAndGet() > config.getQueueCapacity()) {
+            pending.decrementAndGet();
+            dropped.increment();
+            return;
+        }
+
+        String sdp = message.getSdp();
+        queue.offer(new JournalEntry(System.currentTimeMillis(), message.getType(), roomId,
+                message.getFromId(), message.getToId(), sdp == null ? 0 : sdp.length(), recipients));
+    }
+
+    /**
+     * @see JournalReader#read(String, long, int)
+     */
+    public List<JournalEntry> read(String roomId, long sinceMillis, int limit) {
+        return reader.read(roomId, sinceMillis, limit);
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public int getPending() {
+        return pending.get();
+    }
+
+    public int getSegmentCount() {
+        return JournalReader.segments(directory).size();
+    }
+
+    @Override
+    public void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        if (directory == null || !directory.isAbsolute()) {
+            throw new IllegalStateException("signaling.journal.directory 는 절대 경로여야 합니다: " + config.getDirectory());
+        }
+        long segmentSize = config.getSegmentSize().toBytes();
+        if (segmentSize <= JournalCodec.SEGMENT_HEADER_SIZE || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("signaling.journal.segment-size 는 2GB 미만이어야 합니다: " + config.getSegmentSize());
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        running = true;
+        writer = new Thread(this::drain, "signaling-journal");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Signaling journal writing to {}", directory.toAbsolutePath());
+    }
+
+    @Override
+    public void stop() {
+        Thread current = writer;
+        if (current == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(current);
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 가장 먼저 시작하고 가장 나중에 멈춰서 종료 직전 이벤트까지 기록
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            JournalEntry entry = queue.poll();
+            if (entry == null) {
+                // 생산자가 깨우지 않으므로 잠깐씩 쉬면서 확인
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            pending.decrementAndGet();
+
+            try {
+                append(entry);
+            } catch (IOException | UncheckedIOException e) {
+                dropped.increment();
+                log.warn("Failed to write signaling journal entry: {}", e.getMessage());
+            }
+        }
+        closeSegment();
+    }
+
+    private void append(JournalEntry entry) throws IOException {
+        if (segment != null && JournalCodec.write(segment, entry)) {
+            written++;
+            return;
+        }
+
+        roll();
+        if (JournalCodec.write(segment, entry)) {
+            written++;
+        } else {
+            // 세그먼트 하나보다 큰 레코드 (segment-size 설정이 지나치게 작음)
+            dropped.increment();
+        }
+    }
+
+    private void roll() throws IOException {
+        closeSegment();
+
+        // 파일 이름이 시작 시각이므로 같은 밀리초에 두 번 넘어가도 겹치지 않게
+        segmentStart = Math.max(System.currentTimeMillis(), segmentStart + 1);
+        Path path = directory.resolve(JournalReader.segmentName(segmentStart));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, config.getSegmentSize().toBytes());
+        }
+        JournalCodec.writeHeader(segment);
+
+        applyRetention(path);
+    }
+
+    private void closeSegment() {
+        if (segment == null) {
+            return;
+        }
+        JournalCodec.seal(segment);
+        segment.force();
+        segment = null;
+    }
+
+    private void applyRetention(Path current) {
+        List<Path> segments = JournalReader.segments(directory);
+        segments.remove(current);
+
+        long cutoff = System.currentTimeMillis() - config.getRetention().toMillis();
+        int excess = segments.size() + 1 - config.getMaxSegments();
+        for (int i = 0; i < segments.size(); i++) {
+            // 다음 세그먼트 시작이 cutoff 이전이면 이 세그먼트의 모든 이벤트가 보관 기간을 지남
+            long end = i + 1 < segments.size()
+                    ? JournalReader.segmentStart(segments.get(i + 1))
+                    : segmentStart;
+            if (i >= excess && end > cutoff) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(segments.get(i));
+            } catch (IOException e) {
+                log.warn("Failed to delete journal segment {}: {}", segments.get(i), e.getMessage());
+            }
+        }
+    }
+}
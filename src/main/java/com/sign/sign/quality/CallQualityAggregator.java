@@ -0,0 +1,143 @@
+package com.sign.sign.quality;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.CallStats;
+import com.sign.sign.dto.response.CallQualityResponse;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * "stats" 메시지로 들어온 통화 품질 보고를 방별/전체로 집계 (signaling.quality.*, /api/debug/quality)
+ *
+ * - 방마다 QualitySketch 하나, 보고는 그 방의 Recorder 에만 락 없이 기록한다
+ * - 창(window-ms)마다 방별 창을 닫고, 전체 집계는 방 히스토그램을 합쳐서 만든다 (HDR 히스토그램은 더해도 오차가 그대로)
+ * - 창 동안 보고가 없던 방은 idle-timeout 이 지나면 버린다, 방 수는 maxRooms 로 제한하고 넘치면 전체 집계에만 반영한다
+ */
+@Component
+public class CallQualityAggregator {
+
+    public static final String GLOBAL_SCOPE = "global";
+
+    private static final int METRICS = QualityMetric.values().length;
+
+    private final boolean enabled;
+    private final int maxRooms;
+    private final long idleNanos;
+
+    private final Map<String, QualitySketch> rooms = new ConcurrentHashMap<>();
+    private final QualitySketch overflow = new QualitySketch(System.nanoTime());
+
+    private final Histogram[] globalRecent = new Histogram[METRICS];
+    private final Histogram[] globalTotal = new Histogram[METRICS];
+
+    private final LongAdder reports = new LongAdder();
+
+    public CallQualityAggregator(SignalingProperties properties) {
+        SignalingProperties.Quality config = properties.getQuality();
+        this.enabled = config.isEnabled();
+        this.maxRooms = config.getMaxRooms();
+        this.idleNanos = config.getIdleTimeout().toNanos();
+        for (int i = 0; i < METRICS; i++) {
+            globalRecent[i] = new Histogram(QualitySketch.SIGNIFICANT_DIGITS);
+            globalTotal[i] = new Histogram(QualitySketch.SIGNIFICANT_DIGITS);
+        }
+    }
+
+    public void record(String roomId, CallStats stats) {
+        if (!enabled || roomId == null || stats == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        sketch(roomId, now).record(stats, now);
+        reports.increment();
+    }
+
+    /**
+     * 창을 닫는다: 방별 최근 창 갱신 → 합쳐서 전체 최근 창/누적 갱신 → 유휴 방 제거
+     */
+    @Scheduled(fixedDelayString = "${signaling.quality.window-ms:10000}")
+    public synchronized void rollover() {
+        for (Histogram histogram : globalRecent) {
+            histogram.reset();
+        }
+        for (QualitySketch sketch : rooms.values()) {
+            sketch.rollover(globalRecent);
+        }
+        overflow.rollover(globalRecent);
+        for (int i = 0; i < METRICS; i++) {
+            globalTotal[i].add(globalRecent[i]);
+        }
+
+        long now = System.nanoTime();
+        rooms.values().removeIf(sketch -> sketch.isIdle(now, idleNanos));
+    }
+
+    public synchronized CallQualityResponse global() {
+        return new CallQualityResponse(GLOBAL_SCOPE,
+                QualitySketch.summarize(globalRecent), QualitySketch.summarize(globalTotal));
+    }
+
+    /**
+     * 집계 중인 방이 아니면 null
+     */
+    public CallQualityResponse room(String roomId) {
+        QualitySketch sketch = rooms.get(roomId);
+        if (sketch == null) {
+            return null;
+        }
+        return new CallQualityResponse(roomId, sketch.summarizeRecent(), sketch.summarizeTotal());
+    }
+
+    /**
+     * 최근 창에서 metric 이 가장 나쁜 방부터 limit 개 (창에 보고가 없던 방은 제외)
+     */
+    public List<CallQualityResponse> worstRooms(QualityMetric metric, int limit) {
+        List<Map.Entry<String, Double>> ranked = new ArrayList<>();
+        for (Map.Entry<String, QualitySketch> entry : rooms.entrySet()) {
+            double tail = entry.getValue().recentWorstTail(metric);
+            if (!Double.isNaN(tail)) {
+                ranked.add(Map.entry(entry.getKey(), tail));
+            }
+        }
+        Comparator<Map.Entry<String, Double>> order = Map.Entry.comparingByValue();
+        ranked.sort(metric.isHigherWorse() ? order.reversed() : order);
+
+        List<CallQualityResponse> worst = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Map.Entry<String, Double> entry : ranked) {
+            if (worst.size() >= limit) {
+                break;
+            }
+            CallQualityResponse room = room(entry.getKey());
+            if (room != null) {
+                worst.add(room);
+            }
+        }
+        return worst;
+    }
+
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    public long getReports() {
+        return reports.sum();
+    }
+
+    private QualitySketch sketch(String roomId, long now) {
+        QualitySketch sketch = rooms.get(roomId);
+        if (sketch != null) {
+            return sketch;
+        }
+        if (rooms.size() >= maxRooms) {
+            return overflow;
+        }
+        return rooms.computeIfAbsent(roomId, key -> new QualitySketch(now));
+    }
+}
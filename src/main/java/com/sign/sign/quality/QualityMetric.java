@@ -0,0 +1,91 @@
+package com.sign.sign.quality;
+
+import com.sign.sign.dto.CallStats;
+import com.sign.sign.dto.response.QualityMetricResponse;
+import org.HdrHistogram.AbstractHistogram;
+
+/**
+ * 집계하는 통화 품질 지표
+ * 히스토그램에는 scale 을 곱한 정수로 기록한다 (RTT/지터 0.1ms, 손실률 0.01%, 비트레이트 1kbps 단위)
+ */
+public enum QualityMetric {
+
+    RTT("rtt", "ms", 10, true),
+    JITTER("jitter", "ms", 10, true),
+    PACKET_LOSS("packet-loss", "%", 100, true),
+    BITRATE("bitrate", "kbps", 1, false);
+
+    /**
+     * 기록할 수 있는 최댓값 (넘으면 잘라서 기록), RTT 기준 100초
+     */
+    static final long HIGHEST = 1_000_000L;
+
+    private final String value;
+    private final String unit;
+    private final int scale;
+    private final boolean higherIsWorse;
+
+    QualityMetric(String value, String unit, int scale, boolean higherIsWorse) {
+        this.value = value;
+        this.unit = unit;
+        this.scale = scale;
+        this.higherIsWorse = higherIsWorse;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * 나쁜 쪽 꼬리 (RTT/지터/손실률은 p90, 비트레이트는 p10), 방 순위를 매길 때 쓴다
+     */
+    public double worstTail(AbstractHistogram histogram) {
+        return unscale(histogram.getValueAtPercentile(higherIsWorse ? 90 : 10));
+    }
+
+    public boolean isHigherWorse() {
+        return higherIsWorse;
+    }
+
+    public static QualityMetric from(String value) {
+        for (QualityMetric metric : values()) {
+            if (metric.value.equals(value)) {
+                return metric;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 보고에 이 지표가 없거나 음수/NaN 이면 -1
+     */
+    long read(CallStats stats) {
+        Double sample = switch (this) {
+            case RTT -> stats.getRttMs();
+            case JITTER -> stats.getJitterMs();
+            case PACKET_LOSS -> stats.getPacketLossPercent();
+            case BITRATE -> stats.getBitrateKbps();
+        };
+        if (sample == null || !(sample >= 0)) {
+            return -1;
+        }
+        return Math.min(Math.round(sample * scale), HIGHEST);
+    }
+
+    QualityMetricResponse summarize(AbstractHistogram histogram) {
+        return new QualityMetricResponse(
+                value,
+                unit,
+                histogram.getTotalCount(),
+                unscale(histogram.getValueAtPercentile(10)),
+                unscale(histogram.getValueAtPercentile(50)),
+                unscale(histogram.getValueAtPercentile(90)),
+                unscale(histogram.getValueAtPercentile(99)),
+                unscale(histogram.getMaxValue())
+        );
+    }
+
+    private double unscale(double recorded) {
+        return Math.round(recorded * 100.0 / scale) / 100.0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.sign.sign.quality;
+
+import com.sign.sign.dto.CallStats;
+import com.sign.sign.dto.response.QualityMetricResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.PackedHistogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 방 하나의 지표별 HDR 히스토그램 (원본 표본은 남기지 않음)
+ *
+ * 기록은 Recorder 로 락 없이, rollover 때 지금 창을 닫아 recent 로 두고 total 에 더한다
+ * 방이 많아도 버티도록 packed 히스토그램을 써서 기록된 값 범위만큼만 메모리를 잡는다
+ */
+final class QualitySketch {
+
+    static final int SIGNIFICANT_DIGITS = 2;
+
+    private static final QualityMetric[] METRICS = QualityMetric.values();
+
+    private final Recorder[] recorders = new Recorder[METRICS.length];
+    private final Histogram[] recent = new Histogram[METRICS.length];
+    private final Histogram[] total = new Histogram[METRICS.length];
+
+    private volatile long lastSampleNanos;
+
+    QualitySketch(long now) {
+        for (int i = 0; i < METRICS.length; i++) {
+            recorders[i] = new Recorder(SIGNIFICANT_DIGITS, true);
+            total[i] = new PackedHistogram(SIGNIFICANT_DIGITS);
+        }
+        this.lastSampleNanos = now;
+    }
+
+    void record(CallStats stats, long now) {
+        for (int i = 0; i < METRICS.length; i++) {
+            long value = METRICS[i].read(stats);
+            if (value >= 0) {
+                recorders[i].recordValue(value);
+            }
+        }
+        lastSampleNanos = now;
+    }
+
+    /**
+     * 지금 창을 닫고, 닫은 창을 target(전체 집계)에 더한다
+     */
+    synchronized void rollover(Histogram[] target) {
+        for (int i = 0; i < METRICS.length; i++) {
+            recent[i] = recorders[i].getIntervalHistogram(recent[i]);
+            total[i].add(recent[i]);
+            target[i].add(recent[i]);
+        }
+    }
+
+    /**
+     * 마지막으로 닫힌 창에서 metric 의 나쁜 쪽 꼬리 (창에 표본이 없으면 NaN)
+     */
+    synchronized double recentWorstTail(QualityMetric metric) {
+        Histogram histogram = recent[metric.ordinal()];
+        if (histogram == null || histogram.getTotalCount() == 0) {
+            return Double.NaN;
+        }
+        return metric.worstTail(histogram);
+    }
+
+    synchronized List<QualityMetricResponse> summarizeRecent() {
+        return summarize(recent);
+    }
+
+    synchronized List<QualityMetricResponse> summarizeTotal() {
+        return summarize(total);
+    }
+
+    boolean isIdle(long now, long idleNanos) {
+        return now - lastSampleNanos >= idleNanos;
+    }
+
+    static List<QualityMetricResponse> summarize(Histogram[] histograms) {
+        List<QualityMetricResponse> summaries = new ArrayList<>(METRICS.length);
+        for (int i = 0; i < METRICS.length; i++) {
+            Histogram histogram = histograms[i] != null ? histograms[i] : new Histogram(SIGNIFICANT_DIGITS);
+            summaries.add(METRICS[i].summarize(histogram));
+        }
+        return summaries;
+    }
+}
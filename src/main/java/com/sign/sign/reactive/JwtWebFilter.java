@@ -0,0 +1,56 @@
+package com.sign.sign.reactive;
+
+import com.sign.sign.security.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux 시그널링 엔드포인트용 JWT 인증 (서블릿 쪽 JwtAuthenticationFilter 와 같은 토큰)
+ * 브라우저 WebSocket 은 헤더를 못 붙이므로 access_token 쿼리 파라미터도 받는다
+ * 검증된 사용자 ID 는 교환 속성으로 넘겨 WebSocket 세션 속성이 된다
+ */
+@RequiredArgsConstructor
+public class JwtWebFilter implements WebFilter {
+
+    public static final String USER_ID_ATTRIBUTE = "signaling.userId";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String TOKEN_PARAM = "access_token";
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String token = resolveToken(exchange);
+        Long userId = token != null && jwtUtil.validateToken(token) ? parseUserId(jwtUtil.extractUserId(token)) : null;
+
+        if (userId == null) {
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            return exchange.getResponse().setComplete();
+        }
+
+        exchange.getAttributes().put(USER_ID_ATTRIBUTE, userId);
+        return chain.filter(exchange);
+    }
+
+    private String resolveToken(ServerWebExchange exchange) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+            return authHeader.substring(BEARER_PREFIX.length());
+        }
+        return exchange.getRequest().getQueryParams().getFirst(TOKEN_PARAM);
+    }
+
+    private Long parseUserId(String subject) {
+        try {
+            return Long.valueOf(subject);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
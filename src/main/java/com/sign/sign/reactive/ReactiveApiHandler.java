@@ -0,0 +1,88 @@
+package com.sign.sign.reactive;
+
+import com.sign.sign.dto.request.CreateRoomRequest;
+import com.sign.sign.dto.request.RegistRequest;
+import com.sign.sign.dto.response.DeleteRoomResponse;
+import com.sign.sign.service.ReactiveRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 방/회원 API 의 WebFlux 함수형 엔드포인트 (RoomController, MemberController 와 같은 경로와 응답)
+ * ReactiveSignalingServer 포트에서 WebSocket 경로 외의 요청을 처리한다
+ */
+@Component
+@ConditionalOnProperty(prefix = "signaling.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReactiveApiHandler {
+
+    private final ReactiveRoomService roomService;
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .POST("/api/member/regist", this::registerMember)
+                .POST("/api/room/create", this::createRoom)
+                .GET("/api/room/{roomId}", this::getRoomInfo)
+                .POST("/api/room/{roomId}/join", this::joinRoom)
+                .DELETE("/api/room/{roomId}", this::deleteRoom)
+                .build();
+    }
+
+    public Mono<ServerResponse> registerMember(ServerRequest request) {
+        return request.bodyToMono(RegistRequest.class)
+                .flatMap(body -> roomService.registerMember(body.getName()))
+                .flatMap(memberId -> ServerResponse.ok().bodyValue(memberId));
+    }
+
+    /**
+     * 생성자는 JwtWebFilter 가 검증한 사용자 본인
+     */
+    public Mono<ServerResponse> createRoom(ServerRequest request) {
+        Long creatorId = (Long) request.attributes().get(JwtWebFilter.USER_ID_ATTRIBUTE);
+        if (creatorId == null) {
+            return ServerResponse.status(HttpStatus.FORBIDDEN).build();
+        }
+        return request.bodyToMono(CreateRoomRequest.class)
+                .flatMap(body -> roomService.createRoom(creatorId, body.getGuestId(), body.getCapacity()))
+                .flatMap(created -> ServerResponse.ok().bodyValue(created))
+                .onErrorResume(IllegalArgumentException.class,
+                        e -> ServerResponse.badRequest().bodyValue(e.getMessage()));
+    }
+
+    public Mono<ServerResponse> getRoomInfo(ServerRequest request) {
+        return roomService.getRoomInfo(request.pathVariable("roomId"))
+                .flatMap(info -> ServerResponse.ok().bodyValue(info))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.notFound().build());
+    }
+
+    /**
+     * 참여자는 JwtWebFilter 가 검증한 사용자 본인 (요청 본문의 ID 는 믿지 않는다)
+     */
+    public Mono<ServerResponse> joinRoom(ServerRequest request) {
+        String roomId = request.pathVariable("roomId");
+        Long memberId = (Long) request.attributes().get(JwtWebFilter.USER_ID_ATTRIBUTE);
+        if (memberId == null) {
+            return ServerResponse.status(HttpStatus.FORBIDDEN).build();
+        }
+        return roomService.join(roomId, memberId)
+                .then(roomService.getRoomInfo(roomId))
+                .flatMap(info -> ServerResponse.ok().bodyValue(info))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.notFound().build())
+                .onErrorResume(IllegalStateException.class,
+                        e -> ServerResponse.status(HttpStatus.CONFLICT).bodyValue(e.getMessage()));
+    }
+
+    public Mono<ServerResponse> deleteRoom(ServerRequest request) {
+        return roomService.remove(request.pathVariable("roomId"))
+                .flatMap(id -> ServerResponse.ok().bodyValue(new DeleteRoomResponse(true, "방이 삭제되었습니다", id)))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.badRequest()
+                        .bodyValue(new DeleteRoomResponse(false, e.getMessage(), null)));
+    }
+}
@@ -0,0 +1,136 @@
+package com.sign.sign.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sign.sign.dto.SignalingAck;
+import com.sign.sign.dto.SignalingMessage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 → WebFlux 시그널링 세션
+ * SignalingMessenger 가 먼저 여기를 보고, WebFlux 로 붙은 사용자면 STOMP 브로커 대신 세션 큐로 보낸다
+ * 두 엔드포인트에 나뉘어 붙은 참여자끼리도 같은 방에서 통화할 수 있다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveSessionRegistry {
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, ReactiveSignalingSession> sessionsByUser = new ConcurrentHashMap<>();
+    private final Map<String, ReactiveSignalingSession> sessionsById = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 사용자가 다시 붙으면 최신 세션으로 교체
+     */
+    public void register(ReactiveSignalingSession session) {
+        sessionsById.put(session.getSessionId(), session);
+        if (session.getUserId() != null) {
+            sessionsByUser.put(session.getUserId(), session);
+        }
+    }
+
+    public void unregister(ReactiveSignalingSession session) {
+        sessionsById.remove(session.getSessionId(), session);
+        if (session.getUserId() != null) {
+            sessionsByUser.remove(session.getUserId(), session);
+        }
+        session.close();
+    }
+
+    /**
+     * @return 사용자가 WebFlux 세션으로 붙어 있으면 true (큐가 넘쳐 버려졌어도 true, STOMP 로 다시 보내지 않음)
+     */
+    public boolean send(Long userId, SignalingMessage message) {
+        ReactiveSignalingSession session = find(userId);
+        if (session == null) {
+            return false;
+        }
+        offer(session, message);
+        return true;
+    }
+
+    /**
+     * 사용자가 아니라 세션 하나에만 (통화를 차지한 기기, answered-elsewhere)
+     *
+     * @return 세션이 WebFlux 세션이면 true
+     */
+    public boolean sendToSession(String sessionId, SignalingMessage message) {
+        ReactiveSignalingSession session = findSession(sessionId);
+        if (session == null) {
+            return false;
+        }
+        offer(session, message);
+        return true;
+    }
+
+    public boolean sendError(Long userId, String error) {
+        ReactiveSignalingSession session = find(userId);
+        if (session == null) {
+            return false;
+        }
+        offer(session, Map.of("type", "error", "message", error));
+        return true;
+    }
+
+    /**
+     * 사용자가 아니라 세션 하나에만 (fromId 를 아직 믿을 수 없을 때)
+     *
+     * @return 세션이 WebFlux 세션이면 true
+     */
+    public boolean sendErrorToSession(String sessionId, String error) {
+        ReactiveSignalingSession session = findSession(sessionId);
+        if (session == null) {
+            return false;
+        }
+        offer(session, Map.of("type", "error", "message", error));
+        return true;
+    }
+
+    /**
+     * 수신 확인은 보낸 세션에만 (같은 사용자의 다른 기기로 가지 않도록)
+     */
+    public boolean sendAck(String sessionId, SignalingAck ack) {
+        ReactiveSignalingSession session = findSession(sessionId);
+        if (session == null) {
+            return false;
+        }
+        offer(session, ack);
+        return true;
+    }
+
+    public int size() {
+        return sessionsByUser.size();
+    }
+
+    private ReactiveSignalingSession find(Long userId) {
+        // 엔드포인트를 켜지 않았으면 맵 조회 없이 바로 STOMP 로
+        if (userId == null || sessionsByUser.isEmpty()) {
+            return null;
+        }
+        return sessionsByUser.get(userId);
+    }
+
+    private ReactiveSignalingSession findSession(String sessionId) {
+        if (sessionId == null || sessionsById.isEmpty()) {
+            return null;
+        }
+        return sessionsById.get(sessionId);
+    }
+
+    private void offer(ReactiveSignalingSession session, Object payload) {
+        try {
+            if (!session.offer(objectMapper.writeValueAsString(payload))) {
+                log.warn("Dropped frame for slow reactive session {} of user {}",
+                        session.getSessionId(), session.getUserId());
+            }
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize frame for reactive session {}", session.getSessionId(), e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.sign.sign.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.signaling.SignalingDispatcher;
+import com.sign.sign.websocket.FirstSessionTimer;
+import com.sign.sign.websocket.SignalingRateLimiter;
+import com.sign.sign.websocket.SignalingSessionListener;
+import com.sign.sign.websocket.SignalingSessionRegistry;
+import com.sign.sign.websocket.TokenBucket;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFlux 시그널링 WebSocket 핸들러
+ * 프레임은 STOMP 없이 SignalingMessage JSON 그대로 주고받고, 처리는 STOMP 엔드포인트와 같은 SignalingDispatcher 가 한다
+ *
+ * 세션마다 두 개의 파이프라인:
+ * - 수신: inboundPrefetch 만큼만 요청하므로 처리가 밀리면 소켓 읽기가 멈춘다 (TCP 까지 배압 전달)
+ * - 송신: 크기가 정해진 세션 큐를 소켓 쓰기 속도대로 비운다
+ */
+@Component
+@ConditionalOnProperty(prefix = "signaling.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveSignalingHandler implements WebSocketHandler {
+
+    // STOMP 세션 ID 와 겹치지 않도록 구분
+    private static final String SESSION_PREFIX = "reactive-";
+    private static final String DESTINATION_PREFIX = "/app/signaling/";
+    private static final String NEW_ROOM = "new";
+
+    private final SignalingDispatcher dispatcher;
+    private final ReactiveSessionRegistry reactiveSessions;
+    private final SignalingSessionRegistry sessionRegistry;
+    private final SignalingSessionListener sessionListener;
+    private final SignalingRateLimiter rateLimiter;
+    private final FirstSessionTimer firstSessionTimer;
+    private final ObjectMapper objectMapper;
+    private final SignalingProperties properties;
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        SignalingProperties.Reactive config = properties.getReactive();
+        Long userId = (Long) session.getAttributes().get(JwtWebFilter.USER_ID_ATTRIBUTE);
+        String sessionId = SESSION_PREFIX + session.getId();
+
+        ReactiveSignalingSession signalingSession =
+                new ReactiveSignalingSession(sessionId, userId, config.getOutboundBufferSize());
+        reactiveSessions.register(signalingSession);
+        sessionRegistry.register(sessionId, userId);
+        firstSessionTimer.markAccepted();
+
+        session.closeStatus()
+                .defaultIfEmpty(CloseStatus.NO_CLOSE_FRAME)
+                .onErrorReturn(CloseStatus.NO_CLOSE_FRAME)
+                .subscribe(status -> onClose(signalingSession, status));
+
+        Mono<Void> inbound = session.receive()
+                .map(ReactiveSignalingHandler::copyPayload)
+                // 캐시 미스 방 조회는 JPA(블로킹)이므로 이벤트 루프 밖에서, 세션 안 순서는 유지
+                .publishOn(Schedulers.boundedElastic(), config.getInboundPrefetch())
+                .doOnNext(payload -> onFrame(signalingSession, payload))
+                .then();
+
+        Mono<Void> outbound = session.send(signalingSession.outbound().map(session::textMessage));
+
+        // 어느 한쪽이 끝나면 세션 종료
+        return Mono.zip(inbound, outbound).then();
+    }
+
+    private void onFrame(ReactiveSignalingSession session, byte[] payload) {
+        SignalingMessage message;
+        try {
+            message = objectMapper.readValue(payload, SignalingMessage.class);
+        } catch (IOException e) {
+            log.debug("Malformed frame on reactive session {}", session.getSessionId());
+            return;
+        }
+
+        // create-and-invite 는 방 ID 없이 온다 (방은 서버가 만든다)
+        String roomId = message.getRoomId();
+        if (roomId == null && message.getType() != SignalingType.CREATE_AND_INVITE) {
+            return;
+        }
+        String destination = DESTINATION_PREFIX.concat(roomId != null ? roomId : NEW_ROOM);
+
+        // 토큰으로 확인된 사용자만 발신자가 될 수 있다
+        if (!session.getUserId().equals(message.getFromId())) {
+            log.warn("Reactive session {} of user {} sent a frame as user {}",
+                    session.getSessionId(), session.getUserId(), message.getFromId());
+            return;
+        }
+
+        if (rateLimiter.isEnabled()) {
+            long now = System.nanoTime();
+            TokenBucket rejectedBy = rateLimiter.tryAcquire(session.getUserId(),
+                    rateLimiter.roomKey(session.getUserId(), roomId), rateLimiter.typeIndex(payload), now);
+            if (rejectedBy != null) {
+                if (rejectedBy.shouldNotifyRejection(now)) {
+                    reactiveSessions.sendError(session.getUserId(), "요청이 너무 많습니다: " + destination);
+                }
+                return;
+            }
+        }
+
+        try {
+            dispatcher.dispatch(session.getSessionId(), roomId, message);
+        } catch (RuntimeException e) {
+            // 한 프레임 처리 실패로 세션 파이프라인이 끊기지 않도록
+            log.error("Failed to handle '{}' from reactive session {}", message.getType(), session.getSessionId(), e);
+        }
+    }
+
+    private void onClose(ReactiveSignalingSession session, CloseStatus status) {
+        reactiveSessions.unregister(session);
+        // WebFlux 엔드포인트는 재개 토큰이 없으므로 바로 상대방에게 알린다
+        sessionListener.sessionClosed(session.getSessionId(),
+                new org.springframework.web.socket.CloseStatus(status.getCode()), false);
+    }
+
+    // 수신 버퍼는 이벤트 루프에서 해제되므로 스레드를 넘기기 전에 복사
+    private static byte[] copyPayload(WebSocketMessage message) {
+        DataBuffer buffer = message.getPayload();
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        return bytes;
+    }
+}
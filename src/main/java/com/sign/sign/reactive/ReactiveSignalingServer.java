@@ -0,0 +1,102 @@
+package com.sign.sign.reactive;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.security.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.server.support.HandshakeWebSocketService;
+import org.springframework.web.reactive.socket.server.upgrade.ReactorNettyRequestUpgradeStrategy;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebHandler;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * WebFlux 시그널링 엔드포인트를 띄우는 Reactor Netty 서버
+ *
+ * 애플리케이션은 서블릿(Tomcat) 스택으로 뜨므로 WebFlux 자동 설정이 동작하지 않는다.
+ * 그래서 signaling.reactive.enabled=true 일 때만 별도 포트에 JWT 필터 + 핸드셰이크 + 함수형 API 만 있는 작은 HttpHandler 를 직접 올린다.
+ * - ws://host:{signaling.reactive.port}{signaling.reactive.path}?access_token=...
+ * - http://host:{signaling.reactive.port}/api/room/**, /api/member/** (R2DBC, ReactiveApiHandler)
+ */
+@Component
+@ConditionalOnProperty(prefix = "signaling.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveSignalingServer implements SmartLifecycle {
+
+    private final ReactiveSignalingHandler signalingHandler;
+    private final ReactiveApiHandler apiHandler;
+    private final JwtUtil jwtUtil;
+    private final SignalingProperties properties;
+
+    private volatile DisposableServer server;
+
+    @Override
+    public void start() {
+        SignalingProperties.Reactive config = properties.getReactive();
+
+        HandshakeWebSocketService webSocketService =
+                new HandshakeWebSocketService(new ReactorNettyRequestUpgradeStrategy());
+        webSocketService.start();
+
+        WebHandler apiWebHandler = RouterFunctions.toWebHandler(apiHandler.routes());
+        WebHandler webHandler = exchange -> config.getPath().equals(exchange.getRequest().getPath().value())
+                ? webSocketService.handleRequest(exchange, authenticated(exchange))
+                : apiWebHandler.handle(exchange);
+
+        HttpHandler httpHandler = WebHttpHandlerBuilder.webHandler(webHandler)
+                .filter(new JwtWebFilter(jwtUtil))
+                .build();
+
+        server = HttpServer.create()
+                .port(config.getPort())
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+
+        log.info("Reactive signaling endpoint listening on port {} at {}", server.port(), config.getPath());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * JwtWebFilter 가 교환 속성에 넣은 사용자 ID 를 WebSocket 세션 속성으로 옮긴다
+     * (HandshakeWebSocketService 의 sessionAttributePredicate 는 WebSession 속성만 복사하므로,
+     * 연결마다 WebSession 을 만들지 않고 직접 넘긴다)
+     */
+    private WebSocketHandler authenticated(ServerWebExchange exchange) {
+        Object userId = exchange.getAttribute(JwtWebFilter.USER_ID_ATTRIBUTE);
+        return session -> {
+            session.getAttributes().put(JwtWebFilter.USER_ID_ATTRIBUTE, userId);
+            return signalingHandler.handle(session);
+        };
+    }
+
+    /**
+     * 실제 바인딩된 포트 (설정이 0 이면 임의 포트)
+     */
+    public int getPort() {
+        DisposableServer current = server;
+        return current != null ? current.port() : -1;
+    }
+}
@@ -0,0 +1,54 @@
+package com.sign.sign.reactive;
+
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+/**
+ * WebFlux 시그널링 세션 하나의 전송 큐
+ * 크기가 정해진 유니캐스트 싱크라 소켓 쓰기가 밀리면 큐가 차고, 넘치는 프레임은 버린다 (느린 클라이언트가 서버 메모리를 잡지 않도록)
+ */
+public class ReactiveSignalingSession {
+
+    @Getter
+    private final String sessionId;
+
+    @Getter
+    private final Long userId;
+
+    private final Sinks.Many<String> outbound;
+    private final AtomicLong dropped = new AtomicLong();
+
+    public ReactiveSignalingSession(String sessionId, Long userId, int bufferSize) {
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.outbound = Sinks.many().unicast().onBackpressureBuffer(Queues.<String>get(bufferSize).get());
+    }
+
+    public Flux<String> outbound() {
+        return outbound.asFlux();
+    }
+
+    /**
+     * 여러 스레드에서 동시에 보내도 싱크가 FAIL_NON_SERIALIZED 로 거절하지 않도록 직렬화
+     *
+     * @return 큐에 넣었으면 true, 가득 찼거나 닫혔으면 false
+     */
+    public synchronized boolean offer(String frame) {
+        Sinks.EmitResult result = outbound.tryEmitNext(frame);
+        if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+            dropped.incrementAndGet();
+        }
+        return result.isSuccess();
+    }
+
+    public synchronized void close() {
+        outbound.tryEmitComplete();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
@@ -20,4 +20,9 @@ public class MemberRepository {
     public Optional<Member> findById(Long id) {
         return Optional.ofNullable(em.find(Member.class, id));
     }
+
+    // 조회 없이 연관관계에만 쓰는 프록시 (존재 여부는 호출자가 MemberCache 로 확인)
+    public Member getReference(Long id) {
+        return em.getReference(Member.class, id);
+    }
 }
@@ -0,0 +1,39 @@
+package com.sign.sign.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * member 테이블 R2DBC 접근 (MemberRepository 의 논블로킹 버전)
+ * ID 는 Hibernate 와 같은 member_seq 에서 받는다: 풀 최적화(50개 단위)에서 Hibernate 는 자신이 받은 값 이하 구간만 쓰므로
+ * 여기서 받은 값을 그대로 ID 로 써도 겹치지 않는다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveMemberRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Long> save(String name) {
+        return databaseClient.sql("SELECT NEXT VALUE FOR member_seq")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> databaseClient.sql("""
+                                INSERT INTO member (member_id, name, created_at, updated_at)
+                                VALUES (:id, :name, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)""")
+                        .bind("id", id)
+                        .bind("name", name)
+                        .then()
+                        .thenReturn(id));
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT COUNT(*) FROM member WHERE member_id = :id")
+                .bind("id", id)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+}
@@ -0,0 +1,136 @@
+package com.sign.sign.repository;
+
+import io.r2dbc.spi.Readable;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * room / room_participant 테이블 R2DBC 접근 (RoomRepository 의 논블로킹 버전)
+ * 스키마는 JPA 엔티티(Room, RoomParticipant)가 만든 것을 그대로 쓰고, ID 는 같은 시퀀스에서 받는다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveRoomRepository {
+
+    private static final String SELECT_ROOM = """
+            SELECT r.id, r.room_id, r.creator_id, m.name AS creator_name, r.capacity, r.is_active
+            FROM room r JOIN member m ON m.member_id = r.creator_id
+            WHERE r.room_id = :roomId""";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Long> save(String roomId, Long creatorId, int capacity) {
+        return nextValue("room_seq")
+                .flatMap(id -> databaseClient.sql("""
+                                INSERT INTO room (id, room_id, creator_id, capacity, is_active, created_at, updated_at)
+                                VALUES (:id, :roomId, :creatorId, :capacity, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)""")
+                        .bind("id", id)
+                        .bind("roomId", roomId)
+                        .bind("creatorId", creatorId)
+                        .bind("capacity", capacity)
+                        .then()
+                        .thenReturn(id));
+    }
+
+    public Mono<Void> addParticipant(Long roomPk, Long memberId) {
+        return nextValue("room_participant_seq")
+                .flatMap(id -> databaseClient.sql("""
+                                INSERT INTO room_participant (id, room_id, member_id, created_at, updated_at)
+                                VALUES (:id, :roomPk, :memberId, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)""")
+                        .bind("id", id)
+                        .bind("roomPk", roomPk)
+                        .bind("memberId", memberId)
+                        .then());
+    }
+
+    /**
+     * 참여자만 바뀌어도 방 수정 시각을 올린다 (방 정보 ETag, BaseEntity.touch 와 같은 의미)
+     */
+    public Mono<Void> touch(Long roomPk, LocalDateTime updatedAt) {
+        return databaseClient.sql("UPDATE room SET updated_at = :updatedAt WHERE id = :roomPk")
+                .bind("updatedAt", updatedAt)
+                .bind("roomPk", roomPk)
+                .then();
+    }
+
+    public Mono<RoomRow> findByRoomId(String roomId) {
+        return databaseClient.sql(SELECT_ROOM)
+                .bind("roomId", roomId)
+                .map(this::toRoomRow)
+                .one();
+    }
+
+    /**
+     * 참여/퇴장 시 정원 확인과 변경이 동시 요청과 섞이지 않도록 방 행을 잠그고 읽는다 (트랜잭션 안에서 호출)
+     */
+    public Mono<RoomRow> findByRoomIdForUpdate(String roomId) {
+        return databaseClient.sql("""
+                        SELECT id, room_id, creator_id, capacity, is_active
+                        FROM room WHERE room_id = :roomId FOR UPDATE""")
+                .bind("roomId", roomId)
+                .map(row -> new RoomRow(
+                        row.get("id", Long.class),
+                        row.get("room_id", String.class),
+                        row.get("creator_id", Long.class),
+                        null,
+                        row.get("capacity", Integer.class),
+                        Boolean.TRUE.equals(row.get("is_active", Boolean.class))))
+                .one();
+    }
+
+    /**
+     * 입장 순서 (생성자가 먼저)
+     */
+    public Flux<Long> findParticipantIds(Long roomPk) {
+        return databaseClient.sql("SELECT member_id FROM room_participant WHERE room_id = :roomPk ORDER BY id")
+                .bind("roomPk", roomPk)
+                .map(row -> row.get("member_id", Long.class))
+                .all();
+    }
+
+    public Flux<String> findParticipantNames(Long roomPk) {
+        return databaseClient.sql("""
+                        SELECT m.name FROM room_participant p JOIN member m ON m.member_id = p.member_id
+                        WHERE p.room_id = :roomPk ORDER BY p.id""")
+                .bind("roomPk", roomPk)
+                .map(row -> row.get("name", String.class))
+                .all();
+    }
+
+    public Mono<Long> removeParticipant(Long roomPk, Long memberId) {
+        return databaseClient.sql("DELETE FROM room_participant WHERE room_id = :roomPk AND member_id = :memberId")
+                .bind("roomPk", roomPk)
+                .bind("memberId", memberId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Void> remove(Long roomPk) {
+        return databaseClient.sql("DELETE FROM room_participant WHERE room_id = :roomPk")
+                .bind("roomPk", roomPk)
+                .then()
+                .then(databaseClient.sql("DELETE FROM room WHERE id = :roomPk")
+                        .bind("roomPk", roomPk)
+                        .then());
+    }
+
+    private Mono<Long> nextValue(String sequence) {
+        return databaseClient.sql("SELECT NEXT VALUE FOR " + sequence)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    private RoomRow toRoomRow(Readable row) {
+        return new RoomRow(
+                row.get("id", Long.class),
+                row.get("room_id", String.class),
+                row.get("creator_id", Long.class),
+                row.get("creator_name", String.class),
+                row.get("capacity", Integer.class),
+                Boolean.TRUE.equals(row.get("is_active", Boolean.class)));
+    }
+}
@@ -21,12 +21,25 @@ public class RoomRepository {
         return Optional.ofNullable(em.find(Room.class, id));
     }
 
+    // getSingleResult() 는 결과가 없으면 NoResultException 을 던지므로 목록 조회로 빈 결과를 Optional 로 돌려준다
     public Optional<Room> findByRoomId(String roomId) {
-        return Optional.ofNullable(
-                em.createQuery("SELECT r FROM Room r WHERE r.roomId = :roomId", Room.class)
-                        .setParameter("roomId", roomId)
-                        .getSingleResult()
-        );
+        return em.createQuery("SELECT r FROM Room r WHERE r.roomId = :roomId", Room.class)
+                .setParameter("roomId", roomId)
+                .setMaxResults(1)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    // 참여자 스냅샷을 만들 때 트랜잭션 밖에서도 컬렉션을 읽을 수 있도록 한 번에 가져온다
+    public Optional<Room> findWithParticipantsByRoomId(String roomId) {
+        return em.createQuery(
+                        "SELECT DISTINCT r FROM Room r LEFT JOIN FETCH r.participants WHERE r.roomId = :roomId",
+                        Room.class)
+                .setParameter("roomId", roomId)
+                .getResultList()
+                .stream()
+                .findFirst();
     }
 
     public void remove(Room room) {
@@ -0,0 +1,18 @@
+package com.sign.sign.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * R2DBC 로 읽은 room 테이블 한 행 (JPA 엔티티 대신 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class RoomRow {
+    private Long id;
+    private String roomId;
+    private Long creatorId;
+    private String creatorName;
+    private int capacity;
+    private boolean isActive;
+}
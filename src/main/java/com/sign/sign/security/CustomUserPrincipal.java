@@ -3,18 +3,38 @@ package com.sign.sign.security;
 import java.util.Collection;
 import java.util.List;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 public class CustomUserPrincipal implements UserDetails {
+    private static final List<GrantedAuthority> ADMIN = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+
     private final String userId;
+    private final boolean admin;
 
     public CustomUserPrincipal(String userId) {
+        this(userId, false);
+    }
+
+    public CustomUserPrincipal(String userId, boolean admin) {
         this.userId = userId;
+        this.admin = admin;
+    }
+
+    /**
+     * 회원 ID (토큰 subject 가 숫자가 아니면 null)
+     */
+    public Long getMemberId() {
+        try {
+            return Long.valueOf(userId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(); // 필요하면 ROLE_USER 등 추가 가능
+        return admin ? ADMIN : List.of(); // 관리자(signaling.authorization.admin-ids)만 ROLE_ADMIN
     }
 
     @Override public String getPassword() { return null; }
@@ -5,17 +5,26 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import java.util.stream.Collectors;
+import com.sign.sign.config.SignalingProperties;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil; // 토큰 생성/검증 유틸
+    private final Set<String> adminIds;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, SignalingProperties properties) {
+        this.jwtUtil = jwtUtil;
+        this.adminIds = properties.getAuthorization().getAdminIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -31,7 +40,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (jwtUtil.validateToken(token)) {
                 String userId = jwtUtil.extractUserId(token);
 
-                CustomUserPrincipal userPrincipal = new CustomUserPrincipal(userId);
+                CustomUserPrincipal userPrincipal = new CustomUserPrincipal(userId, adminIds.contains(userId));
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userPrincipal, null, userPrincipal.getAuthorities());
 
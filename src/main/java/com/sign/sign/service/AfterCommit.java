@@ -0,0 +1,27 @@
+package com.sign.sign.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 반영을 커밋 뒤로 미루기 (트랜잭션 밖이면 바로 실행)
+ * 롤백된 변경이 캐시에 남지 않도록 RoomService, MemberService, RoomStateCache 가 DB 변경 뒤의 캐시 갱신을 여기로 넘긴다
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
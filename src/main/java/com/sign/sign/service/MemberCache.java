@@ -0,0 +1,90 @@
+package com.sign.sign.service;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.domain.Member;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 ID → MemberIdentity 캐시 (TTL, 최대 크기)
+ *
+ * 회원 정보는 거의 바뀌지 않으므로 방 생성/참여/방 정보 조회는 이 캐시로 존재 확인과 이름을 얻고
+ * 연관관계에는 getReference 프록시를 써서 회원 테이블을 읽지 않는다
+ * 회원이 저장/수정/삭제되면 MemberService, MemberCacheInvalidator 가 갱신한다
+ */
+@Component
+public class MemberCache {
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public MemberCache(SignalingProperties properties) {
+        this.ttlNanos = properties.getMemberCache().getTtl().toNanos();
+        this.maxSize = properties.getMemberCache().getMaxSize();
+    }
+
+    /**
+     * 없거나 만료됐으면 null (miss 로 집계)
+     */
+    public MemberIdentity get(long memberId) {
+        Entry entry = entries.get(memberId);
+        if (entry != null && System.nanoTime() - entry.expiresAt < 0) {
+            hits.increment();
+            return entry.identity;
+        }
+        if (entry != null) {
+            entries.remove(memberId, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    public MemberIdentity put(Member member) {
+        MemberIdentity identity = new MemberIdentity(member.getId(), member.getName());
+        if (ttlNanos <= 0) {
+            return identity;
+        }
+
+        long now = System.nanoTime();
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> now - entry.expiresAt >= 0);
+            // 만료된 것이 없을 만큼 가득 찼으면 통째로 비운다 (최선 노력 캐시)
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(identity.getId(), new Entry(identity, now + ttlNanos));
+        return identity;
+    }
+
+    public void evict(long memberId) {
+        entries.remove(memberId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    private record Entry(MemberIdentity identity, long expiresAt) {
+    }
+}
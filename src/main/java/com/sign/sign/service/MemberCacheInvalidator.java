@@ -0,0 +1,24 @@
+package com.sign.sign.service;
+
+import com.sign.sign.domain.Member;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Member 엔티티 리스너: JPA 로 수정/삭제된 회원을 MemberCache 에서 제거
+ * (Hibernate 가 스프링 빈으로 생성하므로 주입을 받을 수 있다)
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberCacheInvalidator {
+
+    private final MemberCache memberCache;
+
+    @PostUpdate
+    @PostRemove
+    public void evict(Member member) {
+        memberCache.evict(member.getId());
+    }
+}
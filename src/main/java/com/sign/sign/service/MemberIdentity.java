@@ -0,0 +1,15 @@
+package com.sign.sign.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 캐시에 두는 회원 정보 (엔티티 대신 불변 스냅샷, 영속성 컨텍스트와 무관하게 공유)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberIdentity {
+
+    private final long id;
+    private final String name;
+}
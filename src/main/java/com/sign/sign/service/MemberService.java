@@ -2,8 +2,10 @@ package com.sign.sign.service;
 
 import com.sign.sign.domain.Member;
 import com.sign.sign.repository.MemberRepository;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -12,10 +14,26 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MemberCache memberCache;
 
     @Transactional
     public Long saveMember(Member member) {
         memberRepository.save(member);
+        // 롤백된 회원이 캐시에 남지 않도록 커밋 뒤에
+        AfterCommit.run(() -> memberCache.put(member));
         return member.getId();
     }
+
+    /**
+     * 캐시 우선 회원 조회, 캐시에 없으면 한 번 읽어 캐시에 올린다
+     * 캐시 적중 때는 트랜잭션/커넥션을 열지 않는다 (방 예약/조회, create-and-invite 경로)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Optional<MemberIdentity> findIdentity(Long memberId) {
+        MemberIdentity cached = memberCache.get(memberId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return memberRepository.findById(memberId).map(memberCache::put);
+    }
 }
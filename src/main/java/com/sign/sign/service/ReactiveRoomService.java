@@ -0,0 +1,168 @@
+package com.sign.sign.service;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.domain.Room;
+import com.sign.sign.dto.response.CreateRoomResponse;
+import com.sign.sign.dto.response.RoomInfoResponse;
+import com.sign.sign.repository.ReactiveMemberRepository;
+import com.sign.sign.repository.ReactiveRoomRepository;
+import com.sign.sign.repository.RoomRow;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * RoomService 의 R2DBC 버전 (WebFlux 엔드포인트용)
+ * 요청 스레드를 잡지 않으므로 방 생성이 몰려도 Tomcat/JDBC 풀 크기가 아니라 R2DBC 커넥션 풀만큼 동시에 처리된다
+ *
+ * 트랜잭션은 @Transactional(JPA 매니저) 대신 TransactionalOperator 로 묶는다.
+ * 시그널링 경로와 방 정보 조회가 보는 캐시(RoomMembershipCache, UnknownRoomCache, RoomStateCache)는 RoomService 와 똑같이 커밋 후에 갱신한다 (transactional 다음의 doOnNext)
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveRoomService {
+
+    private final ReactiveRoomRepository roomRepository;
+    private final ReactiveMemberRepository memberRepository;
+    private final TransactionalOperator reactiveTransactionalOperator;
+    private final UnknownRoomCache unknownRoomCache;
+    private final RoomMembershipCache membershipCache;
+    private final RoomStateCache roomStateCache;
+    private final SignalingProperties properties;
+
+    public Mono<Long> registerMember(String name) {
+        return memberRepository.save(name)
+                .as(reactiveTransactionalOperator::transactional);
+    }
+
+    public Mono<CreateRoomResponse> createRoom(Long creatorId, Long guestId, Integer capacity) {
+        return Mono.fromCallable(() -> resolveCapacity(capacity))
+                .flatMap(resolvedCapacity -> requireMember(creatorId)
+                        .then(guestId != null ? requireMember(guestId) : Mono.empty())
+                        .then(Mono.defer(() -> {
+                            String roomId = Room.generateRoomId();
+                            return roomRepository.save(roomId, creatorId, resolvedCapacity)
+                                    .flatMap(roomPk -> roomRepository.addParticipant(roomPk, creatorId)
+                                            .then(guestId != null ? roomRepository.addParticipant(roomPk, guestId) : Mono.empty())
+                                            .thenReturn(new CreateRoomResponse(roomId, roomPk)));
+                        })))
+                .as(reactiveTransactionalOperator::transactional)
+                .doOnNext(created -> {
+                    unknownRoomCache.invalidate(created.getRoomId());
+                    membershipCache.put(guestId != null
+                            ? RoomMembership.of(created.getRoomId(), creatorId, guestId)
+                            : RoomMembership.of(created.getRoomId(), creatorId));
+                });
+    }
+
+    /**
+     * RoomService.reserve 로 캐시에 먼저 올린 방을 같은 코드로 저장 (create-and-invite, 시그널링 경로 밖에서 구독)
+     * 저장 전에 방 정보 조회가 있었으면 네거티브 캐시에 올라갔을 수 있으므로 저장 후 다시 비운다
+     */
+    public Mono<Long> persist(RoomMembership membership, int capacity) {
+        return roomRepository.save(membership.getRoomId(), membership.getCreatorId(), capacity)
+                .flatMap(roomPk -> Flux.range(0, membership.size())
+                        .concatMap(i -> roomRepository.addParticipant(roomPk, membership.participantAt(i)))
+                        .then(Mono.just(roomPk)))
+                .as(reactiveTransactionalOperator::transactional)
+                .doOnNext(roomPk -> unknownRoomCache.invalidate(membership.getRoomId()));
+    }
+
+    public Mono<RoomInfoResponse> getRoomInfo(String roomId) {
+        return roomRepository.findByRoomId(roomId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("방을 찾을 수 없습니다: " + roomId)))
+                .flatMap(room -> roomRepository.findParticipantNames(room.getId())
+                        .collectList()
+                        .map(names -> toRoomInfo(room, names)));
+    }
+
+    public Mono<Void> join(String roomId, Long memberId) {
+        LocalDateTime joinedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        return roomRepository.findByRoomIdForUpdate(roomId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("방을 찾을 수 없습니다: " + roomId)))
+                .flatMap(room -> roomRepository.findParticipantIds(room.getId())
+                        .collectList()
+                        .flatMap(participants -> {
+                            if (participants.contains(memberId)) {
+                                return Mono.just(participants);
+                            }
+                            if (participants.size() >= room.getCapacity()) {
+                                return Mono.error(new IllegalStateException("방이 가득 찼습니다"));
+                            }
+                            if (!room.isActive()) {
+                                return Mono.error(new IllegalStateException("비활성화된 방입니다"));
+                            }
+                            return requireMember(memberId)
+                                    .then(roomRepository.addParticipant(room.getId(), memberId))
+                                    .then(roomRepository.touch(room.getId(), joinedAt))
+                                    .then(Mono.fromCallable(() -> append(participants, memberId)));
+                        }))
+                .as(reactiveTransactionalOperator::transactional)
+                .doOnNext(participants -> {
+                    membershipCache.put(toMembership(roomId, participants));
+                    roomStateCache.changed(roomId, joinedAt);
+                })
+                .then();
+    }
+
+    public Mono<Long> remove(String roomId) {
+        return roomRepository.findByRoomIdForUpdate(roomId)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("방을 찾을 수 없습니다: " + roomId)))
+                .flatMap(room -> roomRepository.remove(room.getId()).thenReturn(room.getId()))
+                .as(reactiveTransactionalOperator::transactional)
+                .doOnNext(id -> {
+                    unknownRoomCache.add(roomId);
+                    membershipCache.evict(roomId);
+                    roomStateCache.removed(roomId);
+                });
+    }
+
+    private Mono<Void> requireMember(Long memberId) {
+        return memberRepository.existsById(memberId)
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : Mono.error(new IllegalArgumentException("사용자를 찾을 수 없습니다")));
+    }
+
+    private int resolveCapacity(Integer capacity) {
+        if (capacity == null) {
+            return properties.getRoom().getDefaultCapacity();
+        }
+        if (capacity < 2 || capacity > properties.getRoom().getMaxCapacity()) {
+            throw new IllegalArgumentException("방 정원은 2명 이상 " + properties.getRoom().getMaxCapacity() + "명 이하여야 합니다");
+        }
+        return capacity;
+    }
+
+    private RoomInfoResponse toRoomInfo(RoomRow room, List<String> participantNames) {
+        return new RoomInfoResponse(
+                room.getId(),
+                room.getRoomId(),
+                room.getCreatorName(),
+                RoomInfoResponse.guestOf(participantNames),
+                participantNames,
+                room.getCapacity(),
+                room.isActive()
+        );
+    }
+
+    private static List<Long> append(List<Long> participants, Long memberId) {
+        List<Long> next = new ArrayList<>(participants);
+        next.add(memberId);
+        return next;
+    }
+
+    private static RoomMembership toMembership(String roomId, List<Long> participants) {
+        long[] ids = new long[participants.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = participants.get(i);
+        }
+        return RoomMembership.of(roomId, ids);
+    }
+}
@@ -0,0 +1,89 @@
+package com.sign.sign.service;
+
+import com.sign.sign.domain.Room;
+import com.sign.sign.domain.RoomParticipant;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 시그널링 경로에서 쓰는 방 참여자 스냅샷 (불변)
+ * 엔티티/프록시 대신 ID 만 들고 있어 프레임마다 DB 없이 상대방을 찾을 수 있다
+ *
+ * 팬아웃 대상은 스냅샷을 만들 때 한 번만 계산한다:
+ * 참여자 ID 배열과 convertAndSendToUser 에 넘길 사용자 이름을 미리 만들어 두어
+ * N 명 방의 join/상태 알림은 프레임마다 O(N) 전송만 하고 대상 조회나 문자열 생성은 하지 않는다
+ * 참여자가 바뀌면 RoomService 가 새 스냅샷으로 교체한다
+ */
+public class RoomMembership {
+
+    @Getter
+    private final String roomId;
+
+    @Getter
+    private final long creatorId;
+
+    // 입장 순서, 인덱스가 userNames 와 같다
+    private final long[] participantIds;
+    private final String[] userNames;
+
+    private RoomMembership(String roomId, long creatorId, long[] participantIds) {
+        this.roomId = roomId;
+        this.creatorId = creatorId;
+        this.participantIds = participantIds;
+        this.userNames = new String[participantIds.length];
+        for (int i = 0; i < participantIds.length; i++) {
+            userNames[i] = Long.toString(participantIds[i]);
+        }
+    }
+
+    /**
+     * 첫 번째 ID 가 생성자
+     */
+    public static RoomMembership of(String roomId, long... participantIds) {
+        return new RoomMembership(roomId, participantIds[0], participantIds.clone());
+    }
+
+    public static RoomMembership from(Room room) {
+        List<RoomParticipant> participants = room.getParticipants();
+        long[] participantIds = new long[participants.size()];
+        for (int i = 0; i < participantIds.length; i++) {
+            participantIds[i] = participants.get(i).getMember().getId();
+        }
+        return new RoomMembership(room.getRoomId(), room.getCreator().getId(), participantIds);
+    }
+
+    public int size() {
+        return participantIds.length;
+    }
+
+    /**
+     * 입장 순서대로 참여자 ID 복사본
+     */
+    public long[] participantIds() {
+        return participantIds.clone();
+    }
+
+    public long participantAt(int index) {
+        return participantIds[index];
+    }
+
+    /**
+     * 개인 큐 전송에 쓰는 사용자 이름 (participantAt(index) 의 문자열, 미리 생성됨)
+     */
+    public String userNameAt(int index) {
+        return userNames[index];
+    }
+
+    public boolean isMember(Long userId) {
+        return userId != null && indexOf(userId) >= 0;
+    }
+
+    public int indexOf(long userId) {
+        for (int i = 0; i < participantIds.length; i++) {
+            if (participantIds[i] == userId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,168 @@
+package com.sign.sign.service;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.state.CompactStateStore;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 코드 → 참여자 스냅샷 캐시 (TTL, 최대 크기)
+ * RoomService 가 방 생성/참여/삭제 커밋 후 함께 갱신한다, 빠진 방은 다음 조회(findMembership)에서 DB 로 다시 올린다
+ * 방 코드/참여자 ID 는 CompactStateStore 의 원시 타입 테이블에도 같이 넣는다 (같은 키의 compute 안에서 반영)
+ *
+ * create-and-invite 로 예약만 된 방(putPending)은 DB 에 아직 없어 다시 읽을 수 없으므로
+ * 저장이 끝날 때까지(persisted) TTL/크기 제한으로 빠지지 않는다
+ *
+ * DB 에서 다시 읽어 올리는 스냅샷(putLoaded)은 쓰기 경로보다 늦게 도착할 수 있다
+ * 읽기 전에 받은 쓰기 번호(loadStamp)가 그대로이고 항목이 없을 때만 올리므로, 그사이 커밋된 참여/삭제를 덮지 않는다
+ */
+@Component
+public class RoomMembershipCache {
+
+    // 방 코드별 쓰기 번호 (해시로 나눈 줄무늬, 다른 방과 겹치면 읽어 온 스냅샷을 올리지 않을 뿐)
+    private static final int STAMP_STRIPES = 1024;
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<String, Entry> memberships = new ConcurrentHashMap<>();
+    private final CompactStateStore stateStore;
+    private final AtomicLongArray writeStamps = new AtomicLongArray(STAMP_STRIPES);
+
+    public RoomMembershipCache(CompactStateStore stateStore, SignalingProperties properties) {
+        this.stateStore = stateStore;
+        this.ttlNanos = properties.getMembershipCache().getTtl().toNanos();
+        this.maxSize = properties.getMembershipCache().getMaxSize();
+    }
+
+    /**
+     * 없거나 만료됐으면 null
+     */
+    public RoomMembership get(String roomId) {
+        Entry entry = memberships.get(roomId);
+        if (entry == null) {
+            return null;
+        }
+        if (isLive(entry, System.nanoTime())) {
+            return entry.membership;
+        }
+        remove(roomId, entry);
+        return null;
+    }
+
+    public void put(RoomMembership membership) {
+        store(membership, false);
+    }
+
+    /**
+     * 아직 저장되지 않은 예약 방 (persisted 나 evict 전까지 빠지지 않음)
+     */
+    public void putPending(RoomMembership membership) {
+        store(membership, true);
+    }
+
+    /**
+     * DB 를 읽기 전에 받아 두고 putLoaded 에 넘긴다
+     */
+    public long loadStamp(String roomId) {
+        return writeStamps.get(stripe(roomId));
+    }
+
+    /**
+     * DB 에서 읽어 온 스냅샷 (findMembership 의 캐시 미스)
+     * 이미 항목이 있거나 stamp 이후 이 방 코드에 put/evict 가 있었으면 올리지 않는다
+     *
+     * @return 캐시에 있는 스냅샷, 올리지 않았으면 읽어 온 스냅샷
+     */
+    public RoomMembership putLoaded(RoomMembership membership, long stamp) {
+        String roomId = membership.getRoomId();
+        long now = System.nanoTime();
+        Entry stored = memberships.compute(roomId, (key, current) -> {
+            if (current != null && isLive(current, now)) {
+                return current;
+            }
+            if (writeStamps.get(stripe(key)) != stamp) {
+                if (current != null) {
+                    stateStore.removeRoom(key);
+                }
+                return null;
+            }
+            stateStore.putRoom(key, membership.participantIds());
+            return new Entry(membership, now + ttlNanos, false);
+        });
+        return stored != null ? stored.membership : membership;
+    }
+
+    /**
+     * 예약 방 저장 완료, 이후로는 일반 항목처럼 만료된다
+     *
+     * @return 그사이 방이 내려갔으면(통화 종료) false
+     */
+    public boolean persisted(String roomId) {
+        long expiresAt = System.nanoTime() + ttlNanos;
+        return memberships.computeIfPresent(roomId, (key, current) ->
+                current.pending ? new Entry(current.membership, expiresAt, false) : current) != null;
+    }
+
+    public void evict(String roomId) {
+        writeStamps.incrementAndGet(stripe(roomId));
+        memberships.computeIfPresent(roomId, (key, current) -> {
+            stateStore.removeRoom(roomId);
+            return null;
+        });
+    }
+
+    public int size() {
+        return memberships.size();
+    }
+
+    private void store(RoomMembership membership, boolean pending) {
+        long now = System.nanoTime();
+        if (memberships.size() >= maxSize) {
+            sweep(now, false);
+            // 만료된 것이 없을 만큼 가득 찼으면 예약 방만 남기고 비운다 (최선 노력 캐시, 나머지는 DB 에서 다시 읽음)
+            if (memberships.size() >= maxSize) {
+                sweep(now, true);
+            }
+        }
+        Entry entry = new Entry(membership, now + ttlNanos, pending);
+        writeStamps.incrementAndGet(stripe(membership.getRoomId()));
+        memberships.compute(membership.getRoomId(), (key, current) -> {
+            stateStore.putRoom(key, membership.participantIds());
+            return entry;
+        });
+    }
+
+    private void sweep(long now, boolean all) {
+        for (Map.Entry<String, Entry> candidate : memberships.entrySet()) {
+            Entry entry = candidate.getValue();
+            if (!entry.pending && (all || !isLive(entry, now))) {
+                remove(candidate.getKey(), entry);
+            }
+        }
+    }
+
+    // 그사이 새 스냅샷으로 바뀌었으면 건드리지 않는다
+    private void remove(String roomId, Entry expected) {
+        memberships.computeIfPresent(roomId, (key, current) -> {
+            if (current != expected) {
+                return current;
+            }
+            stateStore.removeRoom(roomId);
+            return null;
+        });
+    }
+
+    private static int stripe(String roomId) {
+        return roomId.hashCode() & (STAMP_STRIPES - 1);
+    }
+
+    // TTL 0 이면 만료 없이 크기 제한만
+    private boolean isLive(Entry entry, long now) {
+        return entry.pending || ttlNanos <= 0 || now - entry.expiresAt < 0;
+    }
+
+    private record Entry(RoomMembership membership, long expiresAt, boolean pending) {
+    }
+}
@@ -1,11 +1,18 @@
 package com.sign.sign.service;
 
+import com.sign.sign.config.SignalingProperties;
 import com.sign.sign.domain.Member;
 import com.sign.sign.domain.Room;
+import com.sign.sign.domain.RoomParticipant;
+import com.sign.sign.dto.response.RoomInfoResponse;
 import com.sign.sign.repository.MemberRepository;
 import com.sign.sign.repository.RoomRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -15,46 +22,168 @@ public class RoomService {
 
     private final RoomRepository roomRepository;
     private final MemberRepository memberRepository;
+    private final MemberService memberService;
+    private final UnknownRoomCache unknownRoomCache;
+    private final RoomMembershipCache membershipCache;
+    private final RoomStateCache roomStateCache;
+    private final SignalingProperties properties;
 
+    /**
+     * capacity 가 없으면 기본 정원, guestId 가 없으면 생성자만 입장한 방
+     */
     @Transactional
-    public Long createRoom(Long creatorId, Long guestId) {
-        Member creator = memberRepository.findById(creatorId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+    public Long createRoom(Long creatorId, Long guestId, Integer capacity) {
+        int resolvedCapacity = resolveCapacity(capacity);
 
-        Member guest = memberRepository.findById(guestId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        Room room = Room.createRoom(creator, guest);
+        Room room = Room.createRoom(requireMember(creatorId), resolvedCapacity);
+        if (guestId != null) {
+            room.join(requireMember(guestId));
+        }
         roomRepository.save(room);
+        cacheAfterCommit(RoomMembership.from(room));
 
         return room.getId();
     }
 
     @Transactional
     public Long create(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-        Room room = Room.createRoom(member);
+        Room room = Room.createRoom(requireMember(memberId), properties.getRoom().getDefaultCapacity());
         roomRepository.save(room);
+        cacheAfterCommit(RoomMembership.from(room));
 
         return room.getId();
     }
 
 
+    /**
+     * create-and-invite 용 1:1 방 예약: 방 코드를 정하고 참여자 스냅샷만 캐시에 올린다
+     * 회원 확인은 MemberCache 로 하므로 캐시에 있으면 DB 를 보지 않는다, 저장은 호출자가 비동기로 (ReactiveRoomService.persist)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public RoomMembership reserve(Long creatorId, Long guestId) {
+        requireIdentity(creatorId);
+        requireIdentity(guestId);
+
+        String roomId = Room.generateRoomId();
+        while (membershipCache.get(roomId) != null) {
+            roomId = Room.generateRoomId();
+        }
+        RoomMembership membership = RoomMembership.of(roomId, creatorId, guestId);
+        unknownRoomCache.invalidate(roomId);
+        membershipCache.putPending(membership);
+        return membership;
+    }
+
+    /**
+     * 저장하지 못한 예약 방을 캐시에서 내린다
+     */
+    public void release(String roomId) {
+        unknownRoomCache.add(roomId);
+        membershipCache.evict(roomId);
+        roomStateCache.removed(roomId);
+    }
+
     public Room findByRoomId(String roomId) {
-        return roomRepository.findByRoomId(roomId)
+        return findRoom(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("방을 찾을 수 없습니다: " + roomId));
     }
 
+    /**
+     * 예외 없는 방 조회 (시그널링 경로용)
+     * 최근 없었던 방 코드는 트랜잭션/커넥션 없이 네거티브 캐시에서 바로 응답
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Optional<Room> findRoom(String roomId) {
+        if (unknownRoomCache.contains(roomId)) {
+            return Optional.empty();
+        }
+
+        Optional<Room> room = roomRepository.findByRoomId(roomId);
+        if (room.isEmpty()) {
+            unknownRoomCache.add(roomId);
+        }
+        return room;
+    }
+
+    /**
+     * 시그널링 경로용 참여자 조회
+     * 캐시에 있으면 DB 없이, 없으면 방과 참여자를 한 번에 읽어 캐시에 올린다
+     * (읽는 사이 커밋된 참여/삭제가 있으면 읽은 스냅샷은 올리지 않는다)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Optional<RoomMembership> findMembership(String roomId) {
+        RoomMembership cached = membershipCache.get(roomId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (unknownRoomCache.contains(roomId)) {
+            return Optional.empty();
+        }
+
+        long stamp = membershipCache.loadStamp(roomId);
+        Optional<Room> room = roomRepository.findWithParticipantsByRoomId(roomId);
+        if (room.isEmpty()) {
+            unknownRoomCache.add(roomId);
+            return Optional.empty();
+        }
+
+        return Optional.of(membershipCache.putLoaded(RoomMembership.from(room.get()), stamp));
+    }
+
+    /**
+     * 방 정보 응답
+     * 현재 버전 응답이 RoomStateCache 에 있으면 트랜잭션/커넥션 없이 바로,
+     * 없으면 방과 참여자를 한 번에 읽고 회원 이름은 MemberCache 에서 채워 캐시에 올린다
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public RoomInfoResponse getRoomInfo(String roomId) {
+        RoomInfoResponse cached = roomStateCache.body(roomId);
+        if (cached != null) {
+            return cached;
+        }
+        if (unknownRoomCache.contains(roomId)) {
+            throw new IllegalArgumentException("방을 찾을 수 없습니다: " + roomId);
+        }
+
+        Room room = roomRepository.findWithParticipantsByRoomId(roomId)
+                .orElseThrow(() -> {
+                    unknownRoomCache.add(roomId);
+                    return new IllegalArgumentException("방을 찾을 수 없습니다: " + roomId);
+                });
+
+        List<RoomParticipant> participants = room.getParticipants();
+        List<String> participantNames = new ArrayList<>(participants.size());
+        for (RoomParticipant participant : participants) {
+            participantNames.add(memberName(participant.getMember().getId()));
+        }
+
+        RoomInfoResponse info = new RoomInfoResponse(
+                room.getId(),
+                room.getRoomId(),
+                memberName(room.getCreator().getId()),
+                RoomInfoResponse.guestOf(participantNames),
+                participantNames,
+                room.getCapacity(),
+                room.isActive()
+        );
+        if (room.getUpdatedAt() != null) {
+            roomStateCache.store(roomId, room.getUpdatedAt(), info);
+        }
+        return info;
+    }
+
     public Room findById(Long id) {
         return roomRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("방을 찾을 수 없습니다: " + id));
     }
 
     @Transactional
-    public Long addGuest(String roomId, Long memberId) {
+    public Long join(String roomId, Long memberId) {
         Room room = findByRoomId(roomId);
 
+        if (room.hasParticipant(memberId)) {
+            return room.getId();
+        }
         if (room.isFull()) {
             throw new IllegalStateException("방이 가득 찼습니다");
         }
@@ -62,17 +191,92 @@ public class RoomService {
             throw new IllegalStateException("비활성화된 방입니다");
         }
 
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        room.addGuest(member);
+        room.join(requireMember(memberId));
+        RoomMembership membership = RoomMembership.from(room);
+        AfterCommit.run(() -> membershipCache.put(membership));
+        roomStateCache.changed(room);
         return room.getId();
     }
 
+    /**
+     * 참여자 한 명 퇴장, 남은 인원이 2명 미만이면 통화가 성립하지 않으므로 방 삭제
+     *
+     * @return 방이 삭제되었으면 true
+     */
     @Transactional
-    public Long remove(String roomId) {
+    public boolean leave(String roomId, Long memberId) {
         Room room = findByRoomId(roomId);
+        room.leave(memberId);
+
+        if (room.getParticipants().size() < 2) {
+            roomRepository.remove(room);
+            evictAfterCommit(roomId);
+            return true;
+        }
+
+        RoomMembership membership = RoomMembership.from(room);
+        AfterCommit.run(() -> membershipCache.put(membership));
+        roomStateCache.changed(room);
+        return false;
+    }
+
+    /**
+     * 예약만 되고 아직 저장되지 않은 방(create-and-invite)도 캐시에서는 내린다 (저장이 끝나면 CallSetup 이 행을 지운다)
+     */
+    @Transactional
+    public Long remove(String roomId) {
+        Optional<Room> found = findRoom(roomId);
+        if (found.isEmpty()) {
+            release(roomId);
+            throw new IllegalArgumentException("방을 찾을 수 없습니다: " + roomId);
+        }
+        Room room = found.get();
         roomRepository.remove(room);
+        evictAfterCommit(roomId);
         return room.getId();
     }
+
+    // 롤백된 방이 캐시(와 상태 테이블)에 남아 권한 확인을 통과하지 않도록 커밋 후에만 올린다
+    private void cacheAfterCommit(RoomMembership membership) {
+        AfterCommit.run(() -> {
+            unknownRoomCache.invalidate(membership.getRoomId());
+            membershipCache.put(membership);
+        });
+    }
+
+    private void evictAfterCommit(String roomId) {
+        AfterCommit.run(() -> {
+            unknownRoomCache.add(roomId);
+            membershipCache.evict(roomId);
+        });
+        roomStateCache.removed(roomId);
+    }
+
+    // 존재 확인은 캐시로, 연관관계에는 조회 없는 프록시
+    private Member requireMember(Long memberId) {
+        requireIdentity(memberId);
+        return memberRepository.getReference(memberId);
+    }
+
+    private void requireIdentity(Long memberId) {
+        if (memberId == null || memberService.findIdentity(memberId).isEmpty()) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+        }
+    }
+
+    private String memberName(long memberId) {
+        return memberService.findIdentity(memberId)
+                .map(MemberIdentity::getName)
+                .orElse(null);
+    }
+
+    private int resolveCapacity(Integer capacity) {
+        if (capacity == null) {
+            return properties.getRoom().getDefaultCapacity();
+        }
+        if (capacity < 2 || capacity > properties.getRoom().getMaxCapacity()) {
+            throw new IllegalArgumentException("방 정원은 2명 이상 " + properties.getRoom().getMaxCapacity() + "명 이하여야 합니다");
+        }
+        return capacity;
+    }
 }
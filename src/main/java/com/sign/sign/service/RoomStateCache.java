@@ -0,0 +1,131 @@
+package com.sign.sign.service;
+
+import com.sign.sign.domain.Room;
+import com.sign.sign.dto.response.RoomInfoResponse;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 정보 응답 캐시 + 버전 맵 + 변경 대기자
+ *
+ * - GET /api/room/{roomId} 는 버전이 같으면 304, 본문이 있으면 JPA 없이 응답
+ * - 방이 바뀌면(RoomService, ReactiveRoomService) 커밋 후 버전을 올리고 본문을 비운 뒤 롱폴링 대기자를 깨운다
+ * - 대기자는 커밋한 스레드(leave 면 시그널링 inbound 스레드)가 아니라 알림 스레드 풀에서 깨운다
+ *   (대기자가 새 본문을 DB 에서 읽어도 커밋한 스레드를 막지 않고, 이미 커밋된 트랜잭션 컨텍스트 밖에서 읽는다)
+ * - 노드 로컬 캐시: 다른 노드에서 바뀐 방은 그 노드로 온 요청에서 새로 읽기 전까지 이전 버전으로 보인다
+ */
+@Component
+@Slf4j
+public class RoomStateCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Queue<Consumer<RoomVersion>>> waiters = new ConcurrentHashMap<>();
+    private final Executor notifier;
+
+    public RoomStateCache() {
+        this(newNotifier());
+    }
+
+    RoomStateCache(Executor notifier) {
+        this.notifier = notifier;
+    }
+
+    public RoomVersion version(String roomId) {
+        Entry entry = entries.get(roomId);
+        return entry != null ? entry.version : null;
+    }
+
+    /**
+     * 현재 버전의 응답 본문, 아직 읽지 않았으면 null
+     */
+    public RoomInfoResponse body(String roomId) {
+        Entry entry = entries.get(roomId);
+        return entry != null ? entry.body : null;
+    }
+
+    /**
+     * DB 에서 읽은 응답을 버전과 함께 보관 (그 사이 더 새 버전이 들어왔으면 무시)
+     */
+    public void store(String roomId, LocalDateTime updatedAt, RoomInfoResponse body) {
+        RoomVersion loaded = new RoomVersion(roomId, updatedAt);
+        entries.compute(roomId, (key, current) ->
+                current == null || !current.version.isNewerThan(loaded) ? new Entry(loaded, body) : current);
+    }
+
+    /**
+     * 방 상태 변경 (트랜잭션 안이면 커밋 후, flush 에서 정해진 updatedAt 으로 반영)
+     */
+    public void changed(Room room) {
+        AfterCommit.run(() -> apply(room.getRoomId(), room.getUpdatedAt()));
+    }
+
+    public void changed(String roomId, LocalDateTime updatedAt) {
+        AfterCommit.run(() -> apply(roomId, updatedAt));
+    }
+
+    /**
+     * 방 삭제 (대기자는 null 버전으로 깨운다)
+     */
+    public void removed(String roomId) {
+        AfterCommit.run(() -> {
+            entries.remove(roomId);
+            notifyWaiters(roomId, null);
+        });
+    }
+
+    public void await(String roomId, Consumer<RoomVersion> waiter) {
+        waiters.computeIfAbsent(roomId, key -> new ConcurrentLinkedQueue<>()).offer(waiter);
+    }
+
+    public void cancel(String roomId, Consumer<RoomVersion> waiter) {
+        waiters.computeIfPresent(roomId, (key, queue) -> {
+            queue.remove(waiter);
+            return queue.isEmpty() ? null : queue;
+        });
+    }
+
+    private void apply(String roomId, LocalDateTime updatedAt) {
+        RoomVersion version = new RoomVersion(roomId, updatedAt);
+        entries.compute(roomId, (key, current) ->
+                current == null || version.isNewerThan(current.version) ? new Entry(version, null) : current);
+        notifyWaiters(roomId, version);
+    }
+
+    private void notifyWaiters(String roomId, RoomVersion version) {
+        Queue<Consumer<RoomVersion>> queue = waiters.remove(roomId);
+        if (queue == null) {
+            return;
+        }
+        notifier.execute(() -> {
+            Consumer<RoomVersion> waiter;
+            while ((waiter = queue.poll()) != null) {
+                try {
+                    waiter.accept(version);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to notify room {} waiter: {}", roomId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private static Executor newNotifier() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "room-poll-notifier-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record Entry(RoomVersion version, RoomInfoResponse body) {
+    }
+}
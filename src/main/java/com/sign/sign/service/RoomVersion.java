@@ -0,0 +1,36 @@
+package com.sign.sign.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import lombok.Getter;
+
+/**
+ * 방 상태 버전 (Room.updatedAt 기준)
+ * ETag 는 updatedAt 의 마이크로초, Last-Modified 는 밀리초 (HTTP 헤더에서는 초 단위로 잘린다)
+ */
+@Getter
+public class RoomVersion {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final String roomId;
+    private final LocalDateTime updatedAt;
+    private final String etag;
+    private final long lastModified;
+
+    public RoomVersion(String roomId, LocalDateTime updatedAt) {
+        this.roomId = roomId;
+        this.updatedAt = updatedAt;
+        this.etag = "\"" + Long.toString(ChronoUnit.MICROS.between(EPOCH, updatedAt), 36) + "\"";
+        this.lastModified = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public boolean isNewerThan(RoomVersion other) {
+        return other == null || updatedAt.isAfter(other.updatedAt);
+    }
+
+    public boolean matches(String ifNoneMatch) {
+        return ifNoneMatch != null && ifNoneMatch.contains(etag);
+    }
+}
@@ -0,0 +1,54 @@
+package com.sign.sign.service;
+
+import com.sign.sign.config.SignalingProperties;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근에 삭제됐거나 조회에 실패한 방 코드의 네거티브 캐시
+ * 삭제된 방으로 계속 메시지를 보내는 클라이언트를 DB 조회 없이 바로 돌려보낸다
+ */
+@Component
+public class UnknownRoomCache {
+
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<String, Long> expiresAt = new ConcurrentHashMap<>();
+
+    public UnknownRoomCache(SignalingProperties properties) {
+        this.ttlNanos = properties.getUnknownRoomCache().getTtl().toNanos();
+        this.maxSize = properties.getUnknownRoomCache().getMaxSize();
+    }
+
+    public boolean contains(String roomId) {
+        Long expiry = expiresAt.get(roomId);
+        if (expiry == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiry >= 0) {
+            expiresAt.remove(roomId, expiry);
+            return false;
+        }
+        return true;
+    }
+
+    public void add(String roomId) {
+        if (ttlNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (expiresAt.size() >= maxSize) {
+            expiresAt.values().removeIf(expiry -> now - expiry >= 0);
+            // 만료된 것이 없을 만큼 가득 찼으면 통째로 비운다 (최선 노력 캐시)
+            if (expiresAt.size() >= maxSize) {
+                expiresAt.clear();
+            }
+        }
+        expiresAt.put(roomId, now + ttlNanos);
+    }
+
+    public void invalidate(String roomId) {
+        expiresAt.remove(roomId);
+    }
+}
@@ -0,0 +1,137 @@
+package com.sign.sign.signaling;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.service.ReactiveRoomService;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.service.RoomMembershipCache;
+import com.sign.sign.service.RoomService;
+import com.sign.sign.websocket.SignalingSessionRegistry;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * create-and-invite: 시그널링 메시지 한 번으로 1:1 통화 시작
+ *
+ * REST 방 생성(DB 여러 번) → STOMP 연결/구독 → offer 로 이어지던 과정을 한 왕복으로 줄인다
+ * 1. 방 코드를 정하고 참여자 스냅샷을 캐시에 올린다 (RoomService.reserve, DB 없음)
+ * 2. 호출받은 사용자에게 incoming-call (방 ID + 발신자 offer), 발신자에게 call-created (방 ID)
+ * 3. 방 저장은 R2DBC 로 비동기 (ReactiveRoomService.persist), 시그널링은 저장을 기다리지 않는다
+ *
+ * 저장 전에 통화가 끝났으면(캐시에서 내려갔으면) 저장한 행을 바로 지우고,
+ * 저장에 실패하면 캐시에서 방을 내리고 발신자에게 에러, 호출받은 사용자에게 leave 를 보낸다
+ */
+@Component
+@Slf4j
+public class CallSetup {
+
+    private static final String PERSIST_FAILED_MESSAGE = "통화방을 저장하지 못했습니다: ";
+
+    private final RoomService roomService;
+    private final ReactiveRoomService reactiveRoomService;
+    private final RoomMembershipCache membershipCache;
+    private final SignalingSessionRegistry sessionRegistry;
+    private final SignalingMessenger messenger;
+    private final SdpMinifier sdpMinifier;
+    private final int capacity;
+
+    private final LongAdder created = new LongAdder();
+    private final LongAdder persistFailures = new LongAdder();
+
+    public CallSetup(RoomService roomService,
+                     ReactiveRoomService reactiveRoomService,
+                     RoomMembershipCache membershipCache,
+                     SignalingSessionRegistry sessionRegistry,
+                     SignalingMessenger messenger,
+                     SdpMinifier sdpMinifier,
+                     SignalingProperties properties) {
+        this.roomService = roomService;
+        this.reactiveRoomService = reactiveRoomService;
+        this.membershipCache = membershipCache;
+        this.sessionRegistry = sessionRegistry;
+        this.messenger = messenger;
+        this.sdpMinifier = sdpMinifier;
+        this.capacity = properties.getRoom().getDefaultCapacity();
+    }
+
+    /**
+     * fromId 는 SignalingAuthorizer.authorizeCaller 로 확인된 상태로 호출
+     *
+     * @return 만든 방의 참여자 스냅샷, 요청이 잘못됐으면 null (발신자에게 에러를 보낸 뒤)
+     */
+    public RoomMembership createAndInvite(String sessionId, SignalingMessage message) {
+        Long callerId = message.getFromId();
+        Long guestId = message.getToId();
+        if (guestId == null || guestId.equals(callerId) || message.getSdp() == null) {
+            log.warn("Invalid create-and-invite from user {}: missing callee or offer SDP", callerId);
+            messenger.sendError(callerId, "상대방과 offer SDP 가 필요합니다");
+            return null;
+        }
+
+        RoomMembership membership;
+        try {
+            membership = roomService.reserve(callerId, guestId);
+        } catch (IllegalArgumentException e) {
+            messenger.sendError(callerId, e.getMessage());
+            return null;
+        }
+        String roomId = membership.getRoomId();
+        sessionRegistry.bind(sessionId, callerId, roomId);
+
+        // 호출받는 쪽이 먼저 (통화 연결까지 걸리는 시간은 이쪽이 정한다)
+        messenger.sendToUser(guestId, new SignalingMessage(SignalingType.INCOMING_CALL, roomId, callerId, guestId,
+                sdpMinifier.minify(message.getSdp())));
+        messenger.sendToUser(callerId, new SignalingMessage(SignalingType.CALL_CREATED, roomId, callerId, guestId,
+                null, message.getMessageId()));
+        created.increment();
+        log.info("User {} created room {} and invited user {}", callerId, roomId, guestId);
+
+        persist(membership);
+        return membership;
+    }
+
+    public long getCreated() {
+        return created.sum();
+    }
+
+    public long getPersistFailures() {
+        return persistFailures.sum();
+    }
+
+    private void persist(RoomMembership membership) {
+        String roomId = membership.getRoomId();
+        reactiveRoomService.persist(membership, capacity)
+                .subscribe(roomPk -> {
+                    if (!membershipCache.persisted(roomId)) {
+                        // 저장이 끝나기 전에 통화가 끝났다 (RoomService.remove 가 캐시만 내림)
+                        reactiveRoomService.remove(roomId).subscribe(
+                                id -> log.info("Room {} ended before it was persisted, row removed", roomId),
+                                error -> log.warn("Failed to remove ended room {}", roomId, error));
+                    }
+                }, error -> onPersistFailed(membership, error));
+    }
+
+    private void onPersistFailed(RoomMembership membership, Throwable error) {
+        String roomId = membership.getRoomId();
+        persistFailures.increment();
+        log.error("Failed to persist room {} created by user {}", roomId, membership.getCreatorId(), error);
+
+        if (membershipCache.get(roomId) == null) {
+            return;
+        }
+        roomService.release(roomId);
+        sessionRegistry.unbindRoom(roomId);
+
+        long callerId = membership.getCreatorId();
+        messenger.sendError(callerId, PERSIST_FAILED_MESSAGE.concat(roomId));
+        for (int i = 0; i < membership.size(); i++) {
+            long participantId = membership.participantAt(i);
+            if (participantId != callerId) {
+                messenger.sendToUser(participantId,
+                        new SignalingMessage(SignalingType.LEAVE, roomId, callerId, participantId, null));
+            }
+        }
+    }
+}
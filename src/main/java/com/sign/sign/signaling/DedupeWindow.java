@@ -0,0 +1,45 @@
+package com.sign.sign.signaling;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 메시지 ID 해시를 담는 고정 크기 링 (락 없음)
+ *
+ * 새 ID 는 커서 자리를 덮어쓰므로 가장 오래된 것부터 밀려난다
+ * 확인과 기록이 한 번의 원자 연산은 아니라서, 같은 ID 가 정확히 동시에 두 번 들어오면 둘 다 통과할 수 있다
+ * (클라이언트 재시도는 응답 타임아웃 뒤에 오므로 실제로는 순차적이다)
+ */
+final class DedupeWindow {
+
+    // 빈 칸 표시 (해시가 0 이면 1 로 바꿔 기록)
+    private static final long EMPTY = 0;
+
+    private final AtomicLongArray slots;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final int mask;
+
+    DedupeWindow(int size) {
+        int capacity = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+        this.slots = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 처음 보는 해시면 기록하고 true, 최근에 본 해시면 false
+     */
+    boolean add(long hash) {
+        long value = hash == EMPTY ? 1 : hash;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) == value) {
+                return false;
+            }
+        }
+        slots.set(cursor.getAndIncrement() & mask, value);
+        return true;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+}
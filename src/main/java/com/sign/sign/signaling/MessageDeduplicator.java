@@ -0,0 +1,74 @@
+package com.sign.sign.signaling;
+
+import com.sign.sign.config.SignalingProperties;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션별 messageId 중복 제거 (signaling.dedupe.*)
+ *
+ * 세션마다 DedupeWindow 하나, ID 는 FNV-1a 64비트 해시로만 보관한다
+ * 세션이 재개되면 창을 새 세션으로 옮기고, 재개 대상이 아닌 종료/재개 만료 때 버린다 (SignalingSessionListener)
+ */
+@Component
+public class MessageDeduplicator {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int windowSize;
+    private final Map<String, DedupeWindow> windows = new ConcurrentHashMap<>();
+
+    private final LongAdder duplicates = new LongAdder();
+
+    public MessageDeduplicator(SignalingProperties properties) {
+        this.windowSize = properties.getDedupe().getWindowSize();
+    }
+
+    /**
+     * 이 세션에서 처음 보는 messageId 면 true (세션 ID 가 없거나 창이 0 이면 항상 true)
+     */
+    public boolean firstSeen(String sessionId, String messageId) {
+        if (sessionId == null || windowSize <= 0) {
+            return true;
+        }
+        DedupeWindow window = windows.computeIfAbsent(sessionId, key -> new DedupeWindow(windowSize));
+        if (window.add(hash(messageId))) {
+            return true;
+        }
+        duplicates.increment();
+        return false;
+    }
+
+    /**
+     * 재개된 세션이 이전 세션에서 보낸 메시지의 재시도도 걸러지도록 창을 넘긴다
+     */
+    public void transfer(String fromSessionId, String toSessionId) {
+        DedupeWindow window = windows.remove(fromSessionId);
+        if (window != null) {
+            windows.put(toSessionId, window);
+        }
+    }
+
+    public void release(String sessionId) {
+        windows.remove(sessionId);
+    }
+
+    public long getDuplicates() {
+        return duplicates.sum();
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    static long hash(String messageId) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < messageId.length(); i++) {
+            hash = (hash ^ messageId.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
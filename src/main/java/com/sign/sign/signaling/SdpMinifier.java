@@ -0,0 +1,424 @@
+package com.sign.sign.signaling;
+
+import com.sign.sign.config.SignalingProperties;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * offer/answer SDP 축소 (signaling.sdp.*)
+ *
+ * - 미디어 섹션 안에서 같은 (component, transport, 주소, 포트, 타입) 후보는 한 번만 남긴다
+ * - 거절된 섹션(m= 포트 0)의 후보와, 설정하면 TCP 후보를 뺀다
+ * - codecs 허용 목록에 없는 코덱은 m= 줄의 포맷과 rtpmap/fmtp/rtcp-fb 줄에서 함께 뺀다 (rtx 는 원래 코덱을 따른다)
+ * - 줄 안의 공백은 하나로, 끝 공백과 빈 줄은 지우고 줄 끝은 CRLF 로 맞춘다
+ *
+ * 원본 문자열을 위치로만 훑고 결과 StringBuilder 하나에 바로 쓴다 (줄/필드 substring 을 만들지 않음)
+ * 섹션 수와 순서는 그대로 둔다 (JSEP 에서 offer/answer 의 m= 줄 대응이 깨지지 않도록)
+ */
+@Component
+public class SdpMinifier {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_PAYLOAD_TYPES = 128;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final boolean enabled;
+    private final String[] codecs;
+    private final boolean dropTcpCandidates;
+
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder inputBytes = new LongAdder();
+    private final LongAdder outputBytes = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    public SdpMinifier(SignalingProperties properties) {
+        SignalingProperties.Sdp sdp = properties.getSdp();
+        this.enabled = sdp.isEnabled();
+        this.codecs = sdp.getCodecs().toArray(new String[0]);
+        this.dropTcpCandidates = sdp.isDropTcpCandidates();
+    }
+
+    /**
+     * 비활성이거나 SDP 가 없으면 그대로 돌려준다
+     */
+    public String minify(String sdp) {
+        if (!enabled || sdp == null || sdp.isEmpty()) {
+            return sdp;
+        }
+
+        long started = System.nanoTime();
+        StringBuilder out = new StringBuilder(sdp.length());
+        Section section = new Section();
+        int position = 0;
+        while (position < sdp.length()) {
+            int end = nextSection(sdp, position);
+            section.write(sdp, position, end, out);
+            position = end;
+        }
+        String minified = out.toString();
+
+        frames.increment();
+        inputBytes.add(sdp.length());
+        outputBytes.add(minified.length());
+        nanos.add(System.nanoTime() - started);
+        return minified;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getFrames() {
+        return frames.sum();
+    }
+
+    public long getInputBytes() {
+        return inputBytes.sum();
+    }
+
+    public long getOutputBytes() {
+        return outputBytes.sum();
+    }
+
+    /**
+     * 줄어든 비율 (0 ~ 1)
+     */
+    public double getSavedRatio() {
+        long input = inputBytes.sum();
+        return input == 0 ? 0 : (double) (input - outputBytes.sum()) / input;
+    }
+
+    /**
+     * 프레임당 평균 처리 시간
+     */
+    public long getAverageNanos() {
+        long count = frames.sum();
+        return count == 0 ? 0 : nanos.sum() / count;
+    }
+
+    // from 줄 다음부터 "m=" 로 시작하는 줄의 시작 위치 (없으면 끝)
+    private static int nextSection(String sdp, int from) {
+        int lineEnd = sdp.indexOf('\n', from);
+        while (lineEnd >= 0 && lineEnd + 1 < sdp.length()) {
+            if (sdp.startsWith("m=", lineEnd + 1)) {
+                return lineEnd + 1;
+            }
+            lineEnd = sdp.indexOf('\n', lineEnd + 1);
+        }
+        return sdp.length();
+    }
+
+    private static int lineEnd(String sdp, int lineStart, int sectionEnd) {
+        int newline = sdp.indexOf('\n', lineStart);
+        return newline < 0 || newline > sectionEnd ? sectionEnd : newline;
+    }
+
+    // CR 과 끝 공백을 뺀 줄 내용의 끝 ("s= " 처럼 값이 공백뿐인 줄은 공백 하나를 남긴다)
+    private static int contentEnd(String sdp, int lineStart, int lineEnd) {
+        int end = lineEnd;
+        if (end > lineStart && sdp.charAt(end - 1) == '\r') {
+            end--;
+        }
+        while (end > lineStart + 3 && isBlank(sdp.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    // 공백으로 나눈 index 번째 필드의 시작 (없으면 -1)
+    private static int field(String sdp, int from, int end, int index) {
+        int position = from;
+        for (int i = 0; ; i++) {
+            while (position < end && isBlank(sdp.charAt(position))) {
+                position++;
+            }
+            if (position >= end) {
+                return -1;
+            }
+            if (i == index) {
+                return position;
+            }
+            while (position < end && !isBlank(sdp.charAt(position))) {
+                position++;
+            }
+        }
+    }
+
+    private static int fieldEnd(String sdp, int from, int end) {
+        int position = from;
+        while (position < end && !isBlank(sdp.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    // 숫자가 아니면 -1
+    private static int parseInt(String sdp, int from, int end) {
+        if (from < 0 || from >= end) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = from; i < end; i++) {
+            char c = sdp.charAt(i);
+            if (c < '0' || c > '9' || value > 100_000) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    // 공백을 하나로 줄여 CRLF 와 함께 쓴다 (끝 공백은 "x=" 뒤의 값 자리일 때만 남긴다)
+    private static void appendNormalized(String sdp, int from, int end, StringBuilder out) {
+        boolean blank = false;
+        int written = 0;
+        for (int i = from; i < end; i++) {
+            char c = sdp.charAt(i);
+            if (isBlank(c)) {
+                blank = written > 0;
+                continue;
+            }
+            if (blank) {
+                out.append(' ');
+            }
+            blank = false;
+            out.append(c);
+            written++;
+        }
+        if (blank && written == 2) {
+            out.append(' ');
+        }
+        out.append(CRLF);
+    }
+
+    /**
+     * 미디어 섹션 하나를 처리하는 상태 (minify 호출마다 하나, 섹션마다 초기화)
+     */
+    private final class Section {
+
+        // rtpmap 이 있는 포맷 / 허용된 포맷 (페이로드 타입 0 ~ 127 비트셋)
+        private final long[] mapped = new long[2];
+        private final long[] allowed = new long[2];
+        private final byte[] associated = new byte[MAX_PAYLOAD_TYPES];
+
+        private long[] candidates = new long[16];
+        private int candidateCount;
+        private boolean rejected;
+        private boolean filterCodecs;
+
+        void write(String sdp, int start, int end, StringBuilder out) {
+            reset();
+            boolean media = sdp.startsWith("m=", start);
+            if (media) {
+                int lineEnd = contentEnd(sdp, start, lineEnd(sdp, start, end));
+                int port = field(sdp, start, lineEnd, 1);
+                rejected = port >= 0 && parseInt(sdp, port, fieldEnd(sdp, port, lineEnd)) == 0;
+                filterCodecs = codecs.length > 0 && scanCodecs(sdp, start, end);
+            }
+
+            int lineStart = start;
+            while (lineStart < end) {
+                int next = lineEnd(sdp, lineStart, end);
+                int contentEnd = contentEnd(sdp, lineStart, next);
+                if (field(sdp, lineStart, contentEnd, 0) >= 0) {
+                    writeLine(sdp, lineStart, contentEnd, out, media && lineStart == start);
+                }
+                lineStart = next + 1;
+            }
+        }
+
+        private void reset() {
+            Arrays.fill(mapped, 0);
+            Arrays.fill(allowed, 0);
+            Arrays.fill(associated, (byte) -1);
+            candidateCount = 0;
+            rejected = false;
+            filterCodecs = false;
+        }
+
+        private void writeLine(String sdp, int from, int end, StringBuilder out, boolean mediaLine) {
+            if (mediaLine && filterCodecs) {
+                writeMediaLine(sdp, from, end, out);
+                return;
+            }
+            if (sdp.startsWith("a=candidate:", from)) {
+                if (keepCandidate(sdp, from, end)) {
+                    appendNormalized(sdp, from, end, out);
+                }
+                return;
+            }
+            if (filterCodecs && isFormatAttribute(sdp, from)) {
+                int colon = sdp.indexOf(':', from);
+                int payloadType = parseInt(sdp, colon + 1, fieldEnd(sdp, colon + 1, end));
+                if (payloadType >= 0 && !keep(payloadType)) {
+                    return;
+                }
+            }
+            appendNormalized(sdp, from, end, out);
+        }
+
+        // m=<media> <port> <proto> <fmt> ... 에서 허용된 포맷만 남긴다
+        private void writeMediaLine(String sdp, int from, int end, StringBuilder out) {
+            int firstFormat = field(sdp, from, end, 3);
+            appendNormalized(sdp, from, firstFormat < 0 ? end : firstFormat, out);
+            out.setLength(out.length() - CRLF.length());
+            if (out.charAt(out.length() - 1) == ' ') {
+                out.setLength(out.length() - 1);
+            }
+            int position = firstFormat;
+            while (position >= 0 && position < end) {
+                int formatEnd = fieldEnd(sdp, position, end);
+                int payloadType = parseInt(sdp, position, formatEnd);
+                if (payloadType < 0 || keep(payloadType)) {
+                    out.append(' ').append(sdp, position, formatEnd);
+                }
+                position = field(sdp, formatEnd, end, 0);
+            }
+            out.append(CRLF);
+        }
+
+        /**
+         * 섹션을 먼저 한 번 훑어 rtpmap 으로 허용 포맷을 정한다
+         * 허용된 포맷이 하나도 없으면 협상이 깨지므로 이 섹션은 거르지 않는다 (false)
+         */
+        private boolean scanCodecs(String sdp, int start, int end) {
+            int lineStart = start;
+            while (lineStart < end) {
+                int next = lineEnd(sdp, lineStart, end);
+                int contentEnd = contentEnd(sdp, lineStart, next);
+                if (sdp.startsWith("a=rtpmap:", lineStart)) {
+                    int payloadStart = lineStart + "a=rtpmap:".length();
+                    int payloadEnd = fieldEnd(sdp, payloadStart, contentEnd);
+                    int payloadType = parseInt(sdp, payloadStart, payloadEnd);
+                    int nameStart = field(sdp, payloadEnd, contentEnd, 0);
+                    if (payloadType >= 0 && payloadType < MAX_PAYLOAD_TYPES && nameStart >= 0) {
+                        set(mapped, payloadType);
+                        if (isAllowedCodec(sdp, nameStart, contentEnd)) {
+                            set(allowed, payloadType);
+                        }
+                    }
+                } else if (sdp.startsWith("a=fmtp:", lineStart)) {
+                    recordAssociation(sdp, lineStart + "a=fmtp:".length(), contentEnd);
+                }
+                lineStart = next + 1;
+            }
+
+            boolean any = false;
+            for (int payloadType = 0; payloadType < MAX_PAYLOAD_TYPES; payloadType++) {
+                int apt = associated[payloadType];
+                if (apt >= 0 && !keep(apt)) {
+                    clear(allowed, payloadType);
+                }
+                any |= is(mapped, payloadType) && is(allowed, payloadType);
+            }
+            return any;
+        }
+
+        // a=fmtp:<pt> apt=<원래 pt> (rtx)
+        private void recordAssociation(String sdp, int payloadStart, int end) {
+            int payloadEnd = fieldEnd(sdp, payloadStart, end);
+            int payloadType = parseInt(sdp, payloadStart, payloadEnd);
+            int apt = sdp.indexOf("apt=", payloadEnd);
+            if (payloadType < 0 || payloadType >= MAX_PAYLOAD_TYPES || apt < 0 || apt >= end) {
+                return;
+            }
+            int valueStart = apt + "apt=".length();
+            int valueEnd = valueStart;
+            while (valueEnd < end && Character.isDigit(sdp.charAt(valueEnd))) {
+                valueEnd++;
+            }
+            int associatedType = parseInt(sdp, valueStart, valueEnd);
+            if (associatedType >= 0 && associatedType < MAX_PAYLOAD_TYPES) {
+                associated[payloadType] = (byte) associatedType;
+            }
+        }
+
+        // rtpmap 의 인코딩 이름 (<name>/<clock>) 이 허용 목록에 있는지
+        private boolean isAllowedCodec(String sdp, int nameStart, int end) {
+            int nameEnd = nameStart;
+            while (nameEnd < end && sdp.charAt(nameEnd) != '/' && !isBlank(sdp.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            int length = nameEnd - nameStart;
+            for (String codec : codecs) {
+                if (codec.length() == length && sdp.regionMatches(true, nameStart, codec, 0, length)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // rtpmap 이 없는 정적 포맷은 이름을 모르므로 남긴다
+        private boolean keep(int payloadType) {
+            return payloadType >= MAX_PAYLOAD_TYPES || !is(mapped, payloadType) || is(allowed, payloadType);
+        }
+
+        /**
+         * a=candidate:<foundation> <component> <transport> <priority> <address> <port> typ <type> ...
+         * foundation/priority 가 달라도 나머지가 같으면 같은 후보로 본다
+         */
+        private boolean keepCandidate(String sdp, int from, int end) {
+            if (rejected) {
+                return false;
+            }
+            int transport = field(sdp, from, end, 2);
+            if (transport < 0) {
+                return true;
+            }
+            int transportEnd = fieldEnd(sdp, transport, end);
+            if (dropTcpCandidates && transportEnd - transport == 3 && sdp.regionMatches(true, transport, "tcp", 0, 3)) {
+                return false;
+            }
+
+            long hash = FNV_OFFSET;
+            hash = hashField(sdp, field(sdp, from, end, 1), end, hash);
+            hash = hashField(sdp, transport, end, hash);
+            hash = hashField(sdp, field(sdp, from, end, 4), end, hash);
+            hash = hashField(sdp, field(sdp, from, end, 5), end, hash);
+            hash = hashField(sdp, field(sdp, from, end, 7), end, hash);
+            for (int i = 0; i < candidateCount; i++) {
+                if (candidates[i] == hash) {
+                    return false;
+                }
+            }
+            if (candidateCount == candidates.length) {
+                candidates = Arrays.copyOf(candidates, candidateCount * 2);
+            }
+            candidates[candidateCount++] = hash;
+            return true;
+        }
+
+        private static long hashField(String sdp, int from, int end, long hash) {
+            if (from >= 0) {
+                for (int i = from; i < end && !isBlank(sdp.charAt(i)); i++) {
+                    hash = (hash ^ Character.toLowerCase(sdp.charAt(i))) * FNV_PRIME;
+                }
+            }
+            return (hash ^ ' ') * FNV_PRIME;
+        }
+
+        private static boolean isFormatAttribute(String sdp, int from) {
+            return sdp.startsWith("a=rtpmap:", from)
+                    || sdp.startsWith("a=fmtp:", from)
+                    || sdp.startsWith("a=rtcp-fb:", from);
+        }
+
+        private static boolean is(long[] bits, int index) {
+            return (bits[index >>> 6] & (1L << index)) != 0;
+        }
+
+        private static void set(long[] bits, int index) {
+            bits[index >>> 6] |= 1L << index;
+        }
+
+        private static void clear(long[] bits, int index) {
+            bits[index >>> 6] &= ~(1L << index);
+        }
+    }
+}
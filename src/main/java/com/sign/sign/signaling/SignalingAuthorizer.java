@@ -0,0 +1,128 @@
+package com.sign.sign.signaling;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.state.CompactStateStore;
+import com.sign.sign.state.RoomCode;
+import com.sign.sign.state.RoomTable;
+import com.sign.sign.state.SessionTable;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프레임별 발신자/수신자 권한 확인 (signaling.authorization.*)
+ *
+ * 페이로드의 fromId/toId 를 그대로 믿지 않고 CompactStateStore 로 확인한다
+ * - 세션에 확인된 사용자(CONNECT 때 등록)가 있어야 하고 fromId 가 그 사용자여야 한다
+ * - fromId 가 방 참여자여야 한다
+ * - toId 가 있으면 1:1 방에서는 상대방, 다자간 방에서는 자신이 아닌 참여자여야 한다
+ *
+ * 방 테이블은 RoomMembershipCache 가 방 생성/참여/삭제 때 함께 갱신하므로 DB 를 보지 않는다
+ * 조회는 StampedLock 낙관적 읽기 몇 번뿐이라 객체를 만들지 않는다 (TraceStage.AUTHORIZE)
+ */
+@Component
+public class SignalingAuthorizer {
+
+    public enum Verdict {
+        ALLOWED,
+
+        /**
+         * 세션 사용자와 fromId 가 다르거나 세션에 확인된 사용자가 없음
+         */
+        IMPERSONATION,
+
+        /**
+         * fromId 가 없거나 방 참여자가 아님
+         */
+        NOT_MEMBER,
+
+        /**
+         * toId 가 상대방(참여자)이 아님
+         */
+        NOT_COUNTERPART
+    }
+
+    private final CompactStateStore stateStore;
+    private final boolean enabled;
+
+    private final LongAdder[] denied = new LongAdder[Verdict.values().length];
+
+    public SignalingAuthorizer(CompactStateStore stateStore, SignalingProperties properties) {
+        this.stateStore = stateStore;
+        this.enabled = properties.getAuthorization().isEnabled();
+        for (int i = 0; i < denied.length; i++) {
+            denied[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 방 참여자 조회(RoomService.findMembership) 뒤에 부른다, 그 시점에는 방이 테이블에 올라와 있다
+     */
+    public Verdict authorize(String sessionId, String roomId, SignalingMessage message) {
+        if (!enabled) {
+            return Verdict.ALLOWED;
+        }
+        Verdict verdict = check(sessionId, roomId, message);
+        if (verdict != Verdict.ALLOWED) {
+            denied[verdict.ordinal()].increment();
+        }
+        return verdict;
+    }
+
+    /**
+     * 아직 방이 없는 요청(create-and-invite)용: fromId 가 세션 사용자인지만 확인
+     */
+    public Verdict authorizeCaller(String sessionId, SignalingMessage message) {
+        if (!enabled) {
+            return Verdict.ALLOWED;
+        }
+        Verdict verdict = checkCaller(sessionId, message.getFromId());
+        if (verdict != Verdict.ALLOWED) {
+            denied[verdict.ordinal()].increment();
+        }
+        return verdict;
+    }
+
+    public long getDenied(Verdict verdict) {
+        return denied[verdict.ordinal()].sum();
+    }
+
+    private Verdict check(String sessionId, String roomId, SignalingMessage message) {
+        Verdict caller = checkCaller(sessionId, message.getFromId());
+        if (caller != Verdict.ALLOWED) {
+            return caller;
+        }
+        long fromId = message.getFromId();
+
+        // 인코딩할 수 없는 코드는 테이블에 없으므로 참여자가 아닌 것으로 처리된다
+        long code = RoomCode.encode(roomId);
+        RoomTable rooms = stateStore.getRooms();
+        if (!rooms.isMember(code, fromId)) {
+            return Verdict.NOT_MEMBER;
+        }
+
+        Long to = message.getToId();
+        if (to == null) {
+            return Verdict.ALLOWED;
+        }
+        long toId = to;
+        long counterpart = rooms.counterpart(code, fromId);
+        if (counterpart != RoomTable.NO_MEMBER) {
+            return counterpart == toId ? Verdict.ALLOWED : Verdict.NOT_COUNTERPART;
+        }
+        // 다자간 방 (또는 아직 혼자인 방)
+        return toId != fromId && rooms.isMember(code, toId) ? Verdict.ALLOWED : Verdict.NOT_COUNTERPART;
+    }
+
+    private Verdict checkCaller(String sessionId, Long fromId) {
+        if (fromId == null) {
+            return Verdict.NOT_MEMBER;
+        }
+        // 사용자를 모르는 세션의 fromId 는 확인할 방법이 없으므로 믿지 않는다
+        long principal = stateStore.sessionUserId(sessionId);
+        if (principal == SessionTable.NO_USER || principal != fromId) {
+            return Verdict.IMPERSONATION;
+        }
+        return Verdict.ALLOWED;
+    }
+}
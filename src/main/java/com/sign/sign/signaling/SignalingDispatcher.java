@@ -0,0 +1,182 @@
+package com.sign.sign.signaling;
+
+import com.sign.sign.dto.SignalingAck;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.journal.SignalingJournal;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.service.RoomService;
+import com.sign.sign.trace.SignalingTrace;
+import com.sign.sign.trace.TraceStage;
+import com.sign.sign.websocket.SignalingSessionRegistry;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전송 계층(STOMP / WebFlux)과 무관한 시그널링 메시지 처리
+ * 방 참여자 조회 → 발신자/수신자 권한 확인 → 세션 바인딩 → messageId 중복 제거 → 저널 기록 → 타입별 SignalingHandler 호출 → 수신 확인
+ * create-and-invite 는 아직 방이 없으므로 방 조회 대신 CallSetup 이 방을 만든다 (경로의 방 ID 는 무시)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SignalingDispatcher {
+
+    private static final String ROOM_NOT_FOUND_MESSAGE = "방을 찾을 수 없습니다: ";
+
+    private final SignalingMessenger messenger;
+    private final RoomService roomService;
+    private final SignalingSessionRegistry sessionRegistry;
+    private final SignalingHandlerRegistry handlerRegistry;
+    private final SignalingJournal journal;
+    private final MessageDeduplicator deduplicator;
+    private final SignalingTrace trace;
+    private final SignalingAuthorizer authorizer;
+    private final CallSetup callSetup;
+
+    public void dispatch(String sessionId, String roomId, SignalingMessage message) {
+        dispatch(sessionId, roomId, message, SignalingTrace.UNSET);
+    }
+
+    /**
+     * @param receivedAt 전송 계층이 프레임을 받은 System.nanoTime (모르면 SignalingTrace.UNSET)
+     */
+    public void dispatch(String sessionId, String roomId, SignalingMessage message, long receivedAt) {
+        long started = trace.now();
+        trace.record(TraceStage.INBOUND_QUEUE, receivedAt, started);
+        trace.begin(receivedAt != SignalingTrace.UNSET ? receivedAt : started);
+        try {
+            process(sessionId, roomId, message, started);
+        } finally {
+            trace.end();
+        }
+    }
+
+    private void process(String sessionId, String roomId, SignalingMessage message, long started) {
+        if (message.getType() == SignalingType.CREATE_AND_INVITE) {
+            createAndInvite(sessionId, message, started);
+            return;
+        }
+
+        // 방 참여자 조회 (캐시 우선, 없는 방은 예외 없이, 최근 조회된 코드면 DB 없이 응답)
+        Optional<RoomMembership> membership = roomService.findMembership(roomId);
+        trace.record(TraceStage.ROOM_LOOKUP, started, trace.now());
+        if (membership.isEmpty()) {
+            log.debug("Room '{}' not found for user {} on session {}", roomId, message.getFromId(), sessionId);
+
+            // 권한 확인 전이라 fromId 를 믿을 수 없으므로 보낸 세션에만 에러 알림 (세션이 없으면 버린다)
+            if (sessionId != null) {
+                messenger.sendErrorToSession(sessionId, ROOM_NOT_FOUND_MESSAGE.concat(roomId));
+            }
+            return;
+        }
+
+        // 세션 사용자/방 참여자와 맞지 않는 프레임은 조용히 버린다 (다른 방에 끼어들 수 있는지 알려 주지 않음)
+        long authorizeStarted = trace.now();
+        SignalingAuthorizer.Verdict verdict = authorizer.authorize(sessionId, roomId, message);
+        trace.record(TraceStage.AUTHORIZE, authorizeStarted, trace.now());
+        if (verdict != SignalingAuthorizer.Verdict.ALLOWED) {
+            log.debug("Dropped '{}' message from user {} to {} in room {} on session {}: {}",
+                    message.getType(), message.getFromId(), message.getToId(), roomId, sessionId, verdict);
+            return;
+        }
+
+        // 여러 기기 중 먼저 answer 한 기기가 통화를 차지, 늦은 기기는 방에 바인딩하지 않는다 (끊겨도 상대방에게 알리지 않도록)
+        if (message.getType() == SignalingType.ANSWER && !claimCall(sessionId, roomId, message)) {
+            return;
+        }
+
+        // 소켓이 끊겼을 때 상대방에게 알릴 수 있도록 세션을 방에 바인딩
+        sessionRegistry.bind(sessionId, message.getFromId(), roomId);
+
+        // 재시도로 다시 온 메시지는 전달하지 않고 확인만 다시 보낸다
+        String messageId = message.getMessageId();
+        if (messageId != null && !deduplicator.firstSeen(sessionId, messageId)) {
+            log.debug("Duplicate message '{}' from user {} in room {}", messageId, message.getFromId(), roomId);
+            acknowledge(sessionId, roomId, message, true);
+            return;
+        }
+
+        log.info("Received '{}' message from user {} in room {}",
+                message.getType(), message.getFromId(), roomId);
+        journal.record(roomId, message, membership.get().size() - 1);
+
+        SignalingHandler handler = handlerRegistry.get(message.getType());
+        if (handler == null) {
+            log.warn("Unknown message type '{}' from user {} in room {}",
+                    message.getType(), message.getFromId(), roomId);
+        } else {
+            long handlerStarted = trace.now();
+            handler.handle(membership.get(), message);
+            trace.record(TraceStage.HANDLER, handlerStarted, trace.now());
+        }
+        acknowledge(sessionId, roomId, message, false);
+    }
+
+    /**
+     * 처음 차지했으면 같은 사용자의 나머지 기기에 answered-elsewhere 를 한 번씩 보내 벨을 멈춘다
+     *
+     * @return answer 를 전달해도 되면 true, 다른 기기가 이미 받았으면 false (이 기기에도 answered-elsewhere)
+     */
+    private boolean claimCall(String sessionId, String roomId, SignalingMessage answer) {
+        if (sessionId == null) {
+            return true;
+        }
+        Long userId = answer.getFromId();
+        String holder = sessionRegistry.claim(roomId, userId, sessionId);
+        if (sessionId.equals(holder)) {
+            return true;
+        }
+
+        SignalingMessage answeredElsewhere = new SignalingMessage(
+                SignalingType.ANSWERED_ELSEWHERE, roomId, userId, userId, null);
+        if (holder != null) {
+            log.debug("User {} already answered in room {} on session {}, dropped answer from session {}",
+                    userId, roomId, holder, sessionId);
+            messenger.sendToSession(sessionId, answeredElsewhere);
+            return false;
+        }
+        for (String other : sessionRegistry.getSessionsOfUser(userId)) {
+            if (!other.equals(sessionId)) {
+                messenger.sendToSession(other, answeredElsewhere);
+            }
+        }
+        return true;
+    }
+
+    private void createAndInvite(String sessionId, SignalingMessage message, long started) {
+        SignalingAuthorizer.Verdict verdict = authorizer.authorizeCaller(sessionId, message);
+        trace.record(TraceStage.AUTHORIZE, started, trace.now());
+        if (verdict != SignalingAuthorizer.Verdict.ALLOWED) {
+            log.debug("Dropped create-and-invite from user {} on session {}: {}",
+                    message.getFromId(), sessionId, verdict);
+            return;
+        }
+
+        // 재시도로 방이 두 번 만들어지지 않도록 (방 ID 는 처음 보낸 call-created 로 이미 전달됨)
+        String messageId = message.getMessageId();
+        if (messageId != null && !deduplicator.firstSeen(sessionId, messageId)) {
+            log.debug("Duplicate create-and-invite '{}' from user {}", messageId, message.getFromId());
+            acknowledge(sessionId, null, message, true);
+            return;
+        }
+
+        long handlerStarted = trace.now();
+        RoomMembership membership = callSetup.createAndInvite(sessionId, message);
+        trace.record(TraceStage.HANDLER, handlerStarted, trace.now());
+        if (membership == null) {
+            return;
+        }
+        journal.record(membership.getRoomId(), message, membership.size() - 1);
+        acknowledge(sessionId, membership.getRoomId(), message, false);
+    }
+
+    // 보낸 세션에만 (같은 사용자의 다른 기기는 보내지 않은 메시지의 ack 를 받지 않도록)
+    private void acknowledge(String sessionId, String roomId, SignalingMessage message, boolean duplicate) {
+        if (message.getMessageId() != null && sessionId != null) {
+            messenger.sendAck(sessionId, new SignalingAck(message.getMessageId(), roomId, duplicate));
+        }
+    }
+}
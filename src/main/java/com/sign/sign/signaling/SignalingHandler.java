@@ -0,0 +1,20 @@
+package com.sign.sign.signaling;
+
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.service.RoomMembership;
+
+/**
+ * 시그널링 메시지 타입 하나를 처리하는 핸들러
+ * 빈으로 등록하면 SignalingHandlerRegistry 가 타입별로 모아 SignalingController 가 디스패치한다
+ * (방 존재 확인과 세션 바인딩은 컨트롤러에서 끝난 상태로 호출됨)
+ */
+public interface SignalingHandler {
+
+    SignalingType getType();
+
+    /**
+     * @param membership 메시지가 속한 방의 참여자 (캐시된 스냅샷)
+     */
+    void handle(RoomMembership membership, SignalingMessage message);
+}
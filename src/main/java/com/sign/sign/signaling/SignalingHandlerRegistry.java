@@ -0,0 +1,33 @@
+package com.sign.sign.signaling;
+
+import com.sign.sign.dto.SignalingType;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * SignalingType ordinal 로 인덱싱한 핸들러 테이블
+ * 메시지마다 배열 조회 한 번으로 디스패치한다
+ */
+@Component
+public class SignalingHandlerRegistry {
+
+    private final SignalingHandler[] handlers = new SignalingHandler[SignalingType.values().length];
+
+    public SignalingHandlerRegistry(List<SignalingHandler> handlers) {
+        for (SignalingHandler handler : handlers) {
+            int index = handler.getType().ordinal();
+            if (this.handlers[index] != null) {
+                throw new IllegalStateException("시그널링 타입 '" + handler.getType().getValue() + "' 의 핸들러가 중복 등록되었습니다: "
+                        + this.handlers[index].getClass().getSimpleName() + ", " + handler.getClass().getSimpleName());
+            }
+            this.handlers[index] = handler;
+        }
+    }
+
+    /**
+     * @return 등록된 핸들러, 없으면 null
+     */
+    public SignalingHandler get(SignalingType type) {
+        return type == null ? null : handlers[type.ordinal()];
+    }
+}
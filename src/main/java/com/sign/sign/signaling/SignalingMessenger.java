@@ -0,0 +1,137 @@
+package com.sign.sign.signaling;
+
+import com.sign.sign.dto.SignalingAck;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.reactive.ReactiveSessionRegistry;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.trace.SignalingTrace;
+import com.sign.sign.websocket.SessionResumeStore;
+import com.sign.sign.websocket.SignalingSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시그널링 메시지 전송 공통 경로
+ * 재개 대기 중인 수신자 몫은 SessionResumeStore 에 보관해 재접속 시 재전송되게 한다
+ * (통화를 차지한 세션이 대기 중이면 그 세션 몫으로, 아니면 살아 있는 세션이 하나도 없을 때만)
+ * 수신자가 여러 기기 중 하나로 통화를 받았으면(SignalingSessionRegistry.claim) 전송 계층과 상관없이 그 기기 세션으로만 보낸다
+ * 아니면 WebFlux 엔드포인트로 붙어 있을 때 STOMP 브로커 대신 그 세션으로 보낸다
+ */
+@Component
+@RequiredArgsConstructor
+public class SignalingMessenger {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SessionResumeStore resumeStore;
+    private final ReactiveSessionRegistry reactiveSessions;
+    private final SignalingTrace trace;
+    private final SignalingSessionRegistry sessionRegistry;
+
+    /**
+     * 개인 전송 (/user/{userId}/queue/signaling)
+     */
+    public void sendToUser(Long userId, SignalingMessage message) {
+        deliver(userId, message.getRoomId(), userId.toString(), message);
+    }
+
+    /**
+     * 발신자를 뺀 방 참여자 전원에게 개인 전송
+     * 방 토픽으로 뿌리면 발신자 자신에게도 에코가 가므로, 스냅샷에 미리 만들어 둔 대상 목록을 돌며 보낸다 (O(N))
+     */
+    public void sendToOthers(RoomMembership membership, SignalingMessage message) {
+        Long fromId = message.getFromId();
+        for (int i = 0; i < membership.size(); i++) {
+            long participantId = membership.participantAt(i);
+            if (fromId != null && participantId == fromId) {
+                continue;
+            }
+            deliver(participantId, membership.getRoomId(), membership.userNameAt(i), message);
+        }
+    }
+
+    /**
+     * 세션 하나에만 전송 (WebFlux 세션이면 그 큐로, STOMP 면 /user/queue/signaling 을 구독한 그 기기만)
+     * 세션 ID 를 사용자 이름 자리에 쓰면 UserDestinationResolver 가 그 세션으로만 라우팅한다 (SessionMessageSender 와 같은 방식)
+     */
+    public void sendToSession(String sessionId, SignalingMessage message) {
+        if (reactiveSessions.sendToSession(sessionId, message)) {
+            return;
+        }
+        sendToSession(sessionId, "/queue/signaling", message);
+    }
+
+    /**
+     * 보낸 세션에만 수신 확인 (/user/queue/ack 를 구독한 그 기기만)
+     * 사용자 이름으로 보내면 같은 사용자의 다른 기기들도 보내지 않은 메시지의 ack 를 받는다
+     */
+    public void sendAck(String sessionId, SignalingAck ack) {
+        if (reactiveSessions.sendAck(sessionId, ack)) {
+            return;
+        }
+        sendToSession(sessionId, "/queue/ack", ack);
+    }
+
+    /**
+     * 발신자에게만 에러 알림 (/user/{userId}/queue/errors)
+     */
+    public void sendError(Long userId, String error) {
+        if (reactiveSessions.sendError(userId, error)) {
+            return;
+        }
+        messagingTemplate.convertAndSendToUser(userId.toString(), "/queue/errors", error);
+    }
+
+    /**
+     * 보낸 세션에만 에러 알림 (/user/queue/errors 를 구독한 그 기기만)
+     * 권한 확인 전이라 페이로드의 fromId 를 믿을 수 없을 때 쓴다
+     */
+    public void sendErrorToSession(String sessionId, String error) {
+        if (reactiveSessions.sendErrorToSession(sessionId, error)) {
+            return;
+        }
+        sendToSession(sessionId, "/queue/errors", error);
+    }
+
+    private void sendToSession(String sessionId, String destination, Object payload) {
+        MessageHeaders traceHeaders = trace.outboundHeaders();
+        SimpMessageHeaderAccessor accessor = traceHeaders == null
+                ? SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE)
+                : MessageHeaderAccessor.getAccessor(traceHeaders, SimpMessageHeaderAccessor.class);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(sessionId, destination, payload, accessor.getMessageHeaders());
+    }
+
+    // 통화를 차지한 기기 → WebFlux 세션 → STOMP 사용자 목적지 순
+    private void deliver(long userId, String roomId, String userName, SignalingMessage message) {
+        String claimed = sessionRegistry.getClaimedSession(roomId, userId);
+        if (claimed != null) {
+            if (!resumeStore.bufferForSession(claimed, message)) {
+                sendToSession(claimed, message);
+            }
+            return;
+        }
+        if (sessionRegistry.getSessionsOfUser(userId).isEmpty()) {
+            resumeStore.buffer(userId, message);
+        }
+        if (reactiveSessions.send(userId, message)) {
+            return;
+        }
+        send(userName, message);
+    }
+
+    // 처리 중인 프레임이 추적 중이면 지연 측정용 내부 헤더를 함께 보낸다 (SignalingTrace)
+    private void send(String userName, SignalingMessage message) {
+        MessageHeaders traceHeaders = trace.outboundHeaders();
+        if (traceHeaders == null) {
+            messagingTemplate.convertAndSendToUser(userName, "/queue/signaling", message);
+            return;
+        }
+        messagingTemplate.convertAndSendToUser(userName, "/queue/signaling", message, traceHeaders);
+    }
+}
@@ -0,0 +1,37 @@
+package com.sign.sign.signaling.handler;
+
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.signaling.SignalingHandler;
+import com.sign.sign.signaling.SignalingMessenger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * P2P 연결 성공 처리
+ * 통화 시작을 다른 참여자들에게 알림
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConnectedHandler implements SignalingHandler {
+
+    private final SignalingMessenger messenger;
+
+    @Override
+    public SignalingType getType() {
+        return SignalingType.CONNECTED;
+    }
+
+    @Override
+    public void handle(RoomMembership membership, SignalingMessage message) {
+        String roomId = membership.getRoomId();
+        log.info("User {} successfully connected via P2P in room {}",
+                message.getFromId(), roomId);
+
+        // 다른 참여자들에게만 연결 성공 알림 (발신자 에코 없음)
+        messenger.sendToOthers(membership, message);
+    }
+}
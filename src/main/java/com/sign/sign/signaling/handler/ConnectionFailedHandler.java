@@ -0,0 +1,37 @@
+package com.sign.sign.signaling.handler;
+
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.signaling.SignalingHandler;
+import com.sign.sign.signaling.SignalingMessenger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * P2P 연결 실패 처리
+ * ICE 연결이 실패한 경우
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConnectionFailedHandler implements SignalingHandler {
+
+    private final SignalingMessenger messenger;
+
+    @Override
+    public SignalingType getType() {
+        return SignalingType.CONNECTION_FAILED;
+    }
+
+    @Override
+    public void handle(RoomMembership membership, SignalingMessage message) {
+        String roomId = membership.getRoomId();
+        log.warn("P2P connection failed for user {} in room {}",
+                message.getFromId(), roomId);
+
+        // 다른 참여자들에게만 연결 실패 알림
+        messenger.sendToOthers(membership, message);
+    }
+}
@@ -0,0 +1,37 @@
+package com.sign.sign.signaling.handler;
+
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.signaling.SignalingHandler;
+import com.sign.sign.signaling.SignalingMessenger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * P2P 연결 해제 처리
+ * 네트워크 문제 등으로 연결이 끊어진 경우
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DisconnectedHandler implements SignalingHandler {
+
+    private final SignalingMessenger messenger;
+
+    @Override
+    public SignalingType getType() {
+        return SignalingType.DISCONNECTED;
+    }
+
+    @Override
+    public void handle(RoomMembership membership, SignalingMessage message) {
+        String roomId = membership.getRoomId();
+        log.info("User {} disconnected from P2P in room {}",
+                message.getFromId(), roomId);
+
+        // 다른 참여자들에게만 연결 해제 알림
+        messenger.sendToOthers(membership, message);
+    }
+}
@@ -0,0 +1,41 @@
+package com.sign.sign.signaling.handler;
+
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.signaling.SignalingHandler;
+import com.sign.sign.signaling.SignalingMessenger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다자간 방 입장 알림 (POST /api/room/{roomId}/join 이후)
+ * 기존 참여자 전원에게 알리고, 각자 새 참여자에게 offer 를 보내 메시 연결을 맺는다
+ * 입장 한 번에 N-1 번 전송이므로 N 명이 차례로 들어와도 전체 전송 수는 O(N²) 쌍 연결만큼만 든다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JoinHandler implements SignalingHandler {
+
+    private final SignalingMessenger messenger;
+
+    @Override
+    public SignalingType getType() {
+        return SignalingType.JOIN;
+    }
+
+    @Override
+    public void handle(RoomMembership membership, SignalingMessage message) {
+        String roomId = membership.getRoomId();
+        if (!membership.isMember(message.getFromId())) {
+            log.warn("User {} sent join to room {} without joining it", message.getFromId(), roomId);
+            return;
+        }
+
+        log.info("User {} joined room {} ({} participants)", message.getFromId(), roomId, membership.size());
+
+        messenger.sendToOthers(membership, message);
+    }
+}
@@ -0,0 +1,66 @@
+package com.sign.sign.signaling.handler;
+
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.service.RoomService;
+import com.sign.sign.signaling.SignalingHandler;
+import com.sign.sign.signaling.SignalingMessenger;
+import com.sign.sign.websocket.SignalingSessionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 통화 종료 처리
+ * 사용자가 의도적으로 통화를 종료한 경우
+ * 1:1 통화면 방 자체를 삭제, 다자간 통화면 나간 사람만 빠지고 통화는 유지 (2명 미만이 되면 삭제)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LeaveHandler implements SignalingHandler {
+
+    private final SignalingMessenger messenger;
+    private final RoomService roomService;
+    private final SignalingSessionRegistry sessionRegistry;
+
+    @Override
+    public SignalingType getType() {
+        return SignalingType.LEAVE;
+    }
+
+    @Override
+    public void handle(RoomMembership membership, SignalingMessage message) {
+        String roomId = membership.getRoomId();
+        log.info("User {} ended the call in room {}", message.getFromId(), roomId);
+
+        // 다른 참여자들에게 통화 종료 알림
+        messenger.sendToOthers(membership, message);
+
+        if (membership.size() > 2) {
+            // 나간 사용자의 세션만 바인딩 해제, 나머지 참여자들은 계속 통화
+            sessionRegistry.unbindUser(roomId, message.getFromId());
+            try {
+                if (roomService.leave(roomId, message.getFromId())) {
+                    sessionRegistry.unbindRoom(roomId);
+                    log.info("Room {} deleted after user {} left", roomId, message.getFromId());
+                }
+            } catch (IllegalArgumentException e) {
+                log.warn("Room {} was already deleted", roomId);
+            }
+            return;
+        }
+
+        // 정상 종료이므로 이후 소켓 해제 시 중복 알림을 보내지 않도록 바인딩 해제
+        sessionRegistry.unbindRoom(roomId);
+
+        // 1:1 화상통화이므로 한 명이 나가면 방 삭제
+        try {
+            roomService.remove(roomId);
+            log.info("Room {} deleted after user {} left", roomId, message.getFromId());
+        } catch (IllegalArgumentException e) {
+            log.warn("Room {} was already deleted", roomId);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sign.sign.signaling.handler;
+
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.signaling.SdpMinifier;
+import com.sign.sign.signaling.SignalingHandler;
+import com.sign.sign.signaling.SignalingMessenger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebRTC Offer 처리 (Full ICE - 모든 ICE 후보 포함)
+ * A → B로 호출 요청 전송
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OfferHandler implements SignalingHandler {
+
+    private final SignalingMessenger messenger;
+    private final SdpMinifier sdpMinifier;
+
+    @Override
+    public SignalingType getType() {
+        return SignalingType.OFFER;
+    }
+
+    @Override
+    public void handle(RoomMembership membership, SignalingMessage message) {
+        String roomId = membership.getRoomId();
+        if (message.getToId() == null || message.getSdp() == null) {
+            log.error("Invalid offer message: missing toUserId or SDP");
+            return;
+        }
+
+        // 다자간 방에서는 참여자 쌍마다 따로 협상하므로 수신자가 같은 방 참여자인지 확인
+        if (!membership.isMember(message.getToId())) {
+            log.warn("Dropping offer from user {} to non-participant {} in room {}",
+                    message.getFromId(), message.getToId(), roomId);
+            return;
+        }
+
+        log.info("Relaying Full ICE Offer from user {} to user {} in room {}",
+                message.getFromId(), message.getToId(), roomId);
+
+        message.setSdp(sdpMinifier.minify(message.getSdp()));
+
+        // 수신자에게만 Offer 전달
+        messenger.sendToUser(message.getToId(), message);
+    }
+}
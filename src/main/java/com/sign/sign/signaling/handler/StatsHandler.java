@@ -0,0 +1,30 @@
+package com.sign.sign.signaling.handler;
+
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.quality.CallQualityAggregator;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.signaling.SignalingHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 통화 품질 보고 처리
+ * 다른 참여자에게 전달하지 않고 방별/전체 히스토그램에만 기록한다 (DB 에 표본을 쌓지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsHandler implements SignalingHandler {
+
+    private final CallQualityAggregator aggregator;
+
+    @Override
+    public SignalingType getType() {
+        return SignalingType.STATS;
+    }
+
+    @Override
+    public void handle(RoomMembership membership, SignalingMessage message) {
+        aggregator.record(membership.getRoomId(), message.getStats());
+    }
+}
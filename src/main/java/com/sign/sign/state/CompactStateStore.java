@@ -0,0 +1,108 @@
+package com.sign.sign.state;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.response.StateStoreResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방/세션 상태를 원시 타입 테이블에 담는 저장소 (signaling.state.*, /api/debug/state)
+ *
+ * - 방: 6자 코드를 long 으로 (RoomCode), 참여자 ID 도 long 으로 RoomTable 에 (1:1 방은 객체 없이 칸 하나)
+ * - 세션: 세션 ID 참조 → (사용자 ID, 방 코드) 를 SessionTable 에
+ * RoomMembershipCache 와 SignalingSessionRegistry 가 바뀔 때마다 함께 갱신한다
+ *
+ * 예산 (압축 OOP 기준, 테이블 채움률 1/3 ~ 2/3):
+ * - 1:1 방 54 ~ 108B (다자간 방은 +16B + 참여자당 8B)
+ * - 세션 30 ~ 60B (세션 ID 문자열은 세션 몫)
+ * 같은 내용을 ConcurrentHashMap + RoomMembership / SessionBinding 으로 들면 방당 ~300B, 세션당 ~100B 이다
+ * (CompactStateBenchmark 로 100만 개 기준 측정)
+ *
+ * 조회는 락도 객체 생성도 없으므로 프레임마다 불러도 된다
+ */
+@Component
+public class CompactStateStore {
+
+    private final RoomTable rooms;
+    private final SessionTable sessions;
+
+    public CompactStateStore(SignalingProperties properties) {
+        SignalingProperties.State config = properties.getState();
+        this.rooms = new RoomTable(config.getExpectedRooms());
+        this.sessions = new SessionTable(config.getExpectedSessions());
+    }
+
+    /**
+     * 방 참여자 전체를 교체 (첫 번째가 생성자), 인코딩할 수 없는 코드는 담지 않는다
+     */
+    public void putRoom(String roomId, long[] participantIds) {
+        long code = RoomCode.encode(roomId);
+        if (code > 0) {
+            rooms.put(code, participantIds);
+        }
+    }
+
+    public void removeRoom(String roomId) {
+        long code = RoomCode.encode(roomId);
+        if (code > 0) {
+            rooms.remove(code);
+        }
+    }
+
+    public boolean isMember(String roomId, long userId) {
+        return rooms.isMember(RoomCode.encode(roomId), userId);
+    }
+
+    /**
+     * 1:1 방에서 userId 의 상대방 (아니면 RoomTable.NO_MEMBER)
+     */
+    public long counterpart(String roomId, long userId) {
+        return rooms.counterpart(RoomCode.encode(roomId), userId);
+    }
+
+    public void registerSession(String sessionId, Long userId) {
+        sessions.put(sessionId, userId != null ? userId : SessionTable.NO_USER);
+    }
+
+    public void bindSession(String sessionId, Long userId, String roomId) {
+        long code = RoomCode.encode(roomId);
+        sessions.bind(sessionId, userId != null ? userId : SessionTable.NO_USER, code > 0 ? code : RoomCode.NONE);
+    }
+
+    public void clearSessionRoom(String sessionId) {
+        sessions.clearRoom(sessionId);
+    }
+
+    public void removeSession(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * 세션에 확인된 사용자 ID (모르면 SessionTable.NO_USER)
+     */
+    public long sessionUserId(String sessionId) {
+        return sessions.userId(sessionId);
+    }
+
+    public RoomTable getRooms() {
+        return rooms;
+    }
+
+    public SessionTable getSessions() {
+        return sessions;
+    }
+
+    public StateStoreResponse stats() {
+        int roomCount = rooms.size();
+        int sessionCount = sessions.size();
+        long roomBytes = rooms.memoryBytes();
+        long sessionBytes = sessions.memoryBytes();
+        return new StateStoreResponse(
+                roomCount,
+                sessionCount,
+                roomBytes,
+                sessionBytes,
+                roomCount == 0 ? 0 : roomBytes / roomCount,
+                sessionCount == 0 ? 0 : sessionBytes / sessionCount
+        );
+    }
+}
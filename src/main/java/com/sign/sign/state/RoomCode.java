@@ -0,0 +1,85 @@
+package com.sign.sign.state;
+
+/**
+ * 방 코드(영숫자 최대 10자, 실제로는 Room.generateRoomId 의 6자) ↔ long
+ *
+ * 글자마다 6비트 ('0'-'9' → 1~10, 'A'-'Z' → 11~36, 'a'-'z' → 37~62) 를 앞에서부터 채운다
+ * 0 인 글자가 없으므로 코드마다 값이 하나뿐이고, 0 은 "방 없음" 으로 쓸 수 있다
+ * encode 는 문자열을 훑기만 하므로 프레임마다 불러도 객체를 만들지 않는다
+ */
+public final class RoomCode {
+
+    /**
+     * 방 없음 (테이블의 빈 칸)
+     */
+    public static final long NONE = 0L;
+
+    /**
+     * 인코딩할 수 없는 코드 (길이 초과, 영숫자가 아닌 글자)
+     */
+    public static final long INVALID = -1L;
+
+    public static final int MAX_LENGTH = 10;
+
+    private static final int BITS = 6;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private RoomCode() {
+    }
+
+    public static long encode(CharSequence roomId) {
+        if (roomId == null) {
+            return INVALID;
+        }
+        int length = roomId.length();
+        if (length == 0 || length > MAX_LENGTH) {
+            return INVALID;
+        }
+
+        long code = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = digit(roomId.charAt(i));
+            if (digit < 0) {
+                return INVALID;
+            }
+            code = (code << BITS) | digit;
+        }
+        return code;
+    }
+
+    public static String decode(long code) {
+        if (code <= 0) {
+            throw new IllegalArgumentException("방 코드가 아닙니다: " + code);
+        }
+        char[] chars = new char[MAX_LENGTH];
+        int start = MAX_LENGTH;
+        while (code != 0) {
+            chars[--start] = character((int) (code & MASK));
+            code >>>= BITS;
+        }
+        return new String(chars, start, MAX_LENGTH - start);
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0' + 1;
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 11;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 37;
+        }
+        return -1;
+    }
+
+    private static char character(int digit) {
+        if (digit <= 10) {
+            return (char) ('0' + digit - 1);
+        }
+        if (digit <= 36) {
+            return (char) ('A' + digit - 11);
+        }
+        return (char) ('a' + digit - 37);
+    }
+}
@@ -0,0 +1,313 @@
+package com.sign.sign.state;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 방 코드(long) → 참여자 ID(long) 오픈 어드레싱 해시 테이블
+ *
+ * 칸 하나는 long 4개 [방 코드, 참여자 0(생성자), 참여자 1, 참여자 수] 를 한 배열에 이어 붙인 것이다
+ * 3명 이상인 다자간 방만 extras 에 전체 참여자 배열을 따로 둔다 (1:1 방은 객체가 하나도 없다)
+ *
+ * 메모리 (1:1 방, 압축 OOP 기준):
+ * - 칸당 32B(long 4개) + 4B(extras 참조) = 36B
+ * - 채움률 1/3 ~ 2/3 (2/3 을 넘으면 두 배로 늘린다) → 방당 54 ~ 108B
+ * - 다자간 방은 여기에 16B + 참여자당 8B
+ *
+ * 읽기는 StampedLock 낙관적 읽기라 락을 잡지 않고 객체도 만들지 않는다 (프레임마다 조회하는 용도)
+ * 쓰기(방 생성/참여/삭제)만 쓰기 락을 잡는다, 삭제는 뒤 칸을 당겨 채운다 (묘비 없음)
+ */
+public class RoomTable {
+
+    /**
+     * 참여자 없음
+     */
+    public static final long NO_MEMBER = 0L;
+
+    private static final int STRIDE = 4;
+    private static final int KEY = 0;
+    private static final int FIRST = 1;
+    private static final int SECOND = 2;
+    private static final int COUNT = 3;
+    private static final int INLINE = 2;
+    private static final int MIN_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+
+    private long[] slots;
+    private long[][] extras;
+    private int size;
+
+    public RoomTable(int expectedRooms) {
+        int capacity = capacityFor(expectedRooms);
+        this.slots = new long[capacity * STRIDE];
+        this.extras = new long[capacity][];
+    }
+
+    /**
+     * 방 참여자 전체를 교체 (첫 번째가 생성자)
+     */
+    public void put(long code, long[] participantIds) {
+        checkCode(code);
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 3L > capacity() * 2L) {
+                resize(capacity() * 2);
+            }
+            int slot = find(slots, code);
+            if (slot < 0) {
+                slot = emptySlot(slots, code);
+                size++;
+            }
+            write(slot, code, participantIds);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(long code) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = find(slots, code);
+            if (slot < 0) {
+                return false;
+            }
+            delete(slot);
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean contains(long code) {
+        long stamp = lock.tryOptimisticRead();
+        boolean found = find(slots, code) >= 0;
+        if (lock.validate(stamp)) {
+            return found;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(slots, code) >= 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean isMember(long code, long userId) {
+        long stamp = lock.tryOptimisticRead();
+        boolean member = isMember(slots, extras, code, userId);
+        if (lock.validate(stamp)) {
+            return member;
+        }
+        stamp = lock.readLock();
+        try {
+            return isMember(slots, extras, code, userId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 1:1 방에서 userId 의 상대방, userId 가 참여자가 아니거나 1:1 방이 아니면 NO_MEMBER
+     */
+    public long counterpart(long code, long userId) {
+        long stamp = lock.tryOptimisticRead();
+        long other = counterpart(slots, code, userId);
+        if (lock.validate(stamp)) {
+            return other;
+        }
+        stamp = lock.readLock();
+        try {
+            return counterpart(slots, code, userId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 방이 없으면 -1
+     */
+    public int participantCount(long code) {
+        long stamp = lock.tryOptimisticRead();
+        int count = participantCount(slots, code);
+        if (lock.validate(stamp)) {
+            return count;
+        }
+        stamp = lock.readLock();
+        try {
+            return participantCount(slots, code);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 테이블 배열과 다자간 방 참여자 배열이 차지하는 대략의 바이트 (압축 OOP 기준)
+     */
+    public long memoryBytes() {
+        long stamp = lock.readLock();
+        try {
+            long bytes = StateMemory.longArray(slots.length) + StateMemory.referenceArray(extras.length);
+            for (long[] extra : extras) {
+                if (extra != null) {
+                    bytes += StateMemory.longArray(extra.length);
+                }
+            }
+            return bytes;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private int capacity() {
+        return extras.length;
+    }
+
+    private void write(int slot, long code, long[] participantIds) {
+        int base = slot * STRIDE;
+        slots[base + KEY] = code;
+        slots[base + FIRST] = participantIds.length > 0 ? participantIds[0] : NO_MEMBER;
+        slots[base + SECOND] = participantIds.length > 1 ? participantIds[1] : NO_MEMBER;
+        slots[base + COUNT] = participantIds.length;
+        extras[slot] = participantIds.length > INLINE ? participantIds.clone() : null;
+    }
+
+    // 뒤 칸 중 원래 자리가 빈 칸 앞쪽인 것을 당겨 채워 탐색이 끊기지 않게 한다
+    private void delete(int slot) {
+        int mask = capacity() - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (slots[next * STRIDE + KEY] != RoomCode.NONE) {
+            int home = home(slots[next * STRIDE + KEY], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                System.arraycopy(slots, next * STRIDE, slots, hole * STRIDE, STRIDE);
+                extras[hole] = extras[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        int base = hole * STRIDE;
+        slots[base + KEY] = RoomCode.NONE;
+        slots[base + FIRST] = NO_MEMBER;
+        slots[base + SECOND] = NO_MEMBER;
+        slots[base + COUNT] = 0;
+        extras[hole] = null;
+    }
+
+    private void resize(int capacity) {
+        long[] oldSlots = slots;
+        long[][] oldExtras = extras;
+        long[] newSlots = new long[capacity * STRIDE];
+        long[][] newExtras = new long[capacity][];
+        for (int slot = 0; slot < oldExtras.length; slot++) {
+            long code = oldSlots[slot * STRIDE + KEY];
+            if (code == RoomCode.NONE) {
+                continue;
+            }
+            int target = emptySlot(newSlots, code);
+            System.arraycopy(oldSlots, slot * STRIDE, newSlots, target * STRIDE, STRIDE);
+            newExtras[target] = oldExtras[slot];
+        }
+        // 낙관적 읽기가 배열을 하나씩 읽으므로 extras 를 먼저 바꿔도 validate 에서 걸러진다
+        extras = newExtras;
+        slots = newSlots;
+    }
+
+    private static boolean isMember(long[] slots, long[][] extras, long code, long userId) {
+        int slot = find(slots, code);
+        if (slot < 0 || userId == NO_MEMBER) {
+            return false;
+        }
+        int base = slot * STRIDE;
+        if (slots[base + FIRST] == userId || slots[base + SECOND] == userId) {
+            return true;
+        }
+        long[] extra = slot < extras.length ? extras[slot] : null;
+        if (extra == null) {
+            return false;
+        }
+        for (long participantId : extra) {
+            if (participantId == userId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long counterpart(long[] slots, long code, long userId) {
+        int slot = find(slots, code);
+        if (slot < 0 || userId == NO_MEMBER) {
+            return NO_MEMBER;
+        }
+        int base = slot * STRIDE;
+        if (slots[base + COUNT] != 2) {
+            return NO_MEMBER;
+        }
+        if (slots[base + FIRST] == userId) {
+            return slots[base + SECOND];
+        }
+        if (slots[base + SECOND] == userId) {
+            return slots[base + FIRST];
+        }
+        return NO_MEMBER;
+    }
+
+    private static int participantCount(long[] slots, long code) {
+        int slot = find(slots, code);
+        return slot < 0 ? -1 : (int) slots[slot * STRIDE + COUNT];
+    }
+
+    private static int find(long[] slots, long code) {
+        if (code <= 0) {
+            return -1;
+        }
+        int capacity = slots.length / STRIDE;
+        int mask = capacity - 1;
+        int slot = home(code, mask);
+        // 낙관적 읽기 중 테이블이 바뀌어도 끝나도록 칸 수만큼만 본다
+        for (int probes = 0; probes < capacity; probes++) {
+            long key = slots[slot * STRIDE + KEY];
+            if (key == code) {
+                return slot;
+            }
+            if (key == RoomCode.NONE) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int emptySlot(long[] slots, long code) {
+        int mask = slots.length / STRIDE - 1;
+        int slot = home(code, mask);
+        while (slots[slot * STRIDE + KEY] != RoomCode.NONE) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int home(long code, int mask) {
+        return StateMemory.mix(code) & mask;
+    }
+
+    private static int capacityFor(int expected) {
+        int needed = Math.max((int) Math.min(expected * 3L / 2 + 1, 1 << 29), MIN_CAPACITY);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private static void checkCode(long code) {
+        if (code <= 0) {
+            throw new IllegalArgumentException("방 코드가 아닙니다: " + code);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.sign.sign.state;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 세션 ID → (사용자 ID, 방 코드) 오픈 어드레싱 해시 테이블
+ *
+ * 세션 ID 문자열은 STOMP/WebFlux 세션이 이미 들고 있는 것을 참조만 한다 (복사하지 않음)
+ * 값은 long 배열 하나에 [사용자 ID, 방 코드] 로 이어 붙이고, 세션마다 객체를 만들지 않는다
+ *
+ * 메모리 (압축 OOP 기준):
+ * - 칸당 4B(세션 ID 참조) + 16B(long 2개) = 20B
+ * - 채움률 1/3 ~ 2/3 → 세션당 30 ~ 60B
+ *
+ * 읽기는 StampedLock 낙관적 읽기, 쓰기(연결/방 바인딩/해제)만 쓰기 락
+ */
+public class SessionTable {
+
+    /**
+     * 사용자 모름
+     */
+    public static final long NO_USER = 0L;
+
+    private static final int STRIDE = 2;
+    private static final int USER = 0;
+    private static final int ROOM = 1;
+    private static final int MIN_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+
+    private String[] sessionIds;
+    private long[] values;
+    private int size;
+
+    public SessionTable(int expectedSessions) {
+        int capacity = capacityFor(expectedSessions);
+        this.sessionIds = new String[capacity];
+        this.values = new long[capacity * STRIDE];
+    }
+
+    /**
+     * 연결 시 등록 (방은 비운다)
+     */
+    public void put(String sessionId, long userId) {
+        bind(sessionId, userId, RoomCode.NONE);
+    }
+
+    public void bind(String sessionId, long userId, long roomCode) {
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 3L > sessionIds.length * 2L) {
+                resize(sessionIds.length * 2);
+            }
+            int slot = find(sessionIds, sessionId);
+            if (slot < 0) {
+                slot = emptySlot(sessionIds, sessionId);
+                sessionIds[slot] = sessionId;
+                size++;
+            }
+            values[slot * STRIDE + USER] = userId;
+            values[slot * STRIDE + ROOM] = roomCode;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 세션은 남기고 방 바인딩만 해제
+     */
+    public void clearRoom(String sessionId) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = find(sessionIds, sessionId);
+            if (slot >= 0) {
+                values[slot * STRIDE + ROOM] = RoomCode.NONE;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(String sessionId) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = find(sessionIds, sessionId);
+            if (slot < 0) {
+                return false;
+            }
+            delete(slot);
+            size--;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 없는 세션이거나 사용자를 모르면 NO_USER
+     */
+    public long userId(String sessionId) {
+        return read(sessionId, USER, NO_USER);
+    }
+
+    /**
+     * 없는 세션이거나 방에 묶이지 않았으면 RoomCode.NONE
+     */
+    public long roomCode(String sessionId) {
+        return read(sessionId, ROOM, RoomCode.NONE);
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 테이블 배열이 차지하는 대략의 바이트 (세션 ID 문자열은 세션 몫이라 제외)
+     */
+    public long memoryBytes() {
+        long stamp = lock.readLock();
+        try {
+            return StateMemory.referenceArray(sessionIds.length) + StateMemory.longArray(values.length);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long read(String sessionId, int column, long absent) {
+        if (sessionId == null) {
+            return absent;
+        }
+        long stamp = lock.tryOptimisticRead();
+        long value = read(sessionIds, values, sessionId, column, absent);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return read(sessionIds, values, sessionId, column, absent);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private static long read(String[] sessionIds, long[] values, String sessionId, int column, long absent) {
+        int slot = find(sessionIds, sessionId);
+        int index = slot * STRIDE + column;
+        return slot < 0 || index >= values.length ? absent : values[index];
+    }
+
+    // 뒤 칸 중 원래 자리가 빈 칸 앞쪽인 것을 당겨 채워 탐색이 끊기지 않게 한다
+    private void delete(int slot) {
+        int mask = sessionIds.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (sessionIds[next] != null) {
+            int home = home(sessionIds[next], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                sessionIds[hole] = sessionIds[next];
+                System.arraycopy(values, next * STRIDE, values, hole * STRIDE, STRIDE);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        sessionIds[hole] = null;
+        values[hole * STRIDE + USER] = NO_USER;
+        values[hole * STRIDE + ROOM] = RoomCode.NONE;
+    }
+
+    private void resize(int capacity) {
+        String[] newIds = new String[capacity];
+        long[] newValues = new long[capacity * STRIDE];
+        for (int slot = 0; slot < sessionIds.length; slot++) {
+            String sessionId = sessionIds[slot];
+            if (sessionId == null) {
+                continue;
+            }
+            int target = emptySlot(newIds, sessionId);
+            newIds[target] = sessionId;
+            System.arraycopy(values, slot * STRIDE, newValues, target * STRIDE, STRIDE);
+        }
+        values = newValues;
+        sessionIds = newIds;
+    }
+
+    private static int find(String[] sessionIds, String sessionId) {
+        if (sessionId == null) {
+            return -1;
+        }
+        int mask = sessionIds.length - 1;
+        int slot = home(sessionId, mask);
+        // 낙관적 읽기 중 테이블이 바뀌어도 끝나도록 칸 수만큼만 본다
+        for (int probes = 0; probes < sessionIds.length; probes++) {
+            String key = sessionIds[slot];
+            if (key == null) {
+                return -1;
+            }
+            if (key.equals(sessionId)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static int emptySlot(String[] sessionIds, String sessionId) {
+        int mask = sessionIds.length - 1;
+        int slot = home(sessionId, mask);
+        while (sessionIds[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int home(String sessionId, int mask) {
+        return StateMemory.mix(sessionId.hashCode()) & mask;
+    }
+
+    private static int capacityFor(int expected) {
+        int needed = Math.max((int) Math.min(expected * 3L / 2 + 1, 1 << 29), MIN_CAPACITY);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+}
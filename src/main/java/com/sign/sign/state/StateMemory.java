@@ -0,0 +1,33 @@
+package com.sign.sign.state;
+
+/**
+ * 상태 테이블 공용: 해시 섞기와 배열 크기 추정 (64비트 JVM, 압축 OOP, 배열 헤더 16B, 8B 정렬)
+ */
+final class StateMemory {
+
+    private static final long ARRAY_HEADER = 16;
+    private static final long REFERENCE = 4;
+
+    private StateMemory() {
+    }
+
+    /**
+     * 비슷한 키(연속된 방 코드, 순서대로 늘어나는 세션 ID 해시)가 이웃 칸에 몰리지 않도록 섞는다
+     */
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    static long longArray(int length) {
+        return align(ARRAY_HEADER + 8L * length);
+    }
+
+    static long referenceArray(int length) {
+        return align(ARRAY_HEADER + REFERENCE * length);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
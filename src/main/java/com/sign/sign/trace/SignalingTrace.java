@@ -0,0 +1,146 @@
+package com.sign.sign.trace;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.response.StageLatencyResponse;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시그널링 프레임 구간별 지연 추적 (signaling.trace.*)
+ *
+ * - 받은 시각: InboundTraceInterceptor 가 SEND 프레임 헤더에 기록
+ * - 핸들러 시작/끝, 방 조회: SignalingDispatcher
+ * - 브로커 전송: SignalingMessenger 가 받은 시각과 전송 시각을 내부 헤더로 실어 보낸다 (STOMP 프레임에는 나가지 않음)
+ * - 소켓 쓰기: OutboundTraceInterceptor 가 clientOutboundChannel 스레드에서 기록
+ *
+ * 프레임마다 System.nanoTime 몇 번과 HdrHistogram Recorder 기록(락 없음)만 한다
+ * WebFlux 로 받은 프레임은 받은 시각 대신 핸들러 시작 시각을 쓰고, WebFlux 세션으로 보낸 몫은 소켓 쓰기를 재지 않는다
+ */
+@Component
+@Slf4j
+public class SignalingTrace {
+
+    /**
+     * 수신 프레임을 받은 System.nanoTime (Long)
+     */
+    public static final String RECEIVED_AT_HEADER = "signalingReceivedAt";
+
+    /**
+     * 핸들러가 브로커로 보낸 System.nanoTime (Long)
+     */
+    public static final String SENT_AT_HEADER = "signalingSentAt";
+
+    /**
+     * 시각이 없음
+     */
+    public static final long UNSET = Long.MIN_VALUE;
+
+    private final boolean enabled;
+    private final StageRecorder[] recorders;
+
+    // 지금 이 스레드가 처리 중인 프레임의 받은 시각 (SignalingDispatcher → SignalingMessenger)
+    private final ThreadLocal<long[]> current = ThreadLocal.withInitial(() -> new long[]{UNSET});
+
+    public SignalingTrace(SignalingProperties properties) {
+        this.enabled = properties.getTrace().isEnabled();
+        TraceStage[] stages = TraceStage.values();
+        this.recorders = new StageRecorder[stages.length];
+        for (TraceStage stage : stages) {
+            recorders[stage.ordinal()] = new StageRecorder(stage);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 비활성이면 UNSET (이후 record 는 무시된다)
+     */
+    public long now() {
+        return enabled ? System.nanoTime() : UNSET;
+    }
+
+    public void record(TraceStage stage, long startNanos, long endNanos) {
+        if (startNanos != UNSET && endNanos != UNSET) {
+            recorders[stage.ordinal()].record(endNanos - startNanos);
+        }
+    }
+
+    /**
+     * 이 스레드에서 프레임 처리 시작 (끝나면 반드시 end)
+     */
+    public void begin(long receivedAt) {
+        if (enabled) {
+            current.get()[0] = receivedAt;
+        }
+    }
+
+    public void end() {
+        if (enabled) {
+            current.get()[0] = UNSET;
+        }
+    }
+
+    /**
+     * 처리 중인 프레임이 있으면 브로커로 보낼 메시지에 붙일 내부 헤더, 없으면 null
+     * 전송마다 새로 만든다 (SimpMessagingTemplate 이 헤더를 메시지에 그대로 쓰고 불변으로 바꾸므로)
+     */
+    public MessageHeaders outboundHeaders() {
+        if (!enabled) {
+            return null;
+        }
+        long receivedAt = current.get()[0];
+        if (receivedAt == UNSET) {
+            return null;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setHeader(RECEIVED_AT_HEADER, receivedAt);
+        accessor.setHeader(SENT_AT_HEADER, System.nanoTime());
+        accessor.setLeaveMutable(true);
+        return accessor.getMessageHeaders();
+    }
+
+    /**
+     * 기동 후 누적 구간별 지연
+     */
+    public List<StageLatencyResponse> snapshot() {
+        List<StageLatencyResponse> stages = new ArrayList<>(recorders.length);
+        for (StageRecorder recorder : recorders) {
+            stages.add(recorder.total());
+        }
+        return stages;
+    }
+
+    /**
+     * 지난 요약 이후 구간별 p50/p99/max 를 한 줄로 남긴다
+     */
+    @Scheduled(fixedDelayString = "${signaling.trace.log-interval-ms:60000}")
+    public void logSummary() {
+        if (!enabled) {
+            return;
+        }
+        StringBuilder summary = new StringBuilder();
+        for (StageRecorder recorder : recorders) {
+            StageLatencyResponse stage = recorder.rollover();
+            if (stage.getCount() == 0) {
+                continue;
+            }
+            summary.append(' ').append(stage.getStage())
+                    .append("[n=").append(stage.getCount())
+                    .append(" p50=").append(stage.getP50Micros())
+                    .append(" p99=").append(stage.getP99Micros())
+                    .append(" max=").append(stage.getMaxMicros())
+                    .append(']');
+        }
+        if (!summary.isEmpty()) {
+            log.info("Signaling latency (us):{}", summary);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.sign.sign.trace;
+
+import com.sign.sign.dto.response.StageLatencyResponse;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 구간 하나의 지연 히스토그램 (나노초, 유효숫자 2자리, 최대 1분)
+ * 기록은 Recorder 로 락 없이, 읽기(rollover)만 동기화해서 구간 히스토그램을 누적에 더한다
+ */
+final class StageRecorder {
+
+    private static final long HIGHEST_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final TraceStage stage;
+    private final Recorder recorder = new Recorder(1, HIGHEST_NANOS, SIGNIFICANT_DIGITS);
+    private final Histogram total = new Histogram(1, HIGHEST_NANOS, SIGNIFICANT_DIGITS);
+    private Histogram interval;
+
+    StageRecorder(TraceStage stage) {
+        this.stage = stage;
+    }
+
+    void record(long nanos) {
+        recorder.recordValue(Math.min(Math.max(nanos, 1), HIGHEST_NANOS));
+    }
+
+    /**
+     * 지난 rollover 이후의 기록을 누적에 더하고 그 구간 요약을 돌려준다
+     */
+    synchronized StageLatencyResponse rollover() {
+        interval = recorder.getIntervalHistogram(interval);
+        total.add(interval);
+        return summarize(interval);
+    }
+
+    /**
+     * 기동 후 누적 요약 (아직 rollover 되지 않은 기록 포함)
+     */
+    synchronized StageLatencyResponse total() {
+        rollover();
+        return summarize(total);
+    }
+
+    private StageLatencyResponse summarize(Histogram histogram) {
+        return new StageLatencyResponse(
+                stage.getValue(),
+                histogram.getTotalCount(),
+                micros(histogram.getMean()),
+                micros(histogram.getValueAtPercentile(50)),
+                micros(histogram.getValueAtPercentile(90)),
+                micros(histogram.getValueAtPercentile(99)),
+                micros(histogram.getValueAtPercentile(99.9)),
+                micros(histogram.getMaxValue())
+        );
+    }
+
+    private static double micros(double nanos) {
+        return Math.round(nanos / 100.0) / 10.0;
+    }
+}
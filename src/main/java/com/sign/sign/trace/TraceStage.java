@@ -0,0 +1,52 @@
+package com.sign.sign.trace;
+
+/**
+ * /app/signaling 프레임 한 개가 지나가는 구간
+ */
+public enum TraceStage {
+
+    /**
+     * 소켓에서 받은 시각 → 핸들러 시작 (clientInboundChannel 대기)
+     */
+    INBOUND_QUEUE("inbound-queue"),
+
+    /**
+     * 방 참여자 조회 (RoomMembershipCache / DB)
+     */
+    ROOM_LOOKUP("room-lookup"),
+
+    /**
+     * 발신 세션/참여자 권한 확인 (SignalingAuthorizer)
+     */
+    AUTHORIZE("authorize"),
+
+    /**
+     * SignalingHandler 실행 (JSON 변환, 브로커 전송 포함)
+     */
+    HANDLER("handler"),
+
+    /**
+     * 핸들러의 전송 → clientOutboundChannel 스레드가 꺼낼 때까지 (사용자 목적지 해석, 브로커, 송신 대기)
+     */
+    BROKER_DISPATCH("broker-dispatch"),
+
+    /**
+     * 세션에 쓰기 (STOMP 인코딩, SockJS 프레이밍, 소켓 쓰기)
+     */
+    SOCKET_WRITE("socket-write"),
+
+    /**
+     * 받은 시각 → 수신자 소켓 쓰기 완료
+     */
+    END_TO_END("end-to-end");
+
+    private final String value;
+
+    TraceStage(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,151 @@
+package com.sign.sign.websocket;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연 기울기(gradient) 기반 동시 처리 한도
+ *
+ * 받아들인 프레임이 처리를 마칠 때까지 걸린 시간(큐 대기 포함)을 표본으로 모은다
+ * 표본 창마다 평균(short RTT)을 장기 평균(long RTT)과 비교해 한도를 조정한다
+ * - gradient = clamp(tolerance × longRtt / shortRtt, 0.5, 1)
+ * - 다음 한도 = 한도 × gradient + √한도 (지연이 그대로면 조금씩 늘리고, 큐가 쌓여 지연이 늘면 그 비율만큼 줄인다)
+ * - smoothing 으로 급변을 막고 [minLimit, maxLimit] 안으로 자른다
+ * - 한도의 절반도 쓰지 않는 동안에는 늘리지 않는다 (한가해서 지연이 좋은 것을 여유로 착각하지 않도록)
+ *
+ * 획득/반납은 AtomicInteger CAS, 표본은 LongAdder 라 핫 패스에 락이 없다 (창을 닫는 스레드 하나만 tryLock)
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_DECAY = 0.05;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final long windowNanos;
+    private final int minSamples;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    private final LongAdder windowRttNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicLong windowStart;
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    // 이하 updateLock 안에서만 쓴다
+    private volatile double longRttNanos;
+    private volatile double shortRttNanos;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                    double smoothing, long windowNanos, int minSamples, long nowNanos) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("한도는 1 <= minLimit <= maxLimit 이어야 합니다");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.windowNanos = windowNanos;
+        this.minSamples = Math.max(minSamples, 1);
+        this.limit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+        this.windowStart = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 처리 중인 수가 한도 × share 미만이면 하나 차지한다 (우선순위가 낮을수록 share 가 작다)
+     */
+    public boolean tryAcquire(double share) {
+        int max = Math.max((int) (limit * share), 1);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= max) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 처리되지 못한 채 끝난 몫 반납 (표본 없음)
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * 처리를 마친 몫 반납 + 걸린 시간 표본
+     */
+    public void onSample(long rttNanos, long nowNanos) {
+        inFlight.decrementAndGet();
+        windowRttNanos.add(rttNanos);
+        windowSamples.increment();
+
+        if (nowNanos - windowStart.get() >= windowNanos
+                && windowSamples.sum() >= minSamples
+                && updateLock.tryLock()) {
+            try {
+                update(nowNanos);
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 한도를 다 쓰고 있는지 (새 연결을 받지 않을 때)
+     */
+    public boolean isSaturated() {
+        return inFlight.get() >= (int) limit;
+    }
+
+    public long getLongRttNanos() {
+        return (long) longRttNanos;
+    }
+
+    public long getShortRttNanos() {
+        return (long) shortRttNanos;
+    }
+
+    private void update(long nowNanos) {
+        long samples = windowSamples.sumThenReset();
+        long rtt = windowRttNanos.sumThenReset();
+        windowStart.set(nowNanos);
+        if (samples == 0) {
+            return;
+        }
+
+        double shortRtt = (double) rtt / samples;
+        double longRtt = longRttNanos == 0 ? shortRtt : longRttNanos * (1 - LONG_RTT_DECAY) + shortRtt * LONG_RTT_DECAY;
+        // 과부하가 끝나 지연이 크게 떨어지면 장기 평균도 빨리 따라 내려온다 (높은 기준에 머물러 한도를 과하게 늘리지 않도록)
+        if (longRtt > shortRtt * 2) {
+            longRtt = longRtt * 0.9 + shortRtt * 0.1;
+        }
+        longRttNanos = longRtt;
+        shortRttNanos = shortRtt;
+
+        double current = limit;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+        if (gradient >= 1.0 && inFlight.get() < current / 2) {
+            return;
+        }
+
+        double next = current * gradient + Math.sqrt(current);
+        next = current * (1 - smoothing) + next * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
@@ -0,0 +1,183 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingBusy;
+import com.sign.sign.dto.response.AdmissionStatsResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientInboundChannel 마지막 인터셉터: 지연 기반 동시 처리 한도로 시그널링 프레임 받아들이기 (signaling.admission.*)
+ *
+ * 소켓 읽기 스레드에서 executor 큐에 넣기 전에 판단하므로, 넘치는 프레임은 큐에 쌓이지 않고 바로 버려진다
+ * - 받아들인 시각을 헤더에 붙이고, @MessageMapping 핸들러가 끝나면 걸린 시간을 AdaptiveConcurrencyLimit 표본으로 넘긴다
+ * - 우선순위: leave/answer 는 한도 × priority-share 까지, offer/create-and-invite/stats 는 한도 × offer-share 까지, 나머지는 한도까지
+ *   (과부하에서는 새 통화보다 진행 중인 통화의 연결/정리를 먼저 처리하고, 품질 보고는 새 통화와 함께 먼저 버린다)
+ * - 버린 프레임은 발신 세션의 /user/queue/errors 로 SignalingBusy(retryAfterMs) 를 보낸다
+ * - 한도를 다 쓰고 있으면 새 CONNECT 도 ERROR 프레임(재시도 시간 포함)으로 거절한다
+ *
+ * WebFlux 엔드포인트는 세션별 inboundPrefetch 로 이미 읽기를 멈추므로 여기서 다루지 않는다
+ */
+@Component
+@Slf4j
+public class AdmissionControlInterceptor implements ExecutorChannelInterceptor {
+
+    /**
+     * 받아들인 System.nanoTime (Long)
+     */
+    public static final String ADMITTED_AT_HEADER = "signalingAdmittedAt";
+
+    private static final String SIGNALING_PREFIX = "/app/signaling/";
+    private static final byte[][] PRIORITY_TYPES = {
+            "leave".getBytes(StandardCharsets.UTF_8),
+            "answer".getBytes(StandardCharsets.UTF_8),
+            "offer".getBytes(StandardCharsets.UTF_8),
+            "create-and-invite".getBytes(StandardCharsets.UTF_8),
+            "stats".getBytes(StandardCharsets.UTF_8)
+    };
+    private static final int PRIORITY = 0;
+    private static final int NORMAL = 1;
+    private static final int OFFER = 2;
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimit limit;
+    private final double[] shares;
+    private final long minRetryAfterMs;
+    private final long maxRetryAfterMs;
+    private final SessionMessageSender sessionMessageSender;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder[] rejected = {new LongAdder(), new LongAdder(), new LongAdder()};
+    private final LongAdder rejectedConnections = new LongAdder();
+
+    // SessionMessageSender → SimpMessagingTemplate 는 WebSocket 설정보다 늦게 만들어지므로 지연 주입
+    public AdmissionControlInterceptor(SignalingProperties properties, @Lazy SessionMessageSender sessionMessageSender) {
+        SignalingProperties.Admission config = properties.getAdmission();
+        this.enabled = config.isEnabled();
+        this.limit = new AdaptiveConcurrencyLimit(config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit(),
+                config.getTolerance(), config.getSmoothing(), config.getSampleWindow().toNanos(),
+                config.getMinSamples(), System.nanoTime());
+        this.shares = new double[]{config.getPriorityShare(), 1.0, config.getOfferShare()};
+        this.minRetryAfterMs = config.getMinRetryAfter().toMillis();
+        this.maxRetryAfterMs = config.getMaxRetryAfter().toMillis();
+        this.sessionMessageSender = sessionMessageSender;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled) {
+            return message;
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.CONNECT || accessor.getCommand() == StompCommand.STOMP) {
+            return admitConnection(message);
+        }
+        if (accessor.getCommand() != StompCommand.SEND || !accessor.isMutable()) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(SIGNALING_PREFIX)) {
+            return message;
+        }
+
+        int priority = message.getPayload() instanceof byte[] payload ? priority(payload) : NORMAL;
+        if (limit.tryAcquire(shares[priority])) {
+            admitted.increment();
+            accessor.setHeader(ADMITTED_AT_HEADER, System.nanoTime());
+            return message;
+        }
+
+        rejected[priority].increment();
+        long retryAfterMs = retryAfterMs();
+        String sessionId = accessor.getSessionId();
+        log.debug("Overloaded, rejected signaling frame from session {} on {}", sessionId, destination);
+        if (sessionId != null) {
+            String roomId = destination.substring(SIGNALING_PREFIX.length());
+            sessionMessageSender.send(sessionId, "/queue/errors", new SignalingBusy(roomId, retryAfterMs));
+        }
+        return null;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // executor 가 거절하는 등 핸들러까지 가지 못했으면 표본 없이 반납
+        if ((!sent || ex != null) && message.getHeaders().get(ADMITTED_AT_HEADER) instanceof Long) {
+            limit.release();
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        // 브로커/사용자 목적지 핸들러도 같은 메시지를 받으므로 @MessageMapping 핸들러 몫만 센다
+        if (handler instanceof SimpAnnotationMethodMessageHandler
+                && message.getHeaders().get(ADMITTED_AT_HEADER) instanceof Long admittedAt) {
+            long now = System.nanoTime();
+            limit.onSample(now - admittedAt, now);
+        }
+    }
+
+    public AdmissionStatsResponse stats() {
+        return new AdmissionStatsResponse(
+                enabled,
+                limit.getLimit(),
+                limit.getInFlight(),
+                TimeUnit.NANOSECONDS.toMicros(limit.getLongRttNanos()),
+                TimeUnit.NANOSECONDS.toMicros(limit.getShortRttNanos()),
+                baseRetryAfterMs(),
+                admitted.sum(),
+                rejected[PRIORITY].sum(),
+                rejected[NORMAL].sum(),
+                rejected[OFFER].sum(),
+                rejectedConnections.sum()
+        );
+    }
+
+    private Message<?> admitConnection(Message<?> message) {
+        if (!limit.isSaturated()) {
+            return message;
+        }
+        rejectedConnections.increment();
+        // StompSubProtocolHandler 가 예외 메시지를 ERROR 프레임의 message 헤더로 보낸다
+        throw new MessageDeliveryException(message, "서버가 바쁩니다. retry-after-ms=" + retryAfterMs());
+    }
+
+    private int priority(byte[] payload) {
+        int index = SignalingTypeSniffer.sniff(payload, PRIORITY_TYPES);
+        if (index < 0) {
+            return NORMAL;
+        }
+        return index >= 2 ? OFFER : PRIORITY;
+    }
+
+    /**
+     * 최근 처리 시간의 2배 (큐가 한 번 빠질 정도), 재시도가 한꺼번에 몰리지 않도록 0~50% 흔든다
+     */
+    private long retryAfterMs() {
+        long base = baseRetryAfterMs();
+        return base + ThreadLocalRandom.current().nextLong(base / 2 + 1);
+    }
+
+    private long baseRetryAfterMs() {
+        long recent = TimeUnit.NANOSECONDS.toMillis(limit.getShortRttNanos() * 2);
+        return Math.max(minRetryAfterMs, Math.min(maxRetryAfterMs, recent));
+    }
+}
@@ -0,0 +1,197 @@
+package com.sign.sign.websocket;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * 텍스트 프레임을 모아 두었다가 한 메시지로 쓰는 세션 (WriteCoalescer)
+ *
+ * - bufferLock: 모인 프레임 (보낸 스레드와 flush 스레드가 잠깐씩만 잡는다)
+ * - writeLock: 실제 소켓 쓰기 (잡은 채로 모인 프레임을 꺼내므로 쓰는 순서가 보낸 순서와 같다)
+ * 쓰는 동안에도 bufferLock 은 비어 있으므로 그 사이 들어온 프레임은 다음 쓰기에 함께 실린다
+ *
+ * window 가 지나면 타이머 스레드는 쓰기를 WriteCoalescer.write 로 넘기기만 한다 (소켓 쓰기로 타이머를 막지 않도록)
+ * close 는 writeLock 을 기다리지 않는다 (멈춘 쓰기 뒤에서 닫기까지 멈추지 않도록 모인 프레임은 버린다)
+ */
+@Slf4j
+final class CoalescingWebSocketSession extends WebSocketSessionDecorator {
+
+    private final WriteCoalescer coalescer;
+
+    private final ReentrantLock bufferLock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // 이하 bufferLock 안에서만
+    private StringBuilder pending;
+    private TextMessage first;
+    private int pendingFrames;
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean discarded;
+
+    CoalescingWebSocketSession(WebSocketSession delegate, WriteCoalescer coalescer) {
+        super(delegate);
+        this.coalescer = coalescer;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (!(message instanceof TextMessage text)) {
+            writeLock.lock();
+            try {
+                drain(false);
+                super.sendMessage(message);
+            } finally {
+                writeLock.unlock();
+            }
+            return;
+        }
+
+        boolean closed;
+        boolean full = false;
+        bufferLock.lock();
+        try {
+            closed = discarded;
+            if (!closed) {
+                append(text);
+                full = pendingLength() >= coalescer.getMaxBufferSize();
+                if (!full && scheduledFlush == null) {
+                    scheduledFlush = coalescer.schedule(this::flushDue);
+                    full = scheduledFlush == null;
+                }
+            }
+        } finally {
+            bufferLock.unlock();
+        }
+
+        if (closed) {
+            // 닫힌 뒤 (위임 세션이 예외를 던진다)
+            super.sendMessage(message);
+        } else if (full) {
+            writeLock.lock();
+            try {
+                drain(true);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        discard();
+        super.close(status);
+    }
+
+    /**
+     * 연결이 끊기면 모인 프레임을 버린다
+     */
+    void discard() {
+        bufferLock.lock();
+        try {
+            discarded = true;
+            cancelScheduledFlush();
+            clear();
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    // 타이머 스레드: 직접 쓰지 않고 넘긴다
+    private void flushDue() {
+        coalescer.write(this::flushScheduled);
+    }
+
+    private void flushScheduled() {
+        if (!writeLock.tryLock()) {
+            // 다른 스레드가 쓰는 중 (그 쓰기가 끝나면 모인 것을 이어서 쓰지만, 놓치지 않도록 다시 예약)
+            bufferLock.lock();
+            try {
+                scheduledFlush = null;
+                if (pendingFrames > 0 && !discarded) {
+                    scheduledFlush = coalescer.schedule(this::flushDue);
+                }
+            } finally {
+                bufferLock.unlock();
+            }
+            return;
+        }
+        try {
+            drain(false);
+        } catch (IOException e) {
+            log.debug("Coalesced write failed for session {}: {}", getId(), e.getMessage());
+            closeQuietly();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * writeLock 을 잡은 채로 호출: 모인 프레임이 없어질 때까지 쓴다
+     */
+    private void drain(boolean sizeTriggered) throws IOException {
+        while (true) {
+            TextMessage batch;
+            int frameCount;
+            bufferLock.lock();
+            try {
+                if (pendingFrames == 0) {
+                    return;
+                }
+                frameCount = pendingFrames;
+                batch = frameCount == 1 ? first : new TextMessage(pending);
+                cancelScheduledFlush();
+                clear();
+            } finally {
+                bufferLock.unlock();
+            }
+
+            coalescer.recordFlush(frameCount, batch.getPayload().length(), sizeTriggered);
+            super.sendMessage(batch);
+            sizeTriggered = false;
+        }
+    }
+
+    private void append(TextMessage text) {
+        if (pendingFrames == 0) {
+            first = text;
+        } else {
+            if (pendingFrames == 1) {
+                pending = new StringBuilder(Math.max(first.getPayload().length() * 4, 256)).append(first.getPayload());
+            }
+            pending.append(text.getPayload());
+        }
+        pendingFrames++;
+    }
+
+    private int pendingLength() {
+        return pendingFrames == 1 ? first.getPayload().length() : pending.length();
+    }
+
+    private void clear() {
+        pending = null;
+        first = null;
+        pendingFrames = 0;
+    }
+
+    private void cancelScheduledFlush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            super.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("Failed to close session {}: {}", getId(), e.getMessage());
+        }
+    }
+}
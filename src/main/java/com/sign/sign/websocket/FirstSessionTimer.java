@@ -0,0 +1,60 @@
+package com.sign.sign.websocket;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+
+/**
+ * 기동 시간 지표: JVM 시작부터 준비 완료 / 첫 WebSocket 세션 수락까지 (ms)
+ * 배포 중 노드 재시작이 실제로 트래픽을 받기까지 걸리는 시간은 두 번째 값
+ */
+@Component
+@Slf4j
+public class FirstSessionTimer {
+
+    private final AtomicBoolean accepted = new AtomicBoolean();
+
+    private volatile long readyMillis = -1;
+    private volatile long firstSessionMillis = -1;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        readyMillis = uptimeMillis();
+        log.info("Application ready {} ms after JVM start", readyMillis);
+    }
+
+    @EventListener(SessionConnectedEvent.class)
+    public void onConnected() {
+        markAccepted();
+    }
+
+    /**
+     * STOMP 외의 엔드포인트(ReactiveSignalingHandler)도 세션을 받으면 호출
+     */
+    public void markAccepted() {
+        if (accepted.get() || !accepted.compareAndSet(false, true)) {
+            return;
+        }
+        firstSessionMillis = uptimeMillis();
+        log.info("First WebSocket session accepted {} ms after JVM start", firstSessionMillis);
+    }
+
+    public long getReadyMillis() {
+        return readyMillis;
+    }
+
+    /**
+     * 아직 세션이 없으면 -1
+     */
+    public long getFirstSessionMillis() {
+        return firstSessionMillis;
+    }
+
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
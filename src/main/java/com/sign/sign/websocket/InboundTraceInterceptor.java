@@ -0,0 +1,36 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.trace.SignalingTrace;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientInboundChannel 맨 앞 인터셉터: SEND 프레임에 받은 시각을 기록 (SignalingTrace)
+ * 소켓 읽기 스레드에서 실행되므로 핸들러 시작까지의 차이가 인바운드 채널 대기 시간이 된다
+ * 헤더는 ImmutableMessageChannelInterceptor 전까지 변경 가능한 상태라 새 메시지를 만들지 않고 그대로 붙인다
+ */
+@Component
+@RequiredArgsConstructor
+public class InboundTraceInterceptor implements ChannelInterceptor {
+
+    private final SignalingTrace trace;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!trace.isEnabled()) {
+            return message;
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor != null && accessor.isMutable() && accessor.getCommand() == StompCommand.SEND) {
+            accessor.setHeader(SignalingTrace.RECEIVED_AT_HEADER, System.nanoTime());
+        }
+        return message;
+    }
+}
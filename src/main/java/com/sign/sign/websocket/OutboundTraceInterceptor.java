@@ -0,0 +1,48 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.trace.SignalingTrace;
+import com.sign.sign.trace.TraceStage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientOutboundChannel 인터셉터: SignalingMessenger 가 보낸 시그널링 메시지의 브로커 전송/소켓 쓰기 시간 기록
+ * beforeHandle / afterMessageHandled 는 같은 송신 스레드에서 불리므로 시작 시각은 스레드 로컬에 둔다
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundTraceInterceptor implements ExecutorChannelInterceptor {
+
+    private final SignalingTrace trace;
+
+    private final ThreadLocal<long[]> handleStarted = ThreadLocal.withInitial(() -> new long[]{SignalingTrace.UNSET});
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (message.getHeaders().get(SignalingTrace.SENT_AT_HEADER) instanceof Long sentAt) {
+            long now = System.nanoTime();
+            trace.record(TraceStage.BROKER_DISPATCH, sentAt, now);
+            handleStarted.get()[0] = now;
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        long[] started = handleStarted.get();
+        if (started[0] == SignalingTrace.UNSET) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        trace.record(TraceStage.SOCKET_WRITE, started[0], now);
+        if (message.getHeaders().get(SignalingTrace.RECEIVED_AT_HEADER) instanceof Long receivedAt) {
+            trace.record(TraceStage.END_TO_END, receivedAt, now);
+        }
+        started[0] = SignalingTrace.UNSET;
+    }
+}
@@ -0,0 +1,87 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.state.CompactStateStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientInboundChannel 인터셉터: /app/signaling/** 프레임 유량 제한
+ * 한도를 넘긴 프레임은 방 조회/브로커 전송 전에 버리고 발신 세션의 /user/queue/errors 로 알린다
+ * 방 한도는 세션 사용자가 그 방 참여자일 때만 건다 (SignalingRateLimiter.roomKey)
+ */
+@Component
+@Slf4j
+public class RateLimitInterceptor implements ChannelInterceptor {
+
+    private static final String SIGNALING_PREFIX = "/app/signaling/";
+    private static final byte[] EMPTY_PAYLOAD = new byte[0];
+
+    private final SignalingRateLimiter rateLimiter;
+    private final SignalingSessionRegistry sessionRegistry;
+    private final CompactStateStore stateStore;
+    private final SessionMessageSender sessionMessageSender;
+
+    // SessionMessageSender → SimpMessagingTemplate 는 WebSocket 설정보다 늦게 만들어지므로 지연 주입
+    public RateLimitInterceptor(SignalingRateLimiter rateLimiter,
+                                SignalingSessionRegistry sessionRegistry,
+                                CompactStateStore stateStore,
+                                @Lazy SessionMessageSender sessionMessageSender) {
+        this.rateLimiter = rateLimiter;
+        this.sessionRegistry = sessionRegistry;
+        this.stateStore = stateStore;
+        this.sessionMessageSender = sessionMessageSender;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!rateLimiter.isEnabled()) {
+            return message;
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SEND) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(SIGNALING_PREFIX)) {
+            return message;
+        }
+
+        String sessionId = accessor.getSessionId();
+        int typeIndex = message.getPayload() instanceof byte[] payload
+                ? rateLimiter.typeIndex(payload)
+                : rateLimiter.typeIndex(EMPTY_PAYLOAD);
+
+        long now = System.nanoTime();
+        String roomKey = sessionId != null
+                ? rateLimiter.roomKey(stateStore.sessionUserId(sessionId), destination.substring(SIGNALING_PREFIX.length()))
+                : null;
+        TokenBucket rejectedBy = rateLimiter.tryAcquire(userKey(sessionId), roomKey, typeIndex, now);
+        if (rejectedBy == null) {
+            return message;
+        }
+
+        log.debug("Rate limit exceeded for session {} on {}", sessionId, destination);
+        if (sessionId != null && rejectedBy.shouldNotifyRejection(now)) {
+            sessionMessageSender.send(sessionId, "/queue/errors", "요청이 너무 많습니다: " + destination);
+        }
+        return null;
+    }
+
+    // 같은 사용자의 여러 세션은 한도를 공유, 사용자를 모르면 세션 단위
+    private Object userKey(String sessionId) {
+        SessionBinding binding = sessionId != null ? sessionRegistry.get(sessionId) : null;
+        if (binding != null && binding.getUserId() != null) {
+            return binding.getUserId();
+        }
+        return sessionId != null ? sessionId : "anonymous";
+    }
+}
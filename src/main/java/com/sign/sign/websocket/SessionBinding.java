@@ -0,0 +1,36 @@
+package com.sign.sign.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * STOMP 세션 하나에 묶인 사용자/방 정보 (불변)
+ */
+@Getter
+@AllArgsConstructor
+public class SessionBinding {
+
+    private final String sessionId;
+
+    /**
+     * CONNECT 시점 또는 첫 시그널링 메시지에서 확인된 사용자 ID (모르면 null)
+     */
+    private final Long userId;
+
+    /**
+     * 참여 중인 방 ID (아직 시그널링 전이거나 leave 이후면 null)
+     */
+    private final String roomId;
+
+    public boolean isBoundTo(Long userId, String roomId) {
+        return roomId.equals(this.roomId) && userId != null && userId.equals(this.userId);
+    }
+
+    public SessionBinding withRoom(Long userId, String roomId) {
+        return new SessionBinding(sessionId, userId, roomId);
+    }
+
+    public SessionBinding withoutRoom() {
+        return new SessionBinding(sessionId, userId, null);
+    }
+}
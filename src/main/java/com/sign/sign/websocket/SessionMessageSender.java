@@ -0,0 +1,27 @@
+package com.sign.sign.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 특정 STOMP 세션 하나에만 메시지 전송
+ * 세션 ID 를 사용자 이름처럼 쓰면 UserDestinationResolver 가 해당 세션의 구독으로만 라우팅한다
+ * (클라이언트는 /user/queue/... 로 구독)
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionMessageSender {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public void send(String sessionId, String destination, Object payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setLeaveMutable(true);
+
+        messagingTemplate.convertAndSendToUser(sessionId, destination, payload, accessor.getMessageHeaders());
+    }
+}
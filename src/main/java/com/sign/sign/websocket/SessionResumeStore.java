@@ -0,0 +1,177 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingMessage;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시그널링 세션 재개 저장소
+ *
+ * - CONNECT 마다 재개 토큰 발급
+ * - 비정상 종료 시 방 바인딩을 ttl 동안 보관하고, 그 사이 상대방이 보낸 메시지를 버퍼링
+ * - 같은 토큰으로 다시 CONNECT 하면 바인딩을 새 세션으로 옮기고 버퍼를 재전송
+ * - 재개 대기는 세션(토큰) 단위라 같은 사용자의 여러 기기가 동시에 끊겨도 서로 덮어쓰지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionResumeStore {
+
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SignalingProperties properties;
+    private final SecureRandom random = new SecureRandom();
+
+    private final Map<String, String> tokensBySession = new ConcurrentHashMap<>();
+    private final Map<String, SuspendedSession> suspendedByToken = new ConcurrentHashMap<>();
+    private final Map<String, SuspendedSession> suspendedBySession = new ConcurrentHashMap<>();
+    private final Map<Long, Set<SuspendedSession>> suspendedByUser = new ConcurrentHashMap<>();
+    private final Map<String, SuspendedSession> pendingReplays = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return !properties.getResume().getTtl().isZero();
+    }
+
+    public String issue(String sessionId) {
+        byte[] bytes = new byte[18];
+        random.nextBytes(bytes);
+        String token = TOKEN_ENCODER.encodeToString(bytes);
+        tokensBySession.put(sessionId, token);
+        return token;
+    }
+
+    public String getToken(String sessionId) {
+        return tokensBySession.get(sessionId);
+    }
+
+    /**
+     * 재개 대상이 아닌 종료 (정상 종료, 방 미바인딩 등)
+     */
+    public void discard(String sessionId) {
+        tokensBySession.remove(sessionId);
+        pendingReplays.remove(sessionId);
+    }
+
+    /**
+     * 비정상 종료된 세션을 재개 대기 상태로 전환, 재개할 수 없으면 false
+     */
+    public boolean suspend(SessionBinding binding) {
+        String token = tokensBySession.remove(binding.getSessionId());
+        pendingReplays.remove(binding.getSessionId());
+        if (token == null || !isEnabled() || binding.getUserId() == null || binding.getRoomId() == null) {
+            return false;
+        }
+
+        SignalingProperties.Resume resume = properties.getResume();
+        SuspendedSession suspended = new SuspendedSession(token, binding,
+                System.currentTimeMillis() + resume.getTtl().toMillis(), resume.getMaxBufferedMessages());
+
+        suspendedByToken.put(token, suspended);
+        suspendedBySession.put(binding.getSessionId(), suspended);
+        suspendedByUser.computeIfAbsent(binding.getUserId(), key -> ConcurrentHashMap.newKeySet()).add(suspended);
+        return true;
+    }
+
+    /**
+     * 새 세션으로 재개, 토큰이 없거나 만료됐거나 사용자를 모르거나 다른 사용자면 null
+     */
+    public SuspendedSession resume(String token, String sessionId, Long userId) {
+        SuspendedSession suspended = suspendedByToken.get(token);
+        if (suspended == null || userId == null) {
+            return null;
+        }
+
+        if (!userId.equals(suspended.getBinding().getUserId())) {
+            return null;
+        }
+        // 만료된 세션은 expire() 에서 상대방 알림과 함께 정리
+        if (suspended.isExpired(System.currentTimeMillis()) || !release(suspended)) {
+            return null;
+        }
+
+        pendingReplays.put(sessionId, suspended);
+        return suspended;
+    }
+
+    /**
+     * 재개한 세션이 /user/queue/signaling 을 구독했을 때 재전송할 메시지
+     */
+    public List<SignalingMessage> drainReplay(String sessionId) {
+        SuspendedSession suspended = pendingReplays.remove(sessionId);
+        return suspended == null ? Collections.emptyList() : suspended.drain();
+    }
+
+    /**
+     * 살아 있는 세션이 하나도 없는 사용자에게 가는 메시지를 재개 대기 중인 기기 전부에 보관
+     * 다른 기기가 연결돼 있으면 그쪽으로 전달되므로 호출하지 않는다 (SignalingMessenger)
+     */
+    public void buffer(Long userId, SignalingMessage message) {
+        if (userId == null || suspendedByUser.isEmpty()) {
+            return;
+        }
+        Set<SuspendedSession> suspended = suspendedByUser.get(userId);
+        if (suspended != null) {
+            suspended.forEach(session -> session.offer(message));
+        }
+    }
+
+    /**
+     * 통화를 차지한 세션이 재개 대기 중이면 그 세션 몫으로만 보관, 대기 중이 아니면 false
+     */
+    public boolean bufferForSession(String sessionId, SignalingMessage message) {
+        if (suspendedBySession.isEmpty()) {
+            return false;
+        }
+        SuspendedSession suspended = suspendedBySession.get(sessionId);
+        if (suspended == null) {
+            return false;
+        }
+        suspended.offer(message);
+        return true;
+    }
+
+    /**
+     * ttl 이 지난 재개 대기 세션을 꺼낸다 (호출자가 상대방 알림/방 정리)
+     */
+    public List<SuspendedSession> expire() {
+        if (suspendedByToken.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        long now = System.currentTimeMillis();
+        List<SuspendedSession> expired = new ArrayList<>();
+        for (SuspendedSession suspended : suspendedByToken.values()) {
+            if (suspended.isExpired(now) && release(suspended)) {
+                expired.add(suspended);
+            }
+        }
+        return expired;
+    }
+
+    public int suspendedCount() {
+        return suspendedByToken.size();
+    }
+
+    // resume 과 expire 가 경쟁해도 한쪽만 성공하도록 토큰 맵 제거로 소유권 확보
+    private boolean release(SuspendedSession suspended) {
+        if (!suspendedByToken.remove(suspended.getResumeToken(), suspended)) {
+            return false;
+        }
+
+        SessionBinding binding = suspended.getBinding();
+        suspendedBySession.remove(binding.getSessionId(), suspended);
+        suspendedByUser.computeIfPresent(binding.getUserId(), (userId, sessions) -> {
+            sessions.remove(suspended);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        return true;
+    }
+}
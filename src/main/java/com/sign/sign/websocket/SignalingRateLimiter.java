@@ -0,0 +1,163 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.state.CompactStateStore;
+import com.sign.sign.state.SessionTable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별(메시지 타입별) + 방별 토큰 버킷 모음
+ *
+ * 버킷 상태는 TokenBucket 의 CAS 로만 갱신되고, 키 조회는 ConcurrentHashMap 이므로 락이 없다.
+ * 키 수는 maxKeys 로 제한되며 넘치면 공용(overflow) 버킷을 함께 쓰고, 유휴 키는 주기적으로 제거한다.
+ *
+ * 방 버킷은 참여자로 확인된 사용자(roomKey)만 쓴다.
+ * 아무 목적지나 키로 받으면 방 밖의 사용자가 남의 방 한도를 비우거나 maxKeys 를 채워 진짜 방을 공용 버킷으로 밀어낼 수 있다.
+ */
+@Component
+public class SignalingRateLimiter {
+
+    private final CompactStateStore stateStore;
+
+    private final boolean enabled;
+    private final int maxKeys;
+    private final long idleNanos;
+
+    private final byte[][] typeNames;
+    private final List<SignalingProperties.Limit> userLimits = new ArrayList<>();
+    private final SignalingProperties.Limit roomLimit;
+
+    private final Map<Object, TokenBucket[]> userBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> roomBuckets = new ConcurrentHashMap<>();
+
+    private final TokenBucket[] overflowUserBuckets;
+    private final TokenBucket overflowRoomBucket;
+
+    public SignalingRateLimiter(SignalingProperties properties, CompactStateStore stateStore) {
+        this.stateStore = stateStore;
+        SignalingProperties.RateLimit config = properties.getRateLimit();
+        this.enabled = config.isEnabled();
+        this.maxKeys = config.getMaxKeys();
+        this.idleNanos = config.getIdleTimeout().toNanos();
+
+        // 타입별 한도 + 마지막 칸은 기본 한도
+        this.typeNames = new byte[config.getTypes().size()][];
+        int i = 0;
+        for (Map.Entry<String, SignalingProperties.Limit> entry : config.getTypes().entrySet()) {
+            typeNames[i++] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            userLimits.add(entry.getValue());
+        }
+        userLimits.add(config.getUser());
+        this.roomLimit = config.getRoom();
+
+        long now = System.nanoTime();
+        this.overflowUserBuckets = newUserBuckets(now);
+        this.overflowRoomBucket = newBucket(roomLimit, now);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 페이로드의 type 에 해당하는 한도 인덱스 (설정에 없는 타입은 기본 한도)
+     */
+    public int typeIndex(byte[] payload) {
+        int index = SignalingTypeSniffer.sniff(payload, typeNames);
+        return index < 0 ? typeNames.length : index;
+    }
+
+    /**
+     * 방 버킷 키: 사용자가 그 방 참여자로 확인되면 방 코드, 아니면 null (방 한도를 쓰지 않는다)
+     * 참여자가 아닌 프레임은 어차피 SignalingAuthorizer 에서 버려지므로 사용자 한도만 건다
+     */
+    public String roomKey(long userId, String roomId) {
+        if (roomId == null || userId == SessionTable.NO_USER || !stateStore.isMember(roomId, userId)) {
+            return null;
+        }
+        return roomId;
+    }
+
+    /**
+     * 방 한도에 걸리면 먼저 가져간 사용자 토큰은 돌려준다
+     *
+     * @param roomKey roomKey() 의 결과 (null 이면 사용자 한도만)
+     * @return 통과하면 null, 거절되면 한도를 넘긴 버킷
+     */
+    public TokenBucket tryAcquire(Object userKey, String roomKey, int typeIndex, long nowNanos) {
+        TokenBucket userBucket = userBuckets(userKey, nowNanos)[typeIndex];
+        if (!userBucket.tryAcquire(nowNanos)) {
+            return userBucket;
+        }
+        if (roomKey == null) {
+            return null;
+        }
+
+        TokenBucket roomBucket = roomBucket(roomKey, nowNanos);
+        if (!roomBucket.tryAcquire(nowNanos)) {
+            userBucket.refund();
+            return roomBucket;
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${signaling.rate-limit.sweep-interval-ms:10000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        userBuckets.values().removeIf(buckets -> isIdle(buckets, now));
+        roomBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+    }
+
+    public int size() {
+        return userBuckets.size() + roomBuckets.size();
+    }
+
+    private TokenBucket[] userBuckets(Object userKey, long now) {
+        TokenBucket[] buckets = userBuckets.get(userKey);
+        if (buckets != null) {
+            return buckets;
+        }
+        if (userBuckets.size() >= maxKeys) {
+            return overflowUserBuckets;
+        }
+        return userBuckets.computeIfAbsent(userKey, key -> newUserBuckets(now));
+    }
+
+    private TokenBucket roomBucket(String roomKey, long now) {
+        TokenBucket bucket = roomBuckets.get(roomKey);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (roomBuckets.size() >= maxKeys) {
+            return overflowRoomBucket;
+        }
+        return roomBuckets.computeIfAbsent(roomKey, key -> newBucket(roomLimit, now));
+    }
+
+    private TokenBucket[] newUserBuckets(long now) {
+        TokenBucket[] buckets = new TokenBucket[userLimits.size()];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = newBucket(userLimits.get(i), now);
+        }
+        return buckets;
+    }
+
+    private TokenBucket newBucket(SignalingProperties.Limit limit, long now) {
+        return new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now);
+    }
+
+    private boolean isIdle(TokenBucket[] buckets, long now) {
+        for (TokenBucket bucket : buckets) {
+            if (!bucket.isIdle(now, idleNanos)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
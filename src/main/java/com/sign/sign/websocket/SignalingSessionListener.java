@@ -0,0 +1,209 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.dto.response.SessionResumeResponse;
+import com.sign.sign.service.RoomService;
+import com.sign.sign.signaling.MessageDeduplicator;
+import com.sign.sign.signaling.SignalingMessenger;
+import java.security.Principal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+/**
+ * WebSocket 세션 생명주기 추적
+ * 소켓이 leave 없이 끊기면 남은 상대방에게 알려 ICE 타임아웃까지 기다리지 않게 한다
+ *
+ * 세션 재개:
+ * - 클라이언트는 /user/queue/session 구독 시 재개 토큰을 받는다
+ * - 비정상 종료 후 resume-token 헤더로 다시 CONNECT 하면 방 바인딩이 이어지고,
+ *   /user/queue/signaling 구독 즉시 그동안 못 받은 메시지가 재전송된다 (offer/answer 재협상 불필요)
+ * - ttl 안에 돌아오지 않으면 그때 상대방에게 disconnected 알림
+ * - 여러 기기 중 통화를 차지한 세션이면 재개 대기 동안 차지를 유지하고 재개한 세션으로 넘긴다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SignalingSessionListener {
+
+    /**
+     * 재개할 때 CONNECT 프레임에 실어 보내는 토큰 헤더
+     */
+    public static final String RESUME_TOKEN_HEADER = "resume-token";
+
+    private static final String SESSION_DESTINATION = "/user/queue/session";
+    private static final String SIGNALING_DESTINATION = "/user/queue/signaling";
+
+    private final SignalingSessionRegistry sessionRegistry;
+    private final SessionResumeStore resumeStore;
+    private final SessionMessageSender sessionMessageSender;
+    private final SignalingMessenger messenger;
+    private final RoomService roomService;
+    private final MessageDeduplicator deduplicator;
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        if (sessionId == null) {
+            return;
+        }
+
+        // 사용자는 핸드셰이크에서 인증된 Principal 로만 정한다 (클라이언트가 보낸 헤더는 믿지 않음)
+        Long userId = resolveUserId(event.getUser());
+        if (userId == null) {
+            log.warn("Session {} connected without an authenticated user, ignoring", sessionId);
+            return;
+        }
+        sessionRegistry.register(sessionId, userId);
+
+        String resumeToken = accessor.getFirstNativeHeader(RESUME_TOKEN_HEADER);
+        if (resumeToken != null) {
+            SuspendedSession resumed = resumeStore.resume(resumeToken, sessionId, userId);
+            if (resumed != null) {
+                SessionBinding binding = resumed.getBinding();
+                sessionRegistry.bind(sessionId, binding.getUserId(), binding.getRoomId());
+                sessionRegistry.transferClaim(binding, sessionId);
+                deduplicator.transfer(binding.getSessionId(), sessionId);
+                log.info("Session {} resumed {} for user {} in room {}",
+                        sessionId, binding.getSessionId(), binding.getUserId(), binding.getRoomId());
+            } else {
+                log.info("Session {} presented an unknown or expired resume token", sessionId);
+            }
+        }
+
+        if (resumeStore.isEnabled()) {
+            resumeStore.issue(sessionId);
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || destination == null) {
+            return;
+        }
+
+        if (SESSION_DESTINATION.equals(destination)) {
+            SessionBinding binding = sessionRegistry.get(sessionId);
+            sessionMessageSender.send(sessionId, "/queue/session", new SessionResumeResponse(
+                    resumeStore.getToken(sessionId),
+                    binding != null ? binding.getRoomId() : null
+            ));
+        } else if (SIGNALING_DESTINATION.equals(destination)) {
+            for (SignalingMessage message : resumeStore.drainReplay(sessionId)) {
+                sessionMessageSender.send(sessionId, "/queue/signaling", message);
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessionClosed(event.getSessionId(), event.getCloseStatus(), true);
+    }
+
+    /**
+     * 세션 종료 공통 처리 (STOMP 해제 이벤트, WebFlux 세션 종료)
+     *
+     * @param resumable 재개 토큰을 발급하는 전송 계층이면 true (비정상 종료 시 재개를 기다림)
+     */
+    public void sessionClosed(String sessionId, CloseStatus closeStatus, boolean resumable) {
+        SessionBinding binding = sessionRegistry.unregister(sessionId);
+
+        // 이미 처리된 세션
+        if (binding == null) {
+            return;
+        }
+
+        // leave 로 방을 정리했거나 시그널링 전에 끊긴 세션
+        if (binding.getRoomId() == null) {
+            resumeStore.discard(sessionId);
+            deduplicator.release(sessionId);
+            return;
+        }
+
+        boolean abnormal = !CloseStatus.NORMAL.equalsCode(closeStatus);
+        if (abnormal && resumable && resumeStore.suspend(binding)) {
+            log.info("Session {} of user {} closed ({}) in room {}, waiting for resume",
+                    sessionId, binding.getUserId(), closeStatus, binding.getRoomId());
+            return;
+        }
+
+        resumeStore.discard(sessionId);
+        deduplicator.release(sessionId);
+        sessionRegistry.releaseClaim(binding);
+        log.info("Session {} of user {} closed ({}) in room {}",
+                sessionId, binding.getUserId(), closeStatus, binding.getRoomId());
+        notifyPeer(binding, abnormal);
+    }
+
+    /**
+     * ttl 안에 재개되지 않은 세션은 그때 상대방에게 알림
+     */
+    @Scheduled(fixedDelayString = "${signaling.resume.sweep-interval-ms:1000}")
+    public void expireSuspendedSessions() {
+        for (SuspendedSession suspended : resumeStore.expire()) {
+            log.info("Resume window for session {} expired", suspended.getBinding().getSessionId());
+            deduplicator.release(suspended.getBinding().getSessionId());
+            sessionRegistry.releaseClaim(suspended.getBinding());
+            notifyPeer(suspended.getBinding(), true);
+        }
+    }
+
+    private void notifyPeer(SessionBinding binding, boolean abnormal) {
+        String roomId = binding.getRoomId();
+        SignalingType type = abnormal ? SignalingType.DISCONNECTED : SignalingType.LEAVE;
+
+        roomService.findMembership(roomId).ifPresent(membership -> messenger.sendToOthers(
+                membership, new SignalingMessage(type, roomId, binding.getUserId(), null, null)));
+
+        // 방에 남은 세션이 없으면 방 정리
+        if (sessionRegistry.getSessionsInRoom(roomId).isEmpty()) {
+            removeRoom(roomId, binding);
+            return;
+        }
+
+        // 정상 종료인데 leave 를 못 보낸 경우: 그 사용자만 퇴장 (2명 미만이 되면 방 삭제)
+        if (!abnormal && binding.getUserId() != null) {
+            try {
+                if (roomService.leave(roomId, binding.getUserId())) {
+                    sessionRegistry.unbindRoom(roomId);
+                    log.info("Room {} deleted after session {} closed", roomId, binding.getSessionId());
+                }
+            } catch (IllegalArgumentException e) {
+                log.warn("Room {} was already deleted", roomId);
+            }
+        }
+    }
+
+    private void removeRoom(String roomId, SessionBinding binding) {
+        sessionRegistry.unbindRoom(roomId);
+        try {
+            roomService.remove(roomId);
+            log.info("Room {} deleted after session {} closed", roomId, binding.getSessionId());
+        } catch (IllegalArgumentException e) {
+            log.warn("Room {} was already deleted", roomId);
+        }
+    }
+
+    private Long resolveUserId(Principal principal) {
+        if (principal == null || principal.getName() == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(principal.getName());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
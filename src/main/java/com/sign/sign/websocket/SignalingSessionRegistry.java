@@ -0,0 +1,258 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.state.CompactStateStore;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 → (사용자, 방) 매핑 레지스트리
+ * 연결/해제가 잦아도 버틸 수 있도록 모든 연산은 ConcurrentHashMap 기반 O(1)
+ * 세션의 사용자/방은 CompactStateStore 의 세션 테이블에도 같이 반영한다
+ *
+ * 여러 기기로 접속한 사용자:
+ * - 사용자 → 세션 목록을 함께 들고 있어 answered-elsewhere 를 나머지 기기에만 보낼 수 있다
+ * - 방마다 사용자별로 먼저 answer 한 세션이 통화를 차지하고(claim), 이후 그 사용자 몫의 시그널링은 그 세션으로만 간다
+ */
+@Component
+@RequiredArgsConstructor
+public class SignalingSessionRegistry {
+
+    private final Map<String, SessionBinding> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> roomSessions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> userSessions = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, String>> claims = new ConcurrentHashMap<>();
+    private final CompactStateStore stateStore;
+
+    /**
+     * CONNECT 시점 등록 (방은 첫 시그널링 메시지에서 바인딩)
+     */
+    public void register(String sessionId, Long userId) {
+        sessions.compute(sessionId, (key, previous) -> {
+            stateStore.registerSession(sessionId, userId);
+            if (previous == null) {
+                addUserSession(userId, sessionId);
+                return new SessionBinding(sessionId, userId, null);
+            }
+            changeUser(sessionId, previous.getUserId(), userId);
+            if (previous.getRoomId() != null) {
+                leaveRoom(previous.getRoomId(), sessionId);
+            }
+            return new SessionBinding(sessionId, userId, null);
+        });
+    }
+
+    /**
+     * 시그널링 메시지마다 호출되므로 이미 같은 방에 묶여 있으면 아무것도 만들지 않는다
+     * 등록되지 않았거나 이미 해제된 세션은 바인딩하지 않는다 (해제 뒤 늦게 처리된 프레임이 유령 바인딩을 남기지 않도록)
+     * 세션 테이블/사용자 목록/방 목록 반영은 세션 키의 compute 안에서 해 unregister 와 엇갈리지 않는다
+     */
+    public void bind(String sessionId, Long userId, String roomId) {
+        if (sessionId == null) {
+            return;
+        }
+
+        SessionBinding current = sessions.get(sessionId);
+        if (current == null || current.isBoundTo(userId, roomId)) {
+            return;
+        }
+
+        sessions.computeIfPresent(sessionId, (key, existing) -> {
+            if (existing.isBoundTo(userId, roomId)) {
+                return existing;
+            }
+            stateStore.bindSession(sessionId, userId, roomId);
+            changeUser(sessionId, existing.getUserId(), userId);
+            if (existing.getRoomId() != null && !existing.getRoomId().equals(roomId)) {
+                leaveRoom(existing.getRoomId(), sessionId);
+            }
+            joinRoom(roomId, sessionId);
+            return existing.withRoom(userId, roomId);
+        });
+    }
+
+    /**
+     * 세션 종료 시 제거, 이미 제거된 세션이면 null (해제 이벤트는 중복 발생할 수 있음)
+     */
+    public SessionBinding unregister(String sessionId) {
+        SessionBinding[] removed = new SessionBinding[1];
+        sessions.computeIfPresent(sessionId, (key, binding) -> {
+            stateStore.removeSession(sessionId);
+            removeUserSession(binding.getUserId(), sessionId);
+            if (binding.getRoomId() != null) {
+                leaveRoom(binding.getRoomId(), sessionId);
+            }
+            removed[0] = binding;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 방이 정상 종료(leave)된 경우 소속 세션들의 방 바인딩만 해제
+     * 이후 소켓이 끊겨도 상대방에게 다시 알리지 않는다
+     */
+    public void unbindRoom(String roomId) {
+        claims.remove(roomId);
+        Set<String> sessionIds = roomSessions.remove(roomId);
+        if (sessionIds == null) {
+            return;
+        }
+        for (String sessionId : sessionIds) {
+            sessions.computeIfPresent(sessionId, (key, current) -> {
+                if (!roomId.equals(current.getRoomId())) {
+                    return current;
+                }
+                stateStore.clearSessionRoom(sessionId);
+                return current.withoutRoom();
+            });
+        }
+    }
+
+    /**
+     * 다자간 방에서 한 사용자만 leave 한 경우 그 사용자의 세션만 방 바인딩 해제
+     */
+    public void unbindUser(String roomId, Long userId) {
+        Set<String> sessionIds = roomSessions.get(roomId);
+        if (sessionIds == null || userId == null) {
+            return;
+        }
+        claims.computeIfPresent(roomId, (key, users) -> {
+            users.remove(userId);
+            return users.isEmpty() ? null : users;
+        });
+        for (String sessionId : sessionIds) {
+            sessions.computeIfPresent(sessionId, (key, current) -> {
+                if (!current.isBoundTo(userId, roomId)) {
+                    return current;
+                }
+                stateStore.clearSessionRoom(sessionId);
+                leaveRoom(roomId, sessionId);
+                return current.withoutRoom();
+            });
+        }
+    }
+
+    public SessionBinding get(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    public Set<String> getSessionsInRoom(String roomId) {
+        Set<String> sessionIds = roomSessions.get(roomId);
+        return sessionIds == null ? Collections.emptySet() : Collections.unmodifiableSet(sessionIds);
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * 사용자가 연결한 세션 전체 (기기마다 하나)
+     */
+    public Set<String> getSessionsOfUser(Long userId) {
+        Set<String> sessionIds = userId == null ? null : userSessions.get(userId);
+        return sessionIds == null ? Collections.emptySet() : Collections.unmodifiableSet(sessionIds);
+    }
+
+    /**
+     * 방에서 사용자의 통화를 이 세션이 차지 (먼저 answer 한 기기)
+     * 같은 사용자의 다른 기기가 동시에 answer 해도 하나만 차지하도록 방 단위 compute 로 처리
+     *
+     * @return 이미 차지하고 있던 세션 ID, 이번에 처음 차지했으면 null
+     */
+    public String claim(String roomId, Long userId, String sessionId) {
+        String[] holder = new String[1];
+        claims.compute(roomId, (key, users) -> {
+            Map<Long, String> target = users == null ? new ConcurrentHashMap<>() : users;
+            holder[0] = target.putIfAbsent(userId, sessionId);
+            return target;
+        });
+        return holder[0];
+    }
+
+    /**
+     * @return 방에서 사용자의 통화를 차지한 세션 ID, 아직 아무도 answer 하지 않았으면 null (모든 기기로 전송)
+     */
+    public String getClaimedSession(String roomId, Long userId) {
+        // 다중 기기 통화가 없으면 맵 조회 없이
+        if (roomId == null || userId == null || claims.isEmpty()) {
+            return null;
+        }
+        Map<Long, String> users = claims.get(roomId);
+        return users == null ? null : users.get(userId);
+    }
+
+    /**
+     * 통화를 차지한 세션이 재개 없이 끝나면 해제 (다시 모든 기기로 전송)
+     */
+    public void releaseClaim(SessionBinding binding) {
+        if (binding.getRoomId() == null || binding.getUserId() == null) {
+            return;
+        }
+        claims.computeIfPresent(binding.getRoomId(), (key, users) -> {
+            users.remove(binding.getUserId(), binding.getSessionId());
+            return users.isEmpty() ? null : users;
+        });
+    }
+
+    /**
+     * 세션 재개 시 이전 세션이 차지한 통화를 새 세션으로 넘긴다
+     */
+    public void transferClaim(SessionBinding previous, String sessionId) {
+        if (previous.getRoomId() == null || previous.getUserId() == null) {
+            return;
+        }
+        claims.computeIfPresent(previous.getRoomId(), (key, users) -> {
+            users.replace(previous.getUserId(), previous.getSessionId(), sessionId);
+            return users;
+        });
+    }
+
+    // 빈 집합 제거와 경쟁하지 않도록 키 단위 compute 로 갱신 (sessions 의 compute 안에서 불린다, 반대 방향 중첩은 없음)
+    private void joinRoom(String roomId, String sessionId) {
+        roomSessions.compute(roomId, (key, sessionIds) -> {
+            Set<String> target = sessionIds == null ? ConcurrentHashMap.newKeySet() : sessionIds;
+            target.add(sessionId);
+            return target;
+        });
+    }
+
+    private void changeUser(String sessionId, Long previousUserId, Long userId) {
+        if (previousUserId != null && previousUserId.equals(userId)) {
+            return;
+        }
+        removeUserSession(previousUserId, sessionId);
+        addUserSession(userId, sessionId);
+    }
+
+    private void addUserSession(Long userId, String sessionId) {
+        if (userId == null) {
+            return;
+        }
+        userSessions.compute(userId, (key, sessionIds) -> {
+            Set<String> target = sessionIds == null ? ConcurrentHashMap.newKeySet() : sessionIds;
+            target.add(sessionId);
+            return target;
+        });
+    }
+
+    private void removeUserSession(Long userId, String sessionId) {
+        if (userId == null) {
+            return;
+        }
+        userSessions.computeIfPresent(userId, (key, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+
+    private void leaveRoom(String roomId, String sessionId) {
+        roomSessions.computeIfPresent(roomId, (key, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package com.sign.sign.websocket;
+
+/**
+ * 역직렬화 전 STOMP 페이로드(JSON 바이트)에서 "type" 값을 찾아 후보 목록과 비교
+ * 채널 인터셉터 단계에서 메시지 타입별 정책을 적용하기 위한 것으로, 문자열/객체를 만들지 않는다
+ */
+public final class SignalingTypeSniffer {
+
+    private static final byte[] TYPE_KEY = {'"', 't', 'y', 'p', 'e', '"'};
+
+    private SignalingTypeSniffer() {
+    }
+
+    /**
+     * @return 일치하는 후보의 인덱스, type 필드가 없거나 후보에 없으면 -1
+     */
+    public static int sniff(byte[] payload, byte[][] candidates) {
+        int keyAt = indexOf(payload, TYPE_KEY);
+        if (keyAt < 0) {
+            return -1;
+        }
+
+        int i = skipWhitespace(payload, keyAt + TYPE_KEY.length);
+        if (i >= payload.length || payload[i] != ':') {
+            return -1;
+        }
+        i = skipWhitespace(payload, i + 1);
+        if (i >= payload.length || payload[i] != '"') {
+            return -1;
+        }
+
+        int start = i + 1;
+        int end = start;
+        while (end < payload.length && payload[end] != '"') {
+            end++;
+        }
+        if (end >= payload.length) {
+            return -1;
+        }
+
+        for (int c = 0; c < candidates.length; c++) {
+            if (regionEquals(payload, start, end - start, candidates[c])) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(byte[] payload, byte[] key) {
+        outer:
+        for (int i = 0; i <= payload.length - key.length; i++) {
+            for (int k = 0; k < key.length; k++) {
+                if (payload[i + k] != key[k]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] payload, int i) {
+        while (i < payload.length && (payload[i] == ' ' || payload[i] == '\t'
+                || payload[i] == '\r' || payload[i] == '\n')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean regionEquals(byte[] payload, int start, int length, byte[] candidate) {
+        if (length != candidate.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (payload[start + i] != candidate[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,52 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.dto.SignalingMessage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 비정상 종료 후 재개를 기다리는 세션
+ * 방 바인딩과 그동안 전달하지 못한 메시지를 보관한다
+ */
+@Getter
+public class SuspendedSession {
+
+    private final String resumeToken;
+    private final SessionBinding binding;
+    private final long expiresAtMillis;
+    private final int maxBufferedMessages;
+
+    private final ArrayDeque<SignalingMessage> pending = new ArrayDeque<>();
+
+    public SuspendedSession(String resumeToken, SessionBinding binding, long expiresAtMillis, int maxBufferedMessages) {
+        this.resumeToken = resumeToken;
+        this.binding = binding;
+        this.expiresAtMillis = expiresAtMillis;
+        this.maxBufferedMessages = maxBufferedMessages;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    /**
+     * 가득 차면 가장 오래된 메시지를 버린다 (최신 SDP/상태가 더 유효함)
+     */
+    public synchronized void offer(SignalingMessage message) {
+        if (maxBufferedMessages <= 0) {
+            return;
+        }
+        if (pending.size() >= maxBufferedMessages) {
+            pending.pollFirst();
+        }
+        pending.addLast(message);
+    }
+
+    public synchronized List<SignalingMessage> drain() {
+        List<SignalingMessage> messages = new ArrayList<>(pending);
+        pending.clear();
+        return messages;
+    }
+}
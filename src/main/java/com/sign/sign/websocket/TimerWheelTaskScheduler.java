@@ -0,0 +1,386 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.config.SignalingProperties;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * 하트비트/유휴 타임아웃용 해시 타이머 휠 TaskScheduler (signaling.heartbeat.*)
+ *
+ * SockJS 세션은 하트비트를 세션마다 예약하고 메시지를 보낼 때마다 취소 후 다시 예약한다
+ * 기본 ThreadPoolTaskScheduler 는 힙 기반이라 세션 수가 늘면 예약/취소가 O(log n) 이고 취소된 작업도 큐에 남는다
+ *
+ * - 예약: 락 없는 큐에 넣기만 하고 휠 스레드가 틱마다 칸으로 옮긴다 (O(1))
+ * - 취소: 상태만 바꾸고 휠 스레드가 칸의 연결 리스트에서 바로 뺀다 (O(1))
+ * - 칸 수보다 먼 작업은 남은 바퀴 수(rounds)로 기다린다
+ * - 만료된 작업은 휠 스레드가 아니라 실행 스레드 풀에서 돌린다 (소켓 쓰기가 틱을 막지 않도록)
+ *
+ * 정밀도는 틱 단위(기본 100ms)라 초 단위 하트비트/타임아웃 전용이다
+ *
+ * 한계: SockJS 하트비트 작업은 원시 소켓에 블로킹으로 쓴다
+ * 쓰기가 멈춘 클라이언트 하나가 실행 스레드 하나를 잡고 있으므로, 그런 클라이언트가 worker-threads 만큼 모이면
+ * SimpleBroker 하트비트와 유휴 세션 검사까지 모든 타이머 작업이 밀린다 (그래서 기본값은 코어 수)
+ */
+@Component
+@Slf4j
+public class TimerWheelTaskScheduler implements TaskScheduler, SmartLifecycle {
+
+    // 틱마다 휠로 옮기는 최대 예약 수 (예약 폭주 시 틱이 밀리지 않도록)
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final int workerThreads;
+
+    private final Queue<WheelTask> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTask> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger scheduled = new AtomicInteger();
+    private final LongAdder expired = new LongAdder();
+
+    private volatile boolean running;
+    private volatile long startNanos;
+    private Thread ticker;
+    private ExecutorService executor;
+
+    public TimerWheelTaskScheduler(SignalingProperties properties) {
+        SignalingProperties.Heartbeat config = properties.getHeartbeat();
+        this.tickNanos = Math.max(config.getTick().toNanos(), TimeUnit.MILLISECONDS.toNanos(1));
+        int size = Integer.highestOneBit(Math.max(config.getWheelSize() - 1, 1)) << 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.workerThreads = Math.max(config.getWorkerThreads(), 1);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        WheelTask wheelTask = new WheelTask(task, trigger);
+        return wheelTask.scheduleNext() ? wheelTask : null;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+        return enqueue(new WheelTask(task, deadline(startTime), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+        return enqueue(new WheelTask(task, deadline(startTime), period.toNanos()));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        return enqueue(new WheelTask(task, System.nanoTime(), period.toNanos()));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+        return enqueue(new WheelTask(task, deadline(startTime), -delay.toNanos()));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+        return enqueue(new WheelTask(task, System.nanoTime(), -delay.toNanos()));
+    }
+
+    @Override
+    public Clock getClock() {
+        return Clock.systemDefaultZone();
+    }
+
+    /**
+     * 예약되어 아직 만료/취소되지 않은 작업 수
+     */
+    public int getScheduled() {
+        return scheduled.get();
+    }
+
+    public long getExpired() {
+        return expired.sum();
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "signaling-timer-worker-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        startNanos = System.nanoTime();
+        running = true;
+        ticker = new Thread(this::tick, "signaling-timer");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread current = ticker;
+        if (current == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(current);
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        ticker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 가장 먼저 시작하고 가장 나중에 멈춘다 (브로커/SockJS 가 시작하면서 바로 예약한다)
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    private long deadline(Instant startTime) {
+        long delay = Duration.between(getClock().instant(), startTime).toNanos();
+        return System.nanoTime() + Math.max(delay, 0);
+    }
+
+    private WheelTask enqueue(WheelTask task) {
+        scheduled.incrementAndGet();
+        pending.offer(task);
+        return task;
+    }
+
+    private void tick() {
+        long tick = 0;
+        while (running) {
+            long tickDeadline = startNanos + tickNanos * (tick + 1);
+            long sleep;
+            while (running && (sleep = tickDeadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(sleep);
+            }
+            if (!running) {
+                break;
+            }
+
+            removeCancelled();
+            transferPending(tick);
+            expire(wheel[(int) (tick & mask)], tickDeadline);
+            tick++;
+        }
+    }
+
+    private void removeCancelled() {
+        WheelTask task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+                scheduled.decrementAndGet();
+            }
+        }
+    }
+
+    private void transferPending(long currentTick) {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            WheelTask task = pending.poll();
+            if (task == null) {
+                return;
+            }
+            if (task.isCancelled()) {
+                scheduled.decrementAndGet();
+                continue;
+            }
+
+            long targetTick = Math.max((task.deadlineNanos - startNanos) / tickNanos, currentTick);
+            task.remainingRounds = (targetTick - currentTick) / wheel.length;
+            wheel[(int) (targetTick & mask)].add(task);
+        }
+    }
+
+    private void expire(Bucket bucket, long tickDeadline) {
+        WheelTask task = bucket.head;
+        while (task != null) {
+            WheelTask next = task.next;
+            if (task.remainingRounds <= 0 && task.deadlineNanos <= tickDeadline) {
+                bucket.remove(task);
+                scheduled.decrementAndGet();
+                fire(task);
+            } else {
+                task.remainingRounds--;
+            }
+            task = next;
+        }
+    }
+
+    private void fire(WheelTask task) {
+        if (task.isCancelled()) {
+            return;
+        }
+        expired.increment();
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug("Timer task rejected during shutdown");
+        }
+    }
+
+    /**
+     * 휠의 칸 (휠 스레드만 건드리는 이중 연결 리스트)
+     */
+    private static final class Bucket {
+
+        private WheelTask head;
+        private WheelTask tail;
+
+        void add(WheelTask task) {
+            task.bucket = this;
+            if (head == null) {
+                head = tail = task;
+                return;
+            }
+            tail.next = task;
+            task.prev = tail;
+            tail = task;
+        }
+
+        void remove(WheelTask task) {
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                head = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            } else {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+    }
+
+    /**
+     * 예약된 작업 하나 (반복 작업은 실행 후 같은 객체를 다시 예약)
+     * periodNanos: 0 이면 한 번, 양수면 고정 간격(fixed rate), 음수면 실행 후 지연(fixed delay)
+     */
+    private final class WheelTask extends FutureTask<Object> implements ScheduledFuture<Object> {
+
+        private final long periodNanos;
+        @Nullable
+        private final Trigger trigger;
+        @Nullable
+        private final SimpleTriggerContext triggerContext;
+        private volatile long deadlineNanos;
+        @Nullable
+        private volatile Instant scheduledExecution;
+
+        // 휠 스레드 전용
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTask prev;
+        private WheelTask next;
+
+        WheelTask(Runnable task, long deadlineNanos, long periodNanos) {
+            // 반복 작업은 예외가 나도 로그만 남기고 계속 (ThreadPoolTaskScheduler 와 같은 기본값)
+            super(TaskUtils.decorateTaskWithErrorHandler(task, null, periodNanos != 0), null);
+            this.deadlineNanos = deadlineNanos;
+            this.periodNanos = periodNanos;
+            this.trigger = null;
+            this.triggerContext = null;
+        }
+
+        WheelTask(Runnable task, Trigger trigger) {
+            super(TaskUtils.decorateTaskWithErrorHandler(task, null, true), null);
+            this.periodNanos = 0;
+            this.trigger = trigger;
+            this.triggerContext = new SimpleTriggerContext(getClock());
+        }
+
+        @Override
+        public void run() {
+            if (trigger != null) {
+                runTriggered();
+            } else if (periodNanos == 0) {
+                super.run();
+            } else if (super.runAndReset()) {
+                deadlineNanos = periodNanos > 0 ? deadlineNanos + periodNanos : System.nanoTime() - periodNanos;
+                enqueue(this);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean result = super.cancel(mayInterruptIfRunning);
+            if (result) {
+                cancelled.offer(this);
+            }
+            return result;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        /**
+         * 다음 실행 시각이 없으면 false
+         */
+        boolean scheduleNext() {
+            Instant next = trigger.nextExecution(triggerContext);
+            if (next == null) {
+                return false;
+            }
+            scheduledExecution = next;
+            deadlineNanos = deadline(next);
+            enqueue(this);
+            return true;
+        }
+
+        private void runTriggered() {
+            Instant scheduledAt = scheduledExecution;
+            Instant started = getClock().instant();
+            boolean completed = super.runAndReset();
+            triggerContext.update(scheduledAt, started, getClock().instant());
+            if (completed && !isCancelled() && !scheduleNext()) {
+                set(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.sign.sign.websocket;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free 토큰 버킷
+ *
+ * GCRA(Generic Cell Rate Algorithm) 방식으로 "버킷이 다시 가득 차는 이론상 시각(TAT)" 하나만
+ * AtomicLong 에 저장하고 CAS 로 갱신한다. 토큰 수와 마지막 충전 시각을 따로 두지 않아도
+ * capacity 만큼의 버스트와 초당 refill 속도를 그대로 표현할 수 있다.
+ */
+public class TokenBucket {
+
+    private static final long NOTIFY_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    private final AtomicLong theoreticalArrivalNanos;
+    private final AtomicLong lastRejectNotifiedNanos;
+
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity 와 refillPerSecond 는 양수여야 합니다");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+        this.lastRejectNotifiedNanos = new AtomicLong(nowNanos - NOTIFY_INTERVAL_NANOS);
+    }
+
+    public boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            long start = Math.max(tat, nowNanos);
+            if (start - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(tat, start + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire 로 가져간 토큰 하나를 돌려준다 (뒤 단계에서 거절되어 실제로 쓰지 않았을 때)
+     */
+    public void refund() {
+        theoreticalArrivalNanos.addAndGet(-emissionIntervalNanos);
+    }
+
+    /**
+     * 거절 알림은 키당 초당 한 번만 (거절 자체가 폭주하지 않도록)
+     */
+    public boolean shouldNotifyRejection(long nowNanos) {
+        long last = lastRejectNotifiedNanos.get();
+        return nowNanos - last >= NOTIFY_INTERVAL_NANOS
+                && lastRejectNotifiedNanos.compareAndSet(last, nowNanos);
+    }
+
+    /**
+     * 버킷이 가득 찬 채로 idleNanos 이상 사용되지 않았는지
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - theoreticalArrivalNanos.get() > idleNanos;
+    }
+}
@@ -0,0 +1,42 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.capture.TrafficCapture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * clientInboundChannel 인터셉터: /app/signaling/** SEND 프레임을 받은 시각과 함께 캡처
+ * 유량 제한보다 앞에 두어 클라이언트가 실제로 보낸 부하를 그대로 남긴다
+ */
+@Component
+@RequiredArgsConstructor
+public class TrafficCaptureInterceptor implements ChannelInterceptor {
+
+    private static final String SIGNALING_PREFIX = "/app/signaling/";
+
+    private final TrafficCapture capture;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!capture.isRunning() || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SEND) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        if (destination != null && destination.startsWith(SIGNALING_PREFIX)) {
+            capture.record(destination.substring(SIGNALING_PREFIX.length()), payload);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,245 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.config.SignalingProperties;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+/**
+ * 세션별 송신 프레임 모아 쓰기 (signaling.coalesce.*)
+ *
+ * 통화 연결 중에는 answer 와 상태 알림 몇 개가 수 ms 안에 같은 세션으로 나간다
+ * 프레임마다 WebSocket/SockJS 메시지와 소켓 쓰기를 하나씩 쓰는 대신 window 동안 모아 한 번에 쓴다
+ *
+ * - STOMP 프레임은 NUL 로 끝나므로 텍스트 프레임은 이어 붙여 메시지 하나로 보낸다 (클라이언트 디코더가 나눠 읽는다)
+ * - 쓰는 중에 들어온 프레임은 쓰기가 끝나면 바로 이어서 쓴다 (소켓이 다시 쓸 수 있을 때까지 모이는 셈)
+ * - 모인 크기가 maxBufferSize 를 넘으면 보낸 스레드에서 바로 쓴다
+ *   (ConcurrentWebSocketSessionDecorator 의 전송 시간/버퍼 제한이 느린 클라이언트에 그대로 걸리도록)
+ * - 바이너리 프레임은 모인 프레임을 먼저 쓴 뒤 보낸다
+ * - close 는 쓰기를 기다리지 않고 모인 프레임을 버린 뒤 닫는다
+ *   (ConcurrentWebSocketSessionDecorator 가 전송 시간 제한을 넘긴 세션을 닫을 때 멈춘 쓰기 뒤에서 같이 멈추지 않도록)
+ * - 타이머 스레드(flushThreads)는 window 만 재고, 소켓 쓰기는 clientOutboundChannel 스레드로 넘긴다
+ *   멈춘 소켓 하나가 타이머를 잡아 다른 세션의 flush 가 밀리지 않고, 세션마다 쓰기는 하나씩이라
+ *   멈춘 세션은 모으지 않을 때처럼 아웃바운드 스레드 하나까지만 잡는다
+ *
+ * clientOutboundChannel 의 소켓 쓰기 지연(SignalingTrace)은 모으는 데까지만 잰다
+ */
+@Component
+public class WriteCoalescer implements WebSocketHandlerDecoratorFactory, SmartLifecycle {
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBufferSize;
+    private final int flushThreads;
+    private final Executor writer;
+
+    private final Map<String, CoalescingWebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder frames = new LongAdder();
+    private final LongAdder characters = new LongAdder();
+    private final LongAdder sizeFlushes = new LongAdder();
+    private final LongAccumulator maxFramesPerFlush = new LongAccumulator(Math::max, 0);
+
+    private volatile boolean running;
+    private ScheduledThreadPoolExecutor flusher;
+
+    // clientOutboundChannelExecutor 는 WebSocket 설정보다 늦게 만들어지므로 지연 주입
+    public WriteCoalescer(SignalingProperties properties,
+                          @Lazy @Qualifier("clientOutboundChannelExecutor") Executor writer) {
+        SignalingProperties.Coalesce config = properties.getCoalesce();
+        this.writer = writer;
+        this.enabled = config.isEnabled() && !config.getWindow().isZero();
+        this.windowNanos = config.getWindow().toNanos();
+        this.maxBufferSize = (int) Math.min(config.getMaxBufferSize().toBytes(), Integer.MAX_VALUE);
+        this.flushThreads = Math.max(config.getFlushThreads(), 1);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return enabled ? new CoalescingHandler(handler) : handler;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    public long getFrames() {
+        return frames.sum();
+    }
+
+    /**
+     * 쓴 페이로드 문자 수
+     */
+    public long getCharacters() {
+        return characters.sum();
+    }
+
+    /**
+     * maxBufferSize 를 넘어 보낸 스레드에서 바로 쓴 횟수
+     */
+    public long getSizeFlushes() {
+        return sizeFlushes.sum();
+    }
+
+    public double getFramesPerFlush() {
+        long count = flushes.sum();
+        return count == 0 ? 0 : (double) frames.sum() / count;
+    }
+
+    public long getMaxFramesPerFlush() {
+        return maxFramesPerFlush.get();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        AtomicInteger threadIndex = new AtomicInteger();
+        flusher = new ScheduledThreadPoolExecutor(flushThreads, runnable -> {
+            Thread thread = new Thread(runnable, "signaling-coalesce-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.setRemoveOnCancelPolicy(true);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 브로커보다 늦게 멈춘다 (마지막 프레임까지 쓰도록)
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    int getMaxBufferSize() {
+        return maxBufferSize;
+    }
+
+    /**
+     * window 뒤에 flush, 멈춘 뒤라 예약할 수 없으면 null (보낸 스레드에서 바로 써야 한다)
+     */
+    @Nullable
+    ScheduledFuture<?> schedule(Runnable flush) {
+        if (!running) {
+            return null;
+        }
+        try {
+            return flusher.schedule(flush, windowNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    /**
+     * window 가 지난 세션의 쓰기를 아웃바운드 스레드로 넘긴다 (멈추는 중이라 받지 않으면 그 자리에서)
+     */
+    void write(Runnable flush) {
+        try {
+            writer.execute(flush);
+        } catch (RejectedExecutionException e) {
+            flush.run();
+        }
+    }
+
+    void recordFlush(int frameCount, int length, boolean sizeTriggered) {
+        flushes.increment();
+        frames.add(frameCount);
+        characters.add(length);
+        maxFramesPerFlush.accumulate(frameCount);
+        if (sizeTriggered) {
+            sizeFlushes.increment();
+        }
+    }
+
+    /**
+     * 연결마다 세션을 CoalescingWebSocketSession 으로 감싸 넘긴다
+     * (SubProtocolWebSocketHandler 가 그 바깥을 ConcurrentWebSocketSessionDecorator 로 다시 감싼다)
+     */
+    private final class CoalescingHandler extends WebSocketHandlerDecorator {
+
+        CoalescingHandler(WebSocketHandler delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+            CoalescingWebSocketSession coalescing = new CoalescingWebSocketSession(session, WriteCoalescer.this);
+            sessions.put(session.getId(), coalescing);
+            super.afterConnectionEstablished(coalescing);
+        }
+
+        @Override
+        public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+            super.handleMessage(wrapped(session), message);
+        }
+
+        @Override
+        public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+            super.handleTransportError(wrapped(session), exception);
+        }
+
+        @Override
+        public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+            CoalescingWebSocketSession coalescing = sessions.remove(session.getId());
+            if (coalescing == null) {
+                super.afterConnectionClosed(session, closeStatus);
+                return;
+            }
+            coalescing.discard();
+            super.afterConnectionClosed(coalescing, closeStatus);
+        }
+
+        private WebSocketSession wrapped(WebSocketSession session) {
+            CoalescingWebSocketSession coalescing = sessions.get(session.getId());
+            return coalescing != null ? coalescing : session;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+-- fast 프로파일용 스키마 (ddl-auto: create 가 엔티티에서 만드는 것과 같은 구조)
+-- 엔티티를 바꾸면 함께 수정, 시퀀스 증가폭 50 은 Hibernate 기본 pooled 옵티마이저와 맞춘 값
+
+CREATE SEQUENCE IF NOT EXISTS member_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS room_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS room_participant_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS member (
+    member_id  BIGINT NOT NULL,
+    name       VARCHAR(255),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (member_id)
+);
+
+CREATE TABLE IF NOT EXISTS room (
+    id         BIGINT NOT NULL,
+    room_id    VARCHAR(255),
+    creator_id BIGINT UNIQUE,
+    capacity   INTEGER NOT NULL,
+    is_active  BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    FOREIGN KEY (creator_id) REFERENCES member (member_id)
+);
+
+-- 시그널링 경로의 방 코드 조회용
+CREATE INDEX IF NOT EXISTS idx_room_room_id ON room (room_id);
+
+CREATE TABLE IF NOT EXISTS room_participant (
+    id         BIGINT NOT NULL,
+    room_id    BIGINT,
+    member_id  BIGINT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    FOREIGN KEY (room_id) REFERENCES room (id),
+    FOREIGN KEY (member_id) REFERENCES member (member_id)
+);
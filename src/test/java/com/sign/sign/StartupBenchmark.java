@@ -0,0 +1,116 @@
+package com.sign.sign;
+
+import com.sign.sign.security.JwtUtil;
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기동 벤치마크: 프로세스 시작부터 첫 STOMP CONNECTED 까지 (time-to-first-accepted-WebSocket)
+ *
+ * 매 실행마다 새 JVM 을 띄워 클래스 로딩/JIT 까지 포함한 콜드 스타트를 잰다
+ * - default: 테스트 설정 (인메모리 H2 + ddl-auto: create)
+ * - fast: application-fast.yml (미리 만든 스키마, 지연 초기화)
+ * ./gradlew benchmark 로 실행, 반복 수: -Dbenchmark.startups=5
+ */
+@Tag("benchmark")
+class StartupBenchmark {
+
+    private static final int STARTUPS = Integer.getInteger("benchmark.startups", 5);
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(60);
+    // 띄운 서버와 같은 키로 토큰을 만든다
+    private static final String JWT_SECRET = "IZkBkxOv80QdrmHDFpNABC1dWl99Ma13A/S12q1J+uo=";
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    @DisplayName("프로파일별 첫 WebSocket 수락까지 걸리는 시간")
+    void time_to_first_websocket() throws Exception {
+        long[] standard = measure("default");
+        long[] fast = measure("fast");
+
+        System.out.printf("startups=%d default: median=%dms min=%dms, fast: median=%dms min=%dms%n",
+                STARTUPS, standard[STARTUPS / 2], standard[0], fast[STARTUPS / 2], fast[0]);
+    }
+
+    private long[] measure(String profile) throws Exception {
+        long[] samples = new long[STARTUPS];
+        for (int i = 0; i < STARTUPS; i++) {
+            samples[i] = startAndConnect(profile);
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private long startAndConnect(String profile) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                SignApplication.class.getName(),
+                "--server.port=" + port,
+                "--spring.profiles.active=" + profile,
+                "--signaling.journal.enabled=false",
+                "--jwt.secret=" + JWT_SECRET
+        ));
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(new File(workDir.toFile(), profile + ".log"))
+                .start();
+        try {
+            connectWhenReady(port, started);
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        } finally {
+            process.destroy();
+            process.waitFor(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // 서버가 뜰 때까지 짧은 간격으로 연결 시도
+    private void connectWhenReady(int port, long started) throws InterruptedException {
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.setBearerAuth(new JwtUtil(JWT_SECRET).generateToken("1"));
+
+        while (System.nanoTime() - started < TIMEOUT_NANOS) {
+            try {
+                StompSession session = client.connectAsync("ws://localhost:" + port + "/ws-signaling/websocket",
+                                handshakeHeaders, new StompHeaders(), new StompSessionHandlerAdapter() {})
+                        .get(5, TimeUnit.SECONDS);
+                assertThat(session.isConnected()).isTrue();
+                session.disconnect();
+                return;
+            } catch (Exception notYet) {
+                Thread.sleep(20);
+            }
+        }
+        throw new IllegalStateException("server on port " + port + " did not accept a WebSocket in time");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
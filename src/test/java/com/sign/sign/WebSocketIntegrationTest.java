@@ -1,22 +1,27 @@
 package com.sign.sign;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sign.sign.controller.MemberController;
 import com.sign.sign.domain.Member;
 import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
 import com.sign.sign.dto.request.CreateRoomRequest;
 import com.sign.sign.dto.request.RegistRequest;
 import com.sign.sign.dto.response.CreateRoomResponse;
 import com.sign.sign.controller.RoomController;
+import com.sign.sign.security.CustomUserPrincipal;
+import com.sign.sign.security.JwtUtil;
+import com.sign.sign.service.MemberService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.simp.stomp.*;
+import org.springframework.web.socket.WebSocketHttpHeaders;
 import org.springframework.web.socket.client.standard.StandardWebSocketClient;
 import org.springframework.web.socket.messaging.WebSocketStompClient;
 import org.springframework.web.socket.sockjs.client.SockJsClient;
@@ -43,12 +48,15 @@ class WebSocketIntegrationTest {
     private RoomController roomController;
 
     @Autowired
-    private MemberController memberController;
+    private MemberService memberService;
 
-    // 테스트용 공통 데이터
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    // 테스트용 공통 데이터 (방 생성자는 한 방만 가질 수 있으므로 테스트마다 새 회원)
     private String testRoomId;
-    private static final Long USER_A_ID = 1L;
-    private static final Long USER_B_ID = 2L;
+    private Long userAId;
+    private Long userBId;
 
     @BeforeEach
     void setup() {
@@ -59,18 +67,14 @@ class WebSocketIntegrationTest {
         stompClient.setMessageConverter(new MappingJackson2MessageConverter());
         objectMapper = new ObjectMapper();
 
-        Member userA = Member.create(new RegistRequest("UserA"));
-        Member userB = Member.create(new RegistRequest("UserB"));
-
-        memberController.register(userA);
-        memberController.register(userB);
+        userAId = memberService.saveMember(Member.create(new RegistRequest("UserA")));
+        userBId = memberService.saveMember(Member.create(new RegistRequest("UserB")));
 
         // 테스트용 방 생성
         CreateRoomRequest createRequest = new CreateRoomRequest();
-        createRequest.setCreatorId(USER_A_ID);
-        createRequest.setGuestId(USER_B_ID);
+        createRequest.setGuestId(userBId);
 
-        ResponseEntity<?> response = roomController.createRoom(createRequest);
+        ResponseEntity<?> response = roomController.createRoom(createRequest, new CustomUserPrincipal(userAId.toString()));
         CreateRoomResponse createRoomResponse = (CreateRoomResponse) response.getBody();
         testRoomId = createRoomResponse.getRoomId();  // 모든 테스트에서 사용할 방 ID
     }
@@ -79,13 +83,11 @@ class WebSocketIntegrationTest {
     @DisplayName("A가 B에게 Offer를 보내면 B가 실제로 받아야 한다")
     @SuppressWarnings("deprecation")
     void should_receive_offer_from_A_to_B() throws Exception {
-        System.out.println("Test started with roomId: " + testRoomId);
-
         // given: WebSocket 연결 (방은 이미 생성됨)
         String url = "ws://localhost:" + port + "/ws-signaling";
 
-        StompSession userA = stompClient.connect(url, new TestStompSessionHandler()).get(10, TimeUnit.SECONDS);
-        StompSession userB = stompClient.connect(url, new TestStompSessionHandler()).get(10, TimeUnit.SECONDS);
+        StompSession userA = connect(url, userAId);
+        StompSession userB = connect(url, userBId);
 
         // B가 받을 메시지를 저장할 큐
         BlockingQueue<SignalingMessage> receivedMessages = new LinkedBlockingQueue<>();
@@ -108,19 +110,17 @@ class WebSocketIntegrationTest {
 
         // when: A가 B에게 Offer 전송 (testRoomId 사용)
         SignalingMessage offer = new SignalingMessage(
-                "offer", testRoomId, USER_A_ID, USER_B_ID, "v=0\r\no=- test-offer-sdp"
+                SignalingType.OFFER, testRoomId, userAId, userBId, "v=0\r\no=- test-offer-sdp"
         );
         userA.send("/app/signaling/" + testRoomId, offer);
-        System.out.println("Offer sent from A to B");
 
         // then: B가 실제로 Offer를 받았는지 검증
         SignalingMessage received = receivedMessages.poll(5, TimeUnit.SECONDS);
-        System.out.println("Received message: " + received);
         assertThat(received).isNotNull();
-        assertThat(received.getType()).isEqualTo("offer");
+        assertThat(received.getType()).isEqualTo(SignalingType.OFFER);
         assertThat(received.getRoomId()).isEqualTo(testRoomId);
-        assertThat(received.getFromId()).isEqualTo(USER_A_ID);
-        assertThat(received.getToId()).isEqualTo(USER_B_ID);
+        assertThat(received.getFromId()).isEqualTo(userAId);
+        assertThat(received.getToId()).isEqualTo(userBId);
         assertThat(received.getSdp()).isEqualTo("v=0\r\no=- test-offer-sdp");
 
         // cleanup
@@ -135,8 +135,8 @@ class WebSocketIntegrationTest {
         // given
         String url = "ws://localhost:" + port + "/ws-signaling";
 
-        StompSession userA = stompClient.connect(url, new TestStompSessionHandler()).get(10, TimeUnit.SECONDS);
-        StompSession userB = stompClient.connect(url, new TestStompSessionHandler()).get(10, TimeUnit.SECONDS);
+        StompSession userA = connect(url, userAId);
+        StompSession userB = connect(url, userBId);
 
         BlockingQueue<SignalingMessage> receivedMessages = new LinkedBlockingQueue<>();
 
@@ -157,7 +157,7 @@ class WebSocketIntegrationTest {
 
         // when: B가 A에게 Answer 전송 (testRoomId 사용)
         SignalingMessage answer = new SignalingMessage(
-                "answer", testRoomId, USER_B_ID, USER_A_ID, "v=0\r\no=- test-answer-sdp"
+                SignalingType.ANSWER, testRoomId, userBId, userAId, "v=0\r\no=- test-answer-sdp"
         );
         userB.send("/app/signaling/" + testRoomId, answer);
 
@@ -165,10 +165,10 @@ class WebSocketIntegrationTest {
         SignalingMessage received = receivedMessages.poll(5, TimeUnit.SECONDS);
 
         assertThat(received).isNotNull();
-        assertThat(received.getType()).isEqualTo("answer");
+        assertThat(received.getType()).isEqualTo(SignalingType.ANSWER);
         assertThat(received.getRoomId()).isEqualTo(testRoomId);
-        assertThat(received.getFromId()).isEqualTo(USER_B_ID);
-        assertThat(received.getToId()).isEqualTo(USER_A_ID);
+        assertThat(received.getFromId()).isEqualTo(userBId);
+        assertThat(received.getToId()).isEqualTo(userAId);
         assertThat(received.getSdp()).isEqualTo("v=0\r\no=- test-answer-sdp");
 
         userA.disconnect();
@@ -176,66 +176,38 @@ class WebSocketIntegrationTest {
     }
 
     @Test
-    @DisplayName("연결 상태 메시지는 방 전체에 브로드캐스트되어야 한다")
+    @DisplayName("연결 상태 메시지는 상대방에게만 전달되어야 한다")
     @SuppressWarnings("deprecation")
-    void should_broadcast_connection_status_to_room() throws Exception {
+    void should_send_connection_status_only_to_peer() throws Exception {
         // given
         String url = "ws://localhost:" + port + "/ws-signaling";
 
-        StompSession userA = stompClient.connect(url, new TestStompSessionHandler()).get(10, TimeUnit.SECONDS);
-        StompSession userB = stompClient.connect(url, new TestStompSessionHandler()).get(10, TimeUnit.SECONDS);
+        StompSession userA = connect(url, userAId);
+        StompSession userB = connect(url, userBId);
 
         BlockingQueue<SignalingMessage> userAReceived = new LinkedBlockingQueue<>();
         BlockingQueue<SignalingMessage> userBReceived = new LinkedBlockingQueue<>();
 
-        // 둘 다 방 전체 메시지 구독
-        String roomTopic = "/topic/signaling/" + testRoomId;
-
-        userA.subscribe(roomTopic, new StompFrameHandler() {
-            @Override
-            public Type getPayloadType(StompHeaders headers) {
-                return SignalingMessage.class;
-            }
-
-            @Override
-            public void handleFrame(StompHeaders headers, Object payload) {
-                userAReceived.offer((SignalingMessage) payload);
-            }
-        });
-
-        userB.subscribe(roomTopic, new StompFrameHandler() {
-            @Override
-            public Type getPayloadType(StompHeaders headers) {
-                return SignalingMessage.class;
-            }
-
-            @Override
-            public void handleFrame(StompHeaders headers, Object payload) {
-                userBReceived.offer((SignalingMessage) payload);
-            }
-        });
+        // 둘 다 개인 메시지 구독 (방 토픽은 더 이상 사용하지 않음)
+        userA.subscribe("/user/queue/signaling", new TestStompFrameHandler(userAReceived));
+        userB.subscribe("/user/queue/signaling", new TestStompFrameHandler(userBReceived));
 
         Thread.sleep(1000);
 
         // when: A가 연결 성공 메시지 전송
         SignalingMessage connected = new SignalingMessage(
-                "connected", testRoomId, USER_A_ID, null, null
+                SignalingType.CONNECTED, testRoomId, userAId, null, null
         );
         userA.send("/app/signaling/" + testRoomId, connected);
 
-        // then: A와 B 모두 연결 성공 메시지를 받아야 함
-        SignalingMessage aReceived = userAReceived.poll(5, TimeUnit.SECONDS);
+        // then: B만 연결 성공 메시지를 받아야 함
         SignalingMessage bReceived = userBReceived.poll(5, TimeUnit.SECONDS);
-
-        // A도 자신의 메시지를 받음 (브로드캐스트)
-        assertThat(aReceived).isNotNull();
-        assertThat(aReceived.getType()).isEqualTo("connected");
-        assertThat(aReceived.getFromId()).isEqualTo(USER_A_ID);
-
-        // B도 A의 연결 성공 메시지를 받음
         assertThat(bReceived).isNotNull();
-        assertThat(bReceived.getType()).isEqualTo("connected");
-        assertThat(bReceived.getFromId()).isEqualTo(USER_A_ID);
+        assertThat(bReceived.getType()).isEqualTo(SignalingType.CONNECTED);
+        assertThat(bReceived.getFromId()).isEqualTo(userAId);
+
+        // A에게는 자기 메시지가 되돌아오지 않음
+        assertThat(userAReceived.poll(500, TimeUnit.MILLISECONDS)).isNull();
 
         userA.disconnect();
         userB.disconnect();
@@ -248,51 +220,55 @@ class WebSocketIntegrationTest {
         // given
         String url = "ws://localhost:" + port + "/ws-signaling";
 
-        StompSession userA = stompClient.connect(url, new TestStompSessionHandler()).get(10, TimeUnit.SECONDS);
-        StompSession userB = stompClient.connect(url, new TestStompSessionHandler()).get(10, TimeUnit.SECONDS);
+        StompSession userA = connect(url, userAId);
+        StompSession userB = connect(url, userBId);
 
         BlockingQueue<SignalingMessage> aPersonalMessages = new LinkedBlockingQueue<>();
         BlockingQueue<SignalingMessage> bPersonalMessages = new LinkedBlockingQueue<>();
-        BlockingQueue<SignalingMessage> roomMessages = new LinkedBlockingQueue<>();
 
-        // 개인 메시지 구독
+        // 개인 메시지 구독 (연결 상태 알림도 개인 큐로 전달됨)
         userA.subscribe("/user/queue/signaling", new TestStompFrameHandler(aPersonalMessages));
         userB.subscribe("/user/queue/signaling", new TestStompFrameHandler(bPersonalMessages));
 
-        // 방 전체 메시지 구독 (연결 상태용)
-        userA.subscribe("/topic/signaling/" + testRoomId, new TestStompFrameHandler(roomMessages));
-
         Thread.sleep(1000);
 
         // when & then: 1. A가 B에게 Offer 전송
-        SignalingMessage offer = new SignalingMessage("offer", testRoomId, USER_A_ID, USER_B_ID, "offer-sdp");
+        SignalingMessage offer = new SignalingMessage(SignalingType.OFFER, testRoomId, userAId, userBId, "offer-sdp");
         userA.send("/app/signaling/" + testRoomId, offer);
 
         SignalingMessage bReceivedOffer = bPersonalMessages.poll(5, TimeUnit.SECONDS);
         assertThat(bReceivedOffer).isNotNull();
-        assertThat(bReceivedOffer.getType()).isEqualTo("offer");
+        assertThat(bReceivedOffer.getType()).isEqualTo(SignalingType.OFFER);
 
         // 2. B가 A에게 Answer 응답
-        SignalingMessage answer = new SignalingMessage("answer", testRoomId, USER_B_ID, USER_A_ID, "answer-sdp");
+        SignalingMessage answer = new SignalingMessage(SignalingType.ANSWER, testRoomId, userBId, userAId, "answer-sdp");
         userB.send("/app/signaling/" + testRoomId, answer);
 
         SignalingMessage aReceivedAnswer = aPersonalMessages.poll(5, TimeUnit.SECONDS);
         assertThat(aReceivedAnswer).isNotNull();
-        assertThat(aReceivedAnswer.getType()).isEqualTo("answer");
+        assertThat(aReceivedAnswer.getType()).isEqualTo(SignalingType.ANSWER);
 
         // 3. A가 연결 성공 알림
-        SignalingMessage aConnected = new SignalingMessage("connected", testRoomId, USER_A_ID, null, null);
+        SignalingMessage aConnected = new SignalingMessage(SignalingType.CONNECTED, testRoomId, userAId, null, null);
         userA.send("/app/signaling/" + testRoomId, aConnected);
 
-        SignalingMessage roomReceivedConnected = roomMessages.poll(5, TimeUnit.SECONDS);
-        assertThat(roomReceivedConnected).isNotNull();
-        assertThat(roomReceivedConnected.getType()).isEqualTo("connected");
-        assertThat(roomReceivedConnected.getFromId()).isEqualTo(USER_A_ID);
+        SignalingMessage bReceivedConnected = bPersonalMessages.poll(5, TimeUnit.SECONDS);
+        assertThat(bReceivedConnected).isNotNull();
+        assertThat(bReceivedConnected.getType()).isEqualTo(SignalingType.CONNECTED);
+        assertThat(bReceivedConnected.getFromId()).isEqualTo(userAId);
 
         userA.disconnect();
         userB.disconnect();
     }
 
+    // 핸드셰이크에 JWT 를 실어 연결 (STOMP 세션의 사용자는 인증된 Principal 로만 정해진다)
+    @SuppressWarnings("deprecation")
+    private StompSession connect(String url, Long userId) throws Exception {
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.set(HttpHeaders.AUTHORIZATION, "Bearer " + jwtUtil.generateToken(userId.toString()));
+        return stompClient.connect(url, handshakeHeaders, new TestStompSessionHandler()).get(10, TimeUnit.SECONDS);
+    }
+
     // Helper Classes
     private static class TestStompSessionHandler extends StompSessionHandlerAdapter {
         @Override
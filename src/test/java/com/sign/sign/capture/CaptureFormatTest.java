@@ -0,0 +1,107 @@
+package com.sign.sign.capture;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaptureFormatTest {
+
+    private static final String ROOM_ID = "ABC123";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록한 프레임을 시각/방/페이로드 그대로 다시 읽어야 한다")
+    void should_round_trip_frames() throws IOException {
+        // given
+        Path file = directory.resolve("signaling" + CaptureFormat.FILE_SUFFIX);
+        try (CaptureFormat.Writer writer = CaptureFormat.openWriter(file, 1_700_000_000_000L)) {
+            writer.write(new CapturedFrame(1_000, ROOM_ID, json("offer", 1, 2)));
+            writer.write(new CapturedFrame(5_000_000, ROOM_ID, json("answer", 2, 1)));
+        }
+
+        // when
+        List<CapturedFrame> frames = new ArrayList<>();
+        long startEpochMillis;
+        try (CaptureFormat.Reader reader = CaptureFormat.openReader(file)) {
+            startEpochMillis = reader.getStartEpochMillis();
+            CapturedFrame frame;
+            while ((frame = reader.next()) != null) {
+                frames.add(frame);
+            }
+        }
+
+        // then
+        assertThat(startEpochMillis).isEqualTo(1_700_000_000_000L);
+        assertThat(frames).hasSize(2);
+        assertThat(frames.get(0).getOffsetNanos()).isEqualTo(1_000);
+        assertThat(frames.get(1).getOffsetNanos()).isEqualTo(5_000_000);
+        assertThat(frames.get(1).getRoomId()).isEqualTo(ROOM_ID);
+        assertThat(frames.get(1).getPayload()).isEqualTo(json("answer", 2, 1));
+    }
+
+    @Test
+    @DisplayName("기록 중 끊겨 끝이 잘린 파일은 마지막 온전한 프레임까지 읽어야 한다")
+    void should_stop_at_truncated_tail() throws IOException {
+        // given - flush 된 프레임 두 개 뒤에 잘린 꼬리
+        Path file = directory.resolve("truncated" + CaptureFormat.FILE_SUFFIX);
+        CaptureFormat.Writer writer = CaptureFormat.openWriter(file, 0);
+        writer.write(new CapturedFrame(1_000, ROOM_ID, json("offer", 1, 2)));
+        writer.write(new CapturedFrame(2_000, ROOM_ID, json("answer", 2, 1)));
+        writer.flush();
+        writer.write(new CapturedFrame(3_000, ROOM_ID, json("connected", 1, 2)));
+
+        // when - gzip 트레일러 없이 flush 된 데까지만 있는 파일
+        int count = 0;
+        try (CaptureFormat.Reader reader = CaptureFormat.openReader(file)) {
+            while (reader.next() != null) {
+                count++;
+            }
+        } finally {
+            writer.close();
+        }
+
+        // then
+        assertThat(count).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("64KB 가 넘는 roomId 도 그대로 기록하고 다시 읽어야 한다")
+    void should_round_trip_oversized_room_id() throws IOException {
+        // given
+        Path file = directory.resolve("oversized" + CaptureFormat.FILE_SUFFIX);
+        String oversized = "가".repeat(70_000);
+        try (CaptureFormat.Writer writer = CaptureFormat.openWriter(file, 0)) {
+            writer.write(new CapturedFrame(1_000, oversized, json("offer", 1, 2)));
+            writer.write(new CapturedFrame(2_000, ROOM_ID, json("answer", 2, 1)));
+        }
+
+        // when
+        List<CapturedFrame> frames = new ArrayList<>();
+        try (CaptureFormat.Reader reader = CaptureFormat.openReader(file)) {
+            CapturedFrame frame;
+            while ((frame = reader.next()) != null) {
+                frames.add(frame);
+            }
+        }
+
+        // then
+        assertThat(frames).hasSize(2);
+        assertThat(frames.get(0).getRoomId()).isEqualTo(oversized);
+        assertThat(frames.get(1).getRoomId()).isEqualTo(ROOM_ID);
+        assertThat(frames.get(1).getPayload()).isEqualTo(json("answer", 2, 1));
+    }
+
+    private static byte[] json(String type, long fromId, long toId) {
+        return ("{\"type\":\"" + type + "\",\"roomId\":\"" + ROOM_ID + "\",\"fromId\":" + fromId
+                + ",\"toId\":" + toId + "}").getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,55 @@
+package com.sign.sign.capture;
+
+import com.sign.sign.config.SignalingProperties;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrafficCaptureTest {
+
+    private static final String ROOM_ID = "ABC123";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록할 수 없는 프레임은 건너뛰고 다음 프레임부터 계속 캡처해야 한다")
+    void should_keep_capturing_after_bad_frame() throws IOException {
+        // given
+        SignalingProperties properties = new SignalingProperties();
+        properties.getCapture().setEnabled(true);
+        properties.getCapture().setDirectory(directory.toString());
+        TrafficCapture capture = new TrafficCapture(properties);
+        capture.start();
+
+        // when
+        capture.record(null, payload("offer"));
+        capture.record(ROOM_ID, payload("answer"));
+        capture.stop();
+
+        // then
+        assertThat(capture.getDropped()).isEqualTo(1);
+        assertThat(capture.getCaptured()).isEqualTo(1);
+        List<CapturedFrame> frames = new ArrayList<>();
+        try (CaptureFormat.Reader reader = CaptureFormat.openReader(capture.getFile())) {
+            CapturedFrame frame;
+            while ((frame = reader.next()) != null) {
+                frames.add(frame);
+            }
+        }
+        assertThat(frames).hasSize(1);
+        assertThat(frames.get(0).getRoomId()).isEqualTo(ROOM_ID);
+        assertThat(frames.get(0).getPayload()).isEqualTo(payload("answer"));
+    }
+
+    private static byte[] payload(String type) {
+        return ("{\"type\":\"" + type + "\",\"roomId\":\"" + ROOM_ID + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+}
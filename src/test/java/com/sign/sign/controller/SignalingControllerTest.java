@@ -1,47 +1,121 @@
 package com.sign.sign.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingAck;
 import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.journal.SignalingJournal;
+import com.sign.sign.reactive.ReactiveSessionRegistry;
+import com.sign.sign.reactive.ReactiveSignalingSession;
+import com.sign.sign.service.RoomMembership;
 import com.sign.sign.service.RoomService;
+import com.sign.sign.signaling.CallSetup;
+import com.sign.sign.signaling.MessageDeduplicator;
+import com.sign.sign.signaling.SdpMinifier;
+import com.sign.sign.signaling.SignalingAuthorizer;
+import com.sign.sign.signaling.SignalingDispatcher;
+import com.sign.sign.signaling.SignalingHandlerRegistry;
+import com.sign.sign.signaling.SignalingMessenger;
+import com.sign.sign.signaling.handler.AnswerHandler;
+import com.sign.sign.signaling.handler.ConnectedHandler;
+import com.sign.sign.signaling.handler.ConnectionFailedHandler;
+import com.sign.sign.signaling.handler.DisconnectedHandler;
+import com.sign.sign.signaling.handler.JoinHandler;
+import com.sign.sign.signaling.handler.LeaveHandler;
+import com.sign.sign.signaling.handler.OfferHandler;
+import com.sign.sign.state.CompactStateStore;
+import com.sign.sign.trace.SignalingTrace;
+import com.sign.sign.websocket.SessionResumeStore;
+import com.sign.sign.websocket.SignalingSessionRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class SignalingControllerTest {
 
-    @InjectMocks
     private SignalingController signalingController;
 
+    private CompactStateStore stateStore;
+
+    private ReactiveSessionRegistry reactiveSessions;
+
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
     @Mock
     private RoomService roomService;
 
+    @Mock
+    private SignalingSessionRegistry sessionRegistry;
+
+    @Mock
+    private SessionResumeStore resumeStore;
+
+    @Mock
+    private CallSetup callSetup;
+
     // 테스트 데이터
     private static final String ROOM_ID = "ABC123";
     private static final Long USER_A_ID = 1L;  // 호출자
     private static final Long USER_B_ID = 2L;  // 수신자
+    private static final Long USER_C_ID = 3L;  // 다자간 방 참여자
     private static final String SAMPLE_SDP = "v=0\r\no=- 123456789 0 IN IP4 192.168.1.100\r\n...";
+    private static final String SESSION_ID = "session-1";
+    private static final String OTHER_DEVICE_SESSION_ID = "session-2";  // 같은 사용자의 다른 기기
+    private static final RoomMembership MEMBERSHIP = RoomMembership.of(ROOM_ID, USER_A_ID, USER_B_ID);
+
+    @BeforeEach
+    void setUp() {
+        // 실제 핸들러 테이블에 목 전송 계층을 연결
+        SignalingProperties properties = new SignalingProperties();
+        stateStore = new CompactStateStore(properties);
+        SignalingTrace trace = new SignalingTrace(properties);
+        reactiveSessions = new ReactiveSessionRegistry(new ObjectMapper());
+        SignalingMessenger messenger = new SignalingMessenger(
+                messagingTemplate, resumeStore, reactiveSessions, trace, sessionRegistry);
+        SdpMinifier sdpMinifier = new SdpMinifier(properties);
+        SignalingHandlerRegistry handlerRegistry = new SignalingHandlerRegistry(List.of(
+                new OfferHandler(messenger, sdpMinifier),
+                new AnswerHandler(messenger, sdpMinifier),
+                new ConnectedHandler(messenger),
+                new DisconnectedHandler(messenger),
+                new ConnectionFailedHandler(messenger),
+                new JoinHandler(messenger),
+                new LeaveHandler(messenger, roomService, sessionRegistry)
+        ));
+        signalingController = new SignalingController(
+                new SignalingDispatcher(messenger, roomService, sessionRegistry, handlerRegistry,
+                        new SignalingJournal(properties), new MessageDeduplicator(properties), trace,
+                        new SignalingAuthorizer(stateStore, properties), callSetup));
+    }
 
     @Test
     @DisplayName("A가 B에게 Offer를 전송하면 B에게만 전달되어야 한다")
     void should_relay_offer_from_A_to_B() {
         // given
         SignalingMessage offer = new SignalingMessage(
-                "offer", ROOM_ID, USER_A_ID, USER_B_ID, SAMPLE_SDP
+                SignalingType.OFFER, ROOM_ID, USER_A_ID, USER_B_ID, SAMPLE_SDP
         );
-        when(roomService.findByRoomId(ROOM_ID)).thenReturn(mock(com.sign.sign.domain.Room.class));
+        givenRoom(MEMBERSHIP);
 
         // when
-        signalingController.handleSignaling(ROOM_ID, offer);
+        send(ROOM_ID, offer);
 
         // then
         verify(messagingTemplate).convertAndSendToUser(
@@ -56,12 +130,12 @@ class SignalingControllerTest {
     void should_relay_answer_from_B_to_A() {
         // given
         SignalingMessage answer = new SignalingMessage(
-                "answer", ROOM_ID, USER_B_ID, USER_A_ID, SAMPLE_SDP
+                SignalingType.ANSWER, ROOM_ID, USER_B_ID, USER_A_ID, SAMPLE_SDP
         );
-        when(roomService.findByRoomId(ROOM_ID)).thenReturn(mock(com.sign.sign.domain.Room.class));
+        givenRoom(MEMBERSHIP);
 
         // when
-        signalingController.handleSignaling(ROOM_ID, answer);
+        send(ROOM_ID, answer);
 
         // then
         verify(messagingTemplate).convertAndSendToUser(
@@ -72,39 +146,42 @@ class SignalingControllerTest {
     }
 
     @Test
-    @DisplayName("A가 P2P 연결에 성공하면 방 전체에 알림을 보내야 한다")
-    void should_broadcast_connection_success_from_A() {
+    @DisplayName("A가 P2P 연결에 성공하면 상대방(B)에게만 알림을 보내야 한다")
+    void should_notify_peer_of_connection_success_from_A() {
         // given
         SignalingMessage connected = new SignalingMessage(
-                "connected", ROOM_ID, USER_A_ID, null, null
+                SignalingType.CONNECTED, ROOM_ID, USER_A_ID, null, null
         );
-        when(roomService.findByRoomId(ROOM_ID)).thenReturn(mock(com.sign.sign.domain.Room.class));
+        givenRoom(MEMBERSHIP);
 
         // when
-        signalingController.handleSignaling(ROOM_ID, connected);
+        send(ROOM_ID, connected);
 
         // then
-        verify(messagingTemplate).convertAndSend(
-                eq("/topic/signaling/" + ROOM_ID),  // 방 전체에
-                eq(connected)                       // 연결 성공 메시지
+        verify(messagingTemplate).convertAndSendToUser(
+                eq("2"),                  // B에게만
+                eq("/queue/signaling"),
+                eq(connected)             // 연결 성공 메시지
         );
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(SignalingMessage.class));
     }
 
     @Test
-    @DisplayName("B가 P2P 연결에 성공하면 방 전체에 알림을 보내야 한다")
-    void should_broadcast_connection_success_from_B() {
+    @DisplayName("B가 P2P 연결에 성공하면 상대방(A)에게만 알림을 보내야 한다")
+    void should_notify_peer_of_connection_success_from_B() {
         // given
         SignalingMessage connected = new SignalingMessage(
-                "connected", ROOM_ID, USER_B_ID, null, null
+                SignalingType.CONNECTED, ROOM_ID, USER_B_ID, null, null
         );
-        when(roomService.findByRoomId(ROOM_ID)).thenReturn(mock(com.sign.sign.domain.Room.class));
+        givenRoom(MEMBERSHIP);
 
         // when
-        signalingController.handleSignaling(ROOM_ID, connected);
+        send(ROOM_ID, connected);
 
         // then
-        verify(messagingTemplate).convertAndSend(
-                eq("/topic/signaling/" + ROOM_ID),
+        verify(messagingTemplate).convertAndSendToUser(
+                eq("1"),
+                eq("/queue/signaling"),
                 eq(connected)
         );
     }
@@ -114,22 +191,26 @@ class SignalingControllerTest {
     void should_delete_room_and_notify_when_A_leaves() {
         // given
         SignalingMessage leave = new SignalingMessage(
-                "leave", ROOM_ID, USER_A_ID, null, null
+                SignalingType.LEAVE, ROOM_ID, USER_A_ID, null, null
         );
-        when(roomService.findByRoomId(ROOM_ID)).thenReturn(mock(com.sign.sign.domain.Room.class));
+        givenRoom(MEMBERSHIP);
 
         // when
-        signalingController.handleSignaling(ROOM_ID, leave);
+        send(ROOM_ID, leave);
 
         // then
-        // 1. 방 전체에 퇴장 알림
-        verify(messagingTemplate).convertAndSend(
-                eq("/topic/signaling/" + ROOM_ID),
+        // 1. 상대방(B)에게만 퇴장 알림
+        verify(messagingTemplate).convertAndSendToUser(
+                eq("2"),
+                eq("/queue/signaling"),
                 eq(leave)
         );
 
         // 2. 방 삭제
         verify(roomService).remove(ROOM_ID);
+
+        // 3. 이후 소켓 해제 시 중복 알림이 가지 않도록 세션 바인딩 해제
+        verify(sessionRegistry).unbindRoom(ROOM_ID);
     }
 
     @Test
@@ -137,81 +218,213 @@ class SignalingControllerTest {
     void should_delete_room_and_notify_when_B_leaves() {
         // given
         SignalingMessage leave = new SignalingMessage(
-                "leave", ROOM_ID, USER_B_ID, null, null
+                SignalingType.LEAVE, ROOM_ID, USER_B_ID, null, null
         );
-        when(roomService.findByRoomId(ROOM_ID)).thenReturn(mock(com.sign.sign.domain.Room.class));
+        givenRoom(MEMBERSHIP);
 
         // when
-        signalingController.handleSignaling(ROOM_ID, leave);
+        send(ROOM_ID, leave);
 
         // then
-        verify(messagingTemplate).convertAndSend(
-                eq("/topic/signaling/" + ROOM_ID),
+        verify(messagingTemplate).convertAndSendToUser(
+                eq("1"),
+                eq("/queue/signaling"),
                 eq(leave)
         );
         verify(roomService).remove(ROOM_ID);
     }
 
+    @Test
+    @DisplayName("다자간 방에서 leave 하면 나간 사용자만 빠지고 나머지 전원에게 알림이 가야 한다")
+    void should_remove_only_leaver_in_multi_party_room() {
+        // given
+        SignalingMessage leave = new SignalingMessage(
+                SignalingType.LEAVE, ROOM_ID, USER_A_ID, null, null
+        );
+        givenRoom(RoomMembership.of(ROOM_ID, USER_A_ID, USER_B_ID, USER_C_ID));
+        when(roomService.leave(ROOM_ID, USER_A_ID)).thenReturn(false);
+
+        // when
+        send(ROOM_ID, leave);
+
+        // then
+        verify(messagingTemplate).convertAndSendToUser("2", "/queue/signaling", leave);
+        verify(messagingTemplate).convertAndSendToUser("3", "/queue/signaling", leave);
+        verify(messagingTemplate, never()).convertAndSendToUser(eq("1"), anyString(), any());
+
+        verify(sessionRegistry).unbindUser(ROOM_ID, USER_A_ID);
+        verify(sessionRegistry, never()).unbindRoom(anyString());
+        verify(roomService, never()).remove(anyString());
+    }
+
+    @Test
+    @DisplayName("join 메시지는 기존 참여자 전원에게 전달되어야 한다")
+    void should_fan_out_join_to_existing_participants() {
+        // given
+        SignalingMessage join = new SignalingMessage(
+                SignalingType.JOIN, ROOM_ID, USER_C_ID, null, null
+        );
+        givenRoom(RoomMembership.of(ROOM_ID, USER_A_ID, USER_B_ID, USER_C_ID));
+
+        // when
+        send(ROOM_ID, join);
+
+        // then
+        verify(messagingTemplate).convertAndSendToUser("1", "/queue/signaling", join);
+        verify(messagingTemplate).convertAndSendToUser("2", "/queue/signaling", join);
+        verify(messagingTemplate, never()).convertAndSendToUser(eq("3"), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("방 참여자가 아닌 사용자에게 보내는 Offer는 전달되지 않아야 한다")
+    void should_not_relay_offer_to_non_participant() {
+        // given
+        SignalingMessage offer = new SignalingMessage(
+                SignalingType.OFFER, ROOM_ID, USER_A_ID, USER_C_ID, SAMPLE_SDP
+        );
+        givenRoom(MEMBERSHIP);
+
+        // when
+        send(ROOM_ID, offer);
+
+        // then
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("방 참여자가 아닌 사용자가 보낸 Offer는 전달되지 않아야 한다")
+    void should_not_relay_offer_from_non_participant() {
+        // given
+        SignalingMessage offer = new SignalingMessage(
+                SignalingType.OFFER, ROOM_ID, USER_C_ID, USER_B_ID, SAMPLE_SDP
+        );
+        givenRoom(MEMBERSHIP);
+
+        // when
+        send(ROOM_ID, offer);
+
+        // then
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+        verify(sessionRegistry, never()).bind(anyString(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("세션 사용자와 다른 fromId 로 보낸 Offer는 전달되지 않아야 한다")
+    void should_not_relay_offer_with_spoofed_sender() {
+        // given
+        SignalingMessage offer = new SignalingMessage(
+                SignalingType.OFFER, ROOM_ID, USER_A_ID, USER_B_ID, SAMPLE_SDP
+        );
+        givenRoom(MEMBERSHIP);
+        stateStore.registerSession(SESSION_ID, USER_C_ID);
+
+        // when
+        signalingController.handleSignaling(ROOM_ID, offer, headers());
+
+        // then
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("사용자를 모르는 세션에서 온 Offer는 첫 fromId 를 믿지 않고 전달하지 않아야 한다")
+    void should_not_relay_offer_from_session_without_user() {
+        // given
+        SignalingMessage offer = new SignalingMessage(
+                SignalingType.OFFER, ROOM_ID, USER_A_ID, USER_B_ID, SAMPLE_SDP
+        );
+        givenRoom(MEMBERSHIP);
+
+        // when
+        signalingController.handleSignaling(ROOM_ID, offer, headers());
+
+        // then
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+        verify(sessionRegistry, never()).bind(anyString(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("없는 방 에러는 fromId 가 없거나 남의 ID 여도 보낸 세션에만 가야 한다")
+    void should_not_route_room_not_found_error_by_payload_sender() {
+        // given
+        String invalidRoomId = "INVALID";
+        when(roomService.findMembership(invalidRoomId)).thenReturn(Optional.empty());
+
+        // when
+        signalingController.handleSignaling(invalidRoomId, new SignalingMessage(
+                SignalingType.OFFER, invalidRoomId, USER_B_ID, USER_A_ID, SAMPLE_SDP), headers());
+        signalingController.handleSignaling(invalidRoomId, new SignalingMessage(
+                SignalingType.OFFER, invalidRoomId, null, USER_A_ID, SAMPLE_SDP), headers());
+        signalingController.handleSignaling(invalidRoomId, new SignalingMessage(
+                SignalingType.OFFER, invalidRoomId, USER_B_ID, USER_A_ID, SAMPLE_SDP),
+                SimpMessageHeaderAccessor.create());
+
+        // then
+        verify(messagingTemplate, times(2)).convertAndSendToUser(
+                eq(SESSION_ID), eq("/queue/errors"), anyString(), anyMap());
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+    }
+
     @Test
     @DisplayName("Full ICE 시나리오: A Offer → B Answer 전체 흐름 테스트")
     void should_complete_full_ice_signaling_flow() {
         // given
-        when(roomService.findByRoomId(ROOM_ID)).thenReturn(mock(com.sign.sign.domain.Room.class));
+        givenRoom(MEMBERSHIP);
 
         // when & then
         // 1. A가 B에게 Offer 전송
         SignalingMessage offer = new SignalingMessage(
-                "offer", ROOM_ID, USER_A_ID, USER_B_ID, SAMPLE_SDP
+                SignalingType.OFFER, ROOM_ID, USER_A_ID, USER_B_ID, SAMPLE_SDP
         );
-        signalingController.handleSignaling(ROOM_ID, offer);
+        send(ROOM_ID, offer);
 
         verify(messagingTemplate).convertAndSendToUser("2", "/queue/signaling", offer);
 
         // 2. B가 A에게 Answer 응답
         SignalingMessage answer = new SignalingMessage(
-                "answer", ROOM_ID, USER_B_ID, USER_A_ID, SAMPLE_SDP
+                SignalingType.ANSWER, ROOM_ID, USER_B_ID, USER_A_ID, SAMPLE_SDP
         );
-        signalingController.handleSignaling(ROOM_ID, answer);
+        send(ROOM_ID, answer);
 
         verify(messagingTemplate).convertAndSendToUser("1", "/queue/signaling", answer);
 
         // 3. A 연결 성공
         SignalingMessage aConnected = new SignalingMessage(
-                "connected", ROOM_ID, USER_A_ID, null, null
+                SignalingType.CONNECTED, ROOM_ID, USER_A_ID, null, null
         );
-        signalingController.handleSignaling(ROOM_ID, aConnected);
+        send(ROOM_ID, aConnected);
 
-        verify(messagingTemplate).convertAndSend("/topic/signaling/" + ROOM_ID, aConnected);
+        verify(messagingTemplate).convertAndSendToUser("2", "/queue/signaling", aConnected);
 
         // 4. B도 연결 성공
         SignalingMessage bConnected = new SignalingMessage(
-                "connected", ROOM_ID, USER_B_ID, null, null
+                SignalingType.CONNECTED, ROOM_ID, USER_B_ID, null, null
         );
-        signalingController.handleSignaling(ROOM_ID, bConnected);
+        send(ROOM_ID, bConnected);
 
-        verify(messagingTemplate).convertAndSend("/topic/signaling/" + ROOM_ID, bConnected);
+        verify(messagingTemplate).convertAndSendToUser("1", "/queue/signaling", bConnected);
     }
 
     @Test
-    @DisplayName("존재하지 않는 방에 메시지를 보내면 에러를 발신자에게만 전송해야 한다")
+    @DisplayName("존재하지 않는 방에 메시지를 보내면 에러를 보낸 세션에만 전송해야 한다")
     void should_send_error_to_sender_when_room_not_exists() {
         // given
         String invalidRoomId = "INVALID";
         SignalingMessage offer = new SignalingMessage(
-                "offer", invalidRoomId, USER_A_ID, USER_B_ID, SAMPLE_SDP
+                SignalingType.OFFER, invalidRoomId, USER_A_ID, USER_B_ID, SAMPLE_SDP
         );
-        when(roomService.findByRoomId(invalidRoomId))
-                .thenThrow(new IllegalArgumentException("방을 찾을 수 없습니다"));
+        when(roomService.findMembership(invalidRoomId)).thenReturn(Optional.empty());
 
         // when
-        signalingController.handleSignaling(invalidRoomId, offer);
+        send(invalidRoomId, offer);
 
         // then
         verify(messagingTemplate).convertAndSendToUser(
-                eq("1"),                    // A에게만
+                eq(SESSION_ID),             // 보낸 세션에만 (fromId 가 아니라)
                 eq("/queue/errors"),        // 에러 큐로
-                contains("방을 찾을 수 없습니다")  // 에러 메시지
+                contains("방을 찾을 수 없습니다"),  // 에러 메시지
+                anyMap()
         );
+        verify(messagingTemplate, never()).convertAndSendToUser(eq("1"), eq("/queue/errors"), any());
 
         // Offer는 전송되지 않아야 함
         verify(messagingTemplate, never()).convertAndSendToUser(
@@ -224,12 +437,12 @@ class SignalingControllerTest {
     void should_ignore_unknown_message_type() {
         // given
         SignalingMessage unknownMessage = new SignalingMessage(
-                "unknown-type", ROOM_ID, USER_A_ID, USER_B_ID, null
+                SignalingType.UNKNOWN, ROOM_ID, USER_A_ID, USER_B_ID, null
         );
-        when(roomService.findByRoomId(ROOM_ID)).thenReturn(mock(com.sign.sign.domain.Room.class));
+        givenRoom(MEMBERSHIP);
 
         // when
-        signalingController.handleSignaling(ROOM_ID, unknownMessage);
+        send(ROOM_ID, unknownMessage);
 
         // then
         // 어떤 메시지도 전송되지 않아야 함
@@ -242,14 +455,214 @@ class SignalingControllerTest {
     void should_not_process_offer_without_sdp() {
         // given
         SignalingMessage invalidOffer = new SignalingMessage(
-                "offer", ROOM_ID, USER_A_ID, USER_B_ID, null  // SDP 없음
+                SignalingType.OFFER, ROOM_ID, USER_A_ID, USER_B_ID, null  // SDP 없음
         );
-        when(roomService.findByRoomId(ROOM_ID)).thenReturn(mock(com.sign.sign.domain.Room.class));
+        givenRoom(MEMBERSHIP);
 
         // when
-        signalingController.handleSignaling(ROOM_ID, invalidOffer);
+        send(ROOM_ID, invalidOffer);
 
         // then
         verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
     }
+
+    @Test
+    @DisplayName("같은 messageId 로 재시도한 Offer는 한 번만 전달되고 발신자는 매번 ack 를 받아야 한다")
+    void should_relay_retried_offer_once() {
+        // given
+        SignalingMessage offer = new SignalingMessage(
+                SignalingType.OFFER, ROOM_ID, USER_A_ID, USER_B_ID, SAMPLE_SDP, "offer-1"
+        );
+        SignalingMessage retry = new SignalingMessage(
+                SignalingType.OFFER, ROOM_ID, USER_A_ID, USER_B_ID, SAMPLE_SDP, "offer-1"
+        );
+        givenRoom(MEMBERSHIP);
+
+        // when
+        send(ROOM_ID, offer);
+        send(ROOM_ID, retry);
+
+        // then
+        verify(messagingTemplate, times(1)).convertAndSendToUser(eq("2"), eq("/queue/signaling"), any());
+        ArgumentCaptor<SignalingAck> acks = ArgumentCaptor.forClass(SignalingAck.class);
+        verify(messagingTemplate, times(2)).convertAndSendToUser(
+                eq(SESSION_ID), eq("/queue/ack"), acks.capture(), anyMap());
+        assertThat(acks.getAllValues()).extracting(SignalingAck::getMessageId).containsOnly("offer-1");
+        assertThat(acks.getAllValues()).extracting(SignalingAck::isDuplicate).containsExactly(false, true);
+    }
+
+    @Test
+    @DisplayName("ack 는 보낸 세션에만 가고 같은 사용자의 다른 기기로는 가지 않아야 한다")
+    void should_ack_only_sending_session() {
+        // given
+        SignalingMessage offer = new SignalingMessage(
+                SignalingType.OFFER, ROOM_ID, USER_A_ID, USER_B_ID, SAMPLE_SDP, "offer-1"
+        );
+        givenRoom(MEMBERSHIP);
+
+        // when
+        send(ROOM_ID, offer);
+
+        // then
+        verify(messagingTemplate).convertAndSendToUser(
+                eq(SESSION_ID), eq("/queue/ack"), any(SignalingAck.class), anyMap());
+        verify(messagingTemplate, never()).convertAndSendToUser(eq("1"), eq("/queue/ack"), any());
+        verify(messagingTemplate, never()).convertAndSendToUser(
+                eq(OTHER_DEVICE_SESSION_ID), eq("/queue/ack"), any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("여러 기기 중 먼저 answer 한 기기가 통화를 차지하고 나머지 기기에는 answered-elsewhere 를 보내야 한다")
+    void should_collapse_other_devices_on_first_answer() {
+        // given
+        SignalingMessage answer = new SignalingMessage(
+                SignalingType.ANSWER, ROOM_ID, USER_B_ID, USER_A_ID, SAMPLE_SDP
+        );
+        givenRoom(MEMBERSHIP);
+        when(sessionRegistry.claim(ROOM_ID, USER_B_ID, SESSION_ID)).thenReturn(null);
+        when(sessionRegistry.getSessionsOfUser(USER_B_ID)).thenReturn(Set.of(SESSION_ID, OTHER_DEVICE_SESSION_ID));
+
+        // when
+        send(ROOM_ID, answer);
+
+        // then
+        verify(messagingTemplate).convertAndSendToUser("1", "/queue/signaling", answer);
+        ArgumentCaptor<SignalingMessage> collapsed = ArgumentCaptor.forClass(SignalingMessage.class);
+        verify(messagingTemplate).convertAndSendToUser(
+                eq(OTHER_DEVICE_SESSION_ID), eq("/queue/signaling"), collapsed.capture(), anyMap());
+        verify(messagingTemplate, never()).convertAndSendToUser(eq(SESSION_ID), anyString(), any(), anyMap());
+        assertThat(collapsed.getValue().getType()).isEqualTo(SignalingType.ANSWERED_ELSEWHERE);
+        assertThat(collapsed.getValue().getRoomId()).isEqualTo(ROOM_ID);
+        verify(sessionRegistry).bind(SESSION_ID, USER_B_ID, ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("다른 기기가 이미 받은 통화에 늦게 보낸 answer 는 전달하지 않고 그 기기에 answered-elsewhere 를 보내야 한다")
+    void should_drop_late_answer_from_other_device() {
+        // given
+        SignalingMessage answer = new SignalingMessage(
+                SignalingType.ANSWER, ROOM_ID, USER_B_ID, USER_A_ID, SAMPLE_SDP
+        );
+        givenRoom(MEMBERSHIP);
+        when(sessionRegistry.claim(ROOM_ID, USER_B_ID, SESSION_ID)).thenReturn(OTHER_DEVICE_SESSION_ID);
+
+        // when
+        send(ROOM_ID, answer);
+
+        // then
+        verify(messagingTemplate, never()).convertAndSendToUser("1", "/queue/signaling", answer);
+        verify(messagingTemplate).convertAndSendToUser(eq(SESSION_ID), eq("/queue/signaling"),
+                argThat(message -> ((SignalingMessage) message).getType() == SignalingType.ANSWERED_ELSEWHERE),
+                anyMap());
+        // 늦은 기기는 방에 묶지 않는다 (끊겨도 상대방에게 알리지 않도록)
+        verify(sessionRegistry, never()).bind(anyString(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("통화를 차지한 기기가 있으면 이후 offer 는 그 기기 세션으로만 가야 한다")
+    void should_route_offer_only_to_claiming_device() {
+        // given
+        SignalingMessage offer = new SignalingMessage(
+                SignalingType.OFFER, ROOM_ID, USER_A_ID, USER_B_ID, SAMPLE_SDP
+        );
+        givenRoom(MEMBERSHIP);
+        when(sessionRegistry.getClaimedSession(ROOM_ID, USER_B_ID)).thenReturn(OTHER_DEVICE_SESSION_ID);
+
+        // when
+        send(ROOM_ID, offer);
+
+        // then
+        verify(messagingTemplate).convertAndSendToUser(
+                eq(OTHER_DEVICE_SESSION_ID), eq("/queue/signaling"), eq(offer), anyMap());
+        verify(messagingTemplate, never()).convertAndSendToUser("2", "/queue/signaling", offer);
+    }
+
+    @Test
+    @DisplayName("통화를 STOMP 기기가 차지했으면 같은 사용자의 WebFlux 세션이 있어도 차지한 기기로만 가야 한다")
+    void should_route_to_claiming_stomp_device_over_reactive_session() {
+        // given
+        SignalingMessage offer = new SignalingMessage(
+                SignalingType.OFFER, ROOM_ID, USER_A_ID, USER_B_ID, SAMPLE_SDP
+        );
+        givenRoom(MEMBERSHIP);
+        ReactiveSignalingSession reactive = new ReactiveSignalingSession("reactive-1", USER_B_ID, 8);
+        reactiveSessions.register(reactive);
+        when(sessionRegistry.getClaimedSession(ROOM_ID, USER_B_ID)).thenReturn(OTHER_DEVICE_SESSION_ID);
+
+        // when
+        send(ROOM_ID, offer);
+
+        // then
+        verify(messagingTemplate).convertAndSendToUser(
+                eq(OTHER_DEVICE_SESSION_ID), eq("/queue/signaling"), eq(offer), anyMap());
+        reactive.close();
+        assertThat(reactive.outbound().collectList().block(Duration.ofSeconds(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("늦게 answer 한 기기가 WebFlux 세션이면 answered-elsewhere 를 그 세션 큐로 보내야 한다")
+    void should_send_answered_elsewhere_to_reactive_session() {
+        // given
+        String reactiveSessionId = "reactive-1";
+        SignalingMessage answer = new SignalingMessage(
+                SignalingType.ANSWER, ROOM_ID, USER_B_ID, USER_A_ID, SAMPLE_SDP
+        );
+        givenRoom(MEMBERSHIP);
+        ReactiveSignalingSession reactive = new ReactiveSignalingSession(reactiveSessionId, USER_B_ID, 8);
+        reactiveSessions.register(reactive);
+        stateStore.registerSession(reactiveSessionId, USER_B_ID);
+        when(sessionRegistry.claim(ROOM_ID, USER_B_ID, reactiveSessionId)).thenReturn(OTHER_DEVICE_SESSION_ID);
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create();
+        headers.setSessionId(reactiveSessionId);
+
+        // when
+        signalingController.handleSignaling(ROOM_ID, answer, headers);
+
+        // then
+        String frame = reactive.outbound().blockFirst(Duration.ofSeconds(1));
+        assertThat(frame).contains("\"type\":\"answered-elsewhere\"");
+        verify(messagingTemplate, never()).convertAndSendToUser(eq(reactiveSessionId), anyString(), any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("create-and-invite 는 방 조회 없이 CallSetup 으로 가고 재시도해도 방은 한 번만 만들어야 한다")
+    void should_create_room_once_for_retried_create_and_invite() {
+        // given
+        SignalingMessage request = new SignalingMessage(
+                SignalingType.CREATE_AND_INVITE, null, USER_A_ID, USER_B_ID, SAMPLE_SDP, "call-1"
+        );
+        when(callSetup.createAndInvite(SESSION_ID, request)).thenReturn(MEMBERSHIP);
+
+        // when
+        send("new", request);
+        send("new", request);
+
+        // then
+        verify(callSetup, times(1)).createAndInvite(SESSION_ID, request);
+        verify(roomService, never()).findMembership(anyString());
+        ArgumentCaptor<SignalingAck> acks = ArgumentCaptor.forClass(SignalingAck.class);
+        verify(messagingTemplate, times(2)).convertAndSendToUser(
+                eq(SESSION_ID), eq("/queue/ack"), acks.capture(), anyMap());
+        assertThat(acks.getAllValues()).extracting(SignalingAck::getRoomId).containsExactly(ROOM_ID, null);
+        assertThat(acks.getAllValues()).extracting(SignalingAck::isDuplicate).containsExactly(false, true);
+    }
+
+    // RoomService 가 조회한 방은 RoomMembershipCache 를 거쳐 상태 테이블에도 올라간다
+    private void givenRoom(RoomMembership membership) {
+        when(roomService.findMembership(membership.getRoomId())).thenReturn(Optional.of(membership));
+        stateStore.putRoom(membership.getRoomId(), membership.participantIds());
+    }
+
+    // 발신자(fromId)로 CONNECT 한 세션에서 보낸 것으로
+    private void send(String roomId, SignalingMessage message) {
+        stateStore.registerSession(SESSION_ID, message.getFromId());
+        signalingController.handleSignaling(roomId, message, headers());
+    }
+
+    private SimpMessageHeaderAccessor headers() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId(SESSION_ID);
+        return accessor;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.sign.sign.domain;
+
+import com.sign.sign.dto.request.RegistRequest;
+import com.sign.sign.dto.response.RoomInfoResponse;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomTest {
+
+    @Test
+    @DisplayName("fromId 가 null 이면 참여자가 아니고, 퇴장 요청은 아무도 내보내지 않아야 한다")
+    void should_ignore_null_member_id() {
+        // given
+        Room room = Room.createRoom(member(1L, "UserA"), member(2L, "UserB"), 2);
+
+        // when
+        room.leave(null);
+
+        // then
+        assertThat(room.hasParticipant(null)).isFalse();
+        assertThat(room.getParticipants()).hasSize(2);
+        assertThat(room.hasParticipant(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("guestName 은 생성자 다음 첫 참여자이고, 혼자 있는 방이면 null 이어야 한다")
+    void should_keep_guest_name_for_existing_clients() {
+        assertThat(RoomInfoResponse.guestOf(List.of("UserA", "UserB", "UserC"))).isEqualTo("UserB");
+        assertThat(RoomInfoResponse.guestOf(List.of("UserA"))).isNull();
+    }
+
+    private static Member member(long id, String name) {
+        Member member = Member.create(new RegistRequest(name));
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+}
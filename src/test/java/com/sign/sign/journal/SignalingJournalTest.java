@@ -0,0 +1,164 @@
+package com.sign.sign.journal;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignalingJournalTest {
+
+    private static final String ROOM_ID = "ABC123";
+    private static final String OTHER_ROOM_ID = "XYZ789";
+
+    @TempDir
+    Path directory;
+
+    private SignalingProperties properties;
+    private SignalingJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SignalingProperties();
+        properties.getJournal().setEnabled(true);
+        properties.getJournal().setDirectory(directory.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("기록한 메시지의 라우팅 메타데이터를 순서대로 다시 읽을 수 있어야 한다")
+    void should_read_back_recorded_metadata() {
+        // given
+        journal = start();
+
+        // when
+        journal.record(ROOM_ID, new SignalingMessage(SignalingType.OFFER, ROOM_ID, 1L, 2L, "v=0\r\n"), 1);
+        journal.record(ROOM_ID, new SignalingMessage(SignalingType.LEAVE, ROOM_ID, 2L, null, null), 1);
+        journal.stop();
+
+        // then
+        List<JournalEntry> entries = new JournalReader(directory).read(null, 0, 10);
+        assertThat(entries).hasSize(2);
+
+        JournalEntry offer = entries.get(0);
+        assertThat(offer.getType()).isEqualTo(SignalingType.OFFER);
+        assertThat(offer.getRoomId()).isEqualTo(ROOM_ID);
+        assertThat(offer.getFromId()).isEqualTo(1L);
+        assertThat(offer.getToId()).isEqualTo(2L);
+        assertThat(offer.getSdpLength()).isEqualTo(5);
+        assertThat(offer.getRecipients()).isEqualTo(1);
+
+        JournalEntry leave = entries.get(1);
+        assertThat(leave.getType()).isEqualTo(SignalingType.LEAVE);
+        assertThat(leave.getToId()).isNull();
+        assertThat(leave.getSdpLength()).isZero();
+    }
+
+    @Test
+    @DisplayName("세그먼트가 가득 차면 새 세그먼트로 넘어가고 maxSegments 를 넘는 오래된 세그먼트는 삭제되어야 한다")
+    void should_roll_segments_and_apply_retention() {
+        // given - 레코드 몇 개만 들어가는 작은 세그먼트
+        properties.getJournal().setSegmentSize(DataSize.ofBytes(256));
+        properties.getJournal().setMaxSegments(3);
+        journal = start();
+
+        // when
+        for (long i = 0; i < 100; i++) {
+            journal.record(ROOM_ID, new SignalingMessage(SignalingType.CONNECTED, ROOM_ID, i, null, null), 1);
+        }
+        journal.stop();
+
+        // then
+        assertThat(journal.getWritten()).isEqualTo(100);
+        assertThat(JournalReader.segments(directory)).hasSize(3);
+
+        // 남은 세그먼트에는 가장 최근 이벤트가 빠짐없이 이어져 있어야 한다
+        List<JournalEntry> entries = new JournalReader(directory).read(null, 0, 100);
+        assertThat(entries).isNotEmpty();
+        assertThat(entries.get(entries.size() - 1).getFromId()).isEqualTo(99L);
+        for (int i = 1; i < entries.size(); i++) {
+            assertThat(entries.get(i).getFromId()).isEqualTo(entries.get(i - 1).getFromId() + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("방 코드와 시각으로 걸러 읽을 수 있어야 한다")
+    void should_filter_by_room_and_time() throws InterruptedException {
+        // given
+        journal = start();
+        journal.record(ROOM_ID, new SignalingMessage(SignalingType.OFFER, ROOM_ID, 1L, 2L, null), 1);
+        journal.record(OTHER_ROOM_ID, new SignalingMessage(SignalingType.OFFER, OTHER_ROOM_ID, 3L, 4L, null), 1);
+        Thread.sleep(5);
+        long since = System.currentTimeMillis();
+        journal.record(ROOM_ID, new SignalingMessage(SignalingType.ANSWER, ROOM_ID, 2L, 1L, null), 1);
+        journal.stop();
+
+        // when
+        List<JournalEntry> room = journal.read(ROOM_ID, 0, 10);
+        List<JournalEntry> recent = journal.read(null, since, 10);
+
+        // then
+        assertThat(room).extracting(JournalEntry::getType)
+                .containsExactly(SignalingType.OFFER, SignalingType.ANSWER);
+        assertThat(recent).extracting(JournalEntry::getType)
+                .containsExactly(SignalingType.ANSWER);
+    }
+
+    @Test
+    @DisplayName("저널이 꺼져 있으면 기록 요청을 무시해야 한다")
+    void should_ignore_records_when_disabled() {
+        // given
+        properties.getJournal().setEnabled(false);
+        journal = start();
+
+        // when
+        journal.record(ROOM_ID, new SignalingMessage(SignalingType.OFFER, ROOM_ID, 1L, 2L, null), 1);
+
+        // then
+        assertThat(journal.isRunning()).isFalse();
+        assertThat(journal.getPending()).isZero();
+        assertThat(JournalReader.segments(directory)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("타입은 상수 순서와 무관한 고정 코드로 기록되어 예전 세그먼트도 같은 타입으로 읽혀야 한다")
+    void should_encode_types_with_stable_codes() {
+        // given
+        ByteBuffer segment = ByteBuffer.allocate(4096);
+        JournalCodec.writeHeader(segment);
+
+        for (SignalingType type : SignalingType.values()) {
+            // when
+            int position = segment.position();
+            JournalCodec.write(segment, new JournalEntry(1L, type, ROOM_ID, 1L, 2L, 0, 1));
+
+            // then
+            assertThat(JournalCodec.read(segment, position).getType()).isEqualTo(type);
+        }
+
+        // VERSION 1 세그먼트가 ordinal 로 썼던 값
+        assertThat(JournalCodec.typeCode(SignalingType.JOIN)).isEqualTo(6);
+        assertThat(JournalCodec.typeCode(SignalingType.UNKNOWN)).isEqualTo(7);
+    }
+
+    private SignalingJournal start() {
+        SignalingJournal started = new SignalingJournal(properties);
+        started.start();
+        return started;
+    }
+}
@@ -0,0 +1,130 @@
+package com.sign.sign.quality;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.CallStats;
+import com.sign.sign.dto.response.CallQualityResponse;
+import com.sign.sign.dto.response.QualityMetricResponse;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CallQualityAggregatorTest {
+
+    private SignalingProperties properties;
+    private CallQualityAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SignalingProperties();
+        properties.getQuality().setEnabled(true);
+        aggregator = new CallQualityAggregator(properties);
+    }
+
+    @Test
+    @DisplayName("창을 닫으면 방별 백분위와 방들을 합친 전체 백분위를 볼 수 있어야 한다")
+    void should_summarize_rooms_and_merge_globally() {
+        // given
+        for (int i = 1; i <= 100; i++) {
+            aggregator.record("ROOM01", new CallStats((double) i, 2.0, 0.5, 1500.0));
+            aggregator.record("ROOM02", new CallStats(100.0 + i, 30.0, 5.0, 300.0));
+        }
+
+        // when
+        aggregator.rollover();
+
+        // then
+        QualityMetricResponse room1Rtt = metric(aggregator.room("ROOM01").getRecent(), QualityMetric.RTT);
+        assertThat(room1Rtt.getCount()).isEqualTo(100);
+        assertThat(room1Rtt.getP50()).isCloseTo(50.0, within(1.0));
+        assertThat(room1Rtt.getUnit()).isEqualTo("ms");
+
+        CallQualityResponse global = aggregator.global();
+        QualityMetricResponse globalRtt = metric(global.getRecent(), QualityMetric.RTT);
+        assertThat(globalRtt.getCount()).isEqualTo(200);
+        assertThat(globalRtt.getP50()).isCloseTo(100.0, within(2.0));
+        assertThat(globalRtt.getMax()).isCloseTo(200.0, within(2.0));
+        assertThat(metric(global.getTotal(), QualityMetric.PACKET_LOSS).getCount()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("보고에 없는 지표는 집계하지 않아야 한다")
+    void should_skip_missing_metrics() {
+        // given
+        aggregator.record("ROOM01", new CallStats(80.0, null, null, null));
+
+        // when
+        aggregator.rollover();
+
+        // then
+        List<QualityMetricResponse> recent = aggregator.room("ROOM01").getRecent();
+        assertThat(metric(recent, QualityMetric.RTT).getCount()).isEqualTo(1);
+        assertThat(metric(recent, QualityMetric.JITTER).getCount()).isZero();
+        assertThat(metric(recent, QualityMetric.BITRATE).getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("최근 창에서 품질이 나쁜 방부터 보여야 한다")
+    void should_rank_worst_rooms_first() {
+        // given
+        aggregator.record("GOOD01", new CallStats(20.0, 1.0, 0.0, 2000.0));
+        aggregator.record("BAD001", new CallStats(400.0, 50.0, 8.0, 150.0));
+        aggregator.record("MID001", new CallStats(120.0, 10.0, 1.0, 800.0));
+
+        // when
+        aggregator.rollover();
+
+        // then
+        assertThat(aggregator.worstRooms(QualityMetric.RTT, 2))
+                .extracting(CallQualityResponse::getScope)
+                .containsExactly("BAD001", "MID001");
+        assertThat(aggregator.worstRooms(QualityMetric.BITRATE, 3))
+                .extracting(CallQualityResponse::getScope)
+                .containsExactly("BAD001", "MID001", "GOOD01");
+    }
+
+    @Test
+    @DisplayName("보고가 끊긴 방은 버려도 전체 누적에는 남아야 한다")
+    void should_evict_idle_rooms_but_keep_global_total() {
+        // given
+        properties.getQuality().setIdleTimeout(Duration.ZERO);
+        aggregator = new CallQualityAggregator(properties);
+        aggregator.record("ROOM01", new CallStats(50.0, 1.0, 0.0, 1000.0));
+
+        // when
+        aggregator.rollover();
+
+        // then
+        assertThat(aggregator.room("ROOM01")).isNull();
+        assertThat(aggregator.getRoomCount()).isZero();
+        assertThat(metric(aggregator.global().getTotal(), QualityMetric.RTT).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("방 수 상한을 넘으면 따로 집계하지 않고 전체 집계에만 반영해야 한다")
+    void should_fold_overflow_rooms_into_global() {
+        // given
+        properties.getQuality().setMaxRooms(1);
+        aggregator = new CallQualityAggregator(properties);
+        aggregator.record("ROOM01", new CallStats(50.0, null, null, null));
+        aggregator.record("ROOM02", new CallStats(60.0, null, null, null));
+
+        // when
+        aggregator.rollover();
+
+        // then
+        assertThat(aggregator.room("ROOM02")).isNull();
+        assertThat(metric(aggregator.global().getRecent(), QualityMetric.RTT).getCount()).isEqualTo(2);
+    }
+
+    private QualityMetricResponse metric(List<QualityMetricResponse> metrics, QualityMetric metric) {
+        return metrics.stream()
+                .filter(response -> response.getMetric().equals(metric.getValue()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,243 @@
+package com.sign.sign.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sign.sign.domain.Member;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.dto.request.RegistRequest;
+import com.sign.sign.security.JwtUtil;
+import com.sign.sign.service.MemberService;
+import com.sign.sign.service.RoomService;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * WebFlux 시그널링 엔드포인트 (Reactor Netty 서버 + JwtWebFilter + ReactiveSignalingHandler + ReactiveSessionRegistry)
+ * 테스트 설정의 offer 한도는 capacity 5
+ */
+@SpringBootTest(properties = {
+        "signaling.reactive.enabled=true",
+        "signaling.reactive.port=0"
+})
+class ReactiveSignalingEndpointTest {
+
+    private static final String PATH = "/ws/signaling";
+
+    @Autowired
+    private ReactiveSignalingServer reactiveServer;
+
+    @Autowired
+    private ReactiveSessionRegistry reactiveSessions;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReactorNettyWebSocketClient client = new ReactorNettyWebSocketClient();
+    private final List<Disposable> connections = new ArrayList<>();
+
+    private Long userA;
+    private Long userB;
+    private String roomId;
+
+    @BeforeEach
+    void setUp() {
+        userA = memberService.saveMember(Member.create(new RegistRequest("ReactiveA")));
+        userB = memberService.saveMember(Member.create(new RegistRequest("ReactiveB")));
+        roomId = roomService.findById(roomService.createRoom(userA, userB, null)).getRoomId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connections.forEach(Disposable::dispose);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 401 을 반환해야 한다")
+    void should_reject_without_token() {
+        // when
+        int status = get(PATH);
+
+        // then
+        assertThat(status).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰이면 401 을 반환하고 WebSocket 핸드셰이크도 실패해야 한다")
+    void should_reject_invalid_token() {
+        // when
+        int status = get(PATH + "?access_token=invalid.token.value");
+
+        // then
+        assertThat(status).isEqualTo(401);
+        assertThatThrownBy(() -> client.execute(uri("invalid.token.value"), session -> session.receive().then())
+                .block(Duration.ofSeconds(5)))
+                .isInstanceOf(Exception.class);
+    }
+
+    @Test
+    @DisplayName("인증된 세션의 offer 는 같은 방 상대방에게 전달되어야 한다")
+    void should_dispatch_offer_from_authenticated_session() throws Exception {
+        // given
+        BlockingQueue<String> received = connectReceiver(userB);
+        Sinks.Many<String> sender = connectSender(userA);
+
+        // when
+        sender.tryEmitNext(offer(userA, "sdp-1"));
+
+        // then
+        SignalingMessage delivered = nextMessage(received);
+        assertThat(delivered.getType()).isEqualTo(SignalingType.OFFER);
+        assertThat(delivered.getFromId()).isEqualTo(userA);
+        assertThat(delivered.getSdp()).isEqualTo("sdp-1");
+    }
+
+    @Test
+    @DisplayName("다른 사용자 ID 로 보낸 프레임은 전달하지 않아야 한다")
+    void should_not_dispatch_impersonated_frame() throws Exception {
+        // given
+        BlockingQueue<String> received = connectReceiver(userB);
+        Sinks.Many<String> sender = connectSender(userA);
+
+        // when
+        sender.tryEmitNext(offer(userB, "forged"));
+        sender.tryEmitNext(offer(userA, "sdp-1"));
+
+        // then: 위조 프레임은 건너뛰고 다음 프레임만 도착
+        assertThat(nextMessage(received).getSdp()).isEqualTo("sdp-1");
+    }
+
+    @Test
+    @DisplayName("offer 한도를 넘으면 넘친 프레임은 전달하지 않고 보낸 사용자에게 에러를 보내야 한다")
+    void should_rate_limit_authenticated_session() throws Exception {
+        // given
+        BlockingQueue<String> received = connectReceiver(userB);
+        BlockingQueue<String> senderFrames = new LinkedBlockingQueue<>();
+        Sinks.Many<String> sender = connect(userA, senderFrames);
+
+        // when
+        for (int i = 0; i < 7; i++) {
+            sender.tryEmitNext(offer(userA, "sdp-" + i));
+        }
+
+        // then
+        String error = senderFrames.poll(5, TimeUnit.SECONDS);
+        assertThat(error).isNotNull().contains("\"type\":\"error\"").contains("요청이 너무 많습니다");
+        for (int i = 0; i < 5; i++) {
+            assertThat(nextMessage(received).getSdp()).isEqualTo("sdp-" + i);
+        }
+        assertThat(received.poll(300, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 다시 붙으면 최신 세션으로만 보내고, 이전 세션이 끊겨도 최신 세션은 남아야 한다")
+    void should_replace_session_per_user() throws Exception {
+        // given
+        BlockingQueue<String> first = new LinkedBlockingQueue<>();
+        Disposable firstConnection = open(userB, first, Sinks.many().unicast().onBackpressureBuffer());
+        BlockingQueue<String> second = connectReceiver(userB);
+        Sinks.Many<String> sender = connectSender(userA);
+
+        // when
+        sender.tryEmitNext(offer(userA, "sdp-1"));
+
+        // then
+        assertThat(nextMessage(second).getSdp()).isEqualTo("sdp-1");
+        assertThat(first.poll(300, TimeUnit.MILLISECONDS)).isNull();
+
+        // when: 이전 세션이 끊김
+        firstConnection.dispose();
+        Thread.sleep(300);
+        sender.tryEmitNext(offer(userA, "sdp-2"));
+
+        // then
+        assertThat(nextMessage(second).getSdp()).isEqualTo("sdp-2");
+        assertThat(reactiveSessions.send(userB, new SignalingMessage())).isTrue();
+    }
+
+    private BlockingQueue<String> connectReceiver(Long userId) throws InterruptedException {
+        BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        connect(userId, frames);
+        return frames;
+    }
+
+    private Sinks.Many<String> connectSender(Long userId) throws InterruptedException {
+        return connect(userId, new LinkedBlockingQueue<>());
+    }
+
+    private Sinks.Many<String> connect(Long userId, BlockingQueue<String> frames) throws InterruptedException {
+        Sinks.Many<String> outbound = Sinks.many().unicast().onBackpressureBuffer();
+        connections.add(open(userId, frames, outbound));
+        return outbound;
+    }
+
+    // 핸들러가 세션을 등록할 때까지 기다린 뒤 반환
+    private Disposable open(Long userId, BlockingQueue<String> frames, Sinks.Many<String> outbound)
+            throws InterruptedException {
+        CountDownLatch opened = new CountDownLatch(1);
+        Disposable connection = client.execute(uri(jwtUtil.generateToken(userId.toString())), session -> {
+            opened.countDown();
+            Mono<Void> receive = session.receive()
+                    .doOnNext(frame -> frames.offer(frame.getPayloadAsText()))
+                    .then();
+            Mono<Void> send = session.send(outbound.asFlux().map(session::textMessage));
+            return Mono.zip(receive, send).then();
+        }).subscribe();
+        assertThat(opened.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+        return connection;
+    }
+
+    private SignalingMessage nextMessage(BlockingQueue<String> frames) throws Exception {
+        String frame = frames.poll(5, TimeUnit.SECONDS);
+        assertThat(frame).isNotNull();
+        return objectMapper.readValue(frame, SignalingMessage.class);
+    }
+
+    private String offer(Long fromId, String sdp) {
+        try {
+            return objectMapper.writeValueAsString(
+                    new SignalingMessage(SignalingType.OFFER, roomId, fromId, fromId.equals(userA) ? userB : userA, sdp));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int get(String path) {
+        return WebClient.create("http://localhost:" + reactiveServer.getPort())
+                .get()
+                .uri(path)
+                .exchangeToMono(response -> Mono.just(response.statusCode().value()))
+                .block(Duration.ofSeconds(5));
+    }
+
+    private URI uri(String token) {
+        return URI.create("ws://localhost:" + reactiveServer.getPort() + PATH + "?access_token=" + token);
+    }
+}
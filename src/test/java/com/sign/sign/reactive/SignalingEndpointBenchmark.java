@@ -0,0 +1,260 @@
+package com.sign.sign.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sign.sign.domain.Member;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.dto.request.RegistRequest;
+import com.sign.sign.security.JwtUtil;
+import com.sign.sign.service.MemberService;
+import com.sign.sign.service.RoomService;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * STOMP(서블릿) 엔드포인트 vs WebFlux 엔드포인트 비교 벤치마크
+ * - 유휴 연결 N 개를 연 뒤 GC 후 힙 증가량으로 1GB 당 연결 수
+ * - 같은 방의 A → B offer 왕복을 하나씩 보내 전달 지연 p50/p99
+ *
+ * 클라이언트도 같은 JVM 에 있으므로 힙 수치에는 클라이언트 몫이 섞여 있다 (두 엔드포인트 상대 비교용)
+ * 기본 test 태스크에서는 제외, ./gradlew benchmark 로 실행
+ * 연결 수/반복 수: -Dbenchmark.connections=1000 -Dbenchmark.iterations=2000
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "signaling.reactive.enabled=true",
+        "signaling.reactive.port=0",
+        "signaling.rate-limit.enabled=false"
+})
+class SignalingEndpointBenchmark {
+
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 1000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 2000);
+    private static final int WARMUP = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ReactiveSignalingServer reactiveServer;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Long userA;
+    private Long userB;
+    private String roomId;
+
+    @BeforeEach
+    void setUp() {
+        userA = memberService.saveMember(Member.create(new RegistRequest("BenchA")));
+        userB = memberService.saveMember(Member.create(new RegistRequest("BenchB")));
+        roomId = roomService.findById(roomService.createRoom(userA, userB, null)).getRoomId();
+    }
+
+    @Test
+    @DisplayName("연결당 힙 사용량 비교")
+    void connections_per_gb() throws Exception {
+        // STOMP
+        WebSocketStompClient stompClient = stompClient();
+        long before = usedHeapAfterGc();
+        List<StompSession> stompSessions = new ArrayList<>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            stompSessions.add(connectStomp(stompClient, userA));
+        }
+        long stompBytes = usedHeapAfterGc() - before;
+        stompSessions.forEach(StompSession::disconnect);
+
+        // WebFlux
+        ReactorNettyWebSocketClient reactiveClient = new ReactorNettyWebSocketClient();
+        before = usedHeapAfterGc();
+        CountDownLatch opened = new CountDownLatch(CONNECTIONS);
+        List<Disposable> reactiveSessions = new ArrayList<>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            reactiveSessions.add(reactiveClient.execute(reactiveUri(userA), session -> {
+                opened.countDown();
+                return session.receive().then();
+            }).subscribe());
+        }
+        assertThat(opened.await(60, TimeUnit.SECONDS)).isTrue();
+        long reactiveBytes = usedHeapAfterGc() - before;
+        reactiveSessions.forEach(Disposable::dispose);
+
+        System.out.printf("connections=%d stomp: %.0f conn/GB (%d B/conn), reactive: %.0f conn/GB (%d B/conn)%n",
+                CONNECTIONS,
+                perGb(stompBytes), stompBytes / CONNECTIONS,
+                perGb(reactiveBytes), reactiveBytes / CONNECTIONS);
+    }
+
+    @Test
+    @DisplayName("offer 전달 지연 비교 (p50/p99)")
+    void delivery_latency() throws Exception {
+        long[] stomp = measureStomp();
+        long[] reactive = measureReactive();
+
+        System.out.printf("iterations=%d stomp p50=%dus p99=%dus, reactive p50=%dus p99=%dus%n",
+                ITERATIONS,
+                percentile(stomp, 50) / 1_000, percentile(stomp, 99) / 1_000,
+                percentile(reactive, 50) / 1_000, percentile(reactive, 99) / 1_000);
+    }
+
+    private long[] measureStomp() throws Exception {
+        WebSocketStompClient client = stompClient();
+        StompSession sender = connectStomp(client, userA);
+        StompSession receiver = connectStomp(client, userB);
+
+        BlockingQueue<Long> latencies = new LinkedBlockingQueue<>();
+        receiver.subscribe("/user/queue/signaling", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return SignalingMessage.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                latencies.offer(System.nanoTime() - Long.parseLong(((SignalingMessage) payload).getSdp()));
+            }
+        });
+        Thread.sleep(500);
+
+        long[] samples = run(latencies, sentAt -> sender.send("/app/signaling/" + roomId, offer(sentAt)));
+
+        sender.disconnect();
+        receiver.disconnect();
+        return samples;
+    }
+
+    private long[] measureReactive() throws Exception {
+        ReactorNettyWebSocketClient client = new ReactorNettyWebSocketClient();
+        BlockingQueue<Long> latencies = new LinkedBlockingQueue<>();
+        CountDownLatch opened = new CountDownLatch(2);
+
+        Disposable receiver = client.execute(reactiveUri(userB), session -> {
+            opened.countDown();
+            return session.receive()
+                    .doOnNext(frame -> {
+                        long now = System.nanoTime();
+                        try {
+                            SignalingMessage message = objectMapper.readValue(frame.getPayloadAsText(), SignalingMessage.class);
+                            latencies.offer(now - Long.parseLong(message.getSdp()));
+                        } catch (Exception ignored) {
+                            // 에러 프레임 등
+                        }
+                    })
+                    .then();
+        }).subscribe();
+
+        Sinks.Many<String> outbound = Sinks.many().unicast().onBackpressureBuffer();
+        Disposable sender = client.execute(reactiveUri(userA), session -> {
+            opened.countDown();
+            return session.send(outbound.asFlux().map(session::textMessage));
+        }).subscribe();
+
+        assertThat(opened.await(10, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(500);
+
+        long[] samples = run(latencies, sentAt -> {
+            try {
+                outbound.tryEmitNext(objectMapper.writeValueAsString(offer(sentAt)));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        sender.dispose();
+        receiver.dispose();
+        return samples;
+    }
+
+    // 한 번에 하나씩 보내고 받을 때까지 기다려 큐 대기 없이 전달 지연만 잰다
+    private long[] run(BlockingQueue<Long> latencies, LongConsumer send) throws InterruptedException {
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+            send.accept(System.nanoTime());
+            Long latency = latencies.poll(5, TimeUnit.SECONDS);
+            assertThat(latency).isNotNull();
+            if (i >= WARMUP) {
+                samples[i - WARMUP] = latency;
+            }
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private SignalingMessage offer(long sentAt) {
+        return new SignalingMessage(SignalingType.OFFER, roomId, userA, userB, Long.toString(sentAt));
+    }
+
+    private WebSocketStompClient stompClient() {
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        return client;
+    }
+
+    private StompSession connectStomp(WebSocketStompClient client, Long userId) throws Exception {
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.setBearerAuth(jwtUtil.generateToken(userId.toString()));
+        return client.connectAsync("ws://localhost:" + port + "/ws-signaling/websocket",
+                        handshakeHeaders, new StompHeaders(), new StompSessionHandlerAdapter() {})
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private URI reactiveUri(Long userId) {
+        return URI.create("ws://localhost:" + reactiveServer.getPort() + "/ws/signaling?access_token="
+                + jwtUtil.generateToken(userId.toString()));
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static double perGb(long bytes) {
+        return bytes <= 0 ? Double.POSITIVE_INFINITY : CONNECTIONS * (1024.0 * 1024 * 1024) / bytes;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,83 @@
+package com.sign.sign.service;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.domain.Member;
+import com.sign.sign.dto.request.RegistRequest;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberCacheTest {
+
+    private SignalingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SignalingProperties();
+    }
+
+    @Test
+    @DisplayName("저장한 회원은 DB 없이 이름을 돌려주고 적중률에 반영되어야 한다")
+    void should_hit_after_put() {
+        // given
+        MemberCache cache = new MemberCache(properties);
+        cache.put(member(1L, "UserA"));
+
+        // when
+        MemberIdentity hit = cache.get(1L);
+        MemberIdentity miss = cache.get(2L);
+
+        // then
+        assertThat(hit.getName()).isEqualTo("UserA");
+        assertThat(miss).isNull();
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나거나 무효화된 회원은 캐시에서 빠져야 한다")
+    void should_expire_and_evict() throws InterruptedException {
+        // given
+        properties.getMemberCache().setTtl(Duration.ofMillis(20));
+        MemberCache cache = new MemberCache(properties);
+        cache.put(member(1L, "UserA"));
+        cache.put(member(2L, "UserB"));
+
+        // when
+        cache.evict(2L);
+        Thread.sleep(40);
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않아야 한다")
+    void should_bound_size() {
+        // given
+        properties.getMemberCache().setMaxSize(10);
+        MemberCache cache = new MemberCache(properties);
+
+        // when
+        for (long id = 1; id <= 25; id++) {
+            cache.put(member(id, "User" + id));
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.get(25L)).isNotNull();
+    }
+
+    private static Member member(long id, String name) {
+        Member member = Member.create(new RegistRequest(name));
+        ReflectionTestUtils.setField(member, "id", id);
+        return member;
+    }
+}
@@ -0,0 +1,42 @@
+package com.sign.sign.service;
+
+import com.sign.sign.domain.Member;
+import com.sign.sign.dto.request.RegistRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class MemberServiceTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberCache memberCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("커밋된 회원만 캐시에 올라가야 한다")
+    void should_cache_member_only_after_commit() {
+        // when
+        Long committedId = memberService.saveMember(Member.create(new RegistRequest("Committed")));
+        Long rolledBackId = new TransactionTemplate(transactionManager).execute(status -> {
+            Long id = memberService.saveMember(Member.create(new RegistRequest("RolledBack")));
+            status.setRollbackOnly();
+            return id;
+        });
+
+        // then
+        assertThat(memberCache.get(committedId)).isNotNull();
+        assertThat(memberCache.get(rolledBackId)).isNull();
+        assertThat(memberService.findIdentity(rolledBackId)).isEmpty();
+    }
+}
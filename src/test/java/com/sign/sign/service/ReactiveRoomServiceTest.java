@@ -0,0 +1,101 @@
+package com.sign.sign.service;
+
+import com.sign.sign.domain.Room;
+import com.sign.sign.dto.response.CreateRoomResponse;
+import com.sign.sign.dto.response.RoomInfoResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JDBC(JPA) 와 R2DBC 가 같은 인메모리 H2 를 보므로 실제 SQL/트랜잭션 경로를 그대로 확인한다
+ */
+@SpringBootTest
+class ReactiveRoomServiceTest {
+
+    @Autowired
+    private ReactiveRoomService reactiveRoomService;
+
+    @Autowired
+    private RoomMembershipCache membershipCache;
+
+    @Autowired
+    private UnknownRoomCache unknownRoomCache;
+
+    @Test
+    @DisplayName("방을 만들면 저장된 방 정보가 조회되고 참여자 캐시에도 올라가야 한다")
+    void should_create_room() {
+        // given
+        Long creatorId = reactiveRoomService.registerMember("Creator").block();
+        Long guestId = reactiveRoomService.registerMember("Guest").block();
+
+        // when
+        CreateRoomResponse created = reactiveRoomService.createRoom(creatorId, guestId, null).block();
+
+        // then
+        RoomInfoResponse info = reactiveRoomService.getRoomInfo(created.getRoomId()).block();
+        assertThat(info.getId()).isEqualTo(created.getId());
+        assertThat(info.getCreatorName()).isEqualTo("Creator");
+        assertThat(info.getGuestName()).isEqualTo("Guest");
+        assertThat(info.getParticipantNames()).containsExactly("Creator", "Guest");
+        assertThat(membershipCache.get(created.getRoomId()).participantIds()).containsExactly(creatorId, guestId);
+    }
+
+    @Test
+    @DisplayName("없는 사용자로 방을 만들면 실패하고 방이 남지 않아야 한다")
+    void should_not_create_room_for_unknown_member() {
+        // given
+        Long creatorId = reactiveRoomService.registerMember("Creator").block();
+        int cachedRooms = membershipCache.size();
+
+        // when & then
+        assertThatThrownBy(() -> reactiveRoomService.createRoom(creatorId, -1L, null).block())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(membershipCache.size()).isEqualTo(cachedRooms);
+    }
+
+    @Test
+    @DisplayName("예약된 방을 같은 코드로 저장하면 참여자 순서대로 조회되고 없는 방 캐시에서 빠져야 한다")
+    void should_persist_reserved_room() {
+        // given
+        Long creatorId = reactiveRoomService.registerMember("Caller").block();
+        Long guestId = reactiveRoomService.registerMember("Callee").block();
+        RoomMembership membership = RoomMembership.of(Room.generateRoomId(), creatorId, guestId);
+        unknownRoomCache.add(membership.getRoomId());
+
+        // when
+        Long roomPk = reactiveRoomService.persist(membership, 2).block();
+
+        // then
+        RoomInfoResponse info = reactiveRoomService.getRoomInfo(membership.getRoomId()).block();
+        assertThat(info.getId()).isEqualTo(roomPk);
+        assertThat(info.getCapacity()).isEqualTo(2);
+        assertThat(info.getParticipantNames()).containsExactly("Caller", "Callee");
+        assertThat(unknownRoomCache.contains(membership.getRoomId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("방을 지우면 조회되지 않고 참여자 캐시에서 빠지며 없는 방으로 기억되어야 한다")
+    void should_remove_room() {
+        // given
+        Long creatorId = reactiveRoomService.registerMember("Owner").block();
+        CreateRoomResponse created = reactiveRoomService.createRoom(creatorId, null, null).block();
+        String roomId = created.getRoomId();
+
+        // when
+        Long removed = reactiveRoomService.remove(roomId).block();
+
+        // then
+        assertThat(removed).isEqualTo(created.getId());
+        assertThat(membershipCache.get(roomId)).isNull();
+        assertThat(unknownRoomCache.contains(roomId)).isTrue();
+        assertThatThrownBy(() -> reactiveRoomService.getRoomInfo(roomId).block())
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reactiveRoomService.remove(roomId).block())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,123 @@
+package com.sign.sign.service;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.state.CompactStateStore;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomMembershipCacheTest {
+
+    private SignalingProperties properties;
+    private CompactStateStore stateStore;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SignalingProperties();
+        stateStore = new CompactStateStore(properties);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 방은 캐시와 상태 테이블에서 함께 빠져야 한다")
+    void should_expire_with_state_table() throws InterruptedException {
+        // given
+        properties.getMembershipCache().setTtl(Duration.ofMillis(20));
+        RoomMembershipCache cache = new RoomMembershipCache(stateStore, properties);
+        cache.put(RoomMembership.of("ROOM01", 1L, 2L));
+
+        // when
+        Thread.sleep(40);
+
+        // then
+        assertThat(cache.get("ROOM01")).isNull();
+        assertThat(stateStore.isMember("ROOM01", 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("가득 차면 최대 크기를 넘지 않고, 저장 전인 예약 방은 남겨야 한다")
+    void should_stay_bounded_but_keep_pending_rooms() {
+        // given
+        properties.getMembershipCache().setMaxSize(2);
+        RoomMembershipCache cache = new RoomMembershipCache(stateStore, properties);
+        cache.putPending(RoomMembership.of("PEND01", 1L, 2L));
+        cache.put(RoomMembership.of("ROOM01", 3L, 4L));
+
+        // when
+        cache.put(RoomMembership.of("ROOM02", 5L, 6L));
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+        assertThat(cache.get("PEND01")).isNotNull();
+        assertThat(cache.get("ROOM02")).isNotNull();
+        assertThat(cache.get("ROOM01")).isNull();
+        assertThat(stateStore.isMember("ROOM01", 3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("예약 방은 저장 완료를 알리면 true, 그 전에 내려갔으면 false 여야 한다")
+    void should_report_whether_pending_room_is_still_live() {
+        // given
+        RoomMembershipCache cache = new RoomMembershipCache(stateStore, properties);
+        cache.putPending(RoomMembership.of("PEND01", 1L, 2L));
+        cache.putPending(RoomMembership.of("PEND02", 3L, 4L));
+
+        // when
+        cache.evict("PEND02");
+
+        // then
+        assertThat(cache.persisted("PEND01")).isTrue();
+        assertThat(cache.persisted("PEND02")).isFalse();
+        assertThat(stateStore.isMember("PEND02", 3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽어 온 스냅샷은 그사이 커밋된 참여를 덮지 않아야 한다")
+    void should_not_overwrite_newer_snapshot_with_loaded_one() {
+        // given: 읽기 시작 뒤 3번 참여가 커밋됨
+        RoomMembershipCache cache = new RoomMembershipCache(stateStore, properties);
+        long stamp = cache.loadStamp("ROOM01");
+        cache.put(RoomMembership.of("ROOM01", 1L, 2L, 3L));
+
+        // when
+        RoomMembership result = cache.putLoaded(RoomMembership.of("ROOM01", 1L, 2L), stamp);
+
+        // then
+        assertThat(result.isMember(3L)).isTrue();
+        assertThat(cache.get("ROOM01").isMember(3L)).isTrue();
+        assertThat(stateStore.isMember("ROOM01", 3L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽는 사이 삭제된 방은 다시 올리지 않아야 한다")
+    void should_not_resurrect_evicted_room() {
+        // given
+        RoomMembershipCache cache = new RoomMembershipCache(stateStore, properties);
+        long stamp = cache.loadStamp("ROOM01");
+        cache.evict("ROOM01");
+
+        // when
+        cache.putLoaded(RoomMembership.of("ROOM01", 1L, 2L), stamp);
+
+        // then
+        assertThat(cache.get("ROOM01")).isNull();
+        assertThat(stateStore.isMember("ROOM01", 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("그사이 쓰기가 없으면 읽어 온 스냅샷을 올려야 한다")
+    void should_cache_loaded_snapshot_without_concurrent_write() {
+        // given
+        RoomMembershipCache cache = new RoomMembershipCache(stateStore, properties);
+        long stamp = cache.loadStamp("ROOM01");
+
+        // when
+        cache.putLoaded(RoomMembership.of("ROOM01", 1L, 2L), stamp);
+
+        // then
+        assertThat(cache.get("ROOM01")).isNotNull();
+        assertThat(stateStore.isMember("ROOM01", 2L)).isTrue();
+    }
+}
@@ -0,0 +1,45 @@
+package com.sign.sign.service;
+
+import com.sign.sign.domain.Member;
+import com.sign.sign.dto.request.RegistRequest;
+import com.sign.sign.state.CompactStateStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RoomServiceTest {
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private RoomMembershipCache membershipCache;
+
+    @Autowired
+    private CompactStateStore stateStore;
+
+    @Test
+    @DisplayName("커밋에 실패한 방은 참여자 캐시와 상태 테이블에 남지 않아야 한다")
+    void should_not_cache_room_when_commit_fails() {
+        // given: 생성자 한 명은 방 하나만 가질 수 있다 (room.creator_id UNIQUE)
+        Long creatorId = memberService.saveMember(Member.create(new RegistRequest("Creator")));
+        roomService.create(creatorId);
+        int cachedRooms = membershipCache.size();
+        int tableRooms = stateStore.getRooms().size();
+
+        // when & then
+        assertThatThrownBy(() -> roomService.create(creatorId))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(membershipCache.size()).isEqualTo(cachedRooms);
+        assertThat(stateStore.getRooms().size()).isEqualTo(tableRooms);
+    }
+}
@@ -0,0 +1,96 @@
+package com.sign.sign.service;
+
+import com.sign.sign.dto.response.RoomInfoResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomStateCacheTest {
+
+    private static final String ROOM_ID = "ABC123";
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_456_000);
+
+    // 알림을 호출한 스레드에서 바로 실행
+    private final RoomStateCache cache = new RoomStateCache(Runnable::run);
+
+    @Test
+    @DisplayName("방이 바뀌면 ETag 가 달라지고 캐시된 본문은 비워져야 한다")
+    void should_bump_version_and_drop_body() {
+        // given
+        cache.store(ROOM_ID, T0, body());
+        String before = cache.version(ROOM_ID).getEtag();
+
+        // when
+        cache.changed(ROOM_ID, T0.plusNanos(1_000));
+
+        // then
+        assertThat(cache.version(ROOM_ID).getEtag()).isNotEqualTo(before);
+        assertThat(cache.version(ROOM_ID).matches(before)).isFalse();
+        assertThat(cache.body(ROOM_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("변경보다 늦게 도착한 옛 버전 본문은 저장되지 않아야 한다")
+    void should_ignore_stale_store() {
+        // given
+        cache.changed(ROOM_ID, T0.plusSeconds(1));
+
+        // when
+        cache.store(ROOM_ID, T0, body());
+
+        // then
+        assertThat(cache.version(ROOM_ID).getUpdatedAt()).isEqualTo(T0.plusSeconds(1));
+        assertThat(cache.body(ROOM_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("대기자는 변경 시 새 버전으로, 삭제 시 null 로 한 번만 깨어나야 한다")
+    void should_notify_waiters_once() {
+        // given
+        List<RoomVersion> notified = new ArrayList<>();
+        Consumer<RoomVersion> waiter = notified::add;
+        Consumer<RoomVersion> cancelled = version -> notified.add(null);
+        cache.await(ROOM_ID, waiter);
+        cache.await(ROOM_ID, cancelled);
+        cache.cancel(ROOM_ID, cancelled);
+
+        // when
+        cache.changed(ROOM_ID, T0);
+        cache.await(ROOM_ID, waiter);
+        cache.removed(ROOM_ID);
+
+        // then
+        assertThat(notified).hasSize(2);
+        assertThat(notified.get(0).getUpdatedAt()).isEqualTo(T0);
+        assertThat(notified.get(1)).isNull();
+        assertThat(cache.version(ROOM_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("대기자는 변경을 반영한 스레드가 아니라 알림 스레드 풀에서 깨어나야 한다")
+    void should_notify_waiters_on_notifier() {
+        // given
+        List<Runnable> notifications = new ArrayList<>();
+        RoomStateCache deferred = new RoomStateCache(notifications::add);
+        List<RoomVersion> notified = new ArrayList<>();
+        deferred.await(ROOM_ID, notified::add);
+
+        // when
+        deferred.changed(ROOM_ID, T0);
+
+        // then
+        assertThat(deferred.version(ROOM_ID).getUpdatedAt()).isEqualTo(T0);
+        assertThat(notified).isEmpty();
+        notifications.forEach(Runnable::run);
+        assertThat(notified).extracting(RoomVersion::getUpdatedAt).containsExactly(T0);
+    }
+
+    private static RoomInfoResponse body() {
+        return new RoomInfoResponse(1L, ROOM_ID, "UserA", null, List.of("UserA"), 2, true);
+    }
+}
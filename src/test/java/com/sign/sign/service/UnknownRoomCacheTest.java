@@ -0,0 +1,83 @@
+package com.sign.sign.service;
+
+import com.sign.sign.config.SignalingProperties;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnknownRoomCacheTest {
+
+    private SignalingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SignalingProperties();
+    }
+
+    @Test
+    @DisplayName("추가한 방 코드만 없는 방으로 기억해야 한다")
+    void should_contain_added_room() {
+        // given
+        UnknownRoomCache cache = new UnknownRoomCache(properties);
+
+        // when
+        cache.add("GONE01");
+
+        // then
+        assertThat(cache.contains("GONE01")).isTrue();
+        assertThat(cache.contains("LIVE01")).isFalse();
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 다시 DB 를 보도록 빠져야 한다")
+    void should_expire_after_ttl() throws InterruptedException {
+        // given
+        properties.getUnknownRoomCache().setTtl(Duration.ofMillis(20));
+        UnknownRoomCache cache = new UnknownRoomCache(properties);
+        cache.add("GONE01");
+
+        // when
+        Thread.sleep(40);
+
+        // then
+        assertThat(cache.contains("GONE01")).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 코드로 방이 만들어지면 무효화되어야 한다")
+    void should_forget_invalidated_room() {
+        // given
+        UnknownRoomCache cache = new UnknownRoomCache(properties);
+        cache.add("GONE01");
+
+        // when
+        cache.invalidate("GONE01");
+
+        // then
+        assertThat(cache.contains("GONE01")).isFalse();
+    }
+
+    @Test
+    @DisplayName("가득 차면 최대 크기를 넘지 않도록 비우고, TTL 이 0 이면 아무것도 기억하지 않아야 한다")
+    void should_stay_bounded_and_respect_disabled_ttl() {
+        // given
+        properties.getUnknownRoomCache().setMaxSize(2);
+        UnknownRoomCache bounded = new UnknownRoomCache(properties);
+        properties.getUnknownRoomCache().setTtl(Duration.ZERO);
+        UnknownRoomCache disabled = new UnknownRoomCache(properties);
+
+        // when
+        bounded.add("ROOM01");
+        bounded.add("ROOM02");
+        bounded.add("ROOM03");
+        disabled.add("ROOM01");
+
+        // then
+        assertThat(bounded.contains("ROOM03")).isTrue();
+        assertThat(bounded.contains("ROOM01")).isFalse();
+        assertThat(disabled.contains("ROOM01")).isFalse();
+    }
+}
@@ -0,0 +1,150 @@
+package com.sign.sign.signaling;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.service.ReactiveRoomService;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.service.RoomMembershipCache;
+import com.sign.sign.service.RoomService;
+import com.sign.sign.websocket.SignalingSessionRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CallSetupTest {
+
+    private static final String ROOM_ID = "NEW123";
+    private static final String SESSION_ID = "session-1";
+    private static final Long CALLER_ID = 1L;
+    private static final Long GUEST_ID = 2L;
+    private static final RoomMembership MEMBERSHIP = RoomMembership.of(ROOM_ID, CALLER_ID, GUEST_ID);
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private ReactiveRoomService reactiveRoomService;
+
+    @Mock
+    private RoomMembershipCache membershipCache;
+
+    @Mock
+    private SignalingSessionRegistry sessionRegistry;
+
+    @Mock
+    private SignalingMessenger messenger;
+
+    private CallSetup callSetup;
+
+    @BeforeEach
+    void setUp() {
+        SignalingProperties properties = new SignalingProperties();
+        callSetup = new CallSetup(roomService, reactiveRoomService, membershipCache, sessionRegistry, messenger,
+                new SdpMinifier(properties), properties);
+    }
+
+    @Test
+    @DisplayName("방을 예약하면 상대방에게 incoming-call 을 먼저, 발신자에게 call-created 를 보내야 한다")
+    void should_invite_guest_then_notify_caller() {
+        // given
+        when(roomService.reserve(CALLER_ID, GUEST_ID)).thenReturn(MEMBERSHIP);
+        when(reactiveRoomService.persist(eq(MEMBERSHIP), anyInt())).thenReturn(Mono.just(10L));
+        when(membershipCache.persisted(ROOM_ID)).thenReturn(true);
+
+        // when
+        RoomMembership created = callSetup.createAndInvite(SESSION_ID, request());
+
+        // then
+        assertThat(created).isSameAs(MEMBERSHIP);
+        verify(sessionRegistry).bind(SESSION_ID, CALLER_ID, ROOM_ID);
+
+        InOrder order = inOrder(messenger);
+        ArgumentCaptor<SignalingMessage> invite = ArgumentCaptor.forClass(SignalingMessage.class);
+        order.verify(messenger).sendToUser(eq(GUEST_ID), invite.capture());
+        ArgumentCaptor<SignalingMessage> confirmation = ArgumentCaptor.forClass(SignalingMessage.class);
+        order.verify(messenger).sendToUser(eq(CALLER_ID), confirmation.capture());
+
+        assertThat(invite.getValue().getType()).isEqualTo(SignalingType.INCOMING_CALL);
+        assertThat(invite.getValue().getRoomId()).isEqualTo(ROOM_ID);
+        assertThat(invite.getValue().getSdp()).isNotNull();
+        assertThat(confirmation.getValue().getType()).isEqualTo(SignalingType.CALL_CREATED);
+        assertThat(confirmation.getValue().getRoomId()).isEqualTo(ROOM_ID);
+        assertThat(confirmation.getValue().getMessageId()).isEqualTo("call-1");
+
+        assertThat(callSetup.getCreated()).isEqualTo(1);
+        verify(reactiveRoomService, never()).remove(anyString());
+    }
+
+    @Test
+    @DisplayName("상대방이나 offer 가 없으면 방을 만들지 않고 발신자에게 에러를 보내야 한다")
+    void should_reject_request_without_callee_or_offer() {
+        // when
+        RoomMembership withoutCallee = callSetup.createAndInvite(SESSION_ID, new SignalingMessage(
+                SignalingType.CREATE_AND_INVITE, null, CALLER_ID, null, "v=0"));
+        RoomMembership selfCall = callSetup.createAndInvite(SESSION_ID, new SignalingMessage(
+                SignalingType.CREATE_AND_INVITE, null, CALLER_ID, CALLER_ID, "v=0"));
+        RoomMembership withoutOffer = callSetup.createAndInvite(SESSION_ID, new SignalingMessage(
+                SignalingType.CREATE_AND_INVITE, null, CALLER_ID, GUEST_ID, null));
+
+        // then
+        assertThat(withoutCallee).isNull();
+        assertThat(selfCall).isNull();
+        assertThat(withoutOffer).isNull();
+        verify(messenger, times(3)).sendError(eq(CALLER_ID), anyString());
+        verifyNoInteractions(roomService, reactiveRoomService);
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 방을 캐시에서 내리고 발신자에게 에러, 상대방에게 leave 를 보내야 한다")
+    void should_release_room_when_persist_fails() {
+        // given
+        when(roomService.reserve(CALLER_ID, GUEST_ID)).thenReturn(MEMBERSHIP);
+        when(reactiveRoomService.persist(eq(MEMBERSHIP), anyInt()))
+                .thenReturn(Mono.error(new IllegalStateException("db down")));
+        when(membershipCache.get(ROOM_ID)).thenReturn(MEMBERSHIP);
+
+        // when
+        callSetup.createAndInvite(SESSION_ID, request());
+
+        // then
+        verify(roomService).release(ROOM_ID);
+        verify(sessionRegistry).unbindRoom(ROOM_ID);
+        verify(messenger).sendError(eq(CALLER_ID), contains(ROOM_ID));
+        verify(messenger).sendToUser(eq(GUEST_ID),
+                argThat(message -> message.getType() == SignalingType.LEAVE));
+        assertThat(callSetup.getPersistFailures()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장이 끝나기 전에 통화가 끝났으면 저장된 방을 지워야 한다")
+    void should_remove_persisted_room_when_call_already_ended() {
+        // given
+        when(roomService.reserve(CALLER_ID, GUEST_ID)).thenReturn(MEMBERSHIP);
+        when(reactiveRoomService.persist(eq(MEMBERSHIP), anyInt())).thenReturn(Mono.just(10L));
+        when(membershipCache.persisted(ROOM_ID)).thenReturn(false);
+        when(reactiveRoomService.remove(ROOM_ID)).thenReturn(Mono.just(10L));
+
+        // when
+        callSetup.createAndInvite(SESSION_ID, request());
+
+        // then
+        verify(reactiveRoomService).remove(ROOM_ID);
+    }
+
+    private SignalingMessage request() {
+        return new SignalingMessage(SignalingType.CREATE_AND_INVITE, null, CALLER_ID, GUEST_ID,
+                "v=0\r\no=- 1 0 IN IP4 127.0.0.1\r\n", "call-1");
+    }
+}
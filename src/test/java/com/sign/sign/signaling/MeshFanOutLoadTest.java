@@ -0,0 +1,135 @@
+package com.sign.sign.signaling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.controller.SignalingController;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.journal.SignalingJournal;
+import com.sign.sign.reactive.ReactiveSessionRegistry;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.service.RoomService;
+import com.sign.sign.signaling.handler.AnswerHandler;
+import com.sign.sign.signaling.handler.JoinHandler;
+import com.sign.sign.signaling.handler.OfferHandler;
+import com.sign.sign.state.CompactStateStore;
+import com.sign.sign.trace.SignalingTrace;
+import com.sign.sign.websocket.SessionResumeStore;
+import com.sign.sign.websocket.SignalingSessionRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 다자간 메시 시그널링 부하 테스트
+ * 참여자가 한 명씩 들어올 때마다 join 팬아웃 + 기존 참여자 → 새 참여자 offer/answer 를 실제 전송 경로(JSON 변환 포함)로 흘려
+ * join 한 번이 O(N) 전송으로 끝나는지, 모든 쌍이 정확히 한 번씩 협상되는지 확인한다
+ *
+ * 기본 test 태스크에서는 제외, ./gradlew load 로 실행
+ */
+@Tag("load")
+class MeshFanOutLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MeshFanOutLoadTest.class);
+
+    private static final String ROOM_ID = "MESH01";
+
+    @ParameterizedTest(name = "{0}명")
+    @ValueSource(ints = {8, 16, 32})
+    @DisplayName("N명이 차례로 입장해도 join 한 번은 기존 인원 수만큼만 전송하고 모든 쌍이 한 번씩 협상되어야 한다")
+    void should_fan_out_join_linearly(int participants) {
+        // given
+        Map<String, Integer> deliveries = new HashMap<>();
+        AtomicInteger sends = new AtomicInteger();
+        MessageChannel channel = (message, timeout) -> {
+            sends.incrementAndGet();
+            // 통화를 차지한 세션(session-{userId})으로 간 전송도 사용자별로 센다
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            deliveries.merge(destination.replace("/user/session-", "/user/"), 1, Integer::sum);
+            return true;
+        };
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(channel);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+
+        SignalingProperties properties = new SignalingProperties();
+        SignalingTrace trace = new SignalingTrace(properties);
+        CompactStateStore stateStore = new CompactStateStore(properties);
+        SignalingSessionRegistry sessionRegistry = new SignalingSessionRegistry(stateStore);
+        SignalingMessenger messenger = new SignalingMessenger(messagingTemplate,
+                new SessionResumeStore(properties), new ReactiveSessionRegistry(new ObjectMapper()), trace,
+                sessionRegistry);
+        RoomService roomService = mock(RoomService.class);
+        SdpMinifier sdpMinifier = new SdpMinifier(properties);
+        SignalingController controller = new SignalingController(new SignalingDispatcher(messenger, roomService,
+                sessionRegistry, new SignalingHandlerRegistry(List.of(
+                        new OfferHandler(messenger, sdpMinifier), new AnswerHandler(messenger, sdpMinifier),
+                        new JoinHandler(messenger))),
+                new SignalingJournal(properties), new MessageDeduplicator(properties), trace,
+                new SignalingAuthorizer(stateStore, properties), mock(CallSetup.class)));
+
+        long[] ids = new long[participants];
+        for (int i = 0; i < participants; i++) {
+            ids[i] = i + 1;
+            sessionRegistry.register("session-" + ids[i], ids[i]);
+        }
+
+        // when
+        long started = System.nanoTime();
+        for (int joined = 1; joined < participants; joined++) {
+            long[] current = new long[joined + 1];
+            System.arraycopy(ids, 0, current, 0, current.length);
+            when(roomService.findMembership(ROOM_ID)).thenReturn(Optional.of(RoomMembership.of(ROOM_ID, current)));
+            stateStore.putRoom(ROOM_ID, current);
+
+            long joiner = ids[joined];
+            int before = sends.get();
+            controller.handleSignaling(ROOM_ID,
+                    new SignalingMessage(SignalingType.JOIN, ROOM_ID, joiner, null, null), headers(joiner));
+
+            // then: join 한 번 = 기존 참여자 수만큼 전송
+            assertThat(sends.get() - before).isEqualTo(joined);
+
+            for (int existing = 0; existing < joined; existing++) {
+                controller.handleSignaling(ROOM_ID, new SignalingMessage(
+                        SignalingType.OFFER, ROOM_ID, ids[existing], joiner, "offer-sdp"), headers(ids[existing]));
+                controller.handleSignaling(ROOM_ID, new SignalingMessage(
+                        SignalingType.ANSWER, ROOM_ID, joiner, ids[existing], "answer-sdp"), headers(joiner));
+            }
+        }
+        long elapsedMicros = (System.nanoTime() - started) / 1_000;
+
+        // then: 쌍마다 join 1 + offer 1 + answer 1
+        int pairs = participants * (participants - 1) / 2;
+        assertThat(sends.get()).isEqualTo(3 * pairs);
+
+        // i 번째 입장자: 이후 입장자의 join/answer 수신 2(N-1-i) + 입장 시 기존 참여자의 offer 수신 i
+        for (int i = 0; i < participants; i++) {
+            int expected = 2 * (participants - 1 - i) + i;
+            assertThat(deliveries.getOrDefault("/user/" + ids[i] + "/queue/signaling", 0)).isEqualTo(expected);
+        }
+
+        log.info("mesh {} participants: {} sends in {} us", participants, sends.get(), elapsedMicros);
+    }
+
+    private SimpMessageHeaderAccessor headers(long userId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId("session-" + userId);
+        return accessor;
+    }
+}
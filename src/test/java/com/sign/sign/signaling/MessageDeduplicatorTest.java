@@ -0,0 +1,70 @@
+package com.sign.sign.signaling;
+
+import com.sign.sign.config.SignalingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageDeduplicatorTest {
+
+    private SignalingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SignalingProperties();
+        properties.getDedupe().setWindowSize(4);
+    }
+
+    @Test
+    @DisplayName("같은 세션에서 최근에 본 messageId 만 중복으로 걸러야 한다")
+    void should_detect_recent_duplicates_per_session() {
+        // given
+        MessageDeduplicator deduplicator = new MessageDeduplicator(properties);
+
+        // when
+        boolean first = deduplicator.firstSeen("session-a", "m-1");
+        boolean retry = deduplicator.firstSeen("session-a", "m-1");
+        boolean otherSession = deduplicator.firstSeen("session-b", "m-1");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(retry).isFalse();
+        assertThat(otherSession).isTrue();
+        assertThat(deduplicator.getDuplicates()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("창 크기를 넘겨 밀려난 messageId 는 다시 처음 본 것으로 취급해야 한다")
+    void should_forget_ids_outside_window() {
+        // given
+        MessageDeduplicator deduplicator = new MessageDeduplicator(properties);
+        deduplicator.firstSeen("session-a", "m-0");
+
+        // when
+        for (int i = 1; i <= 4; i++) {
+            deduplicator.firstSeen("session-a", "m-" + i);
+        }
+
+        // then
+        assertThat(deduplicator.firstSeen("session-a", "m-4")).isFalse();
+        assertThat(deduplicator.firstSeen("session-a", "m-0")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재개된 세션은 이전 세션의 창을 이어받고, 해제된 세션의 창은 사라져야 한다")
+    void should_transfer_and_release_windows() {
+        // given
+        MessageDeduplicator deduplicator = new MessageDeduplicator(properties);
+        deduplicator.firstSeen("session-a", "m-1");
+
+        // when
+        deduplicator.transfer("session-a", "session-a2");
+
+        // then
+        assertThat(deduplicator.firstSeen("session-a2", "m-1")).isFalse();
+        deduplicator.release("session-a2");
+        assertThat(deduplicator.size()).isZero();
+    }
+}
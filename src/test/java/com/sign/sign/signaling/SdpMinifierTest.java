@@ -0,0 +1,125 @@
+package com.sign.sign.signaling;
+
+import com.sign.sign.config.SignalingProperties;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SdpMinifierTest {
+
+    private static final String OFFER = String.join("\r\n",
+            "v=0",
+            "o=- 4611731400430051336 2 IN IP4 127.0.0.1",
+            "s=-",
+            "t=0 0",
+            "a=group:BUNDLE 0 1",
+            "m=audio 9 UDP/TLS/RTP/SAVPF 111 0",
+            "c=IN IP4 0.0.0.0",
+            "a=candidate:1 1 udp 2122260223 192.168.1.10 54400 typ host generation 0",
+            "a=candidate:2 1 udp 2122260223 192.168.1.10 54400 typ host generation 0   ",
+            "a=candidate:3 1 tcp 1518280447 192.168.1.10 9 typ host tcptype active",
+            "a=candidate:4 1 udp 1686052607 203.0.113.7 54400 typ srflx raddr 192.168.1.10 rport 54400",
+            "a=candidate:5 1 udp 1686052607 203.0.113.7 54400 typ srflx raddr 192.168.1.10 rport 54400",
+            "a=mid:0",
+            "a=rtpmap:111 opus/48000/2",
+            "a=fmtp:111 minptime=10;useinbandfec=1",
+            "a=rtcp-fb:111 transport-cc",
+            "",
+            "m=video 9 UDP/TLS/RTP/SAVPF 96 97 98 99",
+            "c=IN IP4 0.0.0.0",
+            "a=candidate:1 1 udp 2122260223 192.168.1.10 54401 typ host generation 0",
+            "a=mid:1",
+            "a=rtpmap:96 VP8/90000",
+            "a=rtcp-fb:96 nack",
+            "a=rtpmap:97 rtx/90000",
+            "a=fmtp:97 apt=96",
+            "a=rtpmap:98 VP9/90000",
+            "a=rtcp-fb:98 nack",
+            "a=rtpmap:99 rtx/90000",
+            "a=fmtp:99 apt=98",
+            "m=application 0 UDP/DTLS/SCTP webrtc-datachannel",
+            "a=candidate:1 1 udp 2122260223 192.168.1.10 54402 typ host generation 0",
+            "a=mid:2",
+            "");
+
+    private SignalingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SignalingProperties();
+        properties.getSdp().setEnabled(true);
+    }
+
+    @Test
+    @DisplayName("중복 후보와 거절된 섹션의 후보를 빼고 공백을 정리해야 한다")
+    void should_drop_redundant_candidates() {
+        // given
+        SdpMinifier minifier = new SdpMinifier(properties);
+
+        // when
+        String minified = minifier.minify(OFFER);
+
+        // then
+        assertThat(minified).doesNotContain("a=candidate:2 ", "a=candidate:5 ", "54402", "\r\n\r\n", "  ");
+        assertThat(minified).contains(
+                "a=candidate:1 1 udp 2122260223 192.168.1.10 54400 typ host generation 0\r\n",
+                "a=candidate:3 1 tcp",
+                "a=candidate:4 1 udp",
+                "a=candidate:1 1 udp 2122260223 192.168.1.10 54401 typ host generation 0\r\n",
+                "m=application 0 UDP/DTLS/SCTP webrtc-datachannel\r\na=mid:2\r\n");
+        assertThat(minified).endsWith("a=mid:2\r\n");
+        assertThat(minifier.getFrames()).isEqualTo(1);
+        assertThat(minifier.getOutputBytes()).isLessThan(minifier.getInputBytes());
+        assertThat(minifier.getSavedRatio()).isPositive();
+    }
+
+    @Test
+    @DisplayName("허용 목록에 없는 코덱과 그 rtx 를 m= 줄과 속성 줄에서 함께 빼야 한다")
+    void should_filter_codecs() {
+        // given
+        properties.getSdp().setCodecs(List.of("opus", "vp8", "rtx"));
+        properties.getSdp().setDropTcpCandidates(true);
+        SdpMinifier minifier = new SdpMinifier(properties);
+
+        // when
+        String minified = minifier.minify(OFFER);
+
+        // then
+        assertThat(minified).contains(
+                "m=audio 9 UDP/TLS/RTP/SAVPF 111 0\r\n",
+                "m=video 9 UDP/TLS/RTP/SAVPF 96 97\r\n",
+                "a=rtpmap:97 rtx/90000\r\na=fmtp:97 apt=96\r\n");
+        assertThat(minified).doesNotContain("VP9", "a=rtcp-fb:98", "a=fmtp:99", "tcptype");
+    }
+
+    @Test
+    @DisplayName("허용된 코덱이 하나도 없는 섹션은 거르지 않아야 한다")
+    void should_keep_section_without_allowed_codec() {
+        // given
+        properties.getSdp().setCodecs(List.of("opus"));
+        SdpMinifier minifier = new SdpMinifier(properties);
+
+        // when
+        String minified = minifier.minify(OFFER);
+
+        // then
+        assertThat(minified).contains("m=video 9 UDP/TLS/RTP/SAVPF 96 97 98 99\r\n", "a=rtpmap:98 VP9/90000");
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 SDP 를 그대로 돌려줘야 한다")
+    void should_pass_through_when_disabled() {
+        // given
+        SdpMinifier minifier = new SdpMinifier(new SignalingProperties());
+
+        // when
+        String minified = minifier.minify(OFFER);
+
+        // then
+        assertThat(minified).isSameAs(OFFER);
+        assertThat(minifier.getFrames()).isZero();
+    }
+}
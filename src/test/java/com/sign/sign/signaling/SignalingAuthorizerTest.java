@@ -0,0 +1,116 @@
+package com.sign.sign.signaling;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.signaling.SignalingAuthorizer.Verdict;
+import com.sign.sign.state.CompactStateStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignalingAuthorizerTest {
+
+    private static final String ROOM_ID = "ABC123";
+    private static final String MESH_ROOM_ID = "MESH01";
+    private static final String SESSION_ID = "session-1";
+
+    private SignalingProperties properties;
+    private CompactStateStore stateStore;
+    private SignalingAuthorizer authorizer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SignalingProperties();
+        stateStore = new CompactStateStore(properties);
+        stateStore.putRoom(ROOM_ID, new long[]{1L, 2L});
+        stateStore.putRoom(MESH_ROOM_ID, new long[]{1L, 2L, 3L});
+        authorizer = new SignalingAuthorizer(stateStore, properties);
+    }
+
+    @Test
+    @DisplayName("1:1 방에서는 참여자가 상대방에게 보내는 메시지만 허용해야 한다")
+    void should_allow_only_counterpart_in_one_to_one_room() {
+        // when & then
+        assertThat(authorize(ROOM_ID, 1L, 2L)).isEqualTo(Verdict.ALLOWED);
+        assertThat(authorize(ROOM_ID, 2L, 1L)).isEqualTo(Verdict.ALLOWED);
+        assertThat(authorize(ROOM_ID, 1L, null)).isEqualTo(Verdict.ALLOWED);
+        assertThat(authorize(ROOM_ID, 1L, 1L)).isEqualTo(Verdict.NOT_COUNTERPART);
+        assertThat(authorize(ROOM_ID, 1L, 3L)).isEqualTo(Verdict.NOT_COUNTERPART);
+        assertThat(authorize(ROOM_ID, 3L, 1L)).isEqualTo(Verdict.NOT_MEMBER);
+        assertThat(authorize(ROOM_ID, null, 1L)).isEqualTo(Verdict.NOT_MEMBER);
+    }
+
+    @Test
+    @DisplayName("다자간 방에서는 자신이 아닌 참여자 누구에게나 보낼 수 있어야 한다")
+    void should_allow_any_other_participant_in_mesh_room() {
+        // when & then
+        assertThat(authorize(MESH_ROOM_ID, 1L, 3L)).isEqualTo(Verdict.ALLOWED);
+        assertThat(authorize(MESH_ROOM_ID, 3L, 2L)).isEqualTo(Verdict.ALLOWED);
+        assertThat(authorize(MESH_ROOM_ID, 3L, 3L)).isEqualTo(Verdict.NOT_COUNTERPART);
+        assertThat(authorize(MESH_ROOM_ID, 3L, 4L)).isEqualTo(Verdict.NOT_COUNTERPART);
+        assertThat(authorize(MESH_ROOM_ID, 4L, 1L)).isEqualTo(Verdict.NOT_MEMBER);
+    }
+
+    @Test
+    @DisplayName("세션에 확인된 사용자가 있으면 다른 fromId 는 거절해야 한다")
+    void should_reject_sender_other_than_session_user() {
+        // given
+        stateStore.registerSession(SESSION_ID, 2L);
+
+        // when & then
+        assertThat(authorizeOnSession(ROOM_ID, 1L, 2L)).isEqualTo(Verdict.IMPERSONATION);
+        assertThat(authorizeOnSession(ROOM_ID, 2L, 1L)).isEqualTo(Verdict.ALLOWED);
+        assertThat(authorizer.getDenied(Verdict.IMPERSONATION)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자를 모르는 세션이면 fromId 를 믿지 않고 거절해야 한다")
+    void should_reject_session_without_known_user() {
+        // when & then
+        assertThat(authorizeOnSession(ROOM_ID, 1L, 2L)).isEqualTo(Verdict.IMPERSONATION);
+        assertThat(authorizer.authorizeCaller(SESSION_ID,
+                new SignalingMessage(SignalingType.CREATE_AND_INVITE, null, 1L, 2L, "sdp")))
+                .isEqualTo(Verdict.IMPERSONATION);
+
+        // 처음 보낸 fromId 가 세션 사용자가 되지도 않는다
+        assertThat(authorizeOnSession(ROOM_ID, 1L, 2L)).isEqualTo(Verdict.IMPERSONATION);
+    }
+
+    @Test
+    @DisplayName("방이 삭제되면 더 이상 허용하지 않아야 한다")
+    void should_reject_after_room_removed() {
+        // given
+        stateStore.removeRoom(ROOM_ID);
+
+        // when & then
+        assertThat(authorize(ROOM_ID, 1L, 2L)).isEqualTo(Verdict.NOT_MEMBER);
+    }
+
+    @Test
+    @DisplayName("권한 확인을 끄면 모두 허용해야 한다")
+    void should_allow_everything_when_disabled() {
+        // given
+        properties.getAuthorization().setEnabled(false);
+        SignalingAuthorizer disabled = new SignalingAuthorizer(stateStore, properties);
+
+        // when & then
+        assertThat(disabled.authorize(SESSION_ID, ROOM_ID,
+                new SignalingMessage(SignalingType.OFFER, ROOM_ID, 9L, 8L, "sdp"))).isEqualTo(Verdict.ALLOWED);
+    }
+
+    // fromId 사용자로 CONNECT 한 세션에서 보낸 것으로
+    private Verdict authorize(String roomId, Long fromId, Long toId) {
+        String sessionId = "session-of-" + fromId;
+        stateStore.registerSession(sessionId, fromId);
+        return authorizer.authorize(sessionId, roomId,
+                new SignalingMessage(SignalingType.OFFER, roomId, fromId, toId, "sdp"));
+    }
+
+    private Verdict authorizeOnSession(String roomId, Long fromId, Long toId) {
+        return authorizer.authorize(SESSION_ID, roomId,
+                new SignalingMessage(SignalingType.OFFER, roomId, fromId, toId, "sdp"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.sign.sign.state;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.websocket.SessionBinding;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방/세션 N 개를 담았을 때 힙 증가량 비교
+ * - CompactStateStore (RoomTable / SessionTable)
+ * - ConcurrentHashMap + RoomMembership / SessionBinding (RoomMembershipCache, SignalingSessionRegistry 와 같은 구조)
+ *
+ * 방 코드/세션 ID 문자열은 양쪽이 같이 쓰도록 먼저 만들어 두고 측정에서 뺀다
+ * 기본 test 태스크에서는 제외, ./gradlew benchmark 로 실행 (-Xmx2g 이상 권장)
+ * 항목 수: -Dbenchmark.entries=1000000
+ */
+@Tag("benchmark")
+class CompactStateBenchmark {
+
+    private static final int ENTRIES = Integer.getInteger("benchmark.entries", 1_000_000);
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    @Test
+    @DisplayName("방/세션 항목당 힙 사용량 비교")
+    void bytes_per_entry() {
+        String[] roomIds = new String[ENTRIES];
+        String[] sessionIds = new String[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            roomIds[i] = roomId(i);
+            sessionIds[i] = "session-" + i;
+        }
+
+        long before = usedHeap();
+        CompactStateStore store = new CompactStateStore(new SignalingProperties());
+        for (int i = 0; i < ENTRIES; i++) {
+            store.putRoom(roomIds[i], new long[]{2L * i + 1, 2L * i + 2});
+            store.registerSession(sessionIds[i], 2L * i + 1);
+            store.bindSession(sessionIds[i], 2L * i + 1, roomIds[i]);
+        }
+        long compact = usedHeap() - before;
+
+        before = usedHeap();
+        Map<String, RoomMembership> rooms = new ConcurrentHashMap<>();
+        Map<String, SessionBinding> sessions = new ConcurrentHashMap<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            rooms.put(roomIds[i], RoomMembership.of(roomIds[i], 2L * i + 1, 2L * i + 2));
+            sessions.put(sessionIds[i], new SessionBinding(sessionIds[i], 2L * i + 1, roomIds[i]));
+        }
+        long heap = usedHeap() - before;
+
+        System.out.printf("entries=%d compact: %d B/(room+session) (rooms %d B, sessions %d B), maps: %d B/(room+session)%n",
+                ENTRIES, compact / ENTRIES, store.getRooms().memoryBytes() / ENTRIES,
+                store.getSessions().memoryBytes() / ENTRIES, heap / ENTRIES);
+        assertThat(store.getRooms().size()).isEqualTo(ENTRIES);
+        assertThat(rooms).hasSize(ENTRIES);
+        assertThat(sessions).hasSize(ENTRIES);
+        assertThat(store.isMember(roomIds[ENTRIES - 1], 2L * ENTRIES)).isTrue();
+    }
+
+    // Room.generateRoomId 처럼 6자 영숫자, 번호마다 다르게
+    private static String roomId(int index) {
+        char[] chars = new char[6];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt(index % ALPHABET.length());
+            index /= ALPHABET.length();
+        }
+        return new String(chars);
+    }
+
+    private long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
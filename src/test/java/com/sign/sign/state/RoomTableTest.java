@@ -0,0 +1,81 @@
+package com.sign.sign.state;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomTableTest {
+
+    @Test
+    @DisplayName("방 코드는 long 으로 바꿨다가 그대로 되돌릴 수 있어야 하고 영숫자가 아니면 거부해야 한다")
+    void should_encode_room_code() {
+        // when
+        long code = RoomCode.encode("AB12CZ");
+
+        // then
+        assertThat(code).isPositive();
+        assertThat(RoomCode.decode(code)).isEqualTo("AB12CZ");
+        assertThat(RoomCode.encode("AB12CY")).isNotEqualTo(code);
+        assertThat(RoomCode.encode("AB-12C")).isEqualTo(RoomCode.INVALID);
+        assertThat(RoomCode.encode("ABCDEFGHIJK")).isEqualTo(RoomCode.INVALID);
+        assertThat(RoomCode.encode("")).isEqualTo(RoomCode.INVALID);
+    }
+
+    @Test
+    @DisplayName("1:1 방은 참여자 확인과 상대방 조회를 해야 한다")
+    void should_answer_membership_for_one_to_one_room() {
+        // given
+        RoomTable table = new RoomTable(4);
+        long code = RoomCode.encode("ABC123");
+
+        // when
+        table.put(code, new long[]{1L, 2L});
+
+        // then
+        assertThat(table.isMember(code, 1L)).isTrue();
+        assertThat(table.isMember(code, 3L)).isFalse();
+        assertThat(table.counterpart(code, 1L)).isEqualTo(2L);
+        assertThat(table.counterpart(code, 3L)).isEqualTo(RoomTable.NO_MEMBER);
+        assertThat(table.participantCount(code)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다자간 방은 세 번째 이후 참여자도 확인해야 하고 상대방은 하나로 정해지지 않는다")
+    void should_answer_membership_for_mesh_room() {
+        // given
+        RoomTable table = new RoomTable(4);
+        long code = RoomCode.encode("MESH01");
+
+        // when
+        table.put(code, new long[]{1L, 2L, 3L, 4L});
+
+        // then
+        assertThat(table.isMember(code, 4L)).isTrue();
+        assertThat(table.isMember(code, 5L)).isFalse();
+        assertThat(table.counterpart(code, 1L)).isEqualTo(RoomTable.NO_MEMBER);
+        assertThat(table.participantCount(code)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("늘어나고 지워져도 남은 방은 모두 찾을 수 있어야 한다")
+    void should_keep_entries_across_resize_and_remove() {
+        // given
+        RoomTable table = new RoomTable(4);
+        for (long code = 1; code <= 1000; code++) {
+            table.put(code, new long[]{code, code + 1});
+        }
+
+        // when
+        for (long code = 1; code <= 1000; code += 2) {
+            table.remove(code);
+        }
+
+        // then
+        assertThat(table.size()).isEqualTo(500);
+        for (long code = 1; code <= 1000; code++) {
+            assertThat(table.contains(code)).isEqualTo(code % 2 == 0);
+        }
+        assertThat(table.isMember(1000, 1001)).isTrue();
+    }
+}
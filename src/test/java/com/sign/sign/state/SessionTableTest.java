@@ -0,0 +1,50 @@
+package com.sign.sign.state;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionTableTest {
+
+    @Test
+    @DisplayName("세션의 사용자와 방을 기록하고 방 바인딩만 따로 해제할 수 있어야 한다")
+    void should_track_user_and_room() {
+        // given
+        SessionTable table = new SessionTable(4);
+        long room = RoomCode.encode("ABC123");
+
+        // when
+        table.put("session-1", 1L);
+        table.bind("session-1", 1L, room);
+
+        // then
+        assertThat(table.userId("session-1")).isEqualTo(1L);
+        assertThat(table.roomCode("session-1")).isEqualTo(room);
+
+        table.clearRoom("session-1");
+        assertThat(table.roomCode("session-1")).isEqualTo(RoomCode.NONE);
+        assertThat(table.userId("session-1")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("제거된 세션과 없는 세션은 사용자를 모른다고 답해야 한다")
+    void should_forget_removed_sessions() {
+        // given
+        SessionTable table = new SessionTable(4);
+        for (int i = 0; i < 1000; i++) {
+            table.put("session-" + i, i + 1);
+        }
+
+        // when
+        for (int i = 0; i < 1000; i += 2) {
+            table.remove("session-" + i);
+        }
+
+        // then
+        assertThat(table.size()).isEqualTo(500);
+        assertThat(table.userId("session-0")).isEqualTo(SessionTable.NO_USER);
+        assertThat(table.userId("session-999")).isEqualTo(1000L);
+        assertThat(table.userId(null)).isEqualTo(SessionTable.NO_USER);
+    }
+}
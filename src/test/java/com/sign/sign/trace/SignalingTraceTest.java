@@ -0,0 +1,78 @@
+package com.sign.sign.trace;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.response.StageLatencyResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignalingTraceTest {
+
+    private SignalingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SignalingProperties();
+        properties.getTrace().setEnabled(true);
+    }
+
+    @Test
+    @DisplayName("구간별 기록이 누적 스냅샷의 건수와 백분위에 반영되어야 한다")
+    void should_summarize_recorded_stages() {
+        // given
+        SignalingTrace trace = new SignalingTrace(properties);
+
+        // when
+        for (int i = 1; i <= 100; i++) {
+            trace.record(TraceStage.HANDLER, 0, TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        trace.record(TraceStage.ROOM_LOOKUP, SignalingTrace.UNSET, 10);
+
+        // then
+        List<StageLatencyResponse> stages = trace.snapshot();
+        StageLatencyResponse handler = stages.get(TraceStage.HANDLER.ordinal());
+        assertThat(handler.getStage()).isEqualTo("handler");
+        assertThat(handler.getCount()).isEqualTo(100);
+        assertThat(handler.getP50Micros()).isBetween(49.0, 51.0);
+        assertThat(handler.getMaxMicros()).isBetween(99.0, 101.0);
+        assertThat(stages.get(TraceStage.ROOM_LOOKUP.ordinal()).getCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("프레임 처리 중에만 브로커 전송용 추적 헤더를 만들어야 한다")
+    void should_attach_headers_only_inside_frame() {
+        // given
+        SignalingTrace trace = new SignalingTrace(properties);
+
+        // when
+        MessageHeaders outside = trace.outboundHeaders();
+        trace.begin(42L);
+        MessageHeaders inside = trace.outboundHeaders();
+        trace.end();
+
+        // then
+        assertThat(outside).isNull();
+        assertThat(inside.get(SignalingTrace.RECEIVED_AT_HEADER)).isEqualTo(42L);
+        assertThat(inside.get(SignalingTrace.SENT_AT_HEADER)).isInstanceOf(Long.class);
+        assertThat(trace.outboundHeaders()).isNull();
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 시각도 헤더도 만들지 않아야 한다")
+    void should_do_nothing_when_disabled() {
+        // given
+        SignalingTrace trace = new SignalingTrace(new SignalingProperties());
+
+        // when
+        trace.begin(42L);
+
+        // then
+        assertThat(trace.now()).isEqualTo(SignalingTrace.UNSET);
+        assertThat(trace.outboundHeaders()).isNull();
+    }
+}
@@ -0,0 +1,103 @@
+package com.sign.sign.websocket;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long WINDOW = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    @DisplayName("처리 시간이 평소보다 크게 늘면 한도를 줄여야 한다")
+    void should_shrink_when_latency_rises() {
+        // given
+        AdaptiveConcurrencyLimit limit = newLimit();
+        hold(limit, 20);
+        long now = window(limit, FAST, 0);
+
+        // when
+        now = window(limit, SLOW, now);
+        window(limit, SLOW, now);
+
+        // then
+        assertThat(limit.getLimit()).isLessThan(20);
+        assertThat(limit.getShortRttNanos()).isEqualTo(SLOW);
+    }
+
+    @Test
+    @DisplayName("처리 시간이 그대로이고 한도를 쓰고 있으면 한도를 늘려야 한다")
+    void should_grow_while_latency_is_stable() {
+        // given
+        AdaptiveConcurrencyLimit limit = newLimit();
+        hold(limit, 20);
+
+        // when
+        long now = 0;
+        for (int i = 0; i < 3; i++) {
+            now = window(limit, FAST, now);
+        }
+
+        // then
+        assertThat(limit.getLimit()).isGreaterThan(30);
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않으면 지연이 좋아도 한도를 늘리지 않아야 한다")
+    void should_not_grow_when_idle() {
+        // given
+        AdaptiveConcurrencyLimit limit = newLimit();
+
+        // when
+        long now = 0;
+        for (int i = 0; i < 3; i++) {
+            now = window(limit, FAST, now);
+        }
+
+        // then
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("우선순위가 낮은 몫은 한도보다 먼저, 높은 몫은 한도를 넘어서까지 받아야 한다")
+    void should_apply_share_per_priority() {
+        // given
+        AdaptiveConcurrencyLimit limit = newLimit();
+        hold(limit, 16);
+
+        // when & then
+        assertThat(limit.tryAcquire(0.8)).isFalse();
+        assertThat(limit.tryAcquire(1.0)).isTrue();
+        hold(limit, 3);
+        assertThat(limit.isSaturated()).isTrue();
+        assertThat(limit.tryAcquire(1.0)).isFalse();
+        assertThat(limit.tryAcquire(1.5)).isTrue();
+
+        limit.release();
+        assertThat(limit.getInFlight()).isEqualTo(20);
+    }
+
+    private AdaptiveConcurrencyLimit newLimit() {
+        return new AdaptiveConcurrencyLimit(20, 4, 200, 1.5, 1.0, WINDOW, 10, 0);
+    }
+
+    private void hold(AdaptiveConcurrencyLimit limit, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(limit.tryAcquire(10)).isTrue();
+        }
+    }
+
+    // 표본 창 하나: 10개를 받아 처리하고 창을 닫는다
+    private long window(AdaptiveConcurrencyLimit limit, long rttNanos, long now) {
+        long end = now + WINDOW;
+        for (int i = 0; i < 10; i++) {
+            limit.tryAcquire(10);
+            limit.onSample(rttNanos, end);
+        }
+        return end;
+    }
+}
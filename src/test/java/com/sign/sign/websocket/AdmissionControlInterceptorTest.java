@@ -0,0 +1,65 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingBusy;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AdmissionControlInterceptorTest {
+
+    private static final String SESSION_ID = "session-1";
+
+    private SessionMessageSender sessionMessageSender;
+    private AdmissionControlInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        // 한도 10: offer 류는 5 개까지, 나머지는 10 개까지
+        SignalingProperties properties = new SignalingProperties();
+        properties.getAdmission().setEnabled(true);
+        properties.getAdmission().setInitialLimit(10);
+        properties.getAdmission().setMinLimit(1);
+        properties.getAdmission().setOfferShare(0.5);
+        sessionMessageSender = mock(SessionMessageSender.class);
+        interceptor = new AdmissionControlInterceptor(properties, sessionMessageSender);
+    }
+
+    @Test
+    @DisplayName("create-and-invite 는 offer 와 함께 먼저 버려져야 한다")
+    void should_shed_create_and_invite_with_offers() {
+        // given: 한도의 절반을 일반 프레임이 쓰고 있다
+        for (int i = 0; i < 5; i++) {
+            assertThat(interceptor.preSend(frame("ABC123", "connected"), null)).isNotNull();
+        }
+
+        // when & then
+        assertThat(interceptor.preSend(frame("new", "create-and-invite"), null)).isNull();
+        assertThat(interceptor.preSend(frame("ABC123", "offer"), null)).isNull();
+        assertThat(interceptor.preSend(frame("ABC123", "connected"), null)).isNotNull();
+        assertThat(interceptor.stats().getRejectedOffers()).isEqualTo(2);
+        assertThat(interceptor.stats().getRejectedNormal()).isZero();
+        verify(sessionMessageSender, times(2)).send(eq(SESSION_ID), eq("/queue/errors"), any(SignalingBusy.class));
+    }
+
+    private Message<byte[]> frame(String roomId, String type) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/app/signaling/" + roomId);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setLeaveMutable(true);
+        byte[] payload = ("{\"type\":\"" + type + "\",\"fromId\":1}").getBytes(StandardCharsets.UTF_8);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,88 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionResumeStoreTest {
+
+    private static final String ROOM_ID = "ABC123";
+    private static final Long USER_A_ID = 1L;
+    private static final Long USER_B_ID = 2L;
+
+    private SessionResumeStore resumeStore;
+
+    @BeforeEach
+    void setUp() {
+        SignalingProperties properties = new SignalingProperties();
+        properties.getResume().setTtl(Duration.ofSeconds(15));
+        resumeStore = new SessionResumeStore(properties);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 두 기기가 함께 끊겨도 각자 자기 토큰으로 재개하고 못 받은 메시지를 받아야 한다")
+    void should_keep_suspension_per_session() {
+        // given
+        String phoneToken = suspend("session-phone", USER_A_ID);
+        String desktopToken = suspend("session-desktop", USER_A_ID);
+        SignalingMessage answer = new SignalingMessage(SignalingType.ANSWER, ROOM_ID, USER_B_ID, USER_A_ID, "answer-sdp");
+
+        // when
+        resumeStore.buffer(USER_A_ID, answer);
+        SuspendedSession phone = resumeStore.resume(phoneToken, "session-phone2", USER_A_ID);
+        SuspendedSession desktop = resumeStore.resume(desktopToken, "session-desktop2", USER_A_ID);
+
+        // then
+        assertThat(phone.getBinding().getSessionId()).isEqualTo("session-phone");
+        assertThat(desktop.getBinding().getSessionId()).isEqualTo("session-desktop");
+        assertThat(resumeStore.drainReplay("session-phone2")).isEqualTo(List.of(answer));
+        assertThat(resumeStore.drainReplay("session-desktop2")).isEqualTo(List.of(answer));
+        assertThat(resumeStore.suspendedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("통화를 차지한 세션 몫은 그 세션에만 보관되어야 한다")
+    void should_buffer_only_for_claimed_session() {
+        // given
+        String phoneToken = suspend("session-phone", USER_A_ID);
+        String desktopToken = suspend("session-desktop", USER_A_ID);
+        SignalingMessage offer = new SignalingMessage(SignalingType.OFFER, ROOM_ID, USER_B_ID, USER_A_ID, "offer-sdp");
+
+        // when
+        boolean buffered = resumeStore.bufferForSession("session-phone", offer);
+        resumeStore.resume(phoneToken, "session-phone2", USER_A_ID);
+        resumeStore.resume(desktopToken, "session-desktop2", USER_A_ID);
+
+        // then
+        assertThat(buffered).isTrue();
+        assertThat(resumeStore.bufferForSession("session-unknown", offer)).isFalse();
+        assertThat(resumeStore.drainReplay("session-phone2")).containsExactly(offer);
+        assertThat(resumeStore.drainReplay("session-desktop2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용자를 모르는 세션이나 다른 사용자는 토큰이 맞아도 재개할 수 없어야 한다")
+    void should_reject_resume_without_matching_user() {
+        // given
+        String token = suspend("session-a", USER_A_ID);
+
+        // when & then
+        assertThat(resumeStore.resume(token, "session-x", null)).isNull();
+        assertThat(resumeStore.resume(token, "session-x", USER_B_ID)).isNull();
+        assertThat(resumeStore.suspendedCount()).isEqualTo(1);
+        assertThat(resumeStore.resume(token, "session-a2", USER_A_ID)).isNotNull();
+    }
+
+    private String suspend(String sessionId, Long userId) {
+        String token = resumeStore.issue(sessionId);
+        assertThat(resumeStore.suspend(new SessionBinding(sessionId, userId, ROOM_ID))).isTrue();
+        return token;
+    }
+}
@@ -0,0 +1,155 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.state.CompactStateStore;
+import com.sign.sign.state.SessionTable;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignalingRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final String ROOM_KEY = "ABC123";
+
+    private SignalingProperties properties;
+    private CompactStateStore stateStore;
+    private SignalingRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SignalingProperties();
+        properties.getRateLimit().setUser(new SignalingProperties.Limit(10, 10));
+        properties.getRateLimit().getTypes().put("offer", new SignalingProperties.Limit(2, 1));
+        properties.getRateLimit().setRoom(new SignalingProperties.Limit(100, 100));
+        properties.getRateLimit().setIdleTimeout(Duration.ofSeconds(1));
+        stateStore = new CompactStateStore(properties);
+        rateLimiter = new SignalingRateLimiter(properties, stateStore);
+    }
+
+    @Test
+    @DisplayName("offer 는 타입별 한도를 넘으면 거절되고 시간이 지나면 다시 허용되어야 한다")
+    void should_limit_offer_per_user() {
+        // given
+        int offer = rateLimiter.typeIndex(json("offer"));
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire(1L, ROOM_KEY, offer, 0)).isNull();
+        assertThat(rateLimiter.tryAcquire(1L, ROOM_KEY, offer, 0)).isNull();
+        assertThat(rateLimiter.tryAcquire(1L, ROOM_KEY, offer, 0)).isNotNull();
+
+        // 다른 사용자는 영향 없음
+        assertThat(rateLimiter.tryAcquire(2L, ROOM_KEY, offer, 0)).isNull();
+
+        // 1초 후 한 개 충전
+        assertThat(rateLimiter.tryAcquire(1L, ROOM_KEY, offer, SECOND)).isNull();
+    }
+
+    @Test
+    @DisplayName("설정에 없는 타입은 기본 한도를 따라야 한다")
+    void should_apply_default_limit_to_other_types() {
+        // given
+        int connected = rateLimiter.typeIndex(json("connected"));
+
+        // when
+        int accepted = 0;
+        for (int i = 0; i < 20; i++) {
+            if (rateLimiter.tryAcquire(1L, ROOM_KEY, connected, 0) == null) {
+                accepted++;
+            }
+        }
+
+        // then
+        assertThat(accepted).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("방 한도는 방 안의 모든 사용자에게 합산되어야 한다")
+    void should_limit_per_room() {
+        // given
+        properties.getRateLimit().setRoom(new SignalingProperties.Limit(3, 1));
+        rateLimiter = new SignalingRateLimiter(properties, stateStore);
+        int connected = rateLimiter.typeIndex(json("connected"));
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire(1L, ROOM_KEY, connected, 0)).isNull();
+        assertThat(rateLimiter.tryAcquire(2L, ROOM_KEY, connected, 0)).isNull();
+        assertThat(rateLimiter.tryAcquire(3L, ROOM_KEY, connected, 0)).isNull();
+        assertThat(rateLimiter.tryAcquire(4L, ROOM_KEY, connected, 0)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("유휴 키는 정리되어야 한다")
+    void should_evict_idle_keys() {
+        // given
+        int connected = rateLimiter.typeIndex(json("connected"));
+        rateLimiter.tryAcquire(1L, ROOM_KEY, connected, System.nanoTime() - 10 * SECOND);
+        assertThat(rateLimiter.size()).isEqualTo(2);
+
+        // when
+        rateLimiter.evictIdle();
+
+        // then
+        assertThat(rateLimiter.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("방 버킷은 참여자로 확인된 사용자에게만 걸려야 한다")
+    void should_use_room_key_only_for_members() {
+        // given
+        stateStore.putRoom(ROOM_KEY, new long[]{1L, 2L});
+
+        // when & then
+        assertThat(rateLimiter.roomKey(1L, ROOM_KEY)).isEqualTo(ROOM_KEY);
+        assertThat(rateLimiter.roomKey(3L, ROOM_KEY)).isNull();
+        assertThat(rateLimiter.roomKey(SessionTable.NO_USER, ROOM_KEY)).isNull();
+        assertThat(rateLimiter.roomKey(1L, "/app/signaling/anything")).isNull();
+    }
+
+    @Test
+    @DisplayName("참여자가 아닌 사용자의 프레임은 방 한도를 쓰지 않아야 한다")
+    void should_not_drain_room_budget_for_non_members() {
+        // given
+        properties.getRateLimit().setRoom(new SignalingProperties.Limit(1, 1));
+        rateLimiter = new SignalingRateLimiter(properties, stateStore);
+        stateStore.putRoom(ROOM_KEY, new long[]{1L, 2L});
+        int connected = rateLimiter.typeIndex(json("connected"));
+
+        // when: 방 밖의 사용자 여럿이 보냄
+        for (long outsider = 10; outsider < 20; outsider++) {
+            rateLimiter.tryAcquire(outsider, rateLimiter.roomKey(outsider, ROOM_KEY), connected, 0);
+        }
+
+        // then
+        assertThat(rateLimiter.tryAcquire(1L, rateLimiter.roomKey(1L, ROOM_KEY), connected, 0)).isNull();
+        // 사용자 11명 + 방 하나
+        assertThat(rateLimiter.size()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("방 한도에 걸리면 사용자 토큰은 돌려줘야 한다")
+    void should_refund_user_token_when_room_rejects() {
+        // given
+        properties.getRateLimit().setUser(new SignalingProperties.Limit(2, 1));
+        properties.getRateLimit().setRoom(new SignalingProperties.Limit(1, 1));
+        rateLimiter = new SignalingRateLimiter(properties, stateStore);
+        int connected = rateLimiter.typeIndex(json("connected"));
+        assertThat(rateLimiter.tryAcquire(1L, ROOM_KEY, connected, 0)).isNull();
+
+        // when
+        TokenBucket rejectedBy = rateLimiter.tryAcquire(1L, ROOM_KEY, connected, 0);
+
+        // then: 사용자 토큰은 하나 남아 있다
+        assertThat(rejectedBy).isNotNull();
+        assertThat(rateLimiter.tryAcquire(1L, null, connected, 0)).isNull();
+        assertThat(rateLimiter.tryAcquire(1L, null, connected, 0)).isNotNull();
+    }
+
+    private byte[] json(String type) {
+        return ("{\"type\":\"" + type + "\",\"roomId\":\"ABC123\",\"fromId\":1}").getBytes(StandardCharsets.UTF_8);
+    }
+}
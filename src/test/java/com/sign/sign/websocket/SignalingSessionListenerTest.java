@@ -0,0 +1,277 @@
+package com.sign.sign.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.dto.SignalingMessage;
+import com.sign.sign.dto.SignalingType;
+import com.sign.sign.reactive.ReactiveSessionRegistry;
+import com.sign.sign.security.CustomUserPrincipal;
+import com.sign.sign.service.RoomMembership;
+import com.sign.sign.service.RoomService;
+import com.sign.sign.signaling.MessageDeduplicator;
+import com.sign.sign.signaling.SignalingMessenger;
+import com.sign.sign.state.CompactStateStore;
+import com.sign.sign.trace.SignalingTrace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SignalingSessionListenerTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private RoomService roomService;
+
+    @Mock
+    private SessionMessageSender sessionMessageSender;
+
+    private SignalingProperties properties;
+    private SignalingSessionRegistry sessionRegistry;
+    private SessionResumeStore resumeStore;
+    private SignalingMessenger messenger;
+    private SignalingSessionListener listener;
+
+    private static final String ROOM_ID = "ABC123";
+    private static final Long USER_A_ID = 1L;
+    private static final Long USER_B_ID = 2L;
+    private static final RoomMembership MEMBERSHIP = RoomMembership.of(ROOM_ID, USER_A_ID, USER_B_ID);
+
+    @BeforeEach
+    void setUp() {
+        // 기본은 재개 비활성화 (즉시 알림)
+        properties = new SignalingProperties();
+        properties.getResume().setTtl(Duration.ZERO);
+
+        sessionRegistry = new SignalingSessionRegistry(new CompactStateStore(properties));
+        resumeStore = new SessionResumeStore(properties);
+        messenger = new SignalingMessenger(messagingTemplate, resumeStore, new ReactiveSessionRegistry(new ObjectMapper()),
+                new SignalingTrace(properties), sessionRegistry);
+        listener = new SignalingSessionListener(
+                sessionRegistry, resumeStore, sessionMessageSender, messenger,
+                roomService, new MessageDeduplicator(properties));
+    }
+
+    @Test
+    @DisplayName("A의 소켓이 비정상 종료되면 B에게 disconnected 알림이 가야 한다")
+    void should_notify_peer_when_session_drops() {
+        // given
+        bound("session-a", USER_A_ID);
+        bound("session-b", USER_B_ID);
+        when(roomService.findMembership(ROOM_ID)).thenReturn(Optional.of(MEMBERSHIP));
+
+        // when
+        listener.onDisconnect(disconnect("session-a", CloseStatus.SESSION_NOT_RELIABLE));
+
+        // then: 방 토픽이 아니라 B 개인 큐로만 전송
+        ArgumentCaptor<SignalingMessage> captor = ArgumentCaptor.forClass(SignalingMessage.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("2"), eq("/queue/signaling"), captor.capture());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+        assertThat(captor.getValue().getType()).isEqualTo(SignalingType.DISCONNECTED);
+        assertThat(captor.getValue().getFromId()).isEqualTo(USER_A_ID);
+
+        // B가 아직 남아 있으므로 방은 유지
+        verify(roomService, never()).remove(anyString());
+        assertThat(sessionRegistry.getSessionsInRoom(ROOM_ID)).containsExactly("session-b");
+    }
+
+    @Test
+    @DisplayName("leave 로 정리된 세션이 끊기면 아무 알림도 보내지 않아야 한다")
+    void should_not_notify_after_leave() {
+        // given
+        bound("session-a", USER_A_ID);
+        sessionRegistry.unbindRoom(ROOM_ID);
+
+        // when
+        listener.onDisconnect(disconnect("session-a", CloseStatus.NORMAL));
+
+        // then
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+        assertThat(sessionRegistry.get("session-a")).isNull();
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 끊기면 방이 삭제되어야 한다")
+    void should_remove_room_when_last_session_drops() {
+        // given
+        bound("session-a", USER_A_ID);
+
+        // when
+        listener.onDisconnect(disconnect("session-a", CloseStatus.SESSION_NOT_RELIABLE));
+        listener.onDisconnect(disconnect("session-a", CloseStatus.SESSION_NOT_RELIABLE));  // 중복 이벤트
+
+        // then
+        verify(roomService, times(1)).remove(ROOM_ID);
+    }
+
+    @Test
+    @DisplayName("재개 토큰으로 다시 연결하면 방 바인딩이 이어지고 못 받은 메시지가 재전송되어야 한다")
+    void should_resume_session_and_replay_buffered_messages() {
+        // given
+        properties.getResume().setTtl(Duration.ofSeconds(15));
+        listener.onConnect(connect("session-a", USER_A_ID, null));
+        bound("session-a", USER_A_ID);
+        bound("session-b", USER_B_ID);
+        String token = resumeStore.getToken("session-a");
+
+        // when: A 소켓이 끊긴 사이 B가 Answer 전송
+        listener.onDisconnect(disconnect("session-a", CloseStatus.SESSION_NOT_RELIABLE));
+        SignalingMessage answer = new SignalingMessage(SignalingType.ANSWER, ROOM_ID, USER_B_ID, USER_A_ID, "answer-sdp");
+        resumeStore.buffer(USER_A_ID, answer);
+
+        listener.onConnect(connect("session-a2", USER_A_ID, token));
+
+        // then: 상대방에게는 아무 알림도 가지 않고, 새 세션이 같은 방에 바인딩됨
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), any());
+        assertThat(sessionRegistry.get("session-a2").getRoomId()).isEqualTo(ROOM_ID);
+        assertThat(resumeStore.drainReplay("session-a2")).isEqualTo(List.of(answer));
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 다른 기기가 살아 있으면 끊긴 세션 몫으로 보관하지 않아야 한다")
+    void should_not_buffer_while_user_has_live_session() {
+        // given: A의 휴대폰이 끊기고 데스크톱은 연결되어 있음
+        properties.getResume().setTtl(Duration.ofSeconds(15));
+        listener.onConnect(connect("session-a", USER_A_ID, null));
+        listener.onConnect(connect("session-a-desktop", USER_A_ID, null));
+        bound("session-a", USER_A_ID);
+        String token = resumeStore.getToken("session-a");
+        listener.onDisconnect(disconnect("session-a", CloseStatus.SESSION_NOT_RELIABLE));
+
+        // when
+        SignalingMessage answer = new SignalingMessage(SignalingType.ANSWER, ROOM_ID, USER_B_ID, USER_A_ID, "answer-sdp");
+        messenger.sendToUser(USER_A_ID, answer);
+        listener.onConnect(connect("session-a2", USER_A_ID, token));
+
+        // then: 데스크톱으로 전달되었으므로 재전송할 것이 없음
+        verify(messagingTemplate).convertAndSendToUser(eq("1"), eq("/queue/signaling"), eq(answer));
+        assertThat(resumeStore.drainReplay("session-a2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("통화를 차지한 세션이 재개되면 차지가 새 세션으로 넘어가고, 재개 없이 끝나면 해제되어야 한다")
+    void should_transfer_claim_on_resume_and_release_on_close() {
+        // given: B가 휴대폰(session-b)으로 통화를 받음, 데스크톱(session-b-desktop)도 연결됨
+        properties.getResume().setTtl(Duration.ofSeconds(15));
+        listener.onConnect(connect("session-b", USER_B_ID, null));
+        listener.onConnect(connect("session-b-desktop", USER_B_ID, null));
+        bound("session-a", USER_A_ID);
+        bound("session-b", USER_B_ID);
+        assertThat(sessionRegistry.claim(ROOM_ID, USER_B_ID, "session-b")).isNull();
+        assertThat(sessionRegistry.claim(ROOM_ID, USER_B_ID, "session-b-desktop")).isEqualTo("session-b");
+        assertThat(sessionRegistry.getSessionsOfUser(USER_B_ID)).containsExactlyInAnyOrder("session-b", "session-b-desktop");
+        String token = resumeStore.getToken("session-b");
+
+        // when: 끊겼다가 재개
+        listener.onDisconnect(disconnect("session-b", CloseStatus.SESSION_NOT_RELIABLE));
+        assertThat(sessionRegistry.getClaimedSession(ROOM_ID, USER_B_ID)).isEqualTo("session-b");
+        listener.onConnect(connect("session-b2", USER_B_ID, token));
+
+        // then
+        assertThat(sessionRegistry.getClaimedSession(ROOM_ID, USER_B_ID)).isEqualTo("session-b2");
+
+        // when: 정상 종료
+        listener.onDisconnect(disconnect("session-b2", CloseStatus.NORMAL));
+
+        // then: 다시 모든 기기로 전송
+        assertThat(sessionRegistry.getClaimedSession(ROOM_ID, USER_B_ID)).isNull();
+        assertThat(sessionRegistry.getSessionsOfUser(USER_B_ID)).containsExactly("session-b-desktop");
+    }
+
+    @Test
+    @DisplayName("재개 시간이 지나면 그때 상대방에게 disconnected 알림이 가야 한다")
+    void should_notify_peer_when_resume_window_expires() {
+        // given
+        properties.getResume().setTtl(Duration.ofMillis(1));
+        listener.onConnect(connect("session-a", USER_A_ID, null));
+        bound("session-a", USER_A_ID);
+        bound("session-b", USER_B_ID);
+        listener.onDisconnect(disconnect("session-a", CloseStatus.SESSION_NOT_RELIABLE));
+        when(roomService.findMembership(ROOM_ID)).thenReturn(Optional.of(MEMBERSHIP));
+
+        // when
+        await(5);
+        listener.expireSuspendedSessions();
+
+        // then
+        ArgumentCaptor<SignalingMessage> captor = ArgumentCaptor.forClass(SignalingMessage.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("2"), eq("/queue/signaling"), captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo(SignalingType.DISCONNECTED);
+        assertThat(resumeStore.suspendedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("인증된 Principal 없이 userId 헤더만 보낸 CONNECT 는 사용자로 등록하지 않아야 한다")
+    void should_ignore_connect_without_principal() {
+        // given
+        properties.getResume().setTtl(Duration.ofSeconds(15));
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId("session-forged");
+        accessor.addNativeHeader("userId", USER_A_ID.toString());
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        // when
+        listener.onConnect(new SessionConnectEvent(this, message));
+
+        // then
+        assertThat(sessionRegistry.get("session-forged")).isNull();
+        assertThat(sessionRegistry.getSessionsOfUser(USER_A_ID)).isEmpty();
+        assertThat(resumeStore.getToken("session-forged")).isNull();
+    }
+
+    // CONNECT 로 등록된 세션이 첫 시그널링 메시지로 방에 바인딩된 상태
+    private void bound(String sessionId, Long userId) {
+        if (sessionRegistry.get(sessionId) == null) {
+            sessionRegistry.register(sessionId, userId);
+        }
+        sessionRegistry.bind(sessionId, userId, ROOM_ID);
+    }
+
+    private SessionConnectEvent connect(String sessionId, Long userId, String resumeToken) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        if (resumeToken != null) {
+            accessor.addNativeHeader(SignalingSessionListener.RESUME_TOKEN_HEADER, resumeToken);
+        }
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        // 핸드셰이크에서 JWT 로 인증된 사용자
+        CustomUserPrincipal principal = new CustomUserPrincipal(userId.toString());
+        return new SessionConnectEvent(this, message,
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private SessionDisconnectEvent disconnect(String sessionId, CloseStatus closeStatus) {
+        Message<byte[]> message = MessageBuilder.withPayload(new byte[0]).build();
+        return new SessionDisconnectEvent(this, message, sessionId, closeStatus);
+    }
+}
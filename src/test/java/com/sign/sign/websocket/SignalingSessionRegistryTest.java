@@ -0,0 +1,89 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.config.SignalingProperties;
+import com.sign.sign.state.CompactStateStore;
+import com.sign.sign.state.SessionTable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SignalingSessionRegistryTest {
+
+    private static final String ROOM_ID = "ABC123";
+    private static final Long USER_ID = 1L;
+
+    private CompactStateStore stateStore;
+    private SignalingSessionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        stateStore = new CompactStateStore(new SignalingProperties());
+        registry = new SignalingSessionRegistry(stateStore);
+    }
+
+    @Test
+    @DisplayName("해제된 세션으로 늦게 들어온 bind 는 바인딩/세션 테이블/사용자 목록에 흔적을 남기지 않아야 한다")
+    void should_not_leave_ghost_binding_after_unregister() {
+        // given
+        registry.register("session-1", USER_ID);
+        registry.unregister("session-1");
+
+        // when
+        registry.bind("session-1", USER_ID, ROOM_ID);
+
+        // then
+        assertThat(registry.get("session-1")).isNull();
+        assertThat(registry.getSessionsInRoom(ROOM_ID)).isEmpty();
+        assertThat(registry.getSessionsOfUser(USER_ID)).isEmpty();
+        assertThat(stateStore.sessionUserId("session-1")).isEqualTo(SessionTable.NO_USER);
+    }
+
+    @Test
+    @DisplayName("bind 와 unregister 가 동시에 실행돼도 해제된 세션은 어디에도 남지 않아야 한다")
+    void should_stay_consistent_when_bind_races_unregister() throws InterruptedException {
+        // given
+        int sessions = 2_000;
+        for (int i = 0; i < sessions; i++) {
+            registry.register("session-" + i, USER_ID);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        executor.submit(() -> {
+            await(start);
+            for (int i = 0; i < sessions; i++) {
+                registry.bind("session-" + i, USER_ID, ROOM_ID);
+            }
+        });
+        executor.submit(() -> {
+            await(start);
+            for (int i = 0; i < sessions; i++) {
+                registry.unregister("session-" + i);
+            }
+        });
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(registry.size()).isZero();
+        assertThat(registry.getSessionsInRoom(ROOM_ID)).isEmpty();
+        assertThat(registry.getSessionsOfUser(USER_ID)).isEmpty();
+        assertThat(stateStore.getSessions().size()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.config.SignalingProperties;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유휴 세션 N 개의 하트비트 예약 CPU 비교 (TimerWheelTaskScheduler vs ThreadPoolTaskScheduler)
+ * - SockJS 세션처럼 세션마다 하트비트를 한 번 예약하고, 실행되면 다시 예약한다
+ * - 측정 구간 동안 프로세스 CPU 시간과 하트비트 실행 수
+ * - 메시지를 보낼 때처럼 하트비트를 취소 후 다시 예약하는 처리량
+ *
+ * 기본 test 태스크에서는 제외, ./gradlew benchmark 로 실행
+ * 세션 수/하트비트 간격/측정 시간: -Dbenchmark.sessions=100000 -Dbenchmark.heartbeat-ms=5000 -Dbenchmark.duration-ms=15000
+ */
+@Tag("benchmark")
+class TimerWheelBenchmark {
+
+    private static final int SESSIONS = Integer.getInteger("benchmark.sessions", 100_000);
+    private static final long HEARTBEAT_MS = Long.getLong("benchmark.heartbeat-ms", 5_000);
+    private static final long DURATION_MS = Long.getLong("benchmark.duration-ms", 15_000);
+
+    @Test
+    @DisplayName("유휴 세션 하트비트 CPU 사용량 비교")
+    void idle_heartbeat_cpu() throws InterruptedException {
+        TimerWheelTaskScheduler wheel = wheel();
+        ThreadPoolTaskScheduler pool = pool();
+        try {
+            Result wheelResult = runIdle(wheel);
+            Result poolResult = runIdle(pool);
+
+            System.out.printf("sessions=%d heartbeat=%dms duration=%dms wheel: cpu=%dms heartbeats=%d, pool: cpu=%dms heartbeats=%d%n",
+                    SESSIONS, HEARTBEAT_MS, DURATION_MS,
+                    wheelResult.cpuMillis, wheelResult.heartbeats, poolResult.cpuMillis, poolResult.heartbeats);
+            assertThat(wheelResult.heartbeats).isPositive();
+        } finally {
+            wheel.stop();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("하트비트 취소 후 재예약 처리량 비교")
+    void cancel_and_reschedule_throughput() {
+        TimerWheelTaskScheduler wheel = wheel();
+        ThreadPoolTaskScheduler pool = pool();
+        try {
+            long wheelNanos = runReschedule(wheel);
+            long poolNanos = runReschedule(pool);
+
+            System.out.printf("sessions=%d reschedule wheel: %.0f ops/s, pool: %.0f ops/s%n",
+                    SESSIONS, opsPerSecond(wheelNanos), opsPerSecond(poolNanos));
+        } finally {
+            wheel.stop();
+            pool.shutdown();
+        }
+    }
+
+    private Result runIdle(TaskScheduler scheduler) throws InterruptedException {
+        LongAdder heartbeats = new LongAdder();
+        AtomicReferenceArray<ScheduledFuture<?>> sessions = new AtomicReferenceArray<>(SESSIONS);
+        for (int i = 0; i < SESSIONS; i++) {
+            // 접속 시각을 하트비트 간격 안에 고르게 흩는다
+            long offset = HEARTBEAT_MS * i / SESSIONS;
+            arm(scheduler, sessions, i, heartbeats, Instant.now().plusMillis(HEARTBEAT_MS + offset));
+        }
+
+        long cpuBefore = processCpuNanos();
+        long heartbeatsBefore = heartbeats.sum();
+        Thread.sleep(DURATION_MS);
+        long cpu = processCpuNanos() - cpuBefore;
+        long fired = heartbeats.sum() - heartbeatsBefore;
+
+        for (int i = 0; i < SESSIONS; i++) {
+            ScheduledFuture<?> future = sessions.getAndSet(i, null);
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+        return new Result(TimeUnit.NANOSECONDS.toMillis(cpu), fired);
+    }
+
+    private void arm(TaskScheduler scheduler, AtomicReferenceArray<ScheduledFuture<?>> sessions, int index,
+                     LongAdder heartbeats, Instant at) {
+        sessions.set(index, scheduler.schedule(() -> {
+            heartbeats.increment();
+            if (sessions.get(index) != null) {
+                arm(scheduler, sessions, index, heartbeats, Instant.now().plusMillis(HEARTBEAT_MS));
+            }
+        }, at));
+    }
+
+    private long runReschedule(TaskScheduler scheduler) {
+        ScheduledFuture<?>[] sessions = new ScheduledFuture<?>[SESSIONS];
+        Runnable heartbeat = () -> { };
+        for (int i = 0; i < SESSIONS; i++) {
+            sessions[i] = scheduler.schedule(heartbeat, Instant.now().plusMillis(HEARTBEAT_MS));
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < SESSIONS; i++) {
+            sessions[i].cancel(false);
+            sessions[i] = scheduler.schedule(heartbeat, Instant.now().plusMillis(HEARTBEAT_MS));
+        }
+        long elapsed = System.nanoTime() - started;
+
+        for (ScheduledFuture<?> session : sessions) {
+            session.cancel(false);
+        }
+        return elapsed;
+    }
+
+    private TimerWheelTaskScheduler wheel() {
+        TimerWheelTaskScheduler wheel = new TimerWheelTaskScheduler(new SignalingProperties());
+        wheel.start();
+        return wheel;
+    }
+
+    private ThreadPoolTaskScheduler pool() {
+        ThreadPoolTaskScheduler pool = new ThreadPoolTaskScheduler();
+        pool.setPoolSize(new SignalingProperties().getHeartbeat().getWorkerThreads());
+        pool.setRemoveOnCancelPolicy(true);
+        pool.setThreadNamePrefix("benchmark-pool-");
+        pool.initialize();
+        return pool;
+    }
+
+    private double opsPerSecond(long nanos) {
+        return SESSIONS * 1e9 / nanos;
+    }
+
+    private long processCpuNanos() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+
+    private record Result(long cpuMillis, long heartbeats) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.config.SignalingProperties;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTaskSchedulerTest {
+
+    private TimerWheelTaskScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        SignalingProperties properties = new SignalingProperties();
+        properties.getHeartbeat().setTick(Duration.ofMillis(5));
+        properties.getHeartbeat().setWheelSize(8);
+        scheduler = new TimerWheelTaskScheduler(properties);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 작업도 예약 시각이 지난 뒤에 한 번 실행되어야 한다")
+    void should_run_after_deadline() throws InterruptedException {
+        // given - 8칸 × 5ms = 40ms 보다 먼 작업
+        CountDownLatch ran = new CountDownLatch(1);
+        long started = System.nanoTime();
+
+        // when
+        scheduler.schedule(ran::countDown, Instant.now().plusMillis(100));
+
+        // then
+        assertThat(ran.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(95);
+    }
+
+    @Test
+    @DisplayName("취소한 작업은 실행되지 않고 휠에서 빠져야 한다")
+    void should_not_run_cancelled_task() throws InterruptedException {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+        ScheduledFuture<?> future = scheduler.schedule(runs::incrementAndGet, Instant.now().plusMillis(50));
+
+        // when
+        future.cancel(false);
+        Thread.sleep(150);
+
+        // then
+        assertThat(runs).hasValue(0);
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(scheduler.getScheduled()).isZero();
+    }
+
+    @Test
+    @DisplayName("고정 간격 작업은 취소할 때까지 반복되어야 한다")
+    void should_repeat_until_cancelled() throws InterruptedException {
+        // given
+        CountDownLatch runs = new CountDownLatch(3);
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(runs::countDown, Duration.ofMillis(20));
+
+        // when
+        boolean repeated = runs.await(2, TimeUnit.SECONDS);
+        future.cancel(false);
+        Thread.sleep(50);
+
+        // then
+        assertThat(repeated).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+        assertThat(scheduler.getScheduled()).isZero();
+    }
+}
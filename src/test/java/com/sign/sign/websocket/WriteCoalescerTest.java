@@ -0,0 +1,205 @@
+package com.sign.sign.websocket;
+
+import com.sign.sign.config.SignalingProperties;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteCoalescerTest {
+
+    private static final String FRAME_A = "MESSAGE\ndestination:/user/queue/signaling\n\n{\"type\":\"answer\"}\u0000";
+    private static final String FRAME_B = "MESSAGE\ndestination:/user/queue/signaling\n\n{\"type\":\"peer-joined\"}\u0000";
+
+    @Mock
+    private WebSocketHandler handler;
+
+    @Mock
+    private WebSocketSession session;
+
+    private SignalingProperties properties;
+    private WriteCoalescer coalescer;
+
+    // clientOutboundChannel 스레드 대신
+    private ExecutorService writer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SignalingProperties();
+        properties.getCoalesce().setEnabled(true);
+        properties.getCoalesce().setWindow(Duration.ofMillis(20));
+        properties.getCoalesce().setFlushThreads(1);
+        lenient().when(session.getId()).thenReturn("session-1");
+        writer = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.stop();
+        }
+        writer.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("window 안에 같은 세션으로 보낸 텍스트 프레임은 한 메시지로 이어 붙여 써야 한다")
+    void should_coalesce_frames_within_window() throws Exception {
+        // given
+        WebSocketSession coalescing = connect();
+
+        // when
+        coalescing.sendMessage(new TextMessage(FRAME_A));
+        coalescing.sendMessage(new TextMessage(FRAME_B));
+
+        // then
+        ArgumentCaptor<TextMessage> written = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, timeout(1000)).sendMessage(written.capture());
+        assertThat(written.getValue().getPayload()).isEqualTo(FRAME_A + FRAME_B);
+        assertThat(coalescer.getFlushes()).isEqualTo(1);
+        assertThat(coalescer.getFramesPerFlush()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("모인 크기가 한도를 넘으면 window 를 기다리지 않고 보낸 스레드에서 바로 써야 한다")
+    void should_flush_immediately_when_buffer_is_full() throws Exception {
+        // given
+        properties.getCoalesce().setMaxBufferSize(DataSize.ofBytes(FRAME_A.length() + 1));
+        WebSocketSession coalescing = connect();
+
+        // when
+        coalescing.sendMessage(new TextMessage(FRAME_A));
+        coalescing.sendMessage(new TextMessage(FRAME_B));
+
+        // then
+        ArgumentCaptor<TextMessage> written = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session).sendMessage(written.capture());
+        assertThat(written.getValue().getPayload()).isEqualTo(FRAME_A + FRAME_B);
+        assertThat(coalescer.getSizeFlushes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("바이너리 프레임은 모인 텍스트 프레임을 먼저 쓴 뒤 보내야 한다")
+    void should_keep_order_with_binary_frame() throws Exception {
+        // given
+        WebSocketSession coalescing = connect();
+        BinaryMessage binary = new BinaryMessage(new byte[]{1, 2, 3});
+
+        // when
+        coalescing.sendMessage(new TextMessage(FRAME_A));
+        coalescing.sendMessage(binary);
+
+        // then
+        ArgumentCaptor<WebSocketMessage<?>> written = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, times(2)).sendMessage(written.capture());
+        assertThat(written.getAllValues().get(0).getPayload()).isEqualTo(FRAME_A);
+        assertThat(written.getAllValues().get(1)).isSameAs(binary);
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 모인 프레임을 버리고 세션을 잊어야 한다")
+    void should_discard_pending_frames_on_close() throws Exception {
+        // given
+        WebSocketSession coalescing = connect();
+        coalescing.sendMessage(new TextMessage(FRAME_A));
+
+        // when
+        coalescer.decorate(handler).afterConnectionClosed(session, CloseStatus.NORMAL);
+        Thread.sleep(60);
+
+        // then
+        verify(session, never()).sendMessage(any());
+        assertThat(coalescer.getSessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기가 멈춘 세션이 있어도 다른 세션의 flush 와 멈춘 세션의 close 는 막히지 않아야 한다")
+    void should_not_block_on_stalled_socket() throws Exception {
+        // given: 타이머 스레드 하나, 첫 세션은 소켓 쓰기가 멈춰 있다
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(session).sendMessage(any());
+        WebSocketSession stalled = connect();
+        WebSocketSession other = mock(WebSocketSession.class);
+        when(other.getId()).thenReturn("session-2");
+        coalescer.decorate(handler).afterConnectionEstablished(other);
+        ArgumentCaptor<WebSocketSession> wrapped = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler, times(2)).afterConnectionEstablished(wrapped.capture());
+        WebSocketSession healthy = wrapped.getAllValues().get(1);
+
+        try {
+            stalled.sendMessage(new TextMessage(FRAME_A));
+            assertThat(writing.await(1, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            stalled.sendMessage(new TextMessage(FRAME_B));
+            healthy.sendMessage(new TextMessage(FRAME_A));
+            CompletableFuture<Void> closed = CompletableFuture.runAsync(() -> {
+                try {
+                    stalled.close(CloseStatus.SESSION_NOT_RELIABLE);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            // then
+            verify(other, timeout(1000)).sendMessage(any());
+            closed.get(1, TimeUnit.SECONDS);
+            verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        } finally {
+            release.countDown();
+        }
+
+        // 닫을 때 모여 있던 FRAME_B 는 버려진다
+        Thread.sleep(60);
+        verify(session, times(1)).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 핸들러를 감싸지 않아야 한다")
+    void should_not_decorate_when_disabled() {
+        // given
+        WriteCoalescer disabled = new WriteCoalescer(new SignalingProperties(), Runnable::run);
+
+        // when
+        WebSocketHandler decorated = disabled.decorate(handler);
+
+        // then
+        assertThat(decorated).isSameAs(handler);
+    }
+
+    private WebSocketSession connect() throws Exception {
+        coalescer = new WriteCoalescer(properties, writer);
+        coalescer.start();
+        coalescer.decorate(handler).afterConnectionEstablished(session);
+
+        ArgumentCaptor<WebSocketSession> wrapped = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(wrapped.capture());
+        return wrapped.getValue();
+    }
+}